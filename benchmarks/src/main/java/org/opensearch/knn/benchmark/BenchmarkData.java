@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.Directory;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.VectorDataType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Synthetic datasets shared by the benchmarks. Everything is generated from a fixed seed, so runs are comparable
+ * without downloading any dataset.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+    static final String VECTOR_FIELD = "vector";
+
+    private BenchmarkData() {}
+
+    /**
+     * @return vectors with coordinates uniformly distributed in [-1, 1)
+     */
+    static float[][] randomFloatVectors(final Random random, final int count, final int dimension) {
+        final float[][] vectors = new float[count][dimension];
+        for (float[] vector : vectors) {
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return vectors;
+    }
+
+    static byte[][] randomByteVectors(final Random random, final int count, final int length) {
+        final byte[][] vectors = new byte[count][length];
+        for (byte[] vector : vectors) {
+            random.nextBytes(vector);
+        }
+        return vectors;
+    }
+
+    /**
+     * Writes the vectors to a single segment of the given directory with the default Lucene codec, one document per
+     * vector with doc ids in the order of the vectors.
+     */
+    static DirectoryReader indexVectors(final Directory directory, final float[][] vectors) throws IOException {
+        final FieldType vectorFieldType = new FieldType(
+            KnnFloatVectorField.createFieldType(vectors[0].length, VectorSimilarityFunction.EUCLIDEAN)
+        );
+        vectorFieldType.putAttribute(KNNConstants.VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue());
+        vectorFieldType.freeze();
+
+        final IndexWriterConfig config = new IndexWriterConfig();
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < vectors.length; i++) {
+                final Document document = new Document();
+                document.add(new KnnFloatVectorField(VECTOR_FIELD, vectors[i], vectorFieldType));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        return DirectoryReader.open(directory);
+    }
+
+    /**
+     * @return JSON source of a document as stored with derived source, where the vector field only holds a placeholder
+     */
+    static byte[] sourceWithoutVector(final int docId) {
+        final String source = "{\"id\":" + docId + ",\"title\":\"document " + docId + "\",\"" + VECTOR_FIELD + "\":1}";
+        return source.getBytes(StandardCharsets.UTF_8);
+    }
+}
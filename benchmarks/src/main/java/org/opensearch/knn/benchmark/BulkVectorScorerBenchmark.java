@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.VectorScorer;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.knn.index.query.exactsearch.BulkVectorScorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exact search over a whole segment with {@link BulkVectorScorer}, scoring the vectors of a Lucene flat vector
+ * format segment in batches.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BulkVectorScorerBenchmark {
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    @Param({ "10000" })
+    private int numVectors;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReader leafReader;
+    private float[] query;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkData.SEED);
+        query = BenchmarkData.randomFloatVectors(random, 1, dimension)[0];
+        directory = new ByteBuffersDirectory();
+        reader = BenchmarkData.indexVectors(directory, BenchmarkData.randomFloatVectors(random, numVectors, dimension));
+        leafReader = reader.leaves().get(0).reader();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public void scoreAllDocs(final Blackhole blackhole) throws IOException {
+        final FloatVectorValues floatVectorValues = leafReader.getFloatVectorValues(BenchmarkData.VECTOR_FIELD);
+        final VectorScorer vectorScorer = floatVectorValues.scorer(query);
+        final BulkVectorScorer bulkVectorScorer = BulkVectorScorer.forKSearch(vectorScorer, DocIdSetIterator.all(leafReader.maxDoc()));
+        final DocIdSetIterator iterator = bulkVectorScorer.iterator();
+        while (iterator.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+            blackhole.consume(bulkVectorScorer.score());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.opensearch.knn.index.codec.derivedsource.DerivedFieldInfo;
+import org.opensearch.knn.index.codec.derivedsource.DerivedSourceReaders;
+import org.opensearch.knn.index.codec.derivedsource.DerivedSourceVectorTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Injection of vectors into the stored source of documents by {@link DerivedSourceVectorTransformer}, as done for
+ * every fetched hit of an index with derived source enabled. Each invocation injects the vectors of
+ * {@link #NUM_DOCS_PER_INVOCATION} consecutive documents, as a fetch of a page of hits from one segment does.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DerivedSourceVectorTransformerBenchmark {
+
+    private static final int NUM_DOCS_PER_INVOCATION = 100;
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    @Param({ "10000" })
+    private int numVectors;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private DerivedSourceVectorTransformer transformer;
+    private byte[][] sources;
+    private int nextDocId;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkData.SEED);
+        directory = new ByteBuffersDirectory();
+        reader = BenchmarkData.indexVectors(directory, BenchmarkData.randomFloatVectors(random, numVectors, dimension));
+
+        final SegmentReader segmentReader = (SegmentReader) reader.leaves().get(0).reader();
+        final FieldInfo fieldInfo = segmentReader.getFieldInfos().fieldInfo(BenchmarkData.VECTOR_FIELD);
+        final SegmentReadState segmentReadState = new SegmentReadState(
+            directory,
+            segmentReader.getSegmentInfo().info,
+            segmentReader.getFieldInfos(),
+            IOContext.DEFAULT
+        );
+        transformer = new DerivedSourceVectorTransformer(
+            new DerivedSourceReaders(segmentReader.getVectorReader(), null),
+            segmentReadState,
+            List.of(new DerivedFieldInfo(fieldInfo, false))
+        );
+        transformer.initialize(null, null);
+
+        sources = new byte[numVectors][];
+        for (int i = 0; i < numVectors; i++) {
+            sources[i] = BenchmarkData.sourceWithoutVector(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public void injectVectors(final Blackhole blackhole) throws IOException {
+        if (nextDocId + NUM_DOCS_PER_INVOCATION > numVectors) {
+            nextDocId = 0;
+        }
+        for (int i = 0; i < NUM_DOCS_PER_INVOCATION; i++, nextDocId++) {
+            blackhole.consume(transformer.injectVectors(nextDocId, sources[nextDocId]));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.query.FilterIdsSelector;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.index.store.IndexOutputWithBuffer;
+import org.opensearch.knn.jni.JNICommons;
+import org.opensearch.knn.jni.JNIService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.INDEX_THREAD_QTY;
+import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
+
+/**
+ * Filtered search on a Faiss HNSW graph through JNI, which pins the filter ids, builds the native id selector from them
+ * and searches with it on every query. The filter is a random set of documents of the given density, so that the
+ * {@link FilterIdsSelector} picks between passing sorted doc ids and passing the bitmap the same way filtered k-NN
+ * queries do. This benchmark needs the native libraries, see the README for how to build them.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FaissFilteredSearchBenchmark {
+
+    private static final int NUM_QUERIES = 100;
+    private static final int K = 10;
+    private static final String GRAPH_FILE_NAME = "graph.faiss";
+
+    @Param({ "100000" })
+    private int numVectors;
+
+    @Param({ "128" })
+    private int dimension;
+
+    @Param({ "0.001", "0.01", "0.1", "0.5" })
+    private double filterDensity;
+
+    private long indexAddress;
+    private float[][] queries;
+    private FilterIdsSelector filterIdsSelector;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkData.SEED);
+        final Map<String, Object> parameters = Map.of(
+            INDEX_DESCRIPTION_PARAMETER,
+            "HNSW16,Flat",
+            SPACE_TYPE,
+            SpaceType.L2.getValue(),
+            INDEX_THREAD_QTY,
+            Runtime.getRuntime().availableProcessors()
+        );
+        final float[][] vectors = BenchmarkData.randomFloatVectors(random, numVectors, dimension);
+        final long buildIndexAddress = JNIService.initIndex(numVectors, dimension, parameters, KNNEngine.FAISS);
+        final long vectorsAddress = JNICommons.storeVectorData(0, vectors, (long) numVectors * dimension);
+        JNIService.insertToIndex(
+            IntStream.range(0, numVectors).toArray(),
+            vectorsAddress,
+            dimension,
+            parameters,
+            buildIndexAddress,
+            KNNEngine.FAISS
+        );
+        JNICommons.freeVectorData(vectorsAddress);
+
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexOutput indexOutput = directory.createOutput(GRAPH_FILE_NAME, IOContext.DEFAULT)) {
+                JNIService.writeIndex(new IndexOutputWithBuffer(indexOutput), buildIndexAddress, KNNEngine.FAISS, parameters, false);
+            }
+            JNIService.free(buildIndexAddress, KNNEngine.FAISS);
+            try (IndexInput indexInput = directory.openInput(GRAPH_FILE_NAME, IOContext.DEFAULT)) {
+                indexAddress = JNIService.loadIndex(new IndexInputWithBuffer(indexInput), parameters, KNNEngine.FAISS);
+            }
+        }
+
+        final SparseFixedBitSet filter = new SparseFixedBitSet(numVectors);
+        for (int docId = 0; docId < numVectors; docId++) {
+            if (random.nextDouble() < filterDensity) {
+                filter.set(docId);
+            }
+        }
+        filterIdsSelector = FilterIdsSelector.getFilterIdSelector(filter, filter.cardinality());
+        queries = BenchmarkData.randomFloatVectors(random, NUM_QUERIES, dimension);
+    }
+
+    @TearDown
+    public void tearDown() {
+        JNIService.free(indexAddress, KNNEngine.FAISS);
+    }
+
+    @Benchmark
+    public void filteredSearch(final Blackhole blackhole) {
+        for (float[] query : queries) {
+            blackhole.consume(
+                JNIService.queryIndex(
+                    indexAddress,
+                    query,
+                    K,
+                    null,
+                    KNNEngine.FAISS,
+                    filterIdsSelector.getFilterIds(),
+                    filterIdsSelector.getFilterType().getValue(),
+                    null
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * Neighbor list decoding of {@link FaissHnswGraph}, which memory optimized search does for every node it visits.
+ * The graph is a synthetic single level Faiss HNSW graph serialized in the Faiss layout, with each node having between
+ * half and all of its {@code 2 * M} neighbor slots filled. Each invocation seeks to {@link #NUM_SEEKS} random nodes and
+ * reads their neighbors. The graph is read from a memory mapped file, so that with prefetch enabled the neighbor lists of
+ * the neighbors are hinted to the OS like they are during search.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FaissHnswGraphBenchmark {
+
+    private static final int NUM_SEEKS = 1024;
+    private static final String GRAPH_FILE_NAME = "graph.faiss";
+
+    @Param({ "16", "32" })
+    private int m;
+
+    @Param({ "100000" })
+    private int numVectors;
+
+    @Param({ "false", "true" })
+    private boolean prefetch;
+
+    private Path directoryPath;
+    private Directory directory;
+    private IndexInput indexInput;
+    private FaissHnswGraph graph;
+    private int[] nodesToVisit;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkData.SEED);
+        directoryPath = Files.createTempDirectory("faiss-hnsw-graph-benchmark");
+        directory = new MMapDirectory(directoryPath);
+        try (IndexOutput output = directory.createOutput(GRAPH_FILE_NAME, IOContext.DEFAULT)) {
+            final byte[] graphBytes = serializeGraph(random, numVectors, 2 * m);
+            output.writeBytes(graphBytes, graphBytes.length);
+        }
+        indexInput = directory.openInput(GRAPH_FILE_NAME, IOContext.DEFAULT);
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(indexInput, numVectors);
+        graph = new FaissHnswGraph(faissHNSW, indexInput.clone(), prefetch);
+
+        nodesToVisit = new int[NUM_SEEKS];
+        for (int i = 0; i < NUM_SEEKS; i++) {
+            nodesToVisit[i] = random.nextInt(numVectors);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        IOUtils.close(indexInput, directory);
+        IOUtils.rm(directoryPath);
+    }
+
+    @Benchmark
+    public void seekAndReadNeighbors(final Blackhole blackhole) {
+        for (int node : nodesToVisit) {
+            graph.seek(0, node);
+            int neighbor;
+            while ((neighbor = graph.nextNeighbor()) != NO_MORE_DOCS) {
+                blackhole.consume(neighbor);
+            }
+        }
+    }
+
+    /**
+     * Serializes a random single level graph in the layout {@link FaissHNSW#load} reads.
+     */
+    private static byte[] serializeGraph(final Random random, final int numVectors, final int maxNeighbors) {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        // Assign probabilities, only used for building
+        output.writeLong(0);
+        // Cumulative number of neighbors per level
+        output.writeLong(2);
+        output.writeInt(0);
+        output.writeInt(maxNeighbors);
+        // Levels of each vector
+        output.writeLong(numVectors);
+        for (int i = 0; i < numVectors; i++) {
+            output.writeInt(1);
+        }
+        // Offsets of the neighbor list of each vector
+        output.writeLong(numVectors + 1);
+        for (long i = 0; i <= numVectors; i++) {
+            output.writeLong(i * maxNeighbors);
+        }
+        // Neighbor lists, padded with -1
+        output.writeLong((long) numVectors * maxNeighbors);
+        for (int i = 0; i < numVectors; i++) {
+            final int numNeighbors = maxNeighbors / 2 + random.nextInt(maxNeighbors / 2 + 1);
+            for (int j = 0; j < maxNeighbors; j++) {
+                output.writeInt(j < numNeighbors ? random.nextInt(numVectors) : -1);
+            }
+        }
+        // Entry point, max level, efConstruction, efSearch and a deprecated field
+        output.writeInt(0);
+        output.writeInt(0);
+        output.writeInt(100);
+        output.writeInt(100);
+        output.writeInt(0);
+        return output.toArrayCopy();
+    }
+}
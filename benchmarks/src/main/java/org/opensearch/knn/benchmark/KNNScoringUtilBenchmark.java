@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distance functions of {@link KNNScoringUtil} used by exact search and script scoring. Each invocation scores one
+ * query against {@link #numVectors} document vectors.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class KNNScoringUtilBenchmark {
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    @Param({ "1000" })
+    private int numVectors;
+
+    private float[] floatQuery;
+    private float[][] floatVectors;
+    private float floatQueryNorm;
+    private byte[] byteQuery;
+    private byte[][] byteVectors;
+    private byte[] binaryQuery;
+    private byte[][] binaryVectors;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(BenchmarkData.SEED);
+        floatQuery = BenchmarkData.randomFloatVectors(random, 1, dimension)[0];
+        floatVectors = BenchmarkData.randomFloatVectors(random, numVectors, dimension);
+        float squaredNorm = 0;
+        for (float value : floatQuery) {
+            squaredNorm += value * value;
+        }
+        floatQueryNorm = (float) Math.sqrt(squaredNorm);
+        byteQuery = BenchmarkData.randomByteVectors(random, 1, dimension)[0];
+        byteVectors = BenchmarkData.randomByteVectors(random, numVectors, dimension);
+        binaryQuery = BenchmarkData.randomByteVectors(random, 1, dimension / Byte.SIZE)[0];
+        binaryVectors = BenchmarkData.randomByteVectors(random, numVectors, dimension / Byte.SIZE);
+    }
+
+    @Benchmark
+    public void l2SquaredFloat(final Blackhole blackhole) {
+        for (float[] vector : floatVectors) {
+            blackhole.consume(KNNScoringUtil.l2Squared(floatQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void innerProductFloat(final Blackhole blackhole) {
+        for (float[] vector : floatVectors) {
+            blackhole.consume(KNNScoringUtil.innerProduct(floatQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void cosineSimilarityFloat(final Blackhole blackhole) {
+        for (float[] vector : floatVectors) {
+            blackhole.consume(KNNScoringUtil.cosinesimil(floatQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void cosineSimilarityOptimizedFloat(final Blackhole blackhole) {
+        for (float[] vector : floatVectors) {
+            blackhole.consume(KNNScoringUtil.cosinesimilOptimized(floatQuery, vector, floatQueryNorm));
+        }
+    }
+
+    @Benchmark
+    public void l1NormFloat(final Blackhole blackhole) {
+        for (float[] vector : floatVectors) {
+            blackhole.consume(KNNScoringUtil.l1Norm(floatQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void lInfNormFloat(final Blackhole blackhole) {
+        for (float[] vector : floatVectors) {
+            blackhole.consume(KNNScoringUtil.lInfNorm(floatQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void l2SquaredByte(final Blackhole blackhole) {
+        for (byte[] vector : byteVectors) {
+            blackhole.consume(KNNScoringUtil.l2Squared(byteQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void innerProductByte(final Blackhole blackhole) {
+        for (byte[] vector : byteVectors) {
+            blackhole.consume(KNNScoringUtil.innerProduct(byteQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void l2SquaredADC(final Blackhole blackhole) {
+        for (byte[] vector : binaryVectors) {
+            blackhole.consume(KNNScoringUtil.l2SquaredADC(floatQuery, vector));
+        }
+    }
+
+    @Benchmark
+    public void hammingBinary(final Blackhole blackhole) {
+        for (byte[] vector : binaryVectors) {
+            blackhole.consume(KNNScoringUtil.calculateHammingBit(binaryQuery, vector));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.search.processor.mmr.MMRRerankContext;
+import org.opensearch.knn.search.processor.mmr.MMRRerankProcessor;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.knn.common.KNNConstants.MMR_RERANK_CONTEXT;
+
+/**
+ * Maximal marginal relevance reranking of an over sampled search response by {@link MMRRerankProcessor}, from
+ * extracting the vectors of the candidates out of their source to selecting the final hits.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MMRRerankProcessorBenchmark {
+
+    private static final String VECTOR_FIELD = "knn_vector";
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    @Param({ "100", "500" })
+    private int numCandidates;
+
+    @Param({ "10", "50" })
+    private int size;
+
+    private MMRRerankProcessor processor;
+    private SearchRequest searchRequest;
+    private SearchResponse searchResponse;
+    private PipelineProcessingContext context;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkData.SEED);
+        final float[][] vectors = BenchmarkData.randomFloatVectors(random, numCandidates, dimension);
+        final SearchHit[] hits = new SearchHit[numCandidates];
+        for (int i = 0; i < numCandidates; i++) {
+            final XContentBuilder sourceBuilder = JsonXContent.contentBuilder().startObject().array(VECTOR_FIELD, vectors[i]).endObject();
+            hits[i] = new SearchHit(i, String.valueOf(i), Map.of(), Map.of());
+            hits[i].sourceRef(BytesReference.bytes(sourceBuilder));
+            // Candidates arrive sorted by descending score
+            hits[i].score(1.0f - (float) i / numCandidates);
+        }
+        searchResponse = createSearchResponse(hits);
+
+        final MMRRerankContext mmrRerankContext = new MMRRerankContext();
+        mmrRerankContext.setDiversity(0.5f);
+        mmrRerankContext.setOriginalQuerySize(size);
+        mmrRerankContext.setSpaceType(SpaceType.L2);
+        mmrRerankContext.setVectorDataType(VectorDataType.FLOAT);
+        mmrRerankContext.setVectorFieldPath(VECTOR_FIELD);
+        context = new PipelineProcessingContext();
+        context.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
+
+        processor = new MMRRerankProcessor("benchmark", false);
+        searchRequest = new SearchRequest();
+    }
+
+    @Benchmark
+    public SearchResponse rerank() throws IOException {
+        return processor.processResponse(searchRequest, searchResponse, context);
+    }
+
+    private static SearchResponse createSearchResponse(final SearchHit[] hits) {
+        final SearchHits searchHits = new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), hits[0].getScore());
+        final SearchResponseSections sections = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        return new SearchResponse(
+            sections,
+            null,
+            1,
+            1,
+            0,
+            1,
+            new ShardSearchFailure[0],
+            new SearchResponse.Clusters(1, 1, 0),
+            null
+        );
+    }
+}
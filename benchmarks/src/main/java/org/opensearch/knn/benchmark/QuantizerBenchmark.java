@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
+import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
+import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.quantizer.MultiBitScalarQuantizer;
+import org.opensearch.knn.quantization.quantizer.OneBitScalarQuantizer;
+import org.opensearch.knn.quantization.quantizer.RandomGaussianRotation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary quantization of vectors with trained thresholds, as done for every vector during index builds of fields with
+ * binary quantization. Each invocation quantizes {@link #numVectors} vectors into a reused output.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class QuantizerBenchmark {
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    @Param({ "1000" })
+    private int numVectors;
+
+    private float[][] vectors;
+    private OneBitScalarQuantizer oneBitQuantizer;
+    private OneBitScalarQuantizationState oneBitState;
+    private BinaryQuantizationOutput oneBitOutput;
+    private OneBitScalarQuantizationState rotatedOneBitState;
+    private MultiBitScalarQuantizer twoBitQuantizer;
+    private MultiBitScalarQuantizationState twoBitState;
+    private BinaryQuantizationOutput twoBitOutput;
+    private MultiBitScalarQuantizer fourBitQuantizer;
+    private MultiBitScalarQuantizationState fourBitState;
+    private BinaryQuantizationOutput fourBitOutput;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(BenchmarkData.SEED);
+        vectors = BenchmarkData.randomFloatVectors(random, numVectors, dimension);
+
+        oneBitQuantizer = new OneBitScalarQuantizer();
+        oneBitState = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+            .meanThresholds(BenchmarkData.randomFloatVectors(random, 1, dimension)[0])
+            .build();
+        oneBitOutput = new BinaryQuantizationOutput(1);
+        rotatedOneBitState = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+            .meanThresholds(oneBitState.getMeanThresholds())
+            .rotationMatrix(RandomGaussianRotation.generateRotationMatrix(dimension))
+            .build();
+
+        twoBitQuantizer = new MultiBitScalarQuantizer(2);
+        twoBitState = MultiBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.TWO_BIT).build())
+            .thresholds(BenchmarkData.randomFloatVectors(random, 2, dimension))
+            .build();
+        twoBitOutput = new BinaryQuantizationOutput(2);
+
+        fourBitQuantizer = new MultiBitScalarQuantizer(4);
+        fourBitState = MultiBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.FOUR_BIT).build())
+            .thresholds(BenchmarkData.randomFloatVectors(random, 4, dimension))
+            .build();
+        fourBitOutput = new BinaryQuantizationOutput(4);
+    }
+
+    @Benchmark
+    public void oneBitQuantize(final Blackhole blackhole) {
+        for (float[] vector : vectors) {
+            oneBitQuantizer.quantize(vector, oneBitState, oneBitOutput);
+            blackhole.consume(oneBitOutput.getQuantizedVector());
+        }
+    }
+
+    @Benchmark
+    public void oneBitQuantizeWithRandomRotation(final Blackhole blackhole) {
+        for (float[] vector : vectors) {
+            oneBitQuantizer.quantize(vector, rotatedOneBitState, oneBitOutput);
+            blackhole.consume(oneBitOutput.getQuantizedVector());
+        }
+    }
+
+    @Benchmark
+    public void twoBitQuantize(final Blackhole blackhole) {
+        for (float[] vector : vectors) {
+            twoBitQuantizer.quantize(vector, twoBitState, twoBitOutput);
+            blackhole.consume(twoBitOutput.getQuantizedVector());
+        }
+    }
+
+    @Benchmark
+    public void fourBitQuantize(final Blackhole blackhole) {
+        for (float[] vector : vectors) {
+            fourBitQuantizer.quantize(vector, fourBitState, fourBitOutput);
+            blackhole.consume(fourBitOutput.getQuantizedVector());
+        }
+    }
+}
@@ -60,6 +60,11 @@ if(NOT DEFINED APPLY_LIB_PATCHES OR "${APPLY_LIB_PATCHES}" STREQUAL true)
     endforeach()
 endif()
 
+# Loading graphs from memory mapped files relies on the zero copy reader of the faiss submodule
+if (NOT EXISTS ${CMAKE_CURRENT_SOURCE_DIR}/external/faiss/faiss/impl/zerocopy_io.h)
+    message(FATAL_ERROR "faiss/impl/zerocopy_io.h was not found, the faiss submodule is older than the one this build expects")
+endif()
+
 if (APPLE)
     message(STATUS "darwin macos detected")
     if(CMAKE_SYSTEM_PROCESSOR STREQUAL "arm64")
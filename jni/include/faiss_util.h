@@ -15,10 +15,50 @@
 #define OPENSEARCH_KNN_FAISS_UTIL_H
 
 #include "faiss/impl/IDGrouper.h"
+#include "faiss/impl/IDSelector.h"
+#include <cstdint>
 #include <memory>
+#include <vector>
 
 namespace faiss_util {
     std::unique_ptr<faiss::IDGrouperBitmap> buildIDGrouperBitmap(int *parentIdsArray,  int parentIdsLength, std::vector<uint64_t>* bitmap);
+
+    /**
+     * IDSelector laid out like a Roaring bitmap. Ids are split into chunks of 2^16 by their high bits. A chunk with
+     * more than 4096 ids keeps a 1024 word bitmap and a sparser chunk keeps the low 16 bits of its ids in a sorted
+     * array. The selector owns its containers, so the filter ids passed from Java only have to be pinned while it is
+     * built and not for the whole search.
+     */
+    class IDSelectorRoaring : public faiss::IDSelector {
+    public:
+        static constexpr int CHUNK_BITS = 16;
+        static constexpr size_t BITMAP_CONTAINER_WORDS = (1 << CHUNK_BITS) / 64;
+        static constexpr size_t ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+        // Builds the selector from non-negative ids sorted in ascending order
+        static std::unique_ptr<IDSelectorRoaring> fromSortedIds(const int64_t* ids, size_t length);
+
+        // Builds the selector from bitmap words laid out like Lucene FixedBitSet#bits
+        static std::unique_ptr<IDSelectorRoaring> fromBitmap(const uint64_t* words, size_t numWords);
+
+        bool is_member(faiss::idx_t id) const final;
+
+        size_t numBitmapContainers() const;
+
+        size_t numArrayContainers() const;
+
+    private:
+        struct Container {
+            std::vector<uint64_t> bitmap;
+            std::vector<uint16_t> array;
+        };
+
+        Container& addContainer(size_t chunk);
+
+        // Position of each chunk's container in containers, -1 when the chunk holds no id
+        std::vector<int32_t> chunkIndex;
+        std::vector<Container> containers;
+    };
 };
 
 
@@ -34,6 +34,12 @@ namespace knn_jni {
 
         void WriteIndex(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jobject output, jlong indexAddr, IndexService *indexService, bool skipFlat = false);
 
+        // Renumbers the vectors of a float or byte HNSW index in breadth first order of its bottom level graph, so
+        // that vectors visited together during a search are stored close to each other in the written index. The
+        // vectors, the graph and the id map are permuted together, so search results are unchanged. Indices that are
+        // not HNSW graphs over flat codes are left as they are.
+        void ReorderIndex(jlong indexAddr);
+
         // Create an index with ids and vectors. Instead of creating a new index, this function creates the index
         // based off of the template index passed in. The index is serialized to indexPathJ.
         void CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
@@ -62,6 +68,21 @@ namespace knn_jni {
         // Returns a pointer of the loaded index
         jlong LoadIndexWithStream(faiss::IOReader* ioReader);
 
+        // Loads an index from a serialized index that is already present in memory, typically a memory mapped
+        // segment file. Structures that Faiss supports viewing (e.g. flat codes and HNSW neighbor lists) point into
+        // the given buffer instead of being copied, so the buffer must outlive the returned index.
+        //
+        // Returns a pointer of the loaded index
+        jlong LoadIndexFromMemory(const uint8_t* data, size_t size);
+
+        // Loads a float HNSW index so that more vectors can be added to it, as the starting point of a merged segment's
+        // index. The ids of the loaded index are doc ids of its source segment, they are replaced by
+        // docIdMapJ[sourceDocId], the doc id in the merged segment.
+        //
+        // Returns a pointer of the loaded index
+        jlong LoadIndexForMerge(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, faiss::IOReader* ioReader,
+                                jintArray docIdMapJ);
+
         // Loads an index with a reader implemented IOReader. The index
         // is expected to be a binary index. For ADC, it will be converted into a
         // float index.
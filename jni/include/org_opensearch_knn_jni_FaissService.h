@@ -78,6 +78,13 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_insertToByteInde
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_writeIndex(JNIEnv *, jclass, jlong, jobject);
 
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    reorderIndex
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_reorderIndex(JNIEnv *, jclass, jlong);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    writeBinaryIndex
@@ -132,6 +139,22 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndex
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithStream
   (JNIEnv *, jclass, jobject);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    loadIndexFromMemory
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexFromMemory
+  (JNIEnv *, jclass, jlong, jlong);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    loadIndexForMerge
+ * Signature: (Lorg/opensearch/knn/index/store/IndexInputWithBuffer;[I)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexForMerge
+  (JNIEnv *, jclass, jobject, jintArray);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    loadBinaryIndex
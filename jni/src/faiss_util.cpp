@@ -9,6 +9,7 @@
 
 #include "faiss_util.h"
 #include <algorithm>
+#include <bitset>
 
 std::unique_ptr<faiss::IDGrouperBitmap> faiss_util::buildIDGrouperBitmap(int *parentIdsArray,  int parentIdsLength, std::vector<uint64_t>* bitmap) {
     const int* maxValue = std::max_element(parentIdsArray, parentIdsArray + parentIdsLength);
@@ -21,3 +22,91 @@ std::unique_ptr<faiss::IDGrouperBitmap> faiss_util::buildIDGrouperBitmap(int *pa
     }
     return idGrouper;
 }
+
+std::unique_ptr<faiss_util::IDSelectorRoaring> faiss_util::IDSelectorRoaring::fromSortedIds(const int64_t* ids, size_t length) {
+    std::unique_ptr<IDSelectorRoaring> selector(new IDSelectorRoaring());
+    size_t start = 0;
+    while (start < length) {
+        const int64_t chunk = ids[start] >> CHUNK_BITS;
+        const size_t end = std::lower_bound(ids + start, ids + length, (chunk + 1) << CHUNK_BITS) - ids;
+        Container& container = selector->addContainer(chunk);
+        if (end - start > ARRAY_CONTAINER_MAX_SIZE) {
+            container.bitmap.assign(BITMAP_CONTAINER_WORDS, 0);
+            for (size_t i = start; i < end; i++) {
+                const uint64_t low = ids[i] & 0xFFFF;
+                container.bitmap[low >> 6] |= 1ULL << (low & 63);
+            }
+        } else {
+            container.array.reserve(end - start);
+            for (size_t i = start; i < end; i++) {
+                container.array.push_back(static_cast<uint16_t>(ids[i] & 0xFFFF));
+            }
+        }
+        start = end;
+    }
+    return selector;
+}
+
+std::unique_ptr<faiss_util::IDSelectorRoaring> faiss_util::IDSelectorRoaring::fromBitmap(const uint64_t* words, size_t numWords) {
+    std::unique_ptr<IDSelectorRoaring> selector(new IDSelectorRoaring());
+    for (size_t firstWord = 0; firstWord < numWords; firstWord += BITMAP_CONTAINER_WORDS) {
+        const size_t lastWord = std::min(numWords, firstWord + BITMAP_CONTAINER_WORDS);
+        size_t cardinality = 0;
+        for (size_t w = firstWord; w < lastWord; w++) {
+            cardinality += std::bitset<64>(words[w]).count();
+        }
+        if (cardinality == 0) {
+            continue;
+        }
+        Container& container = selector->addContainer(firstWord / BITMAP_CONTAINER_WORDS);
+        if (cardinality > ARRAY_CONTAINER_MAX_SIZE) {
+            container.bitmap.assign(BITMAP_CONTAINER_WORDS, 0);
+            std::copy(words + firstWord, words + lastWord, container.bitmap.begin());
+        } else {
+            container.array.reserve(cardinality);
+            for (size_t w = firstWord; w < lastWord; w++) {
+                uint64_t word = words[w];
+                while (word != 0) {
+                    // Number of trailing zeros is the position of the lowest set bit
+                    const size_t bit = std::bitset<64>((word & (~word + 1)) - 1).count();
+                    container.array.push_back(static_cast<uint16_t>(((w - firstWord) << 6) + bit));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+    return selector;
+}
+
+bool faiss_util::IDSelectorRoaring::is_member(faiss::idx_t id) const {
+    if (id < 0) {
+        return false;
+    }
+    const uint64_t chunk = static_cast<uint64_t>(id) >> CHUNK_BITS;
+    if (chunk >= chunkIndex.size() || chunkIndex[chunk] < 0) {
+        return false;
+    }
+    const Container& container = containers[chunkIndex[chunk]];
+    const uint16_t low = static_cast<uint16_t>(id & 0xFFFF);
+    if (!container.bitmap.empty()) {
+        return (container.bitmap[low >> 6] >> (low & 63)) & 1ULL;
+    }
+    return std::binary_search(container.array.begin(), container.array.end(), low);
+}
+
+size_t faiss_util::IDSelectorRoaring::numBitmapContainers() const {
+    return std::count_if(containers.begin(), containers.end(), [](const Container& c) { return !c.bitmap.empty(); });
+}
+
+size_t faiss_util::IDSelectorRoaring::numArrayContainers() const {
+    return containers.size() - numBitmapContainers();
+}
+
+faiss_util::IDSelectorRoaring::Container& faiss_util::IDSelectorRoaring::addContainer(size_t chunk) {
+    if (chunk >= chunkIndex.size()) {
+        chunkIndex.resize(chunk + 1, -1);
+    }
+    chunkIndex[chunk] = static_cast<int32_t>(containers.size());
+    containers.emplace_back();
+    return containers.back();
+}
@@ -17,9 +17,12 @@
 #include "faiss_index_bq.h"
 
 #include "faiss/impl/io.h"
+#include "faiss/impl/zerocopy_io.h"
 #include "faiss/index_factory.h"
 #include "faiss/index_io.h"
 #include "faiss/IndexHNSW.h"
+#include "faiss/IndexFlat.h"
+#include "faiss/IndexIDMap.h"
 #include "faiss/IndexIVFFlat.h"
 #include "faiss/Index.h"
 #include "faiss/impl/IDSelector.h"
@@ -38,36 +41,28 @@
 enum FilterIdsSelectorType{
     BITMAP = 0, BATCH = 1,
 };
-namespace faiss {
-
-// Using jlong to do Bitmap selector, jlong[] equals to lucene FixedBitSet#bits
-struct IDSelectorJlongBitmap : IDSelector {
-    size_t n;
-    const jlong* bitmap;
-
-    /** Construct with a binary mask like Lucene FixedBitSet
-     *
-     * @param n size of the bitmap array
-     * @param bitmap id like Lucene FixedBitSet bits
-     */
-    IDSelectorJlongBitmap(size_t _n, const jlong* _bitmap)
-      : IDSelector(),
-        n(_n),
-        bitmap(_bitmap) {
-    }
-
-    bool is_member(idx_t id) const final {
-        const uint64_t index = id;
-        const uint64_t i = index >> 6ULL;  // div 64
-        if (i >= n) {
-            return false;
-        }
-        return (bitmap[i] >> (index & 63ULL)) & 1ULL;
-    }
-};  // class IDSelectorJlongBitmap
-
-}  // namespace faiss
 
+// Builds the selector for the filter ids passed from Java. The ids are only pinned while the selector copies them
+// into its own containers, so the search itself runs without holding the Java array.
+std::unique_ptr<faiss::IDSelector> buildFilterIdSelector(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env,
+                                                         jlongArray filterIdsJ, jint filterIdsTypeJ) {
+    const int filterIdsLength = jniUtil->GetJavaLongArrayLength(env, filterIdsJ);
+    auto *filteredIdsArray = static_cast<jlong *>(jniUtil->GetPrimitiveArrayCritical(env, filterIdsJ, nullptr));
+    if (filteredIdsArray == nullptr) {
+        throw std::runtime_error("Unable to access filter ids");
+    }
+    knn_jni::JNIReleaseElements releaseFilteredIds {[=]{
+        jniUtil->ReleasePrimitiveArrayCritical(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
+    }};
+
+    std::unique_ptr<faiss::IDSelector> idSelector;
+    if (filterIdsTypeJ == BITMAP) {
+        idSelector = faiss_util::IDSelectorRoaring::fromBitmap(reinterpret_cast<const uint64_t *>(filteredIdsArray), filterIdsLength);
+    } else {
+        idSelector = faiss_util::IDSelectorRoaring::fromSortedIds(reinterpret_cast<const int64_t *>(filteredIdsArray), filterIdsLength);
+    }
+    return idSelector;
+}
 
 // Translate space type to faiss metric
 faiss::MetricType TranslateSpaceToMetric(const std::string& spaceType);
@@ -302,6 +297,60 @@ void knn_jni::faiss_wrapper::WriteIndex(knn_jni::JNIUtilInterface * jniUtil, JNI
     indexService->writeIndex(&writer, index_ptr, skipFlat);
 }
 
+void knn_jni::faiss_wrapper::ReorderIndex(jlong indexAddr) {
+    auto * idMap = reinterpret_cast<faiss::IndexIDMap *>(indexAddr);
+    if (idMap == nullptr) {
+        throw std::runtime_error("Invalid pointer to index");
+    }
+
+    // Only HNSW graphs over full precision flat storage are renumbered. Other storages, such as scalar quantized
+    // codes, are left in insertion order.
+    auto * hnswIndex = dynamic_cast<faiss::IndexHNSW *>(idMap->index);
+    if (hnswIndex == nullptr || dynamic_cast<faiss::IndexFlat *>(hnswIndex->storage) == nullptr || hnswIndex->ntotal == 0) {
+        return;
+    }
+
+    const faiss::HNSW & hnsw = hnswIndex->hnsw;
+    const size_t ntotal = hnswIndex->ntotal;
+
+    // newToOld[i] is the current id of the vector that gets id i
+    std::vector<faiss::idx_t> newToOld;
+    newToOld.reserve(ntotal);
+    std::vector<bool> visited(ntotal, false);
+    auto visit = [&](faiss::idx_t id) {
+        if (!visited[id]) {
+            visited[id] = true;
+            newToOld.push_back(id);
+        }
+    };
+
+    // Breadth first traversal of the bottom level from the entry point. Vectors that cannot be reached from the
+    // vectors visited so far start a new traversal.
+    size_t nextUnvisited = 0;
+    visit(hnsw.entry_point >= 0 ? hnsw.entry_point : 0);
+    for (size_t head = 0; newToOld.size() < ntotal; ++head) {
+        if (head == newToOld.size()) {
+            while (visited[nextUnvisited]) {
+                ++nextUnvisited;
+            }
+            visit(nextUnvisited);
+        }
+        size_t begin, end;
+        hnsw.neighbor_range(newToOld[head], 0, &begin, &end);
+        for (size_t i = begin; i < end && hnsw.neighbors[i] >= 0; ++i) {
+            visit(hnsw.neighbors[i]);
+        }
+    }
+
+    // Permutes the vectors, the levels, the neighbor lists and the entry point
+    hnswIndex->permute_entries(newToOld.data());
+
+    const std::vector<faiss::idx_t> oldIdMap(idMap->id_map.begin(), idMap->id_map.end());
+    for (size_t i = 0; i < ntotal; ++i) {
+        idMap->id_map[i] = oldIdMap[newToOld[i]];
+    }
+}
+
 void knn_jni::faiss_wrapper::CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
                                                      jlong vectorsAddressJ, jint dimJ, jobject output,
                                                      jbyteArray templateIndexJ, jobject parametersJ) {
@@ -592,6 +641,47 @@ jlong knn_jni::faiss_wrapper::LoadIndexWithStream(faiss::IOReader* ioReader) {
 
     return (jlong) indexReader;
 }
+
+jlong knn_jni::faiss_wrapper::LoadIndexFromMemory(const uint8_t* data, size_t size) {
+    if (data == nullptr || size == 0)  {
+        throw std::runtime_error("Index data cannot be empty");
+    }
+
+    // ZeroCopyIOReader hands out views into the buffer for the vectors Faiss can alias, which avoids copying
+    // flat codes and HNSW neighbor lists into native heap.
+    faiss::ZeroCopyIOReader zeroCopyIOReader(data, size);
+    return knn_jni::faiss_wrapper::LoadIndexWithStream(&zeroCopyIOReader);
+}
+
+jlong knn_jni::faiss_wrapper::LoadIndexForMerge(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env,
+                                                 faiss::IOReader* ioReader, jintArray docIdMapJ) {
+    if (ioReader == nullptr)  {
+        throw std::runtime_error("IOReader cannot be null");
+    }
+
+    if (docIdMapJ == nullptr) {
+        throw std::runtime_error("Doc id map cannot be null");
+    }
+
+    // No read only flags here, the index is extended and written out again as the index of the merged segment
+    std::unique_ptr<faiss::Index> index(faiss::read_index(ioReader));
+
+    auto * idMap = dynamic_cast<faiss::IndexIDMap *>(index.get());
+    if (idMap == nullptr || dynamic_cast<faiss::IndexHNSWFlat *>(idMap->index) == nullptr) {
+        throw std::runtime_error("Only HNSW flat indices can be reused for merges");
+    }
+
+    auto docIdMap = jniUtil->ConvertJavaIntArrayToCppIntVector(env, docIdMapJ);
+    for (auto & id : idMap->id_map) {
+        if (id < 0 || id >= (faiss::idx_t) docIdMap.size() || docIdMap[id] < 0) {
+            throw std::runtime_error("Document " + std::to_string(id) + " of the reused index is not part of the merged segment");
+        }
+        id = docIdMap[id];
+    }
+
+    return reinterpret_cast<jlong>(index.release());
+}
+
 jlong knn_jni::faiss_wrapper::LoadIndexWithStreamADCParams(faiss::IOReader* ioReader, knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject methodParamsJ) {
     auto methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
 
@@ -804,15 +894,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
     omp_set_num_threads(1);
     // create the filterSearch params if the filterIdsJ is not a null pointer
     if(filterIdsJ != nullptr) {
-        jlong *filteredIdsArray = jniUtil->GetLongArrayElements(env, filterIdsJ, nullptr);
-        int filterIdsLength = jniUtil->GetJavaLongArrayLength(env, filterIdsJ);
-        std::unique_ptr<faiss::IDSelector> idSelector;
-        if(filterIdsTypeJ == BITMAP) {
-            idSelector.reset(new faiss::IDSelectorJlongBitmap(filterIdsLength, filteredIdsArray));
-        } else {
-            faiss::idx_t* batchIndices = reinterpret_cast<faiss::idx_t*>(filteredIdsArray);
-            idSelector.reset(new faiss::IDSelectorBatch(filterIdsLength, batchIndices));
-        }
+        std::unique_ptr<faiss::IDSelector> idSelector = buildFilterIdSelector(jniUtil, env, filterIdsJ, filterIdsTypeJ);
         faiss::SearchParameters *searchParameters;
         faiss::SearchParametersHNSW hnswParams;
         faiss::SearchParametersIVF ivfParams;
@@ -843,10 +925,8 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
             indexReader->search(1, rawQueryvector, kJ, dis.data(), ids.data(), searchParameters);
         } catch (...) {
             jniUtil->ReleaseFloatArrayElements(env, queryVectorJ, rawQueryvector, JNI_ABORT);
-            jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
             throw;
         }
-        jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
     } else {
         faiss::SearchParameters *searchParameters = nullptr;
         faiss::SearchParametersHNSW hnswParams;
@@ -929,15 +1009,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUti
     omp_set_num_threads(1);
     // create the filterSearch params if the filterIdsJ is not a null pointer
     if(filterIdsJ != nullptr) {
-        jlong *filteredIdsArray = jniUtil->GetLongArrayElements(env, filterIdsJ, nullptr);
-        int filterIdsLength = jniUtil->GetJavaLongArrayLength(env, filterIdsJ);
-        std::unique_ptr<faiss::IDSelector> idSelector;
-        if(filterIdsTypeJ == BITMAP) {
-            idSelector.reset(new faiss::IDSelectorJlongBitmap(filterIdsLength, filteredIdsArray));
-        } else {
-            faiss::idx_t* batchIndices = reinterpret_cast<faiss::idx_t*>(filteredIdsArray);
-            idSelector.reset(new faiss::IDSelectorBatch(filterIdsLength, batchIndices));
-        }
+        std::unique_ptr<faiss::IDSelector> idSelector = buildFilterIdSelector(jniUtil, env, filterIdsJ, filterIdsTypeJ);
         faiss::SearchParameters *searchParameters;
         faiss::SearchParametersHNSW hnswParams;
         faiss::SearchParametersIVF ivfParams;
@@ -964,10 +1036,8 @@ jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUti
             indexReader->search(1, reinterpret_cast<uint8_t*>(rawQueryvector), kJ, dis.data(), ids.data(), searchParameters);
         } catch (...) {
             jniUtil->ReleaseByteArrayElements(env, queryVectorJ, rawQueryvector, JNI_ABORT);
-            jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
             throw;
         }
-        jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
     } else {
         faiss::SearchParameters *searchParameters = nullptr;
         faiss::SearchParametersHNSW hnswParams;
@@ -1380,15 +1450,7 @@ jobjectArray knn_jni::faiss_wrapper::RangeSearchWithFilter(knn_jni::JNIUtilInter
     faiss::RangeSearchResult res(1, true);
 
     if (filterIdsJ != nullptr) {
-        jlong *filteredIdsArray = jniUtil->GetLongArrayElements(env, filterIdsJ, nullptr);
-        int filterIdsLength = jniUtil->GetJavaLongArrayLength(env, filterIdsJ);
-        std::unique_ptr<faiss::IDSelector> idSelector;
-        if (filterIdsTypeJ == BITMAP) {
-            idSelector.reset(new faiss::IDSelectorJlongBitmap(filterIdsLength, filteredIdsArray));
-        } else {
-            faiss::idx_t* batchIndices = reinterpret_cast<faiss::idx_t*>(filteredIdsArray);
-            idSelector.reset(new faiss::IDSelectorBatch(filterIdsLength, batchIndices));
-        }
+        std::unique_ptr<faiss::IDSelector> idSelector = buildFilterIdSelector(jniUtil, env, filterIdsJ, filterIdsTypeJ);
         faiss::SearchParameters *searchParameters;
         faiss::SearchParametersHNSW hnswParams;
         faiss::SearchParametersIVF ivfParams;
@@ -1416,10 +1478,8 @@ jobjectArray knn_jni::faiss_wrapper::RangeSearchWithFilter(knn_jni::JNIUtilInter
             indexReader->range_search(1, rawQueryVector, radiusJ, &res, searchParameters);
         } catch (...) {
             jniUtil->ReleaseFloatArrayElements(env, queryVectorJ, rawQueryVector, JNI_ABORT);
-            jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
             throw;
         }
-        jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
     } else {
         faiss::SearchParameters *searchParameters = nullptr;
         faiss::SearchParametersHNSW hnswParams;
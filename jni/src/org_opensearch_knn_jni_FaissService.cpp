@@ -172,6 +172,17 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_writeIndex(JNIEn
   }
 }
 
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_reorderIndex(JNIEnv * env,
+                                                                             jclass cls,
+                                                                             jlong indexAddress)
+{
+  try {
+      knn_jni::faiss_wrapper::ReorderIndex(indexAddress);
+  } catch (...) {
+      jniUtil.CatchCppExceptionAndThrowJava(env);
+  }
+}
+
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_writeBinaryIndex(JNIEnv * env,
                                                                                  jclass cls,
                                                                                  jlong indexAddress,
@@ -332,6 +343,38 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithSt
     return NULL;
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexFromMemory(JNIEnv * env,
+                                                                                     jclass cls,
+                                                                                     jlong addressJ,
+                                                                                     jlong sizeJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::LoadIndexFromMemory(
+                 reinterpret_cast<const uint8_t*>(addressJ), static_cast<size_t>(sizeJ));
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+
+    return NULL;
+}
+
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexForMerge(JNIEnv * env,
+                                                                                   jclass cls,
+                                                                                   jobject readStream,
+                                                                                   jintArray docIdMapJ)
+{
+    try {
+        knn_jni::stream::NativeEngineIndexInputMediator mediator {&jniUtil, env, readStream};
+        knn_jni::stream::FaissOpenSearchIOReader faissOpenSearchIOReader {&mediator};
+
+        return knn_jni::faiss_wrapper::LoadIndexForMerge(&jniUtil, env, &faissOpenSearchIOReader, docIdMapJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+
+    return NULL;
+}
+
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadBinaryIndex(JNIEnv * env, jclass cls, jstring indexPathJ)
 {
     try {
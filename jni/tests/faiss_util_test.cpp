@@ -9,6 +9,7 @@
 
 #include "faiss_util.h"
 
+#include <unordered_set>
 #include <vector>
 
 #include "gtest/gtest.h"
@@ -26,3 +27,78 @@ TEST(IDGrouperBitMapTest, BasicAssertions) {
         ASSERT_EQ(ids[groupIndex], idGrouperBitmap->get_group(i));
     }
 }
+
+TEST(IDSelectorRoaringTest, WhenSparseIds_ThenArrayContainers) {
+    std::vector<int64_t> ids = {0, 7, 65535, 65536, 200000, 1 << 24};
+    std::unique_ptr<faiss_util::IDSelectorRoaring> selector =
+            faiss_util::IDSelectorRoaring::fromSortedIds(ids.data(), ids.size());
+
+    // Chunks 0, 1, 3 and 256
+    ASSERT_EQ(0, selector->numBitmapContainers());
+    ASSERT_EQ(4, selector->numArrayContainers());
+    std::unordered_set<int64_t> idSet(ids.begin(), ids.end());
+    for (int64_t id = -1; id <= 4 * 65536; id++) {
+        ASSERT_EQ(idSet.count(id) == 1, selector->is_member(id)) << "id " << id;
+    }
+    ASSERT_FALSE(selector->is_member((1 << 24) - 1));
+    ASSERT_TRUE(selector->is_member(1 << 24));
+    ASSERT_FALSE(selector->is_member((1 << 24) + 1));
+    ASSERT_FALSE(selector->is_member(1LL << 40));
+}
+
+TEST(IDSelectorRoaringTest, WhenDenseIds_ThenBitmapContainer) {
+    // Every other id of the second chunk is set, which is above the array container limit
+    std::vector<int64_t> ids;
+    for (int64_t id = 65536; id < 2 * 65536; id += 2) {
+        ids.push_back(id);
+    }
+    ids.push_back(3 * 65536 + 5);
+    std::unique_ptr<faiss_util::IDSelectorRoaring> selector =
+            faiss_util::IDSelectorRoaring::fromSortedIds(ids.data(), ids.size());
+
+    ASSERT_EQ(1, selector->numBitmapContainers());
+    ASSERT_EQ(1, selector->numArrayContainers());
+    std::unordered_set<int64_t> idSet(ids.begin(), ids.end());
+    for (int64_t id = 0; id < 4 * 65536; id++) {
+        ASSERT_EQ(idSet.count(id) == 1, selector->is_member(id)) << "id " << id;
+    }
+}
+
+TEST(IDSelectorRoaringTest, WhenEmpty_ThenNoMember) {
+    std::unique_ptr<faiss_util::IDSelectorRoaring> selector = faiss_util::IDSelectorRoaring::fromSortedIds(nullptr, 0);
+    ASSERT_EQ(0, selector->numBitmapContainers() + selector->numArrayContainers());
+    ASSERT_FALSE(selector->is_member(0));
+    ASSERT_FALSE(selector->is_member(-1));
+
+    std::vector<uint64_t> words(2 * faiss_util::IDSelectorRoaring::BITMAP_CONTAINER_WORDS, 0);
+    selector = faiss_util::IDSelectorRoaring::fromBitmap(words.data(), words.size());
+    ASSERT_EQ(0, selector->numBitmapContainers() + selector->numArrayContainers());
+    ASSERT_FALSE(selector->is_member(0));
+}
+
+TEST(IDSelectorRoaringTest, WhenBitmap_ThenSameMembersAsSortedIds) {
+    // Layout of Lucene FixedBitSet#bits: a dense first chunk, an empty second chunk and a sparse, partial last chunk
+    const int64_t numBits = 2 * 65536 + 1000;
+    std::vector<uint64_t> words((numBits + 63) / 64, 0);
+    std::vector<int64_t> ids;
+    for (int64_t id = 0; id < numBits; id++) {
+        if ((id < 65536 && id % 3 == 0) || (id >= 2 * 65536 && id % 97 == 0)) {
+            words[id >> 6] |= 1ULL << (id & 63);
+            ids.push_back(id);
+        }
+    }
+    std::unique_ptr<faiss_util::IDSelectorRoaring> fromBitmap =
+            faiss_util::IDSelectorRoaring::fromBitmap(words.data(), words.size());
+    std::unique_ptr<faiss_util::IDSelectorRoaring> fromSortedIds =
+            faiss_util::IDSelectorRoaring::fromSortedIds(ids.data(), ids.size());
+
+    ASSERT_EQ(1, fromBitmap->numBitmapContainers());
+    ASSERT_EQ(1, fromBitmap->numArrayContainers());
+    ASSERT_EQ(fromSortedIds->numBitmapContainers(), fromBitmap->numBitmapContainers());
+    ASSERT_EQ(fromSortedIds->numArrayContainers(), fromBitmap->numArrayContainers());
+    for (int64_t id = 0; id < numBits + 64; id++) {
+        bool expected = (id < 65536 && id % 3 == 0) || (id >= 2 * 65536 && id < numBits && id % 97 == 0);
+        ASSERT_EQ(expected, fromBitmap->is_member(id)) << "id " << id;
+        ASSERT_EQ(expected, fromSortedIds->is_member(id)) << "id " << id;
+    }
+}
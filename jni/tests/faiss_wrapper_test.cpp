@@ -11,6 +11,7 @@
 
 #include "faiss_wrapper.h"
 
+#include <algorithm>
 #include <vector>
 
 #include "gmock/gmock.h"
@@ -739,6 +740,148 @@ TEST(FaissLoadBinaryIndexTest, BasicAssertions) {
     std::remove(indexPath.c_str());
 }
 
+TEST(FaissLoadIndexTest, LoadIndexFromMemory) {
+    // Define the data
+    faiss::idx_t numIds = 100;
+    int dim = 2;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // The serialized index plays the role of the mapped segment file and must outlive the loaded index
+    auto createIndexSerialization =
+            test_util::FaissGetSerializedIndex(&createdIndexWithData);
+
+    std::unique_ptr<faiss::Index> loadedIndexPointer(
+            reinterpret_cast<faiss::Index *>(knn_jni::faiss_wrapper::LoadIndexFromMemory(
+                    createIndexSerialization.data.data(), createIndexSerialization.data.size())));
+
+    // Compare serialized versions
+    auto loadedIndexSerialization = test_util::FaissGetSerializedIndex(loadedIndexPointer.get());
+
+    ASSERT_EQ(createIndexSerialization.data.size(),
+              loadedIndexSerialization.data.size());
+
+    for (int i = 0; i < loadedIndexSerialization.data.size(); ++i) {
+        ASSERT_EQ(createIndexSerialization.data[i],
+                  loadedIndexSerialization.data[i]);
+    }
+
+    // Empty buffers are rejected
+    EXPECT_THROW(knn_jni::faiss_wrapper::LoadIndexFromMemory(nullptr, 0), std::runtime_error);
+}
+
+TEST(FaissLoadIndexForMergeTest, RemapsIdsToMergedDocIds) {
+    // Define the data
+    faiss::idx_t numIds = 100;
+    int dim = 2;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    // Create the index of the source segment
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, "HNSW32,Flat", faiss::METRIC_L2));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+    auto createIndexSerialization =
+            test_util::FaissGetSerializedIndex(&createdIndexWithData);
+
+    // Doc i of the source segment becomes doc i + 1000 of the merged segment
+    std::vector<int64_t> docIdMap;
+    for (auto id : ids) {
+        docIdMap.push_back(id + 1000);
+    }
+
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    faiss::VectorIOReader vectorIoReader;
+    vectorIoReader.data = createIndexSerialization.data;
+    std::unique_ptr<faiss::IndexIDMap> loadedIndex(
+            reinterpret_cast<faiss::IndexIDMap *>(knn_jni::faiss_wrapper::LoadIndexForMerge(
+                    &mockJNIUtil, &jniEnv, &vectorIoReader, reinterpret_cast<jintArray>(&docIdMap))));
+
+    ASSERT_EQ(numIds, loadedIndex->ntotal);
+    for (int i = 0; i < numIds; ++i) {
+        ASSERT_EQ(ids[i] + 1000, loadedIndex->id_map[i]);
+    }
+
+    // Vectors of the other segments can be added to the loaded index
+    std::vector<float> newVector = test_util::RandomVectors(dim, 1, randomDataMin, randomDataMax);
+    faiss::idx_t newId = 0;
+    loadedIndex->add_with_ids(1, newVector.data(), &newId);
+    ASSERT_EQ(numIds + 1, loadedIndex->ntotal);
+
+    // Indices holding docs that are not part of the merged segment cannot be reused
+    docIdMap[0] = -1;
+    faiss::VectorIOReader deletedDocIoReader;
+    deletedDocIoReader.data = createIndexSerialization.data;
+    EXPECT_THROW(knn_jni::faiss_wrapper::LoadIndexForMerge(
+            &mockJNIUtil, &jniEnv, &deletedDocIoReader, reinterpret_cast<jintArray>(&docIdMap)), std::runtime_error);
+}
+
+TEST(FaissReorderIndexTest, KeepsSearchResults) {
+    // Define the data
+    faiss::idx_t numIds = 200;
+    int dim = 4;
+    int k = 10;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, "HNSW16,Flat", faiss::METRIC_L2));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // Search every vector before reordering
+    std::vector<float> expectedDistances(numIds * k);
+    std::vector<faiss::idx_t> expectedIds(numIds * k);
+    createdIndexWithData.search(numIds, vectors.data(), k, expectedDistances.data(), expectedIds.data());
+
+    knn_jni::faiss_wrapper::ReorderIndex(reinterpret_cast<jlong>(&createdIndexWithData));
+
+    // The id map is a permutation of the ids
+    std::vector<faiss::idx_t> idMap(createdIndexWithData.id_map.begin(), createdIndexWithData.id_map.end());
+    std::sort(idMap.begin(), idMap.end());
+    ASSERT_EQ(ids, idMap);
+
+    // The graph is only renumbered, so searches visit the same vectors and return the same results
+    std::vector<float> distances(numIds * k);
+    std::vector<faiss::idx_t> resultIds(numIds * k);
+    createdIndexWithData.search(numIds, vectors.data(), k, distances.data(), resultIds.data());
+    ASSERT_EQ(expectedIds, resultIds);
+    ASSERT_EQ(expectedDistances, distances);
+}
+
+TEST(FaissReorderIndexTest, WhenScalarQuantizedThenUnchanged) {
+    // Define the data
+    faiss::idx_t numIds = 200;
+    int dim = 4;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, "HNSW16,SQfp16", faiss::METRIC_L2));
+    test_util::FaissTrainIndex(createdIndex.get(), numIds, vectors.data());
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+    std::vector<faiss::idx_t> expectedIdMap(createdIndexWithData.id_map.begin(), createdIndexWithData.id_map.end());
+
+    knn_jni::faiss_wrapper::ReorderIndex(reinterpret_cast<jlong>(&createdIndexWithData));
+
+    // Only flat storage is renumbered, so the id map keeps the insertion order
+    std::vector<faiss::idx_t> idMap(createdIndexWithData.id_map.begin(), createdIndexWithData.id_map.end());
+    ASSERT_EQ(expectedIdMap, idMap);
+}
+
 TEST(FaissLoadIndexTest, HNSWPQDisableSdcTable) {
     // Check that when we load an HNSWPQ index, the sdc table is not present.
     faiss::idx_t numIds = 256;
@@ -987,6 +1130,85 @@ TEST(FaissQueryIndexWithFilterTest1435, BasicAssertions) {
     }
 }
 
+TEST(FaissQueryIndexWithBatchFilterTest, BasicAssertions) {
+    // Define the index data
+    faiss::idx_t numIds = 200;
+    std::vector<faiss::idx_t> ids;
+    std::vector<float> vectors;
+    std::vector<std::vector<float>> queries;
+
+    int dim = 16;
+    for (int64_t i = 0; i < numIds; i++) {
+        std::vector<float> query;
+        query.reserve(dim);
+        ids.push_back(i);
+        for (int j = 0; j < dim; j++) {
+            float vector = test_util::RandomFloat(-500.0, 500.0);
+            vectors.push_back(vector);
+            query.push_back(vector);
+        }
+        queries.push_back(query);
+    }
+
+    // Doc ids of a Lucene BitSet in ascending order, as passed for FilterIdsSelectorType.BATCH
+    std::vector<jlong> filterIds;
+    for (int64_t i = 3; i < numIds; i += 17) {
+        filterIds.push_back(i);
+    }
+    std::unordered_set<int> filterIdSet(filterIds.begin(), filterIds.end());
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    EXPECT_CALL(mockJNIUtil,
+                GetJavaLongArrayLength(
+                        &jniEnv, reinterpret_cast<jlongArray>(&filterIds)))
+            .WillRepeatedly(Return(filterIds.size()));
+    // The filter ids are pinned once per query, only while the selector is built
+    EXPECT_CALL(mockJNIUtil,
+                GetPrimitiveArrayCritical(
+                        &jniEnv, reinterpret_cast<jlongArray>(&filterIds), _))
+            .Times(queries.size());
+    EXPECT_CALL(mockJNIUtil,
+                ReleasePrimitiveArrayCritical(
+                        &jniEnv, reinterpret_cast<jlongArray>(&filterIds),
+                        static_cast<void *>(filterIds.data()), JNI_ABORT))
+            .Times(queries.size());
+    EXPECT_CALL(mockJNIUtil, GetLongArrayElements(_, _, _)).Times(0);
+
+    int k = 5;
+    for (auto query : queries) {
+        std::unique_ptr<std::vector<std::pair<int, float> *>> results(
+                reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                        knn_jni::faiss_wrapper::QueryIndex_WithFilter(
+                                &mockJNIUtil, &jniEnv,
+                                reinterpret_cast<jlong>(&createdIndexWithData),
+                                reinterpret_cast<jfloatArray>(&query), k, nullptr,
+                                reinterpret_cast<jlongArray>(&filterIds), 1, nullptr)));
+
+        ASSERT_TRUE(results->size() <= k);
+        ASSERT_TRUE(results->size() > 0);
+        for (const auto& pairPtr : *results) {
+            auto it = filterIdSet.find(pairPtr->first);
+            ASSERT_NE(it, filterIdSet.end());
+        }
+
+        // Need to free up each result
+        for (auto it : *results.get()) {
+            delete it;
+        }
+    }
+}
+
 TEST(FaissQueryIndexWithParentFilterTest, BasicAssertions) {
     // Define the index data
     faiss::idx_t numIds = 100;
@@ -146,6 +146,14 @@ test_util::MockJNIUtil::MockJNIUtil() {
                         reinterpret_cast<std::vector<jlong> *>(arrayJ)->data());
             });
 
+    // array is re-interpreted as a std::vector<jlong> * like the filter ids passed
+    // to the search, and then the data is returned
+    ON_CALL(*this, GetPrimitiveArrayCritical)
+            .WillByDefault([this](JNIEnv *env, jarray array, jboolean *isCopy) {
+                return reinterpret_cast<void *>(
+                        reinterpret_cast<std::vector<jlong> *>(array)->data());
+            });
+
     // arrayJ is re-interpreted as a std::vector<float> * and then the data is
     // re-interpreted as a jfloat *
     ON_CALL(*this, GetFloatArrayElements)
@@ -244,6 +252,11 @@ test_util::MockJNIUtil::MockJNIUtil() {
             .WillByDefault(
                     [this](JNIEnv *env, jlongArray array, jlong *elems, int mode) {});
 
+    // This function should not do anything meaningful in the unit tests
+    ON_CALL(*this, ReleasePrimitiveArrayCritical)
+            .WillByDefault(
+                    [this](JNIEnv *env, jarray array, void *carray, jint mode) {});
+
     // array is re-interpreted as a std::vector<uint8_t> * and then the bytes from
     // buf are copied to it
     ON_CALL(*this, SetByteArrayRegion)
@@ -66,6 +66,8 @@ public class KNNConstants {
 
     public static final String KNN_THREAD_POOL_PREFIX = "knn";
     public static final String TRAIN_THREAD_POOL = "training";
+    public static final String GRAPH_LOAD_THREAD_POOL = "graph_load";
+    public static final String VECTOR_TRANSFER_THREAD_POOL = "vector_transfer";
 
     public static final String TRAINING_JOB_COUNT_FIELD_NAME = "training_job_count";
     public static final String NODES_KEY = "nodes";
@@ -216,6 +218,9 @@ public class KNNConstants {
     // mmr
     public static final String MMR = "mmr";
     public static final String MMR_EXPLAIN = "mmr_explain";
+    public static final String MMR_VECTOR_FETCH = "mmr_vector_fetch";
+    // Name of the document field the MMR candidate vectors are returned in by the fetch phase
+    public static final String MMR_VECTOR = "_mmr_vector";
     public static final String EXPLAIN = "explain";
     public static final String DIVERSITY = "diversity";
     public static final String CANDIDATES = "candidates";
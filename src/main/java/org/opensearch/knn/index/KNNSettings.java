@@ -28,8 +28,10 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
 import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.memory.NativeMemoryCacheEvictionPolicy;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManagerDto;
 import org.opensearch.knn.index.util.IndexHyperParametersUtil;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCacheManager;
@@ -95,6 +97,20 @@ public class KNNSettings {
     public static final String KNN_CIRCUIT_BREAKER_TRIGGERED = "knn.circuit_breaker.triggered";
     public static final String KNN_CACHE_ITEM_EXPIRY_ENABLED = "knn.cache.item.expiry.enabled";
     public static final String KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES = "knn.cache.item.expiry.minutes";
+    public static final String KNN_CACHE_EVICTION_POLICY = "knn.cache.eviction_policy";
+    public static final String KNN_GRAPH_LOAD_ASYNC_ENABLED = "knn.graph_load.async.enabled";
+    public static final String KNN_FAISS_MMAP_LOAD_ENABLED = "knn.faiss.mmap_load.enabled";
+    public static final String KNN_VECTOR_STREAMING_PIPELINE_ENABLED = "knn.vector_streaming.pipeline.enabled";
+    public static final String KNN_INDEX_BUILD_SCHEDULER_ENABLED = "knn.index_build.scheduler.enabled";
+    public static final String KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY = "knn.index_build.scheduler.thread_qty";
+    public static final String KNN_INCREMENTAL_MERGE_ENABLED = "knn.index_build.incremental_merge.enabled";
+    public static final String KNN_GRAPH_REORDER_ENABLED = "knn.index_build.graph_reorder.enabled";
+    public static final String KNN_TRAINING_SHARD_SAMPLING_ENABLED = "knn.training.shard_sampling.enabled";
+    public static final String KNN_EXACT_SEARCH_CONCURRENT_ENABLED = "knn.exact_search.concurrent.enabled";
+    public static final String KNN_MMR_VECTOR_FETCH_ENABLED = "knn.mmr.vector_fetch.enabled";
+    public static final String KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED = "knn.derived_source.binary_injection.enabled";
+    public static final String KNN_FILTER_BITSET_CACHE_ENABLED = "knn.filter_bitset_cache.enabled";
+    public static final String KNN_FILTER_BITSET_CACHE_SIZE_LIMIT = "knn.filter_bitset_cache.size.limit";
     public static final String KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE = "knn.circuit_breaker.unset.percentage";
     public static final String KNN_INDEX = "index.knn";
     public static final String MODEL_INDEX_NUMBER_OF_SHARDS = "knn.model.index.number_of_shards";
@@ -411,6 +427,161 @@ public class KNNSettings {
         NodeScope
     );
 
+    /**
+     * When enabled, graphs that are not in the native memory cache yet are loaded in the background on the graph_load
+     * thread pool, and searches on those segments are served with exact search until the graph is loaded.
+     */
+    public static final Setting<Boolean> KNN_GRAPH_LOAD_ASYNC_ENABLED_SETTING = Setting.boolSetting(
+        KNN_GRAPH_LOAD_ASYNC_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Node level dynamic setting, disabled by default. When enabled, Faiss graphs in memory mapped segment files are
+     * loaded from the mapped file instead of being streamed into native memory, so that flat codes and HNSW neighbor lists
+     * reference the mapped pages. Other files keep the streaming load. Mapped graphs are still charged to the circuit
+     * breaker with the size of the whole file, so the number of graphs the cache holds stays the same as with streaming.
+     */
+    public static final Setting<Boolean> KNN_FAISS_MMAP_LOAD_ENABLED_SETTING = Setting.boolSetting(
+        KNN_FAISS_MMAP_LOAD_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the memory optimized native index build reads and quantizes the next batch of vectors into a second
+     * off heap buffer while the native engine inserts the current one. This doubles the memory used for vector streaming.
+     */
+    public static final Setting<Boolean> KNN_VECTOR_STREAMING_PIPELINE_ENABLED_SETTING = Setting.boolSetting(
+        KNN_VECTOR_STREAMING_PIPELINE_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, native index builds of flushes run on the node level index build scheduler instead of the refresh
+     * thread that requested them. Merge builds still run on their merge thread, but wait for a free build thread of the
+     * scheduler, behind any queued flush builds. See {@link NativeIndexBuildScheduler}.
+     */
+    public static final Setting<Boolean> KNN_INDEX_BUILD_SCHEDULER_ENABLED_SETTING = Setting.boolSetting(
+        KNN_INDEX_BUILD_SCHEDULER_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Number of native index builds the index build scheduler runs concurrently on a node. Each build may itself use up
+     * to knn.algo_param.index_thread_qty threads.
+     */
+    public static final Setting<Integer> KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY_SETTING = new Setting<>(
+        KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY,
+        settings -> Integer.toString(getHardwareDefaultIndexBuildThreadQty(settings)),
+        s -> {
+            int value = Integer.parseInt(s);
+            if (value < 1 || value > INDEX_THREAD_QTY_MAX) {
+                throw new IllegalArgumentException("Value must be between 1 and " + INDEX_THREAD_QTY_MAX);
+            }
+            return value;
+        },
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, merges of Faiss HNSW flat fields start from the graph of the largest source segment without deleted
+     * docs and only insert the vectors of the other source segments, instead of building the graph from scratch.
+     */
+    public static final Setting<Boolean> KNN_INCREMENTAL_MERGE_ENABLED_SETTING = Setting.boolSetting(
+        KNN_INCREMENTAL_MERGE_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, Faiss HNSW graphs are renumbered in breadth first order of the graph before being written, so that
+     * memory optimized search reads fewer pages of the index file per query when the index does not fit in memory.
+     */
+    public static final Setting<Boolean> KNN_GRAPH_REORDER_ENABLED_SETTING = Setting.boolSetting(
+        KNN_GRAPH_REORDER_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, training data is sampled from the vector readers of the shards of the training index on the data
+     * nodes, instead of being read through a scroll over _source on the training node.
+     */
+    public static final Setting<Boolean> KNN_TRAINING_SHARD_SAMPLING_ENABLED_SETTING = Setting.boolSetting(
+        KNN_TRAINING_SHARD_SAMPLING_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, exact search splits the doc id range of large segments into slices that are scored concurrently on
+     * the search thread pool.
+     */
+    public static final Setting<Boolean> KNN_EXACT_SEARCH_CONCURRENT_ENABLED_SETTING = Setting.boolSetting(
+        KNN_EXACT_SEARCH_CONCURRENT_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, MMR rerank reads the vectors of the candidates from the vector values of the segments during the
+     * fetch phase, instead of parsing them from the _source of the hits.
+     */
+    public static final Setting<Boolean> KNN_MMR_VECTOR_FETCH_ENABLED_SETTING = Setting.boolSetting(
+        KNN_MMR_VECTOR_FETCH_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the _source rebuilt by derived source for readers of the whole unfiltered _source, such as peer
+     * recovery, is encoded as SMILE, so the injected vectors are written as binary floats instead of JSON text. Those
+     * readers detect the content type from the bytes, so this cuts the CPU and bytes spent on vectors when moving shards
+     * of large vector indices. Fetches with source filtering keep the stored content type. The setting is read for
+     * every rebuilt document.
+     */
+    public static final Setting<Boolean> KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED_SETTING = Setting.boolSetting(
+        KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the filter bitsets of filtered k-NN queries are cached per segment together with the doc ids handed
+     * to the native engines, so repeated queries with the same filter skip both the filter evaluation and the conversion.
+     */
+    public static final Setting<Boolean> KNN_FILTER_BITSET_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        KNN_FILTER_BITSET_CACHE_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Upper bound of the heap used by the filter bitset cache, 1% of the JVM heap by default. It is read when the cache is
+     * created, so it is a static node setting.
+     */
+    public static final Setting<ByteSizeValue> KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING = Setting.memorySizeSetting(
+        KNN_FILTER_BITSET_CACHE_SIZE_LIMIT,
+        "1%",
+        NodeScope
+    );
+
     /**
      * Cluster level setting to control whether remote index build is enabled or not.
      */
@@ -564,6 +735,20 @@ public class KNNSettings {
                 KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES,
                 Setting.positiveTimeSetting(KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES, TimeValue.timeValueHours(3), NodeScope, Dynamic)
             );
+            /**
+             * Cache eviction policy. "lru" keeps the weight bounded Guava cache, "tinylfu" uses a striped cache with
+             * frequency aware eviction.
+             */
+            put(
+                KNN_CACHE_EVICTION_POLICY,
+                new Setting<>(
+                    KNN_CACHE_EVICTION_POLICY,
+                    NativeMemoryCacheEvictionPolicy.LRU.getName(),
+                    NativeMemoryCacheEvictionPolicy::getEvictionPolicy,
+                    NodeScope,
+                    Dynamic
+                )
+            );
         }
     };
 
@@ -609,11 +794,20 @@ public class KNNSettings {
                     .getMinutes()
             );
 
+            NativeMemoryCacheEvictionPolicy currentEvictionPolicy = getSettingValue(KNN_CACHE_EVICTION_POLICY);
+            builder.evictionPolicy(
+                NativeMemoryCacheEvictionPolicy.getEvictionPolicy(
+                    updatedSettings.get(KNN_CACHE_EVICTION_POLICY, currentEvictionPolicy.getName())
+                )
+            );
+
             NativeMemoryCacheManager.getInstance().rebuildCache(builder.build());
         },
             Stream.concat(dynamicCacheSettings.values().stream(), FEATURE_FLAGS_WHICH_REBUILDS_CACHE.values().stream())
                 .collect(Collectors.toUnmodifiableList())
         );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY_SETTING, NativeIndexBuildScheduler.getInstance()::setThreadQty);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(QUANTIZATION_STATE_CACHE_SIZE_LIMIT_SETTING, it -> {
             quantizationStateCacheManager.setMaxCacheSizeInKB(it.getKb());
             quantizationStateCacheManager.rebuildCache();
@@ -735,6 +929,58 @@ public class KNNSettings {
             return INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING;
         }
 
+        if (KNN_GRAPH_LOAD_ASYNC_ENABLED.equals(key)) {
+            return KNN_GRAPH_LOAD_ASYNC_ENABLED_SETTING;
+        }
+
+        if (KNN_FAISS_MMAP_LOAD_ENABLED.equals(key)) {
+            return KNN_FAISS_MMAP_LOAD_ENABLED_SETTING;
+        }
+
+        if (KNN_VECTOR_STREAMING_PIPELINE_ENABLED.equals(key)) {
+            return KNN_VECTOR_STREAMING_PIPELINE_ENABLED_SETTING;
+        }
+
+        if (KNN_INDEX_BUILD_SCHEDULER_ENABLED.equals(key)) {
+            return KNN_INDEX_BUILD_SCHEDULER_ENABLED_SETTING;
+        }
+
+        if (KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY.equals(key)) {
+            return KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY_SETTING;
+        }
+
+        if (KNN_INCREMENTAL_MERGE_ENABLED.equals(key)) {
+            return KNN_INCREMENTAL_MERGE_ENABLED_SETTING;
+        }
+
+        if (KNN_GRAPH_REORDER_ENABLED.equals(key)) {
+            return KNN_GRAPH_REORDER_ENABLED_SETTING;
+        }
+
+        if (KNN_TRAINING_SHARD_SAMPLING_ENABLED.equals(key)) {
+            return KNN_TRAINING_SHARD_SAMPLING_ENABLED_SETTING;
+        }
+
+        if (KNN_EXACT_SEARCH_CONCURRENT_ENABLED.equals(key)) {
+            return KNN_EXACT_SEARCH_CONCURRENT_ENABLED_SETTING;
+        }
+
+        if (KNN_MMR_VECTOR_FETCH_ENABLED.equals(key)) {
+            return KNN_MMR_VECTOR_FETCH_ENABLED_SETTING;
+        }
+
+        if (KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED.equals(key)) {
+            return KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED_SETTING;
+        }
+
+        if (KNN_FILTER_BITSET_CACHE_ENABLED.equals(key)) {
+            return KNN_FILTER_BITSET_CACHE_ENABLED_SETTING;
+        }
+
+        if (KNN_FILTER_BITSET_CACHE_SIZE_LIMIT.equals(key)) {
+            return KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING;
+        }
+
         throw new IllegalArgumentException("Cannot find setting by key [" + key + "]");
     }
 
@@ -771,7 +1017,20 @@ public class KNNSettings {
             KNN_REMOTE_BUILD_CLIENT_TIMEOUT_SETTING,
             KNN_REMOTE_BUILD_SERVER_USERNAME_SETTING,
             KNN_REMOTE_BUILD_SERVER_PASSWORD_SETTING,
-            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING
+            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING,
+            KNN_GRAPH_LOAD_ASYNC_ENABLED_SETTING,
+            KNN_FAISS_MMAP_LOAD_ENABLED_SETTING,
+            KNN_VECTOR_STREAMING_PIPELINE_ENABLED_SETTING,
+            KNN_INDEX_BUILD_SCHEDULER_ENABLED_SETTING,
+            KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY_SETTING,
+            KNN_INCREMENTAL_MERGE_ENABLED_SETTING,
+            KNN_TRAINING_SHARD_SAMPLING_ENABLED_SETTING,
+            KNN_EXACT_SEARCH_CONCURRENT_ENABLED_SETTING,
+            KNN_MMR_VECTOR_FETCH_ENABLED_SETTING,
+            KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED_SETTING,
+            KNN_FILTER_BITSET_CACHE_ENABLED_SETTING,
+            KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING,
+            KNN_GRAPH_REORDER_ENABLED_SETTING
         );
         return Stream.concat(settings.stream(), Stream.concat(getFeatureFlags().stream(), dynamicCacheSettings.values().stream()))
             .collect(Collectors.toList());
@@ -902,6 +1161,20 @@ public class KNNSettings {
         return Booleans.parseBooleanStrict(KNNSettings.state().getSettingValue(KNN_REMOTE_VECTOR_BUILD).toString(), false);
     }
 
+    /**
+     * @return true if graphs missing from the native memory cache should be loaded in the background
+     */
+    public static boolean isGraphLoadAsyncEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_GRAPH_LOAD_ASYNC_ENABLED);
+    }
+
+    /**
+     * @return true if Faiss graphs should be loaded from the memory mapped segment file instead of being copied
+     */
+    public static boolean isFaissMmapLoadEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_FAISS_MMAP_LOAD_ENABLED);
+    }
+
     /**
      * Gets the remote build service endpoint.
      * @return String representation of the remote build service endpoint URL
@@ -982,6 +1255,7 @@ public class KNNSettings {
         this.clusterService = clusterService;
         this.nodeCbAttribute = Optional.empty();
         setSettingsUpdateConsumers();
+        NativeIndexBuildScheduler.getInstance().setThreadQty(getSettingValue(KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY));
     }
 
     public static ByteSizeValue parseknnMemoryCircuitBreakerValue(String sValue, String settingName) {
@@ -1045,6 +1319,69 @@ public class KNNSettings {
         return KNNSettings.state().getSettingValue(KNN_VECTOR_STREAMING_MEMORY_LIMIT_IN_MB);
     }
 
+    /**
+     * @return true if native index builds should run on the node level index build scheduler
+     */
+    public static boolean isIndexBuildSchedulerEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_INDEX_BUILD_SCHEDULER_ENABLED);
+    }
+
+    /**
+     * @return true if merges should reuse the graph of their largest source segment
+     */
+    public static boolean isIncrementalMergeEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_INCREMENTAL_MERGE_ENABLED);
+    }
+
+    /**
+     * @return true if Faiss HNSW graphs should be renumbered in graph order before being written
+     */
+    public static boolean isGraphReorderEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_GRAPH_REORDER_ENABLED);
+    }
+
+    /**
+     * @return true if training data should be sampled on the shards of the training index
+     */
+    public static boolean isTrainingShardSamplingEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_TRAINING_SHARD_SAMPLING_ENABLED);
+    }
+
+    /**
+     * @return true if exact search may score the slices of a segment concurrently
+     */
+    public static boolean isExactSearchConcurrentEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_EXACT_SEARCH_CONCURRENT_ENABLED);
+    }
+
+    /**
+     * @return true if MMR rerank should fetch the vectors of the candidates from the segments instead of the _source
+     */
+    public static boolean isMMRVectorFetchEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_MMR_VECTOR_FETCH_ENABLED);
+    }
+
+    /**
+     * @return true if the _source rebuilt by derived source should be encoded as SMILE
+     */
+    public static boolean isDerivedSourceBinaryInjectionEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_DERIVED_SOURCE_BINARY_INJECTION_ENABLED);
+    }
+
+    /**
+     * @return true if filter bitsets of filtered k-NN queries should be cached per segment
+     */
+    public static boolean isFilterBitSetCacheEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_FILTER_BITSET_CACHE_ENABLED);
+    }
+
+    /**
+     * @return true if vector streaming should overlap reading vectors with inserting them into the native index
+     */
+    public static boolean isVectorStreamingPipelineEnabled() {
+        return KNNSettings.state().getSettingValue(KNN_VECTOR_STREAMING_PIPELINE_ENABLED);
+    }
+
     /**
      *
      * @param index Name of the index
@@ -1115,6 +1452,36 @@ public class KNNSettings {
         }
     }
 
+    /**
+     * Finds the default number of graph loading threads, half of the available processors, so that loading graphs after
+     * a restart or relocation cannot starve search threads
+     *
+     * @return default number of graph loading threads
+     */
+    public static int getHardwareDefaultGraphLoadThreadQty(final Settings settings) {
+        try {
+            return Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2);
+        } catch (Exception e) {
+            logger.info("[KNN] Failed to determine available processors. Defaulting to 1. [{}]", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    /**
+     * Finds the default number of concurrent native index builds, a quarter of the available processors, so that graph
+     * builds leave room for indexing and search
+     *
+     * @return default number of index build threads
+     */
+    public static int getHardwareDefaultIndexBuildThreadQty(final Settings settings) {
+        try {
+            return Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 4);
+        } catch (Exception e) {
+            logger.info("[KNN] Failed to determine available processors. Defaulting to 1. [{}]", e.getMessage(), e);
+            return 1;
+        }
+    }
+
     /**
      * Get the index thread quantity setting value from cluster setting.
      * @return int
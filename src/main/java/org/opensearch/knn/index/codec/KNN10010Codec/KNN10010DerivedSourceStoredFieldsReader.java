@@ -10,6 +10,7 @@ import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.StoredFieldVisitor;
 import org.apache.lucene.util.IOUtils;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.derivedsource.DerivedFieldInfo;
 import org.opensearch.knn.index.codec.derivedsource.DerivedSourceReaders;
 import org.opensearch.knn.index.codec.derivedsource.DerivedSourceStoredFieldVisitor;
@@ -70,7 +71,13 @@ public class KNN10010DerivedSourceStoredFieldsReader extends StoredFieldsReader
         if (shouldInject) {
             initializeTransformerIfNeeded(storedFieldVisitor);
             if (derivedSourceVectorTransformer.hasFieldsToInject()) {
-                delegate.document(docId, new DerivedSourceStoredFieldVisitor(storedFieldVisitor, docId, derivedSourceVectorTransformer));
+                // The setting is dynamic, so it is read for every document rather than once per reader
+                final boolean binaryInjection = isBinaryInjectionAllowed(storedFieldVisitor)
+                    && KNNSettings.isDerivedSourceBinaryInjectionEnabled();
+                delegate.document(
+                    docId,
+                    new DerivedSourceStoredFieldVisitor(storedFieldVisitor, docId, derivedSourceVectorTransformer, binaryInjection)
+                );
                 return;
             }
         }
@@ -106,6 +113,23 @@ public class KNN10010DerivedSourceStoredFieldsReader extends StoredFieldsReader
         return visitor instanceof FieldsVisitor ? ((FieldsVisitor) visitor).codecExcludes() : null;
     }
 
+    /**
+     * Whether the source read by the visitor may be rebuilt as SMILE. Only a plain {@link FieldsVisitor} reading the whole
+     * _source qualifies, which is how operations are read from Lucene for peer recovery. Fetches with source filtering,
+     * stored field visitors and any other reader keep the stored content type.
+     */
+    static boolean isBinaryInjectionAllowed(StoredFieldVisitor visitor) {
+        if (visitor.getClass() != FieldsVisitor.class) {
+            return false;
+        }
+        final FieldsVisitor fieldsVisitor = (FieldsVisitor) visitor;
+        return isEmpty(fieldsVisitor.includes()) && isEmpty(fieldsVisitor.excludes()) && isEmpty(fieldsVisitor.codecExcludes());
+    }
+
+    private static boolean isEmpty(String[] patterns) {
+        return patterns == null || patterns.length == 0;
+    }
+
     @Override
     public StoredFieldsReader clone() {
         try {
@@ -19,13 +19,16 @@ import org.apache.lucene.util.InfoStream;
 import org.apache.lucene.util.RamUsageEstimator;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 /**
  * NativeEngineVectorFieldsWriter is a class that will be used to accumulate all the vectors during ingestion before
  * lucene does a flush. This class ensures that KNNVectorWriter is free from generics and this class can encapsulate
  * all the details related to vectors types and docIds.
+ * <p>
+ * Vectors are not buffered a second time here. The {@link FlatFieldVectorsWriter} already keeps a copy of every added
+ * vector in doc id order together with the {@link org.apache.lucene.index.DocsWithFieldSet} of the field, so the
+ * native index build reads the vectors by ordinal from there.
  *
  * @param <T> float[] or byte[]
  */
@@ -33,14 +36,6 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
     private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(NativeEngineFieldVectorsWriter.class);
     @Getter
     private final FieldInfo fieldInfo;
-    /**
-     * We are using a map here instead of list, because for sampler interface for quantization we have to advance the iterator
-     * to a specific docId, there a list cannot be useful because a docId != index of the vector in the list. Similar
-     * thing is true when we have vector field in child document. There doc Ids will not be consistent. Hence, we need to
-     * use the map here.
-     */
-    @Getter
-    private final Map<Integer, T> vectors;
     private int lastDocID = -1;
     private final InfoStream infoStream;
     @Getter
@@ -72,7 +67,6 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
     ) {
         this.fieldInfo = fieldInfo;
         this.infoStream = infoStream;
-        vectors = new HashMap<>();
         this.flatFieldVectorsWriter = flatFieldVectorsWriter;
     }
 
@@ -95,12 +89,21 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
         // TODO: we can build the graph here too iteratively. but right now I am skipping that as we need iterative
         // graph build support on the JNI layer.
         assert docID > lastDocID;
-        // ensuring that vector is provided to flatFieldWriter.
+        // ensuring that vector is provided to flatFieldWriter, which copies and buffers it until flush.
         flatFieldVectorsWriter.addValue(docID, vectorValue);
-        vectors.put(docID, vectorValue);
         lastDocID = docID;
     }
 
+    /**
+     * Returns the vectors buffered for this field, where the i-th vector belongs to the i-th doc of
+     * {@link FlatFieldVectorsWriter#getDocsWithFieldSet()}.
+     *
+     * @return {@link List} of vectors in doc id order
+     */
+    public List<T> getVectors() {
+        return flatFieldVectorsWriter.getVectors();
+    }
+
     /**
      * Used to copy values being indexed to internal storage.
      *
@@ -113,13 +116,12 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
     }
 
     /**
-     * Return the memory usage of this object in bytes. Negative values are illegal.
+     * Return the memory usage of this object in bytes. Negative values are illegal. The buffered vectors and doc ids
+     * belong to the {@link FlatFieldVectorsWriter}, whose memory is already reported by the flat vectors writer that
+     * created it, so they are not counted a second time here.
      */
     @Override
     public long ramBytesUsed() {
-        return SHALLOW_SIZE + flatFieldVectorsWriter.getDocsWithFieldSet().ramBytesUsed() + (long) this.vectors.size()
-            * (long) (RamUsageEstimator.NUM_BYTES_OBJECT_REF + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER) + (long) this.vectors.size()
-                * RamUsageEstimator.shallowSizeOfInstance(Integer.class) + (long) vectors.size() * fieldInfo.getVectorDimension()
-                    * fieldInfo.getVectorEncoding().byteSize + flatFieldVectorsWriter.ramBytesUsed();
+        return SHALLOW_SIZE;
     }
 }
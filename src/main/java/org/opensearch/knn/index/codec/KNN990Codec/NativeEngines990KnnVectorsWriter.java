@@ -22,6 +22,7 @@ import org.apache.lucene.index.Sorter;
 import org.apache.lucene.util.IOUtils;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.knn.index.codec.nativeindex.AbstractNativeEnginesKnnVectorsWriter;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -44,6 +45,7 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
     private final FlatVectorsWriter flatVectorsWriter;
     private KNN990QuantizationStateWriter quantizationStateWriter;
     private final List<NativeEngineFieldVectorsWriter<?>> fields = new ArrayList<>();
+    private final List<NativeIndexBuildScheduler.Build> mergeBuilds = new ArrayList<>();
     private boolean finished;
     private final Integer approximateThreshold;
     private final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory;
@@ -86,8 +88,11 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
     public void flush(int maxDoc, final Sorter.DocMap sortMap) throws IOException {
         flatVectorsWriter.flush(maxDoc, sortMap);
 
+        // Quantization states are trained and written one field at a time, the graph builds of the fields are
+        // independent of each other and are scheduled together so that they can run concurrently
+        final List<NativeIndexBuildScheduler.Build> builds = new ArrayList<>(fields.size());
         for (final NativeEngineFieldVectorsWriter<?> field : fields) {
-            doFlush(
+            final NativeIndexBuildScheduler.Build build = prepareFlush(
                 field.getFieldInfo(),
                 field.getFlatFieldVectorsWriter(),
                 field.getVectors(),
@@ -97,7 +102,11 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
                 nativeIndexBuildStrategyFactory,
                 null
             );
+            if (build != null) {
+                builds.add(build);
+            }
         }
+        NativeIndexBuildScheduler.getInstance().runAll(NativeIndexBuildScheduler.BuildType.FLUSH, builds);
     }
 
     @Override
@@ -107,12 +116,25 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
 
         if (mergeRunnable != null) mergeRunnable.run();
 
-        doMergeOneField(fieldInfo, mergeState, this::train, approximateThreshold, segmentWriteState, nativeIndexBuildStrategyFactory, null);
+        // The graph build is only collected here, the builds of all the merged fields run together once the merge calls
+        // finish, so that they are scheduled as one batch instead of one field at a time
+        final NativeIndexBuildScheduler.Build build = prepareMerge(
+            fieldInfo,
+            mergeState,
+            this::train,
+            approximateThreshold,
+            segmentWriteState,
+            nativeIndexBuildStrategyFactory,
+            null
+        );
+        if (build != null) {
+            mergeBuilds.add(build);
+        }
         return null;
     }
 
     /**
-     * Called once at the end before close
+     * Called once at the end before close. Runs the graph builds of the merged fields, if any.
      */
     @Override
     public void finish() throws IOException {
@@ -120,6 +142,8 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
             throw new IllegalStateException("NativeEnginesKNNVectorsWriter is already finished");
         }
         finished = true;
+        NativeIndexBuildScheduler.getInstance().runAll(NativeIndexBuildScheduler.BuildType.MERGE, mergeBuilds);
+        mergeBuilds.clear();
         if (quantizationStateWriter != null) {
             quantizationStateWriter.writeFooter();
         }
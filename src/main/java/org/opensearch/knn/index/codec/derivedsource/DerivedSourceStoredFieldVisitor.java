@@ -22,11 +22,21 @@ public class DerivedSourceStoredFieldVisitor extends StoredFieldVisitor {
     private final StoredFieldVisitor delegate;
     private final Integer documentId;
     private final DerivedSourceVectorTransformer derivedSourceVectorTransformer;
+    // Whether the rebuilt source is written as SMILE, see DerivedSourceVectorTransformer#injectVectors(int, byte[], boolean)
+    private final boolean binaryInjection;
+
+    public DerivedSourceStoredFieldVisitor(
+        StoredFieldVisitor delegate,
+        Integer documentId,
+        DerivedSourceVectorTransformer derivedSourceVectorTransformer
+    ) {
+        this(delegate, documentId, derivedSourceVectorTransformer, false);
+    }
 
     @Override
     public void binaryField(FieldInfo fieldInfo, byte[] value) throws IOException {
         if (fieldInfo.name.equals(SourceFieldMapper.NAME)) {
-            delegate.binaryField(fieldInfo, derivedSourceVectorTransformer.injectVectors(documentId, value));
+            delegate.binaryField(fieldInfo, derivedSourceVectorTransformer.injectVectors(documentId, value, binaryInjection));
             return;
         }
         delegate.binaryField(fieldInfo, value);
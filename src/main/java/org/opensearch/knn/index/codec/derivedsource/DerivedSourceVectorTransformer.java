@@ -10,12 +10,17 @@ import org.apache.lucene.index.SegmentReadState;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.compress.NotXContentException;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.common.regex.Regex;
 
 import java.io.IOException;
@@ -33,6 +38,8 @@ public class DerivedSourceVectorTransformer {
     private final DerivedSourceReaders derivedSourceReaders;
     Function<Map<String, Object>, Map<String, Object>> derivedSourceVectorTransformer;
     Map<String, PerFieldDerivedVectorTransformer> perFieldDerivedVectorTransformers;
+    // Paths of the objects that contain a field to inject, used to only descend into those while streaming the source
+    private Set<String> parentPathsOfFieldsToInject;
     private boolean isNested;
     private final DerivedSourceLuceneHelper derivedSourceLuceneHelper;
 
@@ -79,6 +86,14 @@ public class DerivedSourceVectorTransformer {
         transformerFunctions.putAll(perFieldDerivedVectorTransformers);
         derivedSourceVectorTransformer = XContentMapValues.transform(transformerFunctions, true);
 
+        parentPathsOfFieldsToInject = new HashSet<>();
+        for (String fieldName : perFieldDerivedVectorTransformers.keySet()) {
+            int separator = fieldName.indexOf('.');
+            while (separator != -1) {
+                parentPathsOfFieldsToInject.add(fieldName.substring(0, separator));
+                separator = fieldName.indexOf('.', separator + 1);
+            }
+        }
     }
 
     private Set<String> getFieldsToExclude(String[] includes, String[] excludes) {
@@ -131,6 +146,10 @@ public class DerivedSourceVectorTransformer {
 
     /**
      * Given a docId and the source of that doc as bytes, add all the necessary vector fields into the source.
+     * <p>
+     * The source is streamed token by token into a new source of the same content type, and the vectors are written in
+     * place of the values of the vector fields, so the source is never deserialized into a map. Sources whose content
+     * type cannot be detected, such as compressed or non XContent sources, go through {@link #injectVectorsIntoMap}.
      *
      * @param docId doc id of the document
      * @param sourceAsBytes source of document as bytes
@@ -138,6 +157,105 @@ public class DerivedSourceVectorTransformer {
      * @throws IOException if there is an issue reading from the formats
      */
     public byte[] injectVectors(int docId, byte[] sourceAsBytes) throws IOException {
+        return injectVectors(docId, sourceAsBytes, false);
+    }
+
+    /**
+     * Same as {@link #injectVectors(int, byte[])}, but if binary is set, the source is written as SMILE regardless of
+     * its stored content type, so vectors are not rendered as text.
+     *
+     * @param docId doc id of the document
+     * @param sourceAsBytes source of document as bytes
+     * @param binary whether the source should be written as SMILE
+     * @return byte array of the source with the vector fields added
+     * @throws IOException if there is an issue reading from the formats
+     */
+    public byte[] injectVectors(int docId, byte[] sourceAsBytes, boolean binary) throws IOException {
+        final MediaType mediaType = MediaTypeRegistry.xContentType(new BytesArray(sourceAsBytes));
+        if (mediaType == null) {
+            return injectVectorsIntoMap(docId, sourceAsBytes);
+        }
+        setCurrentDoc(docId);
+
+        // Setting to 1024 based on
+        // https://github.com/opensearch-project/OpenSearch/blob/2.18.0/server/src/main/java/org/opensearch/search/fetch/subphase/FetchSourcePhase.java#L106
+        BytesStreamOutput bStream = new BytesStreamOutput(1024);
+        try (
+            XContentParser parser = mediaType.xContent()
+                .createParser(
+                    NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                    sourceAsBytes,
+                    0,
+                    sourceAsBytes.length
+                );
+            XContentBuilder builder = MediaTypeRegistry.contentBuilder(binary ? XContentType.SMILE : mediaType, bStream)
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                return sourceAsBytes;
+            }
+            builder.startObject();
+            copyObjectAndInjectVectors(parser, builder, null);
+            builder.endObject();
+            builder.flush();
+        }
+        return BytesReference.toBytes(bStream.bytes());
+    }
+
+    /**
+     * Copies the fields of the object the parser is positioned on to the builder, up to and excluding its end token.
+     * Values of vector fields are replaced with their vectors, and only objects and arrays on the path to a vector field
+     * are walked, everything else is copied as a whole.
+     */
+    private void copyObjectAndInjectVectors(XContentParser parser, XContentBuilder builder, String path) throws IOException {
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) == XContentParser.Token.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final String fieldPath = path == null ? fieldName : path + "." + fieldName;
+            builder.field(fieldName);
+            token = parser.nextToken();
+            copyValueAndInjectVectors(parser, builder, token, fieldPath);
+        }
+    }
+
+    private void copyValueAndInjectVectors(XContentParser parser, XContentBuilder builder, XContentParser.Token token, String fieldPath)
+        throws IOException {
+        final PerFieldDerivedVectorTransformer vectorTransformer = perFieldDerivedVectorTransformers.get(fieldPath);
+        if (vectorTransformer != null) {
+            // The per field transformers only distinguish a null value from the placeholder stored in the source
+            parser.skipChildren();
+            builder.value(vectorTransformer.apply(token == XContentParser.Token.VALUE_NULL ? null : token));
+        } else if (token == XContentParser.Token.START_OBJECT && parentPathsOfFieldsToInject.contains(fieldPath)) {
+            builder.startObject();
+            copyObjectAndInjectVectors(parser, builder, fieldPath);
+            builder.endObject();
+        } else if (token == XContentParser.Token.START_ARRAY && parentPathsOfFieldsToInject.contains(fieldPath)) {
+            // Arrays of objects, like the ones of nested fields, hold the vector field in every element
+            builder.startArray();
+            while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                copyValueAndInjectVectors(parser, builder, token, fieldPath);
+            }
+            builder.endArray();
+        } else {
+            builder.copyCurrentStructure(parser);
+        }
+    }
+
+    private void setCurrentDoc(int docId) throws IOException {
+        // We only need the offset for the nested fields. If there arent any, we can skip
+        int offset = 0;
+        if (isNested) {
+            offset = derivedSourceLuceneHelper.getFirstChild(docId);
+        }
+
+        // For each vector field, add in the source. The per field injectors are responsible for skipping if
+        // the field is not present.
+        for (PerFieldDerivedVectorTransformer vectorTransformer : perFieldDerivedVectorTransformers.values()) {
+            vectorTransformer.setCurrentDoc(offset, docId);
+        }
+    }
+
+    private byte[] injectVectorsIntoMap(int docId, byte[] sourceAsBytes) throws IOException {
         // Reference:
         // https://github.com/opensearch-project/OpenSearch/blob/2.18.0/server/src/main/java/org/opensearch/index/mapper/SourceFieldMapper.java#L322
         // Deserialize the source into a modifiable map
@@ -161,17 +279,7 @@ public class DerivedSourceVectorTransformer {
         // Have to create a copy of the map here to ensure that is mutable
         Map<String, Object> sourceAsMap = mapTuple.v2();
 
-        // We only need the offset for the nested fields. If there arent any, we can skip
-        int offset = 0;
-        if (isNested) {
-            offset = derivedSourceLuceneHelper.getFirstChild(docId);
-        }
-
-        // For each vector field, add in the source. The per field injectors are responsible for skipping if
-        // the field is not present.
-        for (PerFieldDerivedVectorTransformer vectorTransformer : perFieldDerivedVectorTransformers.values()) {
-            vectorTransformer.setCurrentDoc(offset, docId);
-        }
+        setCurrentDoc(docId);
 
         Map<String, Object> copy = derivedSourceVectorTransformer.apply(sourceAsMap);
 
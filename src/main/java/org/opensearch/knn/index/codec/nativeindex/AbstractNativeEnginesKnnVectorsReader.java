@@ -18,6 +18,7 @@ import org.apache.lucene.store.DataAccessHint;
 import org.apache.lucene.store.FileDataHint;
 import org.apache.lucene.store.FileTypeHint;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.IOSupplier;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
@@ -113,6 +114,25 @@ public abstract class AbstractNativeEnginesKnnVectorsReader extends KnnVectorsRe
         return flatVectorsReader.getFloatVectorValues(field);
     }
 
+    /**
+     * Opens the native engine file of the given field, so that its index can be reused when merging this segment.
+     *
+     * @param field name of the field
+     * @return input of the native engine file, or null if the field has no native engine file in this segment
+     * @throws IOException if the file cannot be opened
+     */
+    public IndexInput openNativeIndexInput(final String field) throws IOException {
+        final FieldInfo fieldInfo = fieldInfos.fieldInfo(field);
+        if (fieldInfo == null) {
+            return null;
+        }
+        final String fileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, segmentReadState.segmentInfo);
+        if (fileName == null) {
+            return null;
+        }
+        return segmentReadState.directory.openInput(fileName, IOContext.READONCE);
+    }
+
     protected VectorSearcher loadMemoryOptimizedSearcherIfRequired(final FieldInfo fieldInfo) {
         if (vectorSearcherHolder.isSet()) {
             return vectorSearcherHolder.getVectorSearcher();
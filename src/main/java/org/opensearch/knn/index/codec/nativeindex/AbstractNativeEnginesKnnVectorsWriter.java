@@ -23,7 +23,6 @@ import org.opensearch.knn.quantization.models.quantizationState.QuantizationStat
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractVectorDataType;
@@ -32,39 +31,63 @@ import static org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory.getVe
 
 @Log4j2
 public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWriter {
-    protected <T> void doFlush(
+    protected void doFlush(
         final FieldInfo fieldInfo,
         final FlatFieldVectorsWriter<?> fieldWriter,
-        final T vectors,
+        final List<?> vectors,
         @Nullable final TriFunction<FieldInfo, Supplier<KNNVectorValues<?>>, Integer, QuantizationState> quantizationStateSupplier,
         final Integer approximateThreshold,
         final SegmentWriteState segmentWriteState,
         final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory,
         @Nullable final QuantizedByteVectorValues quantizedByteVectorValues
     ) throws IOException {
-        // Check total live docs first to avoid unnecessary supplier creation for empty fields
-        final int totalLiveDocs;
-        // NativeEngines990KnnVectorsWriter keeps vector as Map<DocId, Vector> as BQ sampler needs random access.
-        // while Faiss1040ScalarQuantizedKnnVectorsWriter keeps vector as List<Vector> from FlatFieldVectorsWriter.
-        if (vectors instanceof Map) {
-            totalLiveDocs = ((Map) vectors).size();
-        } else {
-            totalLiveDocs = ((List) vectors).size();
+        final NativeIndexBuildScheduler.Build build = prepareFlush(
+            fieldInfo,
+            fieldWriter,
+            vectors,
+            quantizationStateSupplier,
+            approximateThreshold,
+            segmentWriteState,
+            nativeIndexBuildStrategyFactory,
+            quantizedByteVectorValues
+        );
+        if (build != null) {
+            NativeIndexBuildScheduler.getInstance().runAll(NativeIndexBuildScheduler.BuildType.FLUSH, List.of(build));
         }
+    }
 
+    /**
+     * Trains the quantization state of the field, if any, and returns the native index build of the field without
+     * running it, so that the builds of several fields can be scheduled together.
+     *
+     * @return the build to run, or null if no native index has to be built for the field
+     */
+    @Nullable
+    protected NativeIndexBuildScheduler.Build prepareFlush(
+        final FieldInfo fieldInfo,
+        final FlatFieldVectorsWriter<?> fieldWriter,
+        final List<?> vectors,
+        @Nullable final TriFunction<FieldInfo, Supplier<KNNVectorValues<?>>, Integer, QuantizationState> quantizationStateSupplier,
+        final Integer approximateThreshold,
+        final SegmentWriteState segmentWriteState,
+        final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory,
+        @Nullable final QuantizedByteVectorValues quantizedByteVectorValues
+    ) throws IOException {
+        // Vectors are the ones buffered by the FlatFieldVectorsWriter, in the doc id order of its DocsWithFieldSet.
+        // Check total live docs first to avoid unnecessary supplier creation for empty fields
+        final int totalLiveDocs = vectors.size();
         if (totalLiveDocs == 0) {
             log.debug("[Flush] No live docs for field {}", fieldInfo.getName());
-            return;
+            return null;
         }
 
         // Get vector values supplier
         final VectorDataType vectorDataType = extractVectorDataType(fieldInfo);
-        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier;
-        if (vectors instanceof Map) {
-            knnVectorValuesSupplier = getVectorValuesSupplier(vectorDataType, fieldWriter.getDocsWithFieldSet(), (Map) vectors);
-        } else {
-            knnVectorValuesSupplier = getVectorValuesSupplier(vectorDataType, fieldWriter.getDocsWithFieldSet(), (List) vectors);
-        }
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier = getVectorValuesSupplier(
+            vectorDataType,
+            fieldWriter.getDocsWithFieldSet(),
+            vectors
+        );
 
         QuantizationState quantizationState = null;
         if (quantizationStateSupplier != null) {
@@ -81,7 +104,7 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
                 totalLiveDocs,
                 approximateThreshold
             );
-            return;
+            return null;
         }
 
         final NativeIndexWriter writer = NativeIndexWriter.getWriter(
@@ -92,11 +115,13 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
             quantizedByteVectorValues
         );
 
-        final StopWatch stopWatch = new StopWatch().start();
-        writer.flushIndex(knnVectorValuesSupplier, totalLiveDocs);
-        final long time_in_millis = stopWatch.stop().totalTime().millis();
-        KNNGraphValue.REFRESH_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
-        log.debug("Flush took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+        return new NativeIndexBuildScheduler.Build(totalLiveDocs, () -> {
+            final StopWatch stopWatch = new StopWatch().start();
+            writer.flushIndex(knnVectorValuesSupplier, totalLiveDocs);
+            final long time_in_millis = stopWatch.stop().totalTime().millis();
+            KNNGraphValue.REFRESH_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
+            log.debug("Flush took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+        });
     }
 
     protected void doMergeOneField(
@@ -107,6 +132,36 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
         final SegmentWriteState segmentWriteState,
         final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory,
         @Nullable final QuantizedByteVectorValues quantizedByteVectorValues
+    ) throws IOException {
+        final NativeIndexBuildScheduler.Build build = prepareMerge(
+            fieldInfo,
+            mergeState,
+            quantizationStateSupplier,
+            approximateThreshold,
+            segmentWriteState,
+            nativeIndexBuildStrategyFactory,
+            quantizedByteVectorValues
+        );
+        if (build != null) {
+            NativeIndexBuildScheduler.getInstance().runAll(NativeIndexBuildScheduler.BuildType.MERGE, List.of(build));
+        }
+    }
+
+    /**
+     * Trains the quantization state of the field, if any, and returns the native index build of the merged field
+     * without running it, so that the builds of several fields can be scheduled together.
+     *
+     * @return the build to run, or null if no native index has to be built for the field
+     */
+    @Nullable
+    protected NativeIndexBuildScheduler.Build prepareMerge(
+        final FieldInfo fieldInfo,
+        final MergeState mergeState,
+        @Nullable final TriFunction<FieldInfo, Supplier<KNNVectorValues<?>>, Integer, QuantizationState> quantizationStateSupplier,
+        final Integer approximateThreshold,
+        final SegmentWriteState segmentWriteState,
+        final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory,
+        @Nullable final QuantizedByteVectorValues quantizedByteVectorValues
     ) throws IOException {
         final VectorDataType vectorDataType = extractVectorDataType(fieldInfo);
         final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier = getKNNVectorValuesSupplierForMerge(
@@ -117,7 +172,7 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
         final int totalLiveDocs = getLiveDocs(knnVectorValuesSupplier.get());
         if (totalLiveDocs == 0) {
             log.debug("[Merge] No live docs for field {}", fieldInfo.getName());
-            return;
+            return null;
         }
 
         QuantizationState quantizationState = null;
@@ -135,7 +190,7 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
                 totalLiveDocs,
                 approximateThreshold
             );
-            return;
+            return null;
         }
 
         final NativeIndexWriter writer = NativeIndexWriter.getWriter(
@@ -146,13 +201,15 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
             quantizedByteVectorValues
         );
 
-        final StopWatch stopWatch = new StopWatch().start();
+        return new NativeIndexBuildScheduler.Build(totalLiveDocs, () -> {
+            final StopWatch stopWatch = new StopWatch().start();
 
-        writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+            writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs, mergeState);
 
-        final long time_in_millis = stopWatch.stop().totalTime().millis();
-        KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
-        log.debug("Merge took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+            final long time_in_millis = stopWatch.stop().totalTime().millis();
+            KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
+            log.debug("Merge took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+        });
     }
 
     public static boolean shouldSkipBuildingVectorDataStructure(final long docCount, final int approximateThreshold) {
@@ -0,0 +1,317 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.jni.JNIService;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSWIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexLoadUtils;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+import static org.opensearch.knn.common.KNNVectorUtil.intListToArray;
+import static org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory.getVectorTransfer;
+import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
+
+/**
+ * Builds the index of a merged segment starting from the index of its largest source segment. The graph of that
+ * segment is loaded with its ids remapped to the doc ids of the merged segment, and only the vectors of the other
+ * source segments are inserted into it, instead of inserting every vector of the merged segment into an empty graph.
+ * <p>
+ * Faiss HNSW graphs cannot drop nodes, so only source segments without deleted docs are reused, and only HNSW indices
+ * with flat float storage are supported, which is checked on the stored index as graphs built remotely are stored in
+ * another format. Merges that do not qualify, or where the largest qualifying segment holds less
+ * than half of the merged vectors, fall back to {@link MemOptimizedNativeIndexBuildStrategy}.
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class IncrementalMergeNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
+
+    private static final Pattern REUSABLE_INDEX_DESCRIPTION = Pattern.compile("^HNSW\\d+,Flat$");
+
+    private static IncrementalMergeNativeIndexBuildStrategy INSTANCE = new IncrementalMergeNativeIndexBuildStrategy();
+
+    public static IncrementalMergeNativeIndexBuildStrategy getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void buildAndWriteIndex(final BuildIndexParams indexInfo) throws IOException {
+        final ReusableSegment reusableSegment = findReusableSegment(indexInfo);
+        if (reusableSegment == null) {
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(indexInfo);
+            return;
+        }
+        log.debug(
+            "Reusing index of merge source segment [{}] with {} vectors for field [{}]",
+            reusableSegment.getSegmentOrd(),
+            reusableSegment.getNumVectors(),
+            indexInfo.getField()
+        );
+        buildFromReusedIndex(indexInfo, reusableSegment);
+    }
+
+    private void buildFromReusedIndex(final BuildIndexParams indexInfo, final ReusableSegment reusableSegment) throws IOException {
+        final KNNVectorValues<?> knnVectorValues = indexInfo.getKnnVectorValuesSupplier().get();
+        initializeVectorValues(knnVectorValues);
+        final KNNEngine engine = indexInfo.getKnnEngine();
+        final Map<String, Object> indexParameters = indexInfo.getIndexParameters();
+        final IndexBuildSetup indexBuildSetup = QuantizationIndexUtils.prepareIndexBuild(knnVectorValues, indexInfo);
+
+        final long indexMemoryAddress;
+        try (IndexInput indexInput = reusableSegment.getIndexInput()) {
+            final IndexInputWithBuffer indexInputWithBuffer = new IndexInputWithBuffer(indexInput);
+            indexMemoryAddress = AccessController.doPrivileged(
+                (PrivilegedAction<Long>) () -> JNIService.loadIndexForMerge(indexInputWithBuffer, reusableSegment.getDocIdMap(), engine)
+            );
+        }
+
+        // Writing the index releases it, so it only has to be freed here if the build fails before that
+        boolean released = false;
+        try (
+            final OffHeapVectorTransfer vectorTransfer = getVectorTransfer(
+                indexInfo.getVectorDataType(),
+                indexBuildSetup.getBytesPerVector(),
+                Math.max(1, indexInfo.getTotalLiveDocs() - reusableSegment.getNumVectors())
+            )
+        ) {
+            final FixedBitSet reusedDocs = reusableSegment.getMergedDocIds();
+            final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
+            while (knnVectorValues.docId() != NO_MORE_DOCS) {
+                if (reusedDocs.get(knnVectorValues.docId()) == false) {
+                    Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                    // append is false to be able to reuse the memory location
+                    boolean transferred = vectorTransfer.transfer(vector, false);
+                    transferredDocIds.add(knnVectorValues.docId());
+                    if (transferred) {
+                        insertToIndex(
+                            intListToArray(transferredDocIds),
+                            vectorTransfer.getVectorAddress(),
+                            indexBuildSetup,
+                            indexInfo,
+                            indexMemoryAddress
+                        );
+                        transferredDocIds.clear();
+                    }
+                }
+                knnVectorValues.nextDoc();
+            }
+
+            boolean flush = vectorTransfer.flush(false);
+            // Need to make sure that the flushed vectors are indexed
+            if (flush) {
+                insertToIndex(
+                    intListToArray(transferredDocIds),
+                    vectorTransfer.getVectorAddress(),
+                    indexBuildSetup,
+                    indexInfo,
+                    indexMemoryAddress
+                );
+                transferredDocIds.clear();
+            }
+
+            if (KNNSettings.isGraphReorderEnabled()) {
+                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                    JNIService.reorderIndex(indexMemoryAddress, engine, indexParameters);
+                    return null;
+                });
+            }
+
+            released = true;
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters, false);
+                return null;
+            });
+        } catch (IndexBuildAbortedException indexBuildAbortedException) {
+            throw indexBuildAbortedException;
+        } catch (Exception exception) {
+            throw new RuntimeException(
+                "Failed to build index, field name [" + indexInfo.getField() + "], parameters " + indexInfo,
+                exception
+            );
+        } finally {
+            if (released == false) {
+                JNIService.free(indexMemoryAddress, engine);
+            }
+        }
+    }
+
+    private void insertToIndex(
+        final int[] docIds,
+        final long vectorAddress,
+        final IndexBuildSetup indexBuildSetup,
+        final BuildIndexParams indexInfo,
+        final long indexMemoryAddress
+    ) {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            JNIService.insertToIndex(
+                docIds,
+                vectorAddress,
+                indexBuildSetup.getDimensions(),
+                indexInfo.getIndexParameters(),
+                indexMemoryAddress,
+                indexInfo.getKnnEngine()
+            );
+            return null;
+        });
+    }
+
+    /**
+     * Picks the source segment whose index the merged index is built from.
+     *
+     * @param indexInfo parameters of the build
+     * @return the segment to reuse, or null if the index has to be built from scratch
+     * @throws IOException if the index of the segment cannot be opened
+     */
+    static ReusableSegment findReusableSegment(final BuildIndexParams indexInfo) throws IOException {
+        final MergeState mergeState = indexInfo.getMergeState();
+        if (mergeState == null
+            || indexInfo.getQuantizationState() != null
+            || indexInfo.getVectorDataType() != VectorDataType.FLOAT
+            || indexInfo.getKnnEngine() != KNNEngine.FAISS) {
+            return null;
+        }
+        final Object indexDescription = indexInfo.getIndexParameters().get(INDEX_DESCRIPTION_PARAMETER);
+        if (indexDescription instanceof String == false
+            || REUSABLE_INDEX_DESCRIPTION.matcher((String) indexDescription).matches() == false) {
+            return null;
+        }
+
+        final String field = indexInfo.getField();
+        int largestSegmentOrd = -1;
+        int largestNumVectors = 0;
+        AbstractNativeEnginesKnnVectorsReader largestReader = null;
+        for (int i = 0; i < mergeState.knnVectorsReaders.length; i++) {
+            // Nodes of deleted docs cannot be removed from a Faiss HNSW graph
+            if (mergeState.liveDocs[i] != null) {
+                continue;
+            }
+            final AbstractNativeEnginesKnnVectorsReader reader = getNativeEnginesReader(mergeState.knnVectorsReaders[i], field);
+            if (reader == null) {
+                continue;
+            }
+            final FloatVectorValues floatVectorValues = reader.getFloatVectorValues(field);
+            if (floatVectorValues != null && floatVectorValues.size() > largestNumVectors) {
+                largestSegmentOrd = i;
+                largestNumVectors = floatVectorValues.size();
+                largestReader = reader;
+            }
+        }
+
+        // Inserting into a reused graph only pays off when most of the vectors are already in it
+        if (largestReader == null || 2L * largestNumVectors < indexInfo.getTotalLiveDocs()) {
+            return null;
+        }
+
+        final IndexInput indexInput = largestReader.openNativeIndexInput(field);
+        if (indexInput == null) {
+            // The graph build was skipped for the segment
+            return null;
+        }
+        // The mapping only tells how the graph would be built locally, a graph built remotely is stored as a CAGRA
+        // converted HNSW index, which cannot be extended
+        boolean reusable = false;
+        try {
+            reusable = isHnswFlatIndex(indexInput);
+        } finally {
+            if (reusable == false) {
+                indexInput.close();
+            }
+        }
+        if (reusable == false) {
+            return null;
+        }
+
+        final MergeState.DocMap docMap = mergeState.docMaps[largestSegmentOrd];
+        final int[] docIdMap = new int[mergeState.maxDocs[largestSegmentOrd]];
+        final FixedBitSet mergedDocIds = new FixedBitSet(mergeState.segmentInfo.maxDoc());
+        for (int doc = 0; doc < docIdMap.length; doc++) {
+            docIdMap[doc] = docMap.get(doc);
+            if (docIdMap[doc] >= 0) {
+                mergedDocIds.set(docIdMap[doc]);
+            }
+        }
+        return new ReusableSegment(largestSegmentOrd, largestNumVectors, indexInput, docIdMap, mergedDocIds);
+    }
+
+    /**
+     * Checks from the header of a Faiss index file that it holds an HNSW index with flat storage wrapped in an id map,
+     * the only kind of index that {@link JNIService#loadIndexForMerge} can load. The input is left at its start.
+     *
+     * @param indexInput input of the native engine file
+     * @return true if the index can be reused
+     * @throws IOException if the header cannot be read
+     */
+    static boolean isHnswFlatIndex(final IndexInput indexInput) throws IOException {
+        try {
+            if (FaissIdMapIndex.IXMP.equals(FaissIndexLoadUtils.readIndexType(indexInput)) == false) {
+                return false;
+            }
+            // Common header of the id map: dimension, number of vectors, two deprecated fields and is trained
+            indexInput.skipBytes(Integer.BYTES + 3L * Long.BYTES + Byte.BYTES);
+            // The metric argument only follows metric types other than inner product and L2
+            if (indexInput.readInt() > 1) {
+                indexInput.skipBytes(Float.BYTES);
+            }
+            return FaissHNSWIndex.IHNF.equals(FaissIndexLoadUtils.readIndexType(indexInput));
+        } finally {
+            indexInput.seek(0);
+        }
+    }
+
+    private static AbstractNativeEnginesKnnVectorsReader getNativeEnginesReader(KnnVectorsReader reader, final String field) {
+        if (reader instanceof PerFieldKnnVectorsFormat.FieldsReader) {
+            reader = ((PerFieldKnnVectorsFormat.FieldsReader) reader).getFieldReader(field);
+        }
+        return reader instanceof AbstractNativeEnginesKnnVectorsReader ? (AbstractNativeEnginesKnnVectorsReader) reader : null;
+    }
+
+    /**
+     * Source segment whose index is reused for the merged segment.
+     */
+    @Value
+    static class ReusableSegment {
+        int segmentOrd;
+        int numVectors;
+        /**
+         * Input of the native engine file of the segment, closed once the index is loaded
+         */
+        IndexInput indexInput;
+        /**
+         * Doc id in the merged segment of each doc id of the source segment
+         */
+        int[] docIdMap;
+        /**
+         * Doc ids in the merged segment of the docs of the source segment, whose vectors are already in the index
+         */
+        FixedBitSet mergedDocIds;
+    }
+}
@@ -7,20 +7,31 @@ package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.Value;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.jni.JNIService;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_TRANSFER_THREAD_POOL;
 import static org.opensearch.knn.common.KNNVectorUtil.intListToArray;
 import static org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory.getVectorTransfer;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
@@ -31,14 +42,30 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
  * the vectors were transferred
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
+public final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
 
     private static MemOptimizedNativeIndexBuildStrategy INSTANCE = new MemOptimizedNativeIndexBuildStrategy();
 
+    private static ThreadPool threadPool;
+
     public static MemOptimizedNativeIndexBuildStrategy getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Sets the thread pool whose vector_transfer executor runs the producers of pipelined vector streaming.
+     *
+     * @param threadPool node thread pool
+     */
+    public static void setThreadPool(final ThreadPool threadPool) {
+        MemOptimizedNativeIndexBuildStrategy.threadPool = threadPool;
+    }
+
+    private static boolean isPipelineEnabled() {
+        // Without a thread pool, for instance before the plugin components are created, vectors are streamed sequentially
+        return threadPool != null && KNNSettings.isVectorStreamingPipelineEnabled();
+    }
+
     /**
      * Builds and writes a k-NN index using the provided vector values and index parameters. This method handles both
      * quantized and non-quantized vectors, transferring them off-heap before building the index using native JNI services.
@@ -68,6 +95,11 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
             )
         );
 
+        final BatchInserter batchInserter = (docIds, vectorAddress) -> AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            JNIService.insertToIndex(docIds, vectorAddress, indexBuildSetup.getDimensions(), indexParameters, indexMemoryAddress, engine);
+            return null;
+        });
+
         try (
             final OffHeapVectorTransfer vectorTransfer = getVectorTransfer(
                 indexInfo.getVectorDataType(),
@@ -75,53 +107,30 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
                 indexInfo.getTotalLiveDocs()
             )
         ) {
-
-            final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
-
-            while (knnVectorValues.docId() != NO_MORE_DOCS) {
-                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
-                // append is false to be able to reuse the memory location
-                boolean transferred = vectorTransfer.transfer(vector, false);
-                transferredDocIds.add(knnVectorValues.docId());
-                if (transferred) {
-                    // Insert vectors
-                    long vectorAddress = vectorTransfer.getVectorAddress();
-                    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                        JNIService.insertToIndex(
-                            intListToArray(transferredDocIds),
-                            vectorAddress,
-                            indexBuildSetup.getDimensions(),
-                            indexParameters,
-                            indexMemoryAddress,
-                            engine
-                        );
-                        return null;
-                    });
-                    transferredDocIds.clear();
-                }
-                knnVectorValues.nextDoc();
-            }
-
-            boolean flush = vectorTransfer.flush(false);
-            // Need to make sure that the flushed vectors are indexed
-            if (flush) {
-                long vectorAddress = vectorTransfer.getVectorAddress();
-                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                    JNIService.insertToIndex(
-                        intListToArray(transferredDocIds),
-                        vectorAddress,
-                        indexBuildSetup.getDimensions(),
-                        indexParameters,
-                        indexMemoryAddress,
-                        engine
+            if (isPipelineEnabled() && indexInfo.getTotalLiveDocs() > vectorTransfer.getTransferLimit()) {
+                try (
+                    final OffHeapVectorTransfer secondVectorTransfer = getVectorTransfer(
+                        indexInfo.getVectorDataType(),
+                        indexBuildSetup.getBytesPerVector(),
+                        indexInfo.getTotalLiveDocs()
+                    )
+                ) {
+                    transferAndInsertPipelined(
+                        knnVectorValues,
+                        indexBuildSetup,
+                        new OffHeapVectorTransfer[] { vectorTransfer, secondVectorTransfer },
+                        batchInserter
                     );
-                    return null;
-                });
-                transferredDocIds.clear();
+                }
+            } else {
+                transferAndInsert(knnVectorValues, indexBuildSetup, vectorTransfer, batchInserter);
             }
 
             // Write vector
             AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                if (KNNSettings.isGraphReorderEnabled()) {
+                    JNIService.reorderIndex(indexMemoryAddress, engine, indexParameters);
+                }
                 JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters, false);
                 return null;
             });
@@ -135,4 +144,195 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
             );
         }
     }
+
+    /**
+     * Transfers vectors off heap and inserts them into the native index batch by batch, reusing a single off heap buffer.
+     */
+    private void transferAndInsert(
+        final KNNVectorValues<?> knnVectorValues,
+        final IndexBuildSetup indexBuildSetup,
+        final OffHeapVectorTransfer vectorTransfer,
+        final BatchInserter batchInserter
+    ) throws IOException {
+        final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
+        final VectorReader vectorReader = new VectorReader(knnVectorValues, indexBuildSetup);
+
+        while (vectorReader.docId() != NO_MORE_DOCS) {
+            Object vector = vectorReader.vector();
+            // append is false to be able to reuse the memory location
+            boolean transferred = vectorTransfer.transfer(vector, false);
+            transferredDocIds.add(vectorReader.docId());
+            if (transferred) {
+                // Insert vectors
+                batchInserter.insert(intListToArray(transferredDocIds), vectorTransfer.getVectorAddress());
+                transferredDocIds.clear();
+            }
+            vectorReader.nextDoc();
+        }
+
+        boolean flush = vectorTransfer.flush(false);
+        // Need to make sure that the flushed vectors are indexed
+        if (flush) {
+            batchInserter.insert(intListToArray(transferredDocIds), vectorTransfer.getVectorAddress());
+            transferredDocIds.clear();
+        }
+    }
+
+    /**
+     * Same as {@link #transferAndInsert} but double buffered: a producer running on the node's shared vector_transfer
+     * thread pool reads, quantizes and transfers the next batch into one off heap buffer while the calling thread inserts
+     * the previous batch from the other buffer. Inserts stay on the calling thread, so only one insert is in flight for
+     * the index at any time.
+     * <p>
+     * The producer is never interrupted, as interrupting a thread that reads from a Lucene directory can close the
+     * underlying file channel. If an insert fails, the producer is told to stop and handed a buffer so that it does not
+     * stay blocked waiting for one. The insert failure is rethrown once the producer is done, with any producer failure
+     * added to it as suppressed.
+     * <p>
+     * The vector_transfer pool has a bounded queue. If it rejects the producer, the vectors are transferred and inserted
+     * on the calling thread as in {@link #transferAndInsert}.
+     */
+    private void transferAndInsertPipelined(
+        final KNNVectorValues<?> knnVectorValues,
+        final IndexBuildSetup indexBuildSetup,
+        final OffHeapVectorTransfer[] vectorTransfers,
+        final BatchInserter batchInserter
+    ) throws IOException {
+        final BlockingQueue<OffHeapVectorTransfer> freeTransfers = new LinkedBlockingQueue<>(Arrays.asList(vectorTransfers));
+        final BlockingQueue<TransferredBatch> transferredBatches = new LinkedBlockingQueue<>();
+        final AtomicBoolean aborted = new AtomicBoolean(false);
+
+        try {
+            final Future<Void> transferFuture;
+            try {
+                transferFuture = threadPool.executor(VECTOR_TRANSFER_THREAD_POOL).submit(() -> {
+                    try {
+                        OffHeapVectorTransfer vectorTransfer = freeTransfers.take();
+                        final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
+                        final VectorReader vectorReader = new VectorReader(knnVectorValues, indexBuildSetup);
+                        while (vectorReader.docId() != NO_MORE_DOCS && aborted.get() == false) {
+                            Object vector = vectorReader.vector();
+                            // append is false to be able to reuse the memory location
+                            boolean transferred = vectorTransfer.transfer(vector, false);
+                            transferredDocIds.add(vectorReader.docId());
+                            if (transferred) {
+                                transferredBatches.put(new TransferredBatch(vectorTransfer, intListToArray(transferredDocIds)));
+                                transferredDocIds.clear();
+                                vectorTransfer = freeTransfers.take();
+                            }
+                            vectorReader.nextDoc();
+                        }
+
+                        if (aborted.get() == false && vectorTransfer.flush(false)) {
+                            transferredBatches.put(new TransferredBatch(vectorTransfer, intListToArray(transferredDocIds)));
+                        }
+                    } finally {
+                        transferredBatches.put(TransferredBatch.END);
+                    }
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                transferAndInsert(knnVectorValues, indexBuildSetup, vectorTransfers[0], batchInserter);
+                return;
+            }
+
+            try {
+                TransferredBatch transferredBatch;
+                while ((transferredBatch = transferredBatches.take()) != TransferredBatch.END) {
+                    batchInserter.insert(transferredBatch.getDocIds(), transferredBatch.getVectorTransfer().getVectorAddress());
+                    freeTransfers.put(transferredBatch.getVectorTransfer());
+                }
+            } catch (Throwable insertFailure) {
+                aborted.set(true);
+                freeTransfers.offer(vectorTransfers[0]);
+                // The producer must be done with the buffers before they are freed, its failure is kept as suppressed
+                try {
+                    transferFuture.get();
+                } catch (ExecutionException transferFailure) {
+                    insertFailure.addSuppressed(transferFailure.getCause());
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    insertFailure.addSuppressed(interruptedException);
+                }
+                throw insertFailure;
+            }
+            // Surfaces a failure of the producer
+            transferFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while transferring vectors", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to transfer vectors", e.getCause());
+        }
+    }
+
+    /**
+     * Reads the vectors to transfer off heap, in doc id order. Quantized vectors are read ahead and quantized a
+     * {@link QuantizedVectorBatch} at a time, other vectors are read one at a time from {@link KNNVectorValues}.
+     */
+    private static class VectorReader {
+        private final KNNVectorValues<?> knnVectorValues;
+        private final IndexBuildSetup indexBuildSetup;
+        private final QuantizedVectorBatch quantizedVectorBatch;
+        private int batchIndex;
+
+        VectorReader(final KNNVectorValues<?> knnVectorValues, final IndexBuildSetup indexBuildSetup) {
+            this.knnVectorValues = knnVectorValues;
+            this.indexBuildSetup = indexBuildSetup;
+            this.quantizedVectorBatch = indexBuildSetup.getQuantizationState() == null
+                ? null
+                : new QuantizedVectorBatch(indexBuildSetup.getQuantizationState(), QuantizedVectorBatch.DEFAULT_BATCH_SIZE);
+        }
+
+        int docId() throws IOException {
+            if (quantizedVectorBatch == null) {
+                return knnVectorValues.docId();
+            }
+            if (batchIndex == quantizedVectorBatch.getSize()) {
+                quantizedVectorBatch.load(knnVectorValues);
+                batchIndex = 0;
+            }
+            return batchIndex < quantizedVectorBatch.getSize() ? quantizedVectorBatch.getDocId(batchIndex) : NO_MORE_DOCS;
+        }
+
+        Object vector() throws IOException {
+            if (quantizedVectorBatch == null) {
+                return QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+            }
+            return quantizedVectorBatch.getQuantizedVectorCopy(batchIndex);
+        }
+
+        void nextDoc() throws IOException {
+            if (quantizedVectorBatch == null) {
+                knnVectorValues.nextDoc();
+            } else {
+                batchIndex++;
+            }
+        }
+    }
+
+    /**
+     * Inserts a batch of transferred vectors into the native index.
+     */
+    @FunctionalInterface
+    private interface BatchInserter {
+        void insert(int[] docIds, long vectorAddress);
+    }
+
+    /**
+     * Batch of vectors handed from the producer to the inserting thread, along with the buffer holding them.
+     */
+    @Value
+    private static class TransferredBatch {
+        private static final TransferredBatch END = new TransferredBatch(null, null);
+
+        OffHeapVectorTransfer vectorTransfer;
+        int[] docIds;
+    }
 }
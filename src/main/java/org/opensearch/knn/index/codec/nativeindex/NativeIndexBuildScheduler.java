@@ -0,0 +1,307 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.Value;
+import org.apache.lucene.util.IORunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node level scheduler for native index builds.
+ * <p>
+ * When {@link KNNSettings#KNN_INDEX_BUILD_SCHEDULER_ENABLED} is set, flush graph builds are not run on the refresh
+ * thread that requests them, but on a bounded pool of {@link KNNSettings#KNN_INDEX_BUILD_SCHEDULER_THREAD_QTY} threads
+ * shared by all shards of the node. This caps the number of concurrent builds on the node, lets the builds of
+ * the different fields of a flushed segment run concurrently, and orders waiting builds so that smaller builds go
+ * before larger ones. The requesting thread waits for its builds to complete, so the segment is only written once all
+ * of its graphs are.
+ * <p>
+ * Merge builds always run on the merge thread that requests them: merge abort checks and merge IO rate limiting are
+ * both tied to the Lucene merge thread, and would not apply to a build running on another thread. They still go through
+ * the same queue: each merge build waits until it is handed a build thread, which then stays idle until the merge thread
+ * completes the build. Merge builds thereby count against the same thread limit, and queued flush builds, which block
+ * refreshes, are always handed a build thread before queued merge builds.
+ * <p>
+ * When the scheduler is disabled, builds run on the requesting thread one after another.
+ */
+public final class NativeIndexBuildScheduler {
+
+    public static final String THREAD_QTY = "thread_qty";
+    public static final String ACTIVE_BUILDS = "active_builds";
+    public static final String QUEUED_FLUSH_BUILDS = "queued_flush_builds";
+    public static final String QUEUED_MERGE_BUILDS = "queued_merge_builds";
+    public static final String COMPLETED_BUILDS = "completed_builds";
+    public static final String TOTAL_QUEUE_TIME_IN_MILLIS = "total_queue_time_in_millis";
+
+    private static final String THREAD_NAME = "knn-index-build";
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final NativeIndexBuildScheduler INSTANCE = new NativeIndexBuildScheduler(1);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequenceNumber = new AtomicLong();
+    private final AtomicLong activeBuilds = new AtomicLong();
+    private final AtomicLong queuedFlushBuilds = new AtomicLong();
+    private final AtomicLong queuedMergeBuilds = new AtomicLong();
+    private final AtomicLong completedBuilds = new AtomicLong();
+    private final AtomicLong totalQueueTimeInMillis = new AtomicLong();
+
+    NativeIndexBuildScheduler(int threadQty) {
+        // Tasks are only ever queued in the unbounded priority queue, so the pool never grows past its core size
+        this.executor = new ThreadPoolExecutor(
+            threadQty,
+            threadQty,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(),
+            OpenSearchExecutors.daemonThreadFactory(THREAD_NAME)
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static NativeIndexBuildScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Updates the number of builds that may run concurrently on the node.
+     *
+     * @param threadQty number of build threads
+     */
+    public synchronized void setThreadQty(int threadQty) {
+        // The core pool size may never exceed the maximum pool size, so update them in an order that keeps this true
+        if (threadQty > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threadQty);
+            executor.setCorePoolSize(threadQty);
+        } else {
+            executor.setCorePoolSize(threadQty);
+            executor.setMaximumPoolSize(threadQty);
+        }
+    }
+
+    /**
+     * Runs the given builds and returns once all of them are done. Flush builds are submitted to the scheduler together,
+     * so they may run concurrently. If any build fails, the remaining ones are still awaited before the first failure is
+     * rethrown, as they write to the same segment. Merge builds run on the calling merge thread one after another,
+     * smallest first, each once the scheduler hands it a build thread.
+     *
+     * @param buildType kind of the builds, used for prioritization
+     * @param builds    builds to run
+     * @throws IOException if a build fails with an IOException
+     */
+    public void runAll(final BuildType buildType, final List<Build> builds) throws IOException {
+        if (builds.isEmpty()) {
+            return;
+        }
+
+        if (KNNSettings.isIndexBuildSchedulerEnabled() == false) {
+            for (Build build : builds) {
+                build.getRunnable().run();
+            }
+            return;
+        }
+        if (buildType == BuildType.MERGE) {
+            runOnCallingThread(buildType, builds);
+            return;
+        }
+        schedule(buildType, builds);
+    }
+
+    /**
+     * Runs the given builds on the calling thread, each once the scheduler hands it a build thread. The build thread
+     * waits for the build to complete, so that the build counts against the thread limit.
+     */
+    void runOnCallingThread(final BuildType buildType, final List<Build> builds) throws IOException {
+        final List<Build> sortedBuilds = new ArrayList<>(builds);
+        sortedBuilds.sort(Comparator.comparingInt(Build::getNumDocs));
+        for (Build build : sortedBuilds) {
+            final CountDownLatch admitted = new CountDownLatch(1);
+            final CountDownLatch completed = new CountDownLatch(1);
+            final BuildTask buildTask = new BuildTask(buildType, new Build(build.getNumDocs(), () -> {
+                admitted.countDown();
+                awaitUninterruptibly(completed);
+            }));
+            queuedBuilds(buildType).incrementAndGet();
+            executor.execute(buildTask);
+            try {
+                awaitUninterruptibly(admitted);
+                build.getRunnable().run();
+            } finally {
+                completed.countDown();
+            }
+        }
+    }
+
+    /**
+     * Runs the given builds on the scheduler threads and returns once all of them are done.
+     */
+    void schedule(final BuildType buildType, final List<Build> builds) throws IOException {
+        final List<BuildTask> buildTasks = new ArrayList<>(builds.size());
+        for (Build build : builds) {
+            final BuildTask buildTask = new BuildTask(buildType, build);
+            queuedBuilds(buildType).incrementAndGet();
+            executor.execute(buildTask);
+            buildTasks.add(buildTask);
+        }
+
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (BuildTask buildTask : buildTasks) {
+            while (true) {
+                try {
+                    buildTask.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // The build writes into the segment, so it has to be awaited regardless
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Failed to build native index", failure);
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                // The build writes into the segment, so it has to be awaited regardless
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the build threads once the scheduled builds are done.
+     */
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return queue depth and activity of the scheduler, for the k-NN stats API
+     */
+    public Map<String, Object> getStats() {
+        final Map<String, Object> stats = new HashMap<>();
+        stats.put(THREAD_QTY, executor.getMaximumPoolSize());
+        stats.put(ACTIVE_BUILDS, activeBuilds.get());
+        stats.put(QUEUED_FLUSH_BUILDS, queuedFlushBuilds.get());
+        stats.put(QUEUED_MERGE_BUILDS, queuedMergeBuilds.get());
+        stats.put(COMPLETED_BUILDS, completedBuilds.get());
+        stats.put(TOTAL_QUEUE_TIME_IN_MILLIS, totalQueueTimeInMillis.get());
+        return stats;
+    }
+
+    private AtomicLong queuedBuilds(final BuildType buildType) {
+        return buildType == BuildType.FLUSH ? queuedFlushBuilds : queuedMergeBuilds;
+    }
+
+    /**
+     * Kind of build, in order of priority.
+     */
+    public enum BuildType {
+        FLUSH,
+        MERGE
+    }
+
+    /**
+     * A single native index build.
+     */
+    @Value
+    public static class Build {
+        /**
+         * Number of vectors in the build, smaller builds are run first
+         */
+        int numDocs;
+        IORunnable runnable;
+    }
+
+    private final class BuildTask extends FutureTask<Void> implements Comparable<BuildTask> {
+        private final BuildType buildType;
+        private final int numDocs;
+        private final long sequenceNumber;
+        private final long enqueuedAtNanos;
+
+        BuildTask(final BuildType buildType, final Build build) {
+            super(() -> {
+                build.getRunnable().run();
+                return null;
+            });
+            this.buildType = buildType;
+            this.numDocs = build.getNumDocs();
+            this.sequenceNumber = NativeIndexBuildScheduler.this.sequenceNumber.getAndIncrement();
+            this.enqueuedAtNanos = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            queuedBuilds(buildType).decrementAndGet();
+            totalQueueTimeInMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedAtNanos));
+            activeBuilds.incrementAndGet();
+            try {
+                super.run();
+            } finally {
+                activeBuilds.decrementAndGet();
+                completedBuilds.incrementAndGet();
+            }
+        }
+
+        @Override
+        public int compareTo(final BuildTask other) {
+            int result = buildType.compareTo(other.buildType);
+            if (result == 0) {
+                result = Integer.compare(numDocs, other.numDocs);
+            }
+            if (result == 0) {
+                result = Long.compare(sequenceNumber, other.sequenceNumber);
+            }
+            return result;
+        }
+    }
+}
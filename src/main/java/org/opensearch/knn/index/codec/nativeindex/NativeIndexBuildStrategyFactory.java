@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import static org.opensearch.knn.common.FieldInfoExtractor.extractKNNEngine;
 import static org.opensearch.knn.common.KNNConstants.MIN_DOCS_FOR_REMOTE_INDEX_BUILD;
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.index.KNNSettings.isIncrementalMergeEnabled;
 import static org.opensearch.knn.index.KNNSettings.isKNNRemoteVectorBuildEnabled;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 
@@ -67,6 +68,8 @@ public final class NativeIndexBuildStrategyFactory {
         final NativeIndexBuildStrategy strategy;
         if (isFaissSQOneBitField) {
             strategy = MemOptimizedScalarQuantizedIndexBuildStrategy.getInstance();
+        } else if (iterative && isIncrementalMergeEnabled()) {
+            strategy = IncrementalMergeNativeIndexBuildStrategy.getInstance();
         } else if (iterative) {
             strategy = MemOptimizedNativeIndexBuildStrategy.getInstance();
         } else {
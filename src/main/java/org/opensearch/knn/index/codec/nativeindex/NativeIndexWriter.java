@@ -12,6 +12,7 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.util.quantization.QuantizedByteVectorValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.xcontent.XContentHelper;
@@ -125,7 +126,7 @@ public class NativeIndexWriter {
      * @throws IOException
      */
     public void flushIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs) throws IOException {
-        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, true);
+        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, null);
         recordRefreshStats();
     }
 
@@ -135,6 +136,20 @@ public class NativeIndexWriter {
      * @throws IOException
      */
     public void mergeIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs) throws IOException {
+        mergeIndex(knnVectorValuesSupplier, totalLiveDocs, null);
+    }
+
+    /**
+     * Merges kNN index
+     * @param knnVectorValuesSupplier
+     * @param mergeState state of the merge, which lets the build strategy reuse the indices of the source segments
+     * @throws IOException
+     */
+    public void mergeIndex(
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        @Nullable final MergeState mergeState
+    ) throws IOException {
         KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
         initializeVectorValues(knnVectorValues);
         if (knnVectorValues.docId() == NO_MORE_DOCS) {
@@ -147,7 +162,7 @@ public class NativeIndexWriter {
 
         try {
             startMergeStats(totalLiveDocs, bytesPerVector);
-            buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, false);
+            buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, mergeState);
             endMergeStats(totalLiveDocs, bytesPerVector);
         } catch (IndexBuildAbortedException ex) {
             log.warn("Merge Aborted for field {}", fieldInfo.name, ex);
@@ -157,8 +172,11 @@ public class NativeIndexWriter {
         }
     }
 
-    private void buildAndWriteIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs, boolean isFlush)
-        throws IOException {
+    private void buildAndWriteIndex(
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        @Nullable final MergeState mergeState
+    ) throws IOException {
         if (totalLiveDocs == 0) {
             log.debug("No live docs for field {}", fieldInfo.name);
             return;
@@ -182,7 +200,7 @@ public class NativeIndexWriter {
                 knnEngine,
                 knnVectorValuesSupplier,
                 totalLiveDocs,
-                isFlush
+                mergeState
             );
             NativeIndexBuildStrategy indexBuilder = indexBuilderFactory.getBuildStrategy(
                 fieldInfo,
@@ -203,7 +221,7 @@ public class NativeIndexWriter {
         KNNEngine knnEngine,
         Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
         int totalLiveDocs,
-        boolean isFlush
+        @Nullable MergeState mergeState
     ) throws IOException {
         final Map<String, Object> parameters;
         VectorDataType vectorDataType;
@@ -229,8 +247,9 @@ public class NativeIndexWriter {
             .knnVectorValuesSupplier(knnVectorValuesSupplier)
             .totalLiveDocs(totalLiveDocs)
             .segmentWriteState(state)
-            .isFlush(isFlush)
+            .isFlush(mergeState == null)
             .quantizedByteVectorValues(quantizedByteVectorValues)
+            .mergeState(mergeState)
             .build();
     }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.Getter;
+import org.opensearch.knn.index.quantizationservice.QuantizationService;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * Reusable buffers to quantize the vectors of an index build a batch at a time with
+ * {@link QuantizationService#quantizeBatch}, rather than one vector at a time. The vectors of a batch are copied into a
+ * single block, quantized together and packed one after the other into a single block of quantized vectors.
+ */
+public final class QuantizedVectorBatch {
+    /**
+     * Default number of vectors quantized together.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final QuantizationState quantizationState;
+    private final int capacity;
+    @Getter
+    private final int bytesPerVector;
+    private final int[] docIds;
+    /**
+     * Quantized vectors of the batch, one after the other.
+     */
+    @Getter
+    private final byte[] packedVectors;
+    // Allocated on the first load, as the dimension of the full precision vectors is only known then
+    private float[] vectors;
+    /**
+     * Number of vectors in the batch.
+     */
+    @Getter
+    private int size;
+
+    public QuantizedVectorBatch(final QuantizationState quantizationState, final int capacity) {
+        this.quantizationState = quantizationState;
+        this.capacity = capacity;
+        this.bytesPerVector = quantizationState.getBytesPerVector();
+        this.docIds = new int[capacity];
+        this.packedVectors = new byte[capacity * bytesPerVector];
+    }
+
+    /**
+     * Replaces the batch with the vectors from the current one of {@link KNNVectorValues} on, up to the capacity of the
+     * batch, and quantizes them. {@link KNNVectorValues} is left on the doc following the last vector of the batch.
+     *
+     * @param knnVectorValues full precision float vectors to quantize.
+     * @return number of vectors in the batch, 0 if there are no vectors left.
+     * @throws IOException If an I/O error occurs while reading the vectors.
+     */
+    public int load(final KNNVectorValues<?> knnVectorValues) throws IOException {
+        size = 0;
+        while (size < capacity && knnVectorValues.docId() != NO_MORE_DOCS) {
+            final float[] vector = (float[]) knnVectorValues.getVector();
+            if (vectors == null) {
+                vectors = new float[capacity * vector.length];
+            }
+            System.arraycopy(vector, 0, vectors, size * vector.length, vector.length);
+            docIds[size++] = knnVectorValues.docId();
+            knnVectorValues.nextDoc();
+        }
+        if (size > 0) {
+            QuantizationService<float[], byte[]> quantizationService = QuantizationService.getInstance();
+            quantizationService.quantizeBatch(quantizationState, vectors, size, packedVectors);
+        }
+        return size;
+    }
+
+    /**
+     * @param index index of the vector in the batch.
+     * @return doc id of the vector.
+     */
+    public int getDocId(final int index) {
+        return docIds[index];
+    }
+
+    /**
+     * Returns a copy of a quantized vector of the batch, as it is kept after the batch is loaded again.
+     *
+     * @param index index of the vector in the batch.
+     * @return copy of the quantized vector.
+     */
+    public byte[] getQuantizedVectorCopy(final int index) {
+        return Arrays.copyOfRange(packedVectors, index * bytesPerVector, (index + 1) * bytesPerVector);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.ToString;
 import lombok.Value;
 import org.apache.lucene.util.quantization.QuantizedByteVectorValues;
+import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.opensearch.common.Nullable;
 import org.opensearch.knn.index.VectorDataType;
@@ -44,4 +45,10 @@ public class BuildIndexParams {
      */
     @Nullable
     QuantizedByteVectorValues quantizedByteVectorValues;
+    /**
+     * State of the merge the index is built for, null for flushes.
+     */
+    @Nullable
+    @ToString.Exclude
+    MergeState mergeState;
 }
@@ -8,6 +8,7 @@ package org.opensearch.knn.index.codec.nativeindex.remote;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.QuantizedVectorBatch;
 import org.opensearch.knn.index.vectorvalues.KNNBinaryVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNByteVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
@@ -33,8 +34,10 @@ class VectorValuesInputStream extends InputStream {
 
     private final KNNVectorValues<?> knnVectorValues;
     // It is difficult to avoid using a buffer in this class as we need to be able to convert from float[] to byte[]. this buffer
-    // will be filled 1 vector at a time.
+    // will be filled 1 vector at a time, or a batch of vectors at a time when they are quantized.
     private ByteBuffer currentBuffer;
+    // Non null when vectors are quantized, in which case currentBuffer wraps its packed vectors
+    private final QuantizedVectorBatch quantizedVectorBatch;
     private final int bytesPerVector;
     private long bytesRemaining;
     private final VectorDataType vectorDataType;
@@ -67,7 +70,13 @@ class VectorValuesInputStream extends InputStream {
         initializeVectorValues(this.knnVectorValues);
         this.bytesPerVector = this.knnVectorValues.bytesPerVector();
         // We use currentBuffer == null to indicate that there are no more vectors to be read
-        this.currentBuffer = ByteBuffer.allocate(bytesPerVector).order(ByteOrder.LITTLE_ENDIAN);
+        if (knnVectorValues instanceof QuantizedKNNBinaryVectorValues quantizedKNNBinaryVectorValues) {
+            this.quantizedVectorBatch = quantizedKNNBinaryVectorValues.createQuantizedVectorBatch(QuantizedVectorBatch.DEFAULT_BATCH_SIZE);
+            this.currentBuffer = ByteBuffer.wrap(quantizedVectorBatch.getPackedVectors()).order(ByteOrder.LITTLE_ENDIAN);
+        } else {
+            this.quantizedVectorBatch = null;
+            this.currentBuffer = ByteBuffer.allocate(bytesPerVector).order(ByteOrder.LITTLE_ENDIAN);
+        }
         // Position the InputStream at the specific byte within the specific vector that startPosition references
         setPosition(startPosition);
     }
@@ -194,26 +203,25 @@ class VectorValuesInputStream extends InputStream {
     }
 
     /**
-     * Reload {@link currentBuffer} with the current vector that {@link knnVectorValues} is pointing to
+     * Reload {@link currentBuffer} with the current vector that {@link knnVectorValues} is pointing to. Quantized vectors
+     * are instead quantized a batch at a time from the current one on, leaving {@link knnVectorValues} past the batch.
      * @throws IOException
      */
     private void reloadBuffer() throws IOException {
         currentBuffer.clear();
-        if (vectorDataType == FLOAT) {
+        if (quantizedVectorBatch != null) {
+            // Original vector is non-binary, and we apply quantization on them to binary vectors.
+            final int numVectors = ((QuantizedKNNBinaryVectorValues) knnVectorValues).loadBatch(quantizedVectorBatch);
+            currentBuffer.limit(numVectors * bytesPerVector);
+        } else if (vectorDataType == FLOAT) {
             float[] floatVector = ((KNNFloatVectorValues) knnVectorValues).getVector();
             currentBuffer.asFloatBuffer().put(floatVector);
         } else if (vectorDataType == BYTE) {
             byte[] byteVector = ((KNNByteVectorValues) knnVectorValues).getVector();
             currentBuffer.put(byteVector);
         } else if (vectorDataType == BINARY) {
-            final byte[] binaryVector;
-            if (knnVectorValues instanceof QuantizedKNNBinaryVectorValues quantizedKNNBinaryVectorValues) {
-                // Original vector is non-binary, and we applied quantization on them to binary vectors.
-                binaryVector = quantizedKNNBinaryVectorValues.getVector();
-            } else {
-                // Original vector is already binary vectors, hence there's no quantization status
-                binaryVector = ((KNNBinaryVectorValues) knnVectorValues).getVector();
-            }
+            // Original vector is already binary vectors, hence there's no quantization status
+            final byte[] binaryVector = ((KNNBinaryVectorValues) knnVectorValues).getVector();
             currentBuffer.put(binaryVector);
         } else {
             throw new IllegalArgumentException("Unsupported vector data type: " + vectorDataType);
@@ -227,7 +235,8 @@ class VectorValuesInputStream extends InputStream {
      * @throws IOException
      */
     private void advanceAndReloadBuffer() throws IOException {
-        int docId = knnVectorValues.nextDoc();
+        // A batch of quantized vectors already leaves knnVectorValues on the doc following it
+        int docId = quantizedVectorBatch == null ? knnVectorValues.nextDoc() : knnVectorValues.docId();
         if (docId != -1 && docId != DocIdSetIterator.NO_MORE_DOCS) {
             reloadBuffer();
         } else {
@@ -16,12 +16,14 @@ import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.engine.Parameter;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.CompressionLevel;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.opensearch.knn.common.KNNConstants.FAISS_FLAT_DESCRIPTION;
 import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
@@ -38,6 +40,12 @@ public class QFrameBitEncoder implements Encoder {
     public static final Boolean DEFAULT_ENABLE_ADC = false;
     public static final String ENABLE_RANDOM_ROTATION_PARAM = "random_rotation";
     public static final Boolean DEFAULT_ENABLE_RANDOM_ROTATION = false;
+    public static final String RANDOM_ROTATION_TYPE_PARAM = "random_rotation_type";
+    public static final String DEFAULT_RANDOM_ROTATION_TYPE = RandomRotationType.GAUSSIAN.getName();
+    private static final Set<String> validRandomRotationTypes = EnumSet.allOf(RandomRotationType.class)
+        .stream()
+        .map(RandomRotationType::getName)
+        .collect(Collectors.toSet());
     private static final Set<Integer> validBitCounts = ImmutableSet.of(1, 2, 4);
     private static final Set<Integer> supportedBitCountsForADC = ImmutableSet.of(1);
     private static final Set<VectorDataType> SUPPORTED_DATA_TYPES = ImmutableSet.of(VectorDataType.FLOAT);
@@ -49,6 +57,7 @@ public class QFrameBitEncoder implements Encoder {
      *     "parameters": {
      *       "bits": 2,
      *       "random_rotation": true,
+     *       "random_rotation_type": "hadamard",
      *       "enable_adc": false
      *     }
      *   }
@@ -67,6 +76,14 @@ public class QFrameBitEncoder implements Encoder {
                 return true; // all booleans are valid for this toggleable setting.
             })
         )
+        .addParameter(
+            RANDOM_ROTATION_TYPE_PARAM,
+            new Parameter.StringParameter(
+                RANDOM_ROTATION_TYPE_PARAM,
+                DEFAULT_RANDOM_ROTATION_TYPE,
+                (v, context) -> validRandomRotationTypes.contains(v)
+            )
+        )
         .addParameter(ENABLE_ADC_PARAM, new Parameter.BooleanParameter(ENABLE_ADC_PARAM, DEFAULT_ENABLE_ADC, (v, context) -> {
             // all booleans are valid for this toggleable setting. However, ADC is only supported for certain bit counts.
             // That validation is handled as part of the knnLibraryIndexingContextGenerator builder logic below.
@@ -79,6 +96,9 @@ public class QFrameBitEncoder implements Encoder {
             int bitCount = (int) methodComponentContext.getParameters().getOrDefault(BITCOUNT_PARAM, DEFAULT_BITS);
             boolean enableRandomRotation = (boolean) methodComponentContext.getParameters()
                 .getOrDefault(ENABLE_RANDOM_ROTATION_PARAM, DEFAULT_ENABLE_RANDOM_ROTATION);
+            RandomRotationType randomRotationType = RandomRotationType.fromName(
+                (String) methodComponentContext.getParameters().getOrDefault(RANDOM_ROTATION_TYPE_PARAM, DEFAULT_RANDOM_ROTATION_TYPE)
+            );
 
             boolean enableADC = (boolean) methodComponentContext.getParameters().getOrDefault(ENABLE_ADC_PARAM, DEFAULT_ENABLE_ADC);
 
@@ -97,6 +117,7 @@ public class QFrameBitEncoder implements Encoder {
 
             QuantizationConfig quantizationConfig = quantizationConfigBuilder.quantizationType(quantizationType)
                 .enableRandomRotation(enableRandomRotation)
+                .randomRotationType(randomRotationType)
                 .enableADC(enableADC)
                 .build();
 
@@ -10,6 +10,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import org.opensearch.knn.index.engine.faiss.QFrameBitEncoder;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 /**
@@ -24,6 +25,8 @@ public class QuantizationConfig {
     @Builder.Default
     public boolean enableRandomRotation = QFrameBitEncoder.DEFAULT_ENABLE_RANDOM_ROTATION;
     @Builder.Default
+    public RandomRotationType randomRotationType = RandomRotationType.GAUSSIAN;
+    @Builder.Default
     public boolean enableADC = QFrameBitEncoder.DEFAULT_ENABLE_ADC;
     public static final QuantizationConfig EMPTY = QuantizationConfig.builder().build();
 }
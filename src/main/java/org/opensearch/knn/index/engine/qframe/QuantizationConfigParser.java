@@ -8,6 +8,7 @@ package org.opensearch.knn.index.engine.qframe;
 import org.apache.lucene.analysis.util.CSVUtil;
 import org.opensearch.Version;
 import org.opensearch.knn.index.engine.faiss.QFrameBitEncoder;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.Locale;
@@ -23,6 +24,7 @@ public class QuantizationConfigParser {
     public static final String BIT_COUNT_NAME = QFrameBitEncoder.BITCOUNT_PARAM;
     public static final String RANDOM_ROTATION_NAME = QFrameBitEncoder.ENABLE_RANDOM_ROTATION_PARAM;
     public static final String ADC_NAME = QFrameBitEncoder.ENABLE_ADC_PARAM;
+    public static final String RANDOM_ROTATION_TYPE_NAME = QFrameBitEncoder.RANDOM_ROTATION_TYPE_PARAM;
 
     /**
      * Parse quantization config to csv format
@@ -55,6 +57,11 @@ public class QuantizationConfigParser {
                 + SEPARATOR
                 + quantizationConfig.isEnableADC();
             ;
+            // The rotation type is only written when it is not the default, so that the csv of existing configurations,
+            // which older nodes must still be able to parse, does not change.
+            if (quantizationConfig.getRandomRotationType() != RandomRotationType.GAUSSIAN) {
+                result = result + "," + RANDOM_ROTATION_TYPE_NAME + SEPARATOR + quantizationConfig.getRandomRotationType().getName();
+            }
         }
 
         return result;
@@ -73,9 +80,9 @@ public class QuantizationConfigParser {
         String[] csvArray = CSVUtil.parse(csv);
         int csvArrayLength = csvArray.length;
 
-        // if csv nonnull and nonempty, then the only valid lengths are 2 and 4.
-        // For forwards compatability with adding more options we can reserve length > 4 and update this below check.
-        if (csvArrayLength != 2 && csvArrayLength != 4) {
+        // if csv nonnull and nonempty, then the only valid lengths are 2, 4 and 5.
+        // For forwards compatability with adding more options we can reserve length > 5 and update this below check.
+        if (csvArrayLength != 2 && csvArrayLength != 4 && csvArrayLength != 5) {
             throw new IllegalArgumentException(String.format(Locale.ROOT, "Invalid csv for quantization config: \"%s\"", csv));
         }
 
@@ -93,9 +100,11 @@ public class QuantizationConfigParser {
         boolean isEnableRandomRotation = QFrameBitEncoder.DEFAULT_ENABLE_RANDOM_ROTATION;
         // ADC is disabled by default, and it must be disabled for old segments since the extra quantization info is not present.
         boolean isEnableADC = QFrameBitEncoder.DEFAULT_ENABLE_ADC;
+        // Gaussian rotation is the default, and the only rotation of segments written before the rotation type was added.
+        RandomRotationType randomRotationType = RandomRotationType.GAUSSIAN;
 
-        // parse "random_rotation" and "enable_adc" from csv if length 4
-        if (csvArrayLength == 4) {
+        // parse "random_rotation" and "enable_adc" from csv if length 4 or more
+        if (csvArrayLength >= 4) {
             String isEnableRandomRotationValue = getValueOrThrow(RANDOM_ROTATION_NAME, csvArray[2]);
             isEnableRandomRotation = Boolean.parseBoolean(isEnableRandomRotationValue);
 
@@ -103,9 +112,15 @@ public class QuantizationConfigParser {
             isEnableADC = Boolean.parseBoolean(isEnableADCValue);
         }
 
+        // parse "random_rotation_type" from csv if length 5
+        if (csvArrayLength == 5) {
+            randomRotationType = RandomRotationType.fromName(getValueOrThrow(RANDOM_ROTATION_TYPE_NAME, csvArray[4]));
+        }
+
         return QuantizationConfig.builder()
             .quantizationType(quantizationType)
             .enableRandomRotation(isEnableRandomRotation)
+            .randomRotationType(randomRotationType)
             .enableADC(isEnableADC)
             .build();
     }
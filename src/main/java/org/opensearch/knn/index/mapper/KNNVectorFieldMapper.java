@@ -25,6 +25,7 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.Version;
 import org.opensearch.common.Explicit;
 import org.opensearch.common.ValidationException;
@@ -820,7 +821,9 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
         PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
         PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
 
-        ArrayList<Byte> vector = new ArrayList<>();
+        // Values are parsed straight into an array sized for the mapped dimension, which only has to grow for invalid input
+        byte[] vector = new byte[Math.max(1, VectorDataType.BINARY == dataType ? dimension / Byte.SIZE : dimension)];
+        int size = 0;
         XContentParser.Token token = context.parser().currentToken();
 
         if (token == XContentParser.Token.START_ARRAY) {
@@ -828,13 +831,16 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             while (token != XContentParser.Token.END_ARRAY) {
                 float value = perDimensionProcessor.processByte(context.parser().floatValue());
                 perDimensionValidator.validateByte(value);
-                vector.add((byte) value);
+                if (size == vector.length) {
+                    vector = ArrayUtil.grow(vector, size + 1);
+                }
+                vector[size++] = (byte) value;
                 token = context.parser().nextToken();
             }
         } else if (token == XContentParser.Token.VALUE_NUMBER) {
             float value = perDimensionProcessor.processByte(context.parser().floatValue());
             perDimensionValidator.validateByte(value);
-            vector.add((byte) value);
+            vector[size++] = (byte) value;
             context.parser().nextToken();
         } else if (token == XContentParser.Token.VALUE_STRING) {
             final byte[] decoded;
@@ -855,13 +861,8 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             context.path().remove();
             return Optional.empty();
         }
-        validateVectorDimension(dimension, vector.size(), dataType);
-        byte[] array = new byte[vector.size()];
-        int i = 0;
-        for (Byte f : vector) {
-            array[i++] = f;
-        }
-        return Optional.of(array);
+        validateVectorDimension(dimension, size, dataType);
+        return Optional.of(size == vector.length ? vector : ArrayUtil.copyOfSubArray(vector, 0, size));
     }
 
     Optional<float[]> getFloatsFromContext(ParseContext context, int dimension) throws IOException {
@@ -870,7 +871,9 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
         PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
         PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
 
-        ArrayList<Float> vector = new ArrayList<>();
+        // Values are parsed straight into an array sized for the mapped dimension, which only has to grow for invalid input
+        float[] vector = new float[Math.max(1, dimension)];
+        int size = 0;
         XContentParser.Token token = context.parser().currentToken();
         float value;
         if (token == XContentParser.Token.START_ARRAY) {
@@ -878,13 +881,16 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             while (token != XContentParser.Token.END_ARRAY) {
                 value = perDimensionProcessor.process(context.parser().floatValue());
                 perDimensionValidator.validate(value);
-                vector.add(value);
+                if (size == vector.length) {
+                    vector = ArrayUtil.grow(vector, size + 1);
+                }
+                vector[size++] = value;
                 token = context.parser().nextToken();
             }
         } else if (token == XContentParser.Token.VALUE_NUMBER) {
             value = perDimensionProcessor.process(context.parser().floatValue());
             perDimensionValidator.validate(value);
-            vector.add(value);
+            vector[size++] = value;
             context.parser().nextToken();
         } else if (token == XContentParser.Token.VALUE_STRING) {
             final byte[] decoded;
@@ -920,14 +926,8 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             context.path().remove();
             return Optional.empty();
         }
-        validateVectorDimension(dimension, vector.size(), vectorDataType);
-
-        float[] array = new float[vector.size()];
-        int i = 0;
-        for (Float f : vector) {
-            array[i++] = f;
-        }
-        return Optional.of(array);
+        validateVectorDimension(dimension, size, vectorDataType);
+        return Optional.of(size == vector.length ? vector : ArrayUtil.copyOfSubArray(vector, 0, size));
     }
 
     @Override
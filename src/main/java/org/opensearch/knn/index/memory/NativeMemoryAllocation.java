@@ -14,6 +14,7 @@ package org.opensearch.knn.index.memory;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.IOUtils;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.common.concurrent.RefCountedReleasable;
 import org.opensearch.knn.index.VectorDataType;
@@ -22,6 +23,7 @@ import org.opensearch.knn.index.query.KNNWeight;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.engine.KNNEngine;
 
+import java.io.Closeable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -120,6 +122,7 @@ public interface NativeMemoryAllocation {
         private final SharedIndexState sharedIndexState;
         @Getter
         private final boolean isBinaryIndex;
+        private final Closeable mappedIndexInput;
         private final RefCountedReleasable<IndexAllocation> refCounted;
 
         /**
@@ -163,6 +166,43 @@ public interface NativeMemoryAllocation {
             String openSearchIndexName,
             SharedIndexState sharedIndexState,
             boolean isBinaryIndex
+        ) {
+            this(
+                executorService,
+                memoryAddress,
+                sizeKb,
+                knnEngine,
+                vectorFileName,
+                openSearchIndexName,
+                sharedIndexState,
+                isBinaryIndex,
+                null
+            );
+        }
+
+        /**
+         * Constructor
+         *
+         * @param executorService Executor service used to close the allocation
+         * @param memoryAddress Pointer in memory to the index
+         * @param sizeKb Size this index consumes in kilobytes
+         * @param knnEngine KNNEngine associated with the index allocation
+         * @param vectorFileName Vector file name. Ex: _0_165_my_field.faiss
+         * @param openSearchIndexName Name of OpenSearch index this index is associated with
+         * @param sharedIndexState Shared index state. If not shared state present, pass null.
+         * @param mappedIndexInput Memory mapped input the index references. It is closed after the index is freed. If the
+         *                         index was copied into native memory, pass null.
+         */
+        IndexAllocation(
+            ExecutorService executorService,
+            long memoryAddress,
+            int sizeKb,
+            KNNEngine knnEngine,
+            String vectorFileName,
+            String openSearchIndexName,
+            SharedIndexState sharedIndexState,
+            boolean isBinaryIndex,
+            Closeable mappedIndexInput
         ) {
             this.executor = executorService;
             this.closed = false;
@@ -174,6 +214,7 @@ public interface NativeMemoryAllocation {
             this.sizeKb = sizeKb;
             this.sharedIndexState = sharedIndexState;
             this.isBinaryIndex = isBinaryIndex;
+            this.mappedIndexInput = mappedIndexInput;
             this.refCounted = new RefCountedReleasable<>("IndexAllocation-Reference", this, this::closeInternal);
         }
 
@@ -218,6 +259,11 @@ public interface NativeMemoryAllocation {
             if (sharedIndexState != null) {
                 SharedIndexStateManager.getInstance().release(sharedIndexState);
             }
+
+            // The mapping must only be released once the index referencing it has been freed
+            if (mappedIndexInput != null) {
+                IOUtils.closeWhileHandlingException(mappedIndexInput);
+            }
         }
 
         @Override
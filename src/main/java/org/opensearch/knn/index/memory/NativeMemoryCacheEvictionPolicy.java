@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Eviction policies supported by {@link NativeMemoryCacheManager}.
+ * <ul>
+ *     <li>{@link #LRU}: weight bounded Guava cache with a single segment, evicting the least recently used entries.</li>
+ *     <li>{@link #TINY_LFU}: striped cache where the manager enforces the weight bound itself and picks victims by
+ *     estimated access frequency first and recency second, so that frequently searched graphs survive scans over
+ *     rarely searched ones. As with {@link #LRU}, victims are evicted before a new entry is loaded when force eviction
+ *     is enabled, and after it is loaded otherwise.</li>
+ * </ul>
+ */
+@Getter
+@AllArgsConstructor
+public enum NativeMemoryCacheEvictionPolicy {
+    LRU("lru"),
+    TINY_LFU("tinylfu");
+
+    private final String name;
+
+    /**
+     * Get the eviction policy from its name.
+     *
+     * @param name name of the eviction policy
+     * @return {@link NativeMemoryCacheEvictionPolicy}
+     */
+    public static NativeMemoryCacheEvictionPolicy getEvictionPolicy(final String name) {
+        for (NativeMemoryCacheEvictionPolicy evictionPolicy : values()) {
+            if (evictionPolicy.getName().equalsIgnoreCase(name)) {
+                return evictionPolicy;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format(
+                Locale.ROOT,
+                "Invalid cache eviction policy [%s]. Supported policies are [%s]",
+                name,
+                Arrays.stream(values()).map(NativeMemoryCacheEvictionPolicy::getName).collect(Collectors.joining(","))
+            )
+        );
+    }
+}
@@ -30,20 +30,30 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+
 /**
  * Manages native memory allocations made by JNI.
  */
@@ -51,18 +61,34 @@ public class NativeMemoryCacheManager implements Closeable {
 
     public static String GRAPH_COUNT = "graph_count";
 
+    // Number of segments of the cache when the tinylfu policy is used. Weight is enforced by the manager in that mode, so
+    // the cache can be striped without splitting the weight budget across segments.
+    private static final int TINY_LFU_CONCURRENCY_LEVEL = 16;
+    // Sized for the number of graphs a node typically keeps resident. More distinct keys only make the estimates noisier.
+    private static final int FREQUENCY_SKETCH_EXPECTED_KEYS = 4096;
+
     private static final Logger logger = LogManager.getLogger(NativeMemoryCacheManager.class);
     private static NativeMemoryCacheManager INSTANCE;
     @Setter
     private static ThreadPool threadPool;
 
     private Cache<String, NativeMemoryAllocation> cache;
+    private NativeMemoryCacheUsage cacheUsage;
     private Deque<String> accessRecencyQueue;
     private final ConcurrentHashMap<String, ReentrantLock> indexLocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<NativeMemoryAllocation>> inFlightLoads = new ConcurrentHashMap<>();
     private final ExecutorService executor;
     private AtomicBoolean cacheCapacityReached;
+    private boolean isWeightLimited;
     private long maxWeight;
     @Getter
+    private NativeMemoryCacheEvictionPolicy evictionPolicy;
+    private final NativeMemoryFrequencySketch frequencySketch = new NativeMemoryFrequencySketch(FREQUENCY_SKETCH_EXPECTED_KEYS);
+    private final Map<String, Long> lastAccessTicks = new ConcurrentHashMap<>();
+    private final AtomicLong accessTicker = new AtomicLong();
+    // Size of entries that are being loaded under the tinylfu policy with force eviction
+    private final AtomicLong reservedSizeInKB = new AtomicLong();
+    @Getter
     private Cancellable maintenanceTask;
 
     NativeMemoryCacheManager() {
@@ -102,19 +128,26 @@ public class NativeMemoryCacheManager implements Closeable {
                 .expiryTimeInMin(
                     ((TimeValue) KNNSettings.state().getSettingValue(KNNSettings.KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES)).getMinutes()
                 )
+                .evictionPolicy(getEvictionPolicySetting())
                 .build()
         );
     }
 
     private void initialize(NativeMemoryCacheManagerDto nativeMemoryCacheDTO) {
+        final NativeMemoryCacheUsage usage = new NativeMemoryCacheUsage();
+        final boolean isTinyLfu = nativeMemoryCacheDTO.getEvictionPolicy() == NativeMemoryCacheEvictionPolicy.TINY_LFU;
         CacheBuilder<String, NativeMemoryAllocation> cacheBuilder = CacheBuilder.newBuilder()
             .recordStats()
-            .concurrencyLevel(1)
-            .removalListener(this::onRemoval);
+            .concurrencyLevel(isTinyLfu ? TINY_LFU_CONCURRENCY_LEVEL : 1)
+            .removalListener((RemovalNotification<String, NativeMemoryAllocation> notification) -> onRemoval(notification, usage));
 
+        this.isWeightLimited = nativeMemoryCacheDTO.isWeightLimited();
         if (nativeMemoryCacheDTO.isWeightLimited()) {
             this.maxWeight = nativeMemoryCacheDTO.getMaxWeight();
-            cacheBuilder.maximumWeight(this.maxWeight).weigher((k, v) -> v.getSizeInKB());
+            // Under tinylfu the weight is enforced in get(), where victims are chosen by frequency
+            if (isTinyLfu == false) {
+                cacheBuilder.maximumWeight(this.maxWeight).weigher((k, v) -> v.getSizeInKB());
+            }
         }
 
         if (nativeMemoryCacheDTO.isExpirationLimited()) {
@@ -123,6 +156,8 @@ public class NativeMemoryCacheManager implements Closeable {
 
         cacheCapacityReached = new AtomicBoolean(false);
         accessRecencyQueue = new ConcurrentLinkedDeque<>();
+        evictionPolicy = nativeMemoryCacheDTO.getEvictionPolicy();
+        cacheUsage = usage;
         cache = cacheBuilder.build();
 
         if (threadPool != null) {
@@ -144,10 +179,16 @@ public class NativeMemoryCacheManager implements Closeable {
                 .expiryTimeInMin(
                     ((TimeValue) KNNSettings.state().getSettingValue(KNNSettings.KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES)).getMinutes()
                 )
+                .evictionPolicy(getEvictionPolicySetting())
                 .build()
         );
     }
 
+    private static NativeMemoryCacheEvictionPolicy getEvictionPolicySetting() {
+        NativeMemoryCacheEvictionPolicy evictionPolicy = KNNSettings.state().getSettingValue(KNNSettings.KNN_CACHE_EVICTION_POLICY);
+        return evictionPolicy == null ? NativeMemoryCacheEvictionPolicy.LRU : evictionPolicy;
+    }
+
     /**
      * Evict all entries from the cache and rebuilds
      *
@@ -179,7 +220,7 @@ public class NativeMemoryCacheManager implements Closeable {
      * @return current size of the cache
      */
     public long getCacheSizeInKilobytes() {
-        return cache.asMap().values().stream().mapToLong(NativeMemoryAllocation::getSizeInKB).sum();
+        return cacheUsage.getTotalSizeInKB();
     }
 
     /**
@@ -197,12 +238,7 @@ public class NativeMemoryCacheManager implements Closeable {
      * @return current size of the cache
      */
     public long getIndicesSizeInKilobytes() {
-        return cache.asMap()
-            .values()
-            .stream()
-            .filter(nativeMemoryAllocation -> nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation)
-            .mapToLong(NativeMemoryAllocation::getSizeInKB)
-            .sum();
+        return cacheUsage.getIndicesSizeInKB();
     }
 
     /**
@@ -222,15 +258,7 @@ public class NativeMemoryCacheManager implements Closeable {
      */
     public Long getIndexSizeInKilobytes(final String indexName) {
         Validate.notNull(indexName, "Index name cannot be null");
-        return cache.asMap()
-            .values()
-            .stream()
-            .filter(nativeMemoryAllocation -> nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation)
-            .filter(
-                indexAllocation -> indexName.equals(((NativeMemoryAllocation.IndexAllocation) indexAllocation).getOpenSearchIndexName())
-            )
-            .mapToLong(NativeMemoryAllocation::getSizeInKB)
-            .sum();
+        return cacheUsage.getIndexSizeInKB(indexName);
     }
 
     /**
@@ -250,16 +278,7 @@ public class NativeMemoryCacheManager implements Closeable {
      * @return current size of the cache
      */
     public long getTrainingSizeInKilobytes() {
-        // Currently, all allocations that are not index allocations will be for training.
-        return cache.asMap()
-            .values()
-            .stream()
-            .filter(
-                nativeMemoryAllocation -> nativeMemoryAllocation instanceof NativeMemoryAllocation.TrainingDataAllocation
-                    || nativeMemoryAllocation instanceof NativeMemoryAllocation.AnonymousAllocation
-            )
-            .mapToLong(NativeMemoryAllocation::getSizeInKB)
-            .sum();
+        return cacheUsage.getTrainingSizeInKB();
     }
 
     /**
@@ -288,16 +307,7 @@ public class NativeMemoryCacheManager implements Closeable {
      */
     public int getIndexGraphCount(String indexName) {
         Validate.notNull(indexName, "Index name cannot be null");
-        return Long.valueOf(
-            cache.asMap()
-                .values()
-                .stream()
-                .filter(nativeMemoryAllocation -> nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation)
-                .filter(
-                    indexAllocation -> indexName.equals(((NativeMemoryAllocation.IndexAllocation) indexAllocation).getOpenSearchIndexName())
-                )
-                .count()
-        ).intValue();
+        return cacheUsage.getIndexGraphCount(indexName);
     }
 
     /**
@@ -358,6 +368,182 @@ public class NativeMemoryCacheManager implements Closeable {
         accessRecencyQueue.addLast(key);
     }
 
+    /**
+     * Loads the entry and accounts for it in the usage of the cache it is being loaded into.
+     *
+     * @param nativeMemoryEntryContext the context containing vector index information
+     * @param usage usage tracker of the cache the entry is loaded into
+     * @return loaded NativeMemoryAllocation
+     * @throws IOException if the entry cannot be loaded
+     */
+    private NativeMemoryAllocation load(NativeMemoryEntryContext<?> nativeMemoryEntryContext, NativeMemoryCacheUsage usage)
+        throws IOException {
+        NativeMemoryAllocation nativeMemoryAllocation = nativeMemoryEntryContext.load();
+        usage.onAdded(nativeMemoryAllocation);
+        return nativeMemoryAllocation;
+    }
+
+    /**
+     * Retrieves an entry from the cache and records the access tick used to break frequency ties on eviction.
+     *
+     * @param key the unique identifier for the cached entry
+     * @return the cached NativeMemoryAllocation if present, null otherwise
+     */
+    private NativeMemoryAllocation getFromCacheAndRecordAccess(String key) {
+        NativeMemoryAllocation result = cache.getIfPresent(key);
+        if (result != null) {
+            lastAccessTicks.put(key, accessTicker.incrementAndGet());
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves an entry under the tinylfu policy. Every access is recorded in the frequency sketch. Hits only touch the
+     * striped cache, the lock free sketch and a concurrent map. Misses are serialized per key, and make room for the new
+     * entry by evicting the least frequently used entries, using recency to break ties. As with the lru policy, the
+     * entries are evicted before the new entry is loaded when force eviction is enabled, and after it is loaded
+     * otherwise. The graph itself is loaded without any manager wide lock, so loads of different keys proceed in parallel.
+     *
+     * @param nativeMemoryEntryContext Context from which to get NativeMemoryAllocation
+     * @return NativeMemoryAllocation associated with nativeMemoryEntryContext
+     * @throws ExecutionException if there is an exception when loading from the cache
+     */
+    private NativeMemoryAllocation getWithFrequencyAwareEviction(NativeMemoryEntryContext<?> nativeMemoryEntryContext)
+        throws ExecutionException {
+        final String key = nativeMemoryEntryContext.getKey();
+        frequencySketch.increment(key);
+
+        NativeMemoryAllocation result = getFromCacheAndRecordAccess(key);
+        if (result != null) {
+            return result;
+        }
+
+        final Cache<String, NativeMemoryAllocation> cacheInstance = cache;
+        final NativeMemoryCacheUsage usage = cacheUsage;
+        final ReentrantLock entryLock = indexLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        entryLock.lock();
+        try {
+            // recheck if another thread already loaded this entry into the cache
+            result = getFromCacheAndRecordAccess(key);
+            if (result != null) {
+                return result;
+            }
+
+            nativeMemoryEntryContext.open();
+            if (KNNFeatureFlags.isForceEvictCacheEnabled()) {
+                final long sizeInKB = nativeMemoryEntryContext.calculateSizeInKB();
+                reserveCapacity(sizeInKB, cacheInstance, usage);
+                try {
+                    result = cacheInstance.get(key, () -> load(nativeMemoryEntryContext, usage));
+                } finally {
+                    reservedSizeInKB.addAndGet(-sizeInKB);
+                }
+            } else {
+                result = cacheInstance.get(key, () -> load(nativeMemoryEntryContext, usage));
+                trimToCapacity(key, cacheInstance, usage);
+            }
+            lastAccessTicks.put(key, accessTicker.incrementAndGet());
+            return result;
+        } finally {
+            entryLock.unlock();
+            if (!entryLock.hasQueuedThreads()) {
+                indexLocks.remove(key, entryLock);
+            }
+        }
+    }
+
+    /**
+     * Reserves room for an entry of the given size next to the cached and in flight entries, evicting entries until it
+     * fits. The reservation only succeeds if it keeps the cache within its maximum weight, so concurrent loads can never
+     * overshoot it.
+     *
+     * @param sizeInKB size of the entry about to be loaded
+     * @param cacheInstance cache the entry is loaded into
+     * @param usage usage tracker of cacheInstance
+     * @throws OutOfNativeMemoryException if the entry is larger than the cache, or does not fit even after evicting every
+     * cached entry
+     */
+    private void reserveCapacity(long sizeInKB, Cache<String, NativeMemoryAllocation> cacheInstance, NativeMemoryCacheUsage usage) {
+        Iterator<EvictionCandidate> candidates = null;
+        boolean evicted = false;
+        while (true) {
+            final long reserved = reservedSizeInKB.get();
+            if (isWeightLimited == false || usage.getTotalSizeInKB() + reserved + sizeInKB <= maxWeight) {
+                if (reservedSizeInKB.compareAndSet(reserved, reserved + sizeInKB)) {
+                    break;
+                }
+                continue;
+            }
+
+            // An entry larger than the whole cache is rejected without evicting anything for it
+            if (candidates == null) {
+                candidates = sizeInKB > maxWeight ? Collections.emptyIterator() : evictionCandidates(cacheInstance).iterator();
+            }
+            if (candidates.hasNext() == false) {
+                throw new OutOfNativeMemoryException(
+                    "Entry cannot be loaded into cache because it would not fit. "
+                        + "Entry size: "
+                        + sizeInKB
+                        + " KB "
+                        + "Current Cache Size: "
+                        + usage.getTotalSizeInKB()
+                        + " KB "
+                        + "Reserved Size: "
+                        + reserved
+                        + " KB "
+                        + "Max Cache Size: "
+                        + maxWeight
+                );
+            }
+            cacheInstance.invalidate(candidates.next().key());
+            evicted = true;
+        }
+
+        if (evicted) {
+            KNNSettings.state().updateCircuitBreakerSettings(true);
+            setCacheCapacityReached(true);
+        }
+    }
+
+    /**
+     * Evicts entries other than the one just loaded until the cache is back within its maximum weight.
+     *
+     * @param loadedKey key of the entry just loaded
+     * @param cacheInstance cache the entry was loaded into
+     * @param usage usage tracker of cacheInstance
+     */
+    private void trimToCapacity(String loadedKey, Cache<String, NativeMemoryAllocation> cacheInstance, NativeMemoryCacheUsage usage) {
+        if (isWeightLimited == false || usage.getTotalSizeInKB() <= maxWeight) {
+            return;
+        }
+
+        for (EvictionCandidate candidate : evictionCandidates(cacheInstance)) {
+            if (usage.getTotalSizeInKB() <= maxWeight) {
+                break;
+            }
+            if (candidate.key().equals(loadedKey) == false) {
+                cacheInstance.invalidate(candidate.key());
+            }
+        }
+        KNNSettings.state().updateCircuitBreakerSettings(true);
+        setCacheCapacityReached(true);
+    }
+
+    /**
+     * @param cacheInstance cache to pick victims from
+     * @return cached entries, least frequently used first and then least recently used first
+     */
+    private List<EvictionCandidate> evictionCandidates(Cache<String, NativeMemoryAllocation> cacheInstance) {
+        final List<EvictionCandidate> candidates = new ArrayList<>();
+        for (String candidateKey : cacheInstance.asMap().keySet()) {
+            candidates.add(
+                new EvictionCandidate(candidateKey, frequencySketch.frequency(candidateKey), lastAccessTicks.getOrDefault(candidateKey, 0L))
+            );
+        }
+        candidates.sort(Comparator.comparingInt(EvictionCandidate::frequency).thenComparingLong(EvictionCandidate::lastAccessTick));
+        return candidates;
+    }
+
     /**
      * Retrieves NativeMemoryAllocation associated with the nativeMemoryEntryContext.
      *
@@ -384,6 +570,12 @@ public class NativeMemoryCacheManager implements Closeable {
             );
         }
 
+        if (evictionPolicy == NativeMemoryCacheEvictionPolicy.TINY_LFU) {
+            try (nativeMemoryEntryContext) {
+                return getWithFrequencyAwareEviction(nativeMemoryEntryContext);
+            }
+        }
+
         if (KNNFeatureFlags.isForceEvictCacheEnabled()) {
             // Utilizes a force eviction mechanism to free up memory before the entry can be added to the cache
             // In case of a cache hit, the operation just updates the locally maintained recency list
@@ -427,7 +619,8 @@ public class NativeMemoryCacheManager implements Closeable {
                     }
                 }
 
-                result = cache.get(key, nativeMemoryEntryContext::load);
+                final NativeMemoryCacheUsage usage = cacheUsage;
+                result = cache.get(key, () -> load(nativeMemoryEntryContext, usage));
                 accessRecencyQueue.addLast(key);
 
                 return result;
@@ -435,18 +628,96 @@ public class NativeMemoryCacheManager implements Closeable {
         } else {
             try (nativeMemoryEntryContext) {
                 String key = nativeMemoryEntryContext.getKey();
+                final NativeMemoryCacheUsage usage = cacheUsage;
                 // if we already have the allocation we should not open file again as this will cause slowdown in
                 // heavy throughput cases, since open() function do locking while opening and mapping the graph file to
                 // memory.
                 return cache.get(key, () -> {
                     // open graphFile before load
                     open(key, nativeMemoryEntryContext);
-                    return nativeMemoryEntryContext.load();
+                    return load(nativeMemoryEntryContext, usage);
                 });
             }
         }
     }
 
+    /**
+     * Returns the NativeMemoryAllocation associated with the nativeMemoryEntryContext if it is already in the cache.
+     * Otherwise, schedules the entry to be loaded on the graph loading thread pool and returns empty, so that the caller
+     * does not have to wait for the load.
+     *
+     * @param nativeMemoryEntryContext Context from which to get NativeMemoryAllocation
+     * @return NativeMemoryAllocation associated with nativeMemoryEntryContext if it is already loaded
+     */
+    public Optional<NativeMemoryAllocation> getIfPresentOrLoadAsync(NativeMemoryEntryContext<?> nativeMemoryEntryContext) {
+        final String key = nativeMemoryEntryContext.getKey();
+        final NativeMemoryAllocation result;
+        if (evictionPolicy == NativeMemoryCacheEvictionPolicy.TINY_LFU) {
+            result = getFromCacheAndRecordAccess(key);
+            if (result != null) {
+                frequencySketch.increment(key);
+            }
+        } else if (KNNFeatureFlags.isForceEvictCacheEnabled()) {
+            result = getFromCacheAndUpdateRecency(key);
+        } else {
+            result = cache.getIfPresent(key);
+        }
+
+        if (result != null) {
+            return Optional.of(result);
+        }
+        loadAsync(nativeMemoryEntryContext);
+        return Optional.empty();
+    }
+
+    /**
+     * Loads the entry on the graph loading thread pool. Concurrent calls for the same key share a single load, which
+     * goes through {@link #get(NativeMemoryEntryContext, boolean)} and is therefore subject to the same eviction as a
+     * synchronous load.
+     *
+     * @param nativeMemoryEntryContext Context from which to load NativeMemoryAllocation
+     * @return future completed with the loaded NativeMemoryAllocation, or exceptionally if the load failed
+     */
+    public CompletableFuture<NativeMemoryAllocation> loadAsync(NativeMemoryEntryContext<?> nativeMemoryEntryContext) {
+        final String key = nativeMemoryEntryContext.getKey();
+        final CompletableFuture<NativeMemoryAllocation> future = new CompletableFuture<>();
+        final CompletableFuture<NativeMemoryAllocation> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+        if (inFlightLoad != null) {
+            return inFlightLoad;
+        }
+
+        // The in flight entry is removed before the future completes, so that a failed load can be retried right away
+        final Runnable loadTask = () -> {
+            try {
+                NativeMemoryAllocation result = get(nativeMemoryEntryContext, true);
+                inFlightLoads.remove(key, future);
+                future.complete(result);
+            } catch (Exception e) {
+                logger.error("[KNN] Failed to load {} in the background", key, e);
+                inFlightLoads.remove(key, future);
+                future.completeExceptionally(e);
+            }
+        };
+
+        try {
+            getGraphLoadExecutor().execute(loadTask);
+        } catch (Exception e) {
+            // The graph load queue is bounded, the load is scheduled again by the next search that misses the cache
+            logger.debug("[KNN] Failed to schedule the background load of {}", key, e);
+            inFlightLoads.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Executor getGraphLoadExecutor() {
+        if (threadPool == null) {
+            // Without a thread pool, for instance before the plugin components are created, load in the calling thread
+            return Runnable::run;
+        }
+        return threadPool.executor(GRAPH_LOAD_THREAD_POOL);
+    }
+
     /**
      * Returns the NativeMemoryAllocation associated with given index
      * @param indexName name of OpenSearch index
@@ -505,27 +776,23 @@ public class NativeMemoryCacheManager implements Closeable {
      */
     public Map<String, Map<String, Object>> getIndicesCacheStats() {
         Map<String, Map<String, Object>> statValues = new HashMap<>();
-        NativeMemoryAllocation.IndexAllocation indexAllocation;
-
-        for (Map.Entry<String, NativeMemoryAllocation> entry : cache.asMap().entrySet()) {
 
-            if (entry.getValue() instanceof NativeMemoryAllocation.IndexAllocation) {
-                indexAllocation = (NativeMemoryAllocation.IndexAllocation) entry.getValue();
-                String indexName = indexAllocation.getOpenSearchIndexName();
-
-                Map<String, Object> indexMap = statValues.computeIfAbsent(indexName, name -> new HashMap<>());
-                indexMap.computeIfAbsent(GRAPH_COUNT, key -> getIndexGraphCount(indexName));
-                indexMap.computeIfAbsent(StatNames.GRAPH_MEMORY_USAGE.getName(), key -> getIndexSizeInKilobytes(indexName));
-                indexMap.computeIfAbsent(StatNames.GRAPH_MEMORY_USAGE_PERCENTAGE.getName(), key -> getIndexSizeAsPercentage(indexName));
-            }
+        for (Map.Entry<String, NativeMemoryCacheUsage.IndexUsage> entry : cacheUsage.getIndexUsages().entrySet()) {
+            Map<String, Object> indexMap = new HashMap<>();
+            indexMap.put(GRAPH_COUNT, entry.getValue().getGraphCount());
+            indexMap.put(StatNames.GRAPH_MEMORY_USAGE.getName(), entry.getValue().getSizeInKB());
+            indexMap.put(StatNames.GRAPH_MEMORY_USAGE_PERCENTAGE.getName(), getSizeAsPercentage(entry.getValue().getSizeInKB()));
+            statValues.put(entry.getKey(), indexMap);
         }
 
         return statValues;
     }
 
-    private void onRemoval(RemovalNotification<String, NativeMemoryAllocation> removalNotification) {
+    private void onRemoval(RemovalNotification<String, NativeMemoryAllocation> removalNotification, NativeMemoryCacheUsage usage) {
         NativeMemoryAllocation nativeMemoryAllocation = removalNotification.getValue();
         nativeMemoryAllocation.close();
+        usage.onRemoved(nativeMemoryAllocation);
+        lastAccessTicks.remove(removalNotification.getKey());
 
         if (RemovalCause.SIZE == removalNotification.getCause()) {
             KNNSettings.state().updateCircuitBreakerSettings(true);
@@ -567,4 +834,7 @@ public class NativeMemoryCacheManager implements Closeable {
 
         maintenanceTask = threadPool.scheduleWithFixedDelay(cleanUp, interval, ThreadPool.Names.MANAGEMENT);
     }
+
+    private record EvictionCandidate(String key, int frequency, long lastAccessTick) {
+    }
 }
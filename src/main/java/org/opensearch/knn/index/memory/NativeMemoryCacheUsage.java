@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the size accounting of the entries in the native memory cache up to date as entries are loaded and removed,
+ * so that size and graph count stats are answered in constant time instead of by iterating over every cached
+ * allocation.
+ */
+final class NativeMemoryCacheUsage {
+
+    private final AtomicLong totalSizeInKB = new AtomicLong();
+    private final AtomicLong indicesSizeInKB = new AtomicLong();
+    private final AtomicLong trainingSizeInKB = new AtomicLong();
+    private final Map<String, IndexUsage> indexUsages = new ConcurrentHashMap<>();
+
+    /**
+     * Account for an allocation that was added to the cache.
+     *
+     * @param nativeMemoryAllocation allocation added to the cache
+     */
+    void onAdded(NativeMemoryAllocation nativeMemoryAllocation) {
+        update(nativeMemoryAllocation, 1);
+    }
+
+    /**
+     * Account for an allocation that was removed from the cache.
+     *
+     * @param nativeMemoryAllocation allocation removed from the cache
+     */
+    void onRemoved(NativeMemoryAllocation nativeMemoryAllocation) {
+        update(nativeMemoryAllocation, -1);
+    }
+
+    long getTotalSizeInKB() {
+        return totalSizeInKB.get();
+    }
+
+    long getIndicesSizeInKB() {
+        return indicesSizeInKB.get();
+    }
+
+    long getTrainingSizeInKB() {
+        return trainingSizeInKB.get();
+    }
+
+    long getIndexSizeInKB(String indexName) {
+        IndexUsage indexUsage = indexUsages.get(indexName);
+        return indexUsage == null ? 0L : indexUsage.getSizeInKB();
+    }
+
+    int getIndexGraphCount(String indexName) {
+        IndexUsage indexUsage = indexUsages.get(indexName);
+        return indexUsage == null ? 0 : indexUsage.getGraphCount();
+    }
+
+    Map<String, IndexUsage> getIndexUsages() {
+        return Collections.unmodifiableMap(indexUsages);
+    }
+
+    private void update(NativeMemoryAllocation nativeMemoryAllocation, int sign) {
+        final long sizeInKB = sign * (long) nativeMemoryAllocation.getSizeInKB();
+        totalSizeInKB.addAndGet(sizeInKB);
+
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.TrainingDataAllocation
+            || nativeMemoryAllocation instanceof NativeMemoryAllocation.AnonymousAllocation) {
+            // Currently, all allocations that are not index allocations will be for training.
+            trainingSizeInKB.addAndGet(sizeInKB);
+            return;
+        }
+
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation == false) {
+            return;
+        }
+
+        indicesSizeInKB.addAndGet(sizeInKB);
+        String indexName = ((NativeMemoryAllocation.IndexAllocation) nativeMemoryAllocation).getOpenSearchIndexName();
+        if (indexName == null) {
+            return;
+        }
+        indexUsages.compute(indexName, (name, indexUsage) -> {
+            long updatedSize = (indexUsage == null ? 0L : indexUsage.getSizeInKB()) + sizeInKB;
+            int updatedCount = (indexUsage == null ? 0 : indexUsage.getGraphCount()) + sign;
+            return updatedCount <= 0 ? null : new IndexUsage(updatedSize, updatedCount);
+        });
+    }
+
+    /**
+     * Size and number of graphs an OpenSearch index currently holds in the cache.
+     */
+    @Value
+    static class IndexUsage {
+        long sizeInKB;
+        int graphCount;
+    }
+}
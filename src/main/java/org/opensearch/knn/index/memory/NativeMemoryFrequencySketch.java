@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate access frequency of cache keys, used by the {@link NativeMemoryCacheEvictionPolicy#TINY_LFU} policy to
+ * decide which graphs to evict.
+ * <p>
+ * This is a count-min sketch with four hash functions and 4-bit counters packed sixteen to a long, as described in
+ * "TinyLFU: A Highly Efficient Cache Admission Policy". Once the number of recorded accesses reaches the sample size,
+ * all counters are halved so that the estimate follows recent popularity rather than all time popularity. The memory
+ * footprint is fixed and independent of the number of keys ever seen.
+ * <p>
+ * The sketch is recorded on every cache hit, so it takes no lock: counters are updated with compare-and-set on an
+ * {@link AtomicLongArray}, and the halving is done by the single thread that crosses the sample size. Concurrent
+ * updates during a halving may be lost or kept at full weight, which only adds noise to an estimate that is approximate
+ * by design.
+ */
+final class NativeMemoryFrequencySketch {
+
+    static final int MAX_FREQUENCY = 15;
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean resetting = new AtomicBoolean();
+
+    /**
+     * @param expectedKeys expected number of distinct keys resident in the cache
+     */
+    NativeMemoryFrequencySketch(int expectedKeys) {
+        final int tableSize = Integer.highestOneBit(Math.max(expectedKeys, 64) - 1) << 1;
+        this.table = new AtomicLongArray(tableSize);
+        this.tableMask = tableSize - 1;
+        this.sampleSize = 10 * tableSize;
+    }
+
+    /**
+     * Records one access of the key.
+     *
+     * @param key cache key
+     */
+    void increment(String key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && size.incrementAndGet() >= sampleSize && resetting.compareAndSet(false, true)) {
+            try {
+                reset();
+            } finally {
+                resetting.set(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the key, capped at {@link #MAX_FREQUENCY}.
+     *
+     * @param key cache key
+     * @return estimated frequency
+     */
+    int frequency(String key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int offset = (start + i) << 2;
+            final int count = (int) ((table.get(indexOf(hash, i)) >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        while (true) {
+            final long value = table.get(index);
+            if ((value & mask) == mask) {
+                return false;
+            }
+            if (table.compareAndSet(index, value, value + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            table.getAndUpdate(i, value -> (value >>> 1) & RESET_MASK);
+        }
+        size.updateAndGet(value -> value >>> 1);
+    }
+
+    private int indexOf(int hash, int depth) {
+        long value = (hash + SEEDS[depth]) * SEEDS[depth];
+        value += value >>> 32;
+        return ((int) value) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -13,19 +13,26 @@ package org.opensearch.knn.index.memory;
 
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.IOUtils;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.jni.JNIService;
+import org.opensearch.knn.memoryoptsearch.MemorySegmentAddressExtractorUtil;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.training.TrainingDataConsumer;
 import org.opensearch.knn.training.VectorReader;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * Responsible for loading entries from native memory.
@@ -90,12 +97,74 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
                 throw new IllegalStateException("Index [" + indexEntryContext.getOpenSearchIndexName() + "] is not preloaded");
             }
             try (indexEntryContext) {
+                if (KNNSettings.isFaissMmapLoadEnabled()
+                    && JNIService.isLoadFromMemorySupported(indexEntryContext.getParameters(), knnEngine)) {
+                    final NativeMemoryAllocation.IndexAllocation indexAllocation = loadFromMappedFile(
+                        indexEntryContext,
+                        knnEngine,
+                        indexSizeKb,
+                        vectorFileName
+                    );
+                    if (indexAllocation != null) {
+                        return indexAllocation;
+                    }
+                }
+
                 final long indexAddress = JNIService.loadIndex(
                     indexEntryContext.indexInputWithBuffer,
                     indexEntryContext.getParameters(),
                     knnEngine
                 );
-                return createIndexAllocation(indexEntryContext, knnEngine, indexAddress, indexSizeKb, vectorFileName);
+                return createIndexAllocation(indexEntryContext, knnEngine, indexAddress, indexSizeKb, vectorFileName, null);
+            }
+        }
+
+        /**
+         * Loads the index directly from the memory mapped vector file, so that the native engine can reference the
+         * mapped pages instead of copying the whole file through {@link org.opensearch.knn.index.store.IndexInputWithBuffer}.
+         * The mapped input is handed over to the allocation and stays open until the index is freed.
+         *
+         * @return loaded allocation, or null if the file is not memory mapped as a single contiguous region
+         */
+        private NativeMemoryAllocation.IndexAllocation loadFromMappedFile(
+            final NativeMemoryEntryContext.IndexEntryContext indexEntryContext,
+            final KNNEngine knnEngine,
+            final int indexSizeKb,
+            final String vectorFileName
+        ) throws IOException {
+            // READONCE inputs are confined to the opening thread, while the allocation is closed from another thread.
+            final IndexInput mappedIndexInput = indexEntryContext.getDirectory().openInput(vectorFileName, IOContext.DEFAULT);
+            boolean success = false;
+            try {
+                final long[] addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(
+                    mappedIndexInput,
+                    0,
+                    mappedIndexInput.length()
+                );
+                if (addressAndSize == null || addressAndSize.length != 2) {
+                    log.debug("[KNN] Vector file [{}] is not mapped as a single region, falling back to streaming", vectorFileName);
+                    return null;
+                }
+
+                final Map<String, Object> parameters = indexEntryContext.getParameters();
+                final long indexAddress = JNIService.loadIndexFromMemory(addressAndSize[0], addressAndSize[1], parameters, knnEngine);
+                // The whole file size is charged even though the mapped pages are owned by the page cache. Once searched, the
+                // graph is resident just like a streamed one, and charging less would let the cache hold more graphs than the
+                // native memory limit accounts for, changing when graphs are evicted.
+                final NativeMemoryAllocation.IndexAllocation indexAllocation = createIndexAllocation(
+                    indexEntryContext,
+                    knnEngine,
+                    indexAddress,
+                    indexSizeKb,
+                    vectorFileName,
+                    mappedIndexInput
+                );
+                success = true;
+                return indexAllocation;
+            } finally {
+                if (success == false) {
+                    IOUtils.closeWhileHandlingException(mappedIndexInput);
+                }
             }
         }
 
@@ -104,7 +173,8 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
             final KNNEngine knnEngine,
             final long indexAddress,
             final int indexSizeKb,
-            final String vectorFileName
+            final String vectorFileName,
+            final Closeable mappedIndexInput
         ) {
             SharedIndexState sharedIndexState = null;
             String modelId = indexEntryContext.getModelId();
@@ -122,7 +192,8 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
                 vectorFileName,
                 indexEntryContext.getOpenSearchIndexName(),
                 sharedIndexState,
-                IndexUtil.isBinaryIndex(knnEngine, indexEntryContext.getParameters())
+                IndexUtil.isBinaryIndex(knnEngine, indexEntryContext.getParameters()),
+                mappedIndexInput
             );
         }
 
@@ -187,20 +258,33 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
 
             trainingDataAllocation.writeLock();
 
-            vectorReader.read(
-                nativeMemoryEntryContext.getClusterService(),
-                nativeMemoryEntryContext.getTrainIndexName(),
-                nativeMemoryEntryContext.getTrainFieldName(),
-                nativeMemoryEntryContext.getMaxVectorCount(),
-                nativeMemoryEntryContext.getSearchSize(),
-                vectorDataConsumer,
-                ActionListener.wrap(response -> trainingDataAllocation.writeUnlock(), ex -> {
-                    // Close unsafe will assume that the caller passes control of the writelock to it. It
-                    // will then handle releasing the write lock once the close operations finish.
-                    trainingDataAllocation.closeUnsafe();
-                    throw new RuntimeException(ex);
-                })
-            );
+            final Consumer<Exception> onFailure = ex -> {
+                // Close unsafe will assume that the caller passes control of the writelock to it. It
+                // will then handle releasing the write lock once the close operations finish.
+                trainingDataAllocation.closeUnsafe();
+                throw new RuntimeException(ex);
+            };
+            if (KNNSettings.isTrainingShardSamplingEnabled()) {
+                vectorReader.sample(
+                    nativeMemoryEntryContext.getClusterService(),
+                    nativeMemoryEntryContext.getTrainIndexName(),
+                    nativeMemoryEntryContext.getTrainFieldName(),
+                    nativeMemoryEntryContext.getMaxVectorCount(),
+                    nativeMemoryEntryContext.getSearchSize(),
+                    vectorDataConsumer,
+                    ActionListener.wrap(response -> trainingDataAllocation.writeUnlock(), onFailure)
+                );
+            } else {
+                vectorReader.read(
+                    nativeMemoryEntryContext.getClusterService(),
+                    nativeMemoryEntryContext.getTrainIndexName(),
+                    nativeMemoryEntryContext.getTrainFieldName(),
+                    nativeMemoryEntryContext.getMaxVectorCount(),
+                    nativeMemoryEntryContext.getSearchSize(),
+                    vectorDataConsumer,
+                    ActionListener.wrap(response -> trainingDataAllocation.writeUnlock(), onFailure)
+                );
+            }
 
             // The write lock is acquired before the trainingDataAllocation is returned and not released until the
             // loading has completed. The calling thread will need to obtain a read lock in order to proceed, which
@@ -8,6 +8,7 @@ package org.opensearch.knn.index.quantizationservice;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.knn.index.engine.faiss.QFrameBitEncoder;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 
 import java.io.IOException;
@@ -35,7 +36,16 @@ final class KNNVectorQuantizationTrainingRequest<T> extends TrainingRequest<T> {
     }
 
     KNNVectorQuantizationTrainingRequest(Supplier<KNNVectorValues<T>> knnVectorValuesSupplier, long liveDocs, boolean doRandomRotation) {
-        super((int) liveDocs, doRandomRotation);
+        this(knnVectorValuesSupplier, liveDocs, doRandomRotation, RandomRotationType.GAUSSIAN);
+    }
+
+    KNNVectorQuantizationTrainingRequest(
+        Supplier<KNNVectorValues<T>> knnVectorValuesSupplier,
+        long liveDocs,
+        boolean doRandomRotation,
+        RandomRotationType randomRotationType
+    ) {
+        super((int) liveDocs, doRandomRotation, randomRotationType);
         this.knnVectorValuesSupplier = knnVectorValuesSupplier;
         resetVectorValues(); // Initialize the first instance
     }
@@ -70,7 +70,8 @@ public final class QuantizationService<T, R> {
             trainingRequest = new KNNVectorQuantizationTrainingRequest<>(
                 knnVectorValuesSupplier,
                 liveDocs,
-                scalarQuantizationParams.isEnableRandomRotation()
+                scalarQuantizationParams.isEnableRandomRotation(),
+                scalarQuantizationParams.getRandomRotationType()
             );
         } else {
             trainingRequest = new KNNVectorQuantizationTrainingRequest<>(knnVectorValuesSupplier, liveDocs);
@@ -96,6 +97,20 @@ public final class QuantizationService<T, R> {
         return quantizationOutput.getQuantizedVector();
     }
 
+    /**
+     * Applies quantization to a block of vectors laid out one after the other using the specified
+     * {@link QuantizationState}, writing the quantized vectors one after the other to packedVectors.
+     *
+     * @param quantizationState The {@link QuantizationState} containing the state of the trained quantizer.
+     * @param vectors The block of vectors to be quantized.
+     * @param numVectors The number of vectors at the start of the block to be quantized.
+     * @param packedVectors The block to store the quantized vectors, {@link QuantizationState#getBytesPerVector()} bytes each.
+     */
+    public void quantizeBatch(final QuantizationState quantizationState, final T vectors, final int numVectors, final R packedVectors) {
+        Quantizer<T, R> quantizer = QuantizerFactory.getQuantizer(quantizationState.getQuantizationParams());
+        quantizer.quantizeBatch(vectors, numVectors, quantizationState, packedVectors);
+    }
+
     /**
      * Transform vector with ADC. ADC allows us to score full-precision query vectors against binary document vectors.
      * The transformation formula is:
@@ -122,6 +137,7 @@ public final class QuantizationService<T, R> {
             return ScalarQuantizationParams.builder()
                 .sqType(quantizationConfig.getQuantizationType())
                 .enableRandomRotation(quantizationConfig.isEnableRandomRotation())
+                .randomRotationType(quantizationConfig.getRandomRotationType())
                 .enableADC(quantizationConfig.isEnableADC())
                 .build();
         }
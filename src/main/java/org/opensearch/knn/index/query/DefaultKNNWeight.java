@@ -12,6 +12,7 @@ import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Version;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
@@ -76,27 +77,23 @@ public class DefaultKNNWeight extends KNNWeight {
         );
 
         // We need to first get index allocation
-        NativeMemoryAllocation indexAllocation;
-        try {
-            indexAllocation = loadGraph(
-                reader,
-                cacheKey,
-                spaceType,
-                knnEngine,
-                knnQuery,
-                vectorDataType,
-                quantizedVector,
-                segmentLevelQuantizationInfo,
-                modelId,
-                context
-            );
-        } catch (ExecutionException e) {
-            GRAPH_QUERY_ERRORS.increment();
-            throw new RuntimeException(e);
+        final NativeMemoryAllocation indexAllocation = acquireGraph(
+            reader,
+            cacheKey,
+            spaceType,
+            knnEngine,
+            vectorDataType,
+            quantizedVector,
+            segmentLevelQuantizationInfo,
+            modelId,
+            context
+        );
+        if (indexAllocation == null) {
+            return GRAPH_NOT_LOADED_TOPDOCS;
         }
 
         // From cardinality select different filterIds type
-        FilterIdsSelector filterIdsSelector = FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
+        FilterIdsSelector filterIdsSelector = getFilterIdsSelector(context, filterIdsBitSet, cardinality);
         long[] filterIds = filterIdsSelector.getFilterIds();
         FilterIdsSelector.FilterIdsSelectorType filterType = filterIdsSelector.getFilterType();
         // Now that we have the allocation, we need to readLock it
@@ -175,6 +172,58 @@ public class DefaultKNNWeight extends KNNWeight {
         return topDocs;
     }
 
+    /**
+     * Acquires the graph of the segment. When graphs are loaded asynchronously, a graph that is not in the cache yet is
+     * scheduled for loading and null is returned, so that the caller falls back to exact search instead of waiting for
+     * the load.
+     */
+    private NativeMemoryAllocation acquireGraph(
+        final SegmentReader reader,
+        final String cacheKey,
+        final SpaceType spaceType,
+        final KNNEngine knnEngine,
+        final VectorDataType vectorDataType,
+        final byte[] quantizedVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
+        final String modelId,
+        final LeafReaderContext context
+    ) throws IOException {
+        try {
+            if (KNNSettings.isGraphLoadAsyncEnabled()) {
+                final NativeMemoryAllocation indexAllocation = getGraphIfLoaded(
+                    reader,
+                    cacheKey,
+                    spaceType,
+                    knnEngine,
+                    knnQuery,
+                    vectorDataType,
+                    quantizedVector,
+                    segmentLevelQuantizationInfo,
+                    modelId
+                );
+                if (indexAllocation == null) {
+                    log.debug("[KNN] Graph [{}] is being loaded in the background, segment will be searched exactly", cacheKey);
+                }
+                return indexAllocation;
+            }
+            return loadGraph(
+                reader,
+                cacheKey,
+                spaceType,
+                knnEngine,
+                knnQuery,
+                vectorDataType,
+                quantizedVector,
+                segmentLevelQuantizationInfo,
+                modelId,
+                context
+            );
+        } catch (ExecutionException e) {
+            GRAPH_QUERY_ERRORS.increment();
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Loads the graph from native memory.
      */
@@ -191,22 +240,76 @@ public class DefaultKNNWeight extends KNNWeight {
         LeafReaderContext context
     ) throws ExecutionException, IOException {
         return nativeMemoryCacheManager.get(
-            new NativeMemoryEntryContext.IndexEntryContext(
-                reader.directory(),
+            createIndexEntryContext(
+                reader,
                 cacheKey,
-                NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
-                getParametersAtLoading(
-                    spaceType,
-                    knnEngine,
-                    knnQuery.getIndexName(),
-                    // TODO: In the future, more vector data types will be supported with quantization
-                    quantizedVector == null ? vectorDataType : VectorDataType.BINARY,
-                    segmentLevelQuantizationInfo
-                ),
-                knnQuery.getIndexName(),
+                spaceType,
+                knnEngine,
+                knnQuery,
+                vectorDataType,
+                quantizedVector,
+                segmentLevelQuantizationInfo,
                 modelId
             ),
             true
         );
     }
+
+    /**
+     * Returns the graph if it is already in the native memory cache. Otherwise, schedules it to be loaded in the
+     * background and returns null, so that the caller can fall back to exact search instead of waiting for the load.
+     */
+    protected NativeMemoryAllocation getGraphIfLoaded(
+        final SegmentReader reader,
+        String cacheKey,
+        final SpaceType spaceType,
+        final KNNEngine knnEngine,
+        final KNNQuery knnQuery,
+        final VectorDataType vectorDataType,
+        final byte[] quantizedVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
+        final String modelId
+    ) {
+        return nativeMemoryCacheManager.getIfPresentOrLoadAsync(
+            createIndexEntryContext(
+                reader,
+                cacheKey,
+                spaceType,
+                knnEngine,
+                knnQuery,
+                vectorDataType,
+                quantizedVector,
+                segmentLevelQuantizationInfo,
+                modelId
+            )
+        ).orElse(null);
+    }
+
+    private NativeMemoryEntryContext.IndexEntryContext createIndexEntryContext(
+        final SegmentReader reader,
+        String cacheKey,
+        final SpaceType spaceType,
+        final KNNEngine knnEngine,
+        final KNNQuery knnQuery,
+        final VectorDataType vectorDataType,
+        final byte[] quantizedVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
+        final String modelId
+    ) {
+        return new NativeMemoryEntryContext.IndexEntryContext(
+            reader.directory(),
+            cacheKey,
+            NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+            getParametersAtLoading(
+                spaceType,
+                knnEngine,
+                knnQuery.getIndexName(),
+                // TODO: In the future, more vector data types will be supported with quantization
+                quantizedVector == null ? vectorDataType : VectorDataType.BINARY,
+                segmentLevelQuantizationInfo
+            ),
+            knnQuery.getIndexName(),
+            modelId
+        );
+    }
 }
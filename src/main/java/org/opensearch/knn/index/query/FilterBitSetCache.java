@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static org.opensearch.knn.index.KNNSettings.KNN_FILTER_BITSET_CACHE_SIZE_LIMIT;
+
+/**
+ * A thread-safe singleton cache of the filter bitsets of filtered k-NN queries. Entries are keyed by the filter query and
+ * the cache key of the segment reader, which changes whenever the live docs of the segment change, so a cached bitset
+ * always has the deletions applied. Entries of a reader are invalidated when the reader is closed, and the cache is
+ * bounded by the heap used by the bitsets and the doc ids passed to the native engines.
+ */
+@Log4j2
+public class FilterBitSetCache {
+
+    private static volatile FilterBitSetCache instance;
+
+    private final Cache<CacheKey, CachedFilter> cache;
+    // Readers for which a closed listener has been registered, so it is registered once per reader
+    private final Set<IndexReader.CacheKey> registeredReaderKeys = ConcurrentHashMap.newKeySet();
+
+    @VisibleForTesting
+    FilterBitSetCache(final long maxWeightInBytes) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(maxWeightInBytes)
+            .weigher((CacheKey k, CachedFilter v) -> (int) Math.min(Integer.MAX_VALUE, v.estimateRamBytesUsed()))
+            .build();
+    }
+
+    /**
+     * Gets the singleton instance of the cache.
+     * @return FilterBitSetCache
+     */
+    public static FilterBitSetCache getInstance() {
+        if (instance == null) {
+            synchronized (FilterBitSetCache.class) {
+                if (instance == null) {
+                    instance = new FilterBitSetCache(
+                        ((ByteSizeValue) KNNSettings.state().getSettingValue(KNN_FILTER_BITSET_CACHE_SIZE_LIMIT)).getBytes()
+                    );
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the cached filter of the segment, computing it with the loader if it is not cached yet. The loader is
+     * called directly, without caching its result, if the segment reader cannot be cached.
+     *
+     * @param context segment to get the filter bitset for
+     * @param filterQuery filter query of the k-NN query
+     * @param loader computes the filter bitset of the segment with the deletions applied
+     * @return {@link CachedFilter}
+     */
+    public CachedFilter getCachedFilter(final LeafReaderContext context, final Query filterQuery, final Callable<BitSet> loader)
+        throws IOException {
+        final IndexReader.CacheHelper cacheHelper = context.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return new CachedFilter(call(loader));
+        }
+        final IndexReader.CacheKey readerKey = cacheHelper.getKey();
+        try {
+            final CachedFilter cachedFilter = cache.get(new CacheKey(readerKey, filterQuery), () -> new CachedFilter(loader.call()));
+            if (registeredReaderKeys.add(readerKey)) {
+                cacheHelper.addClosedListener(this::invalidateReader);
+            }
+            return cachedFilter;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the cached filter of the segment if there is one.
+     *
+     * @param context segment the filter bitset was computed for
+     * @param filterQuery filter query of the k-NN query
+     * @return {@link CachedFilter} or null if the filter is not cached
+     */
+    public CachedFilter getIfPresent(final LeafReaderContext context, final Query filterQuery) {
+        final IndexReader.CacheHelper cacheHelper = context.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        return cache.getIfPresent(new CacheKey(cacheHelper.getKey(), filterQuery));
+    }
+
+    @VisibleForTesting
+    long size() {
+        cache.cleanUp();
+        return cache.size();
+    }
+
+    /**
+     * Clears all entries from the cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private void invalidateReader(final IndexReader.CacheKey readerKey) {
+        registeredReaderKeys.remove(readerKey);
+        cache.asMap().keySet().removeIf(key -> key.readerKey == readerKey);
+    }
+
+    private static BitSet call(final Callable<BitSet> loader) throws IOException {
+        try {
+            return loader.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private record CacheKey(IndexReader.CacheKey readerKey, Query filterQuery) {
+    }
+
+    /**
+     * Filter bitset of a segment along with its cardinality and, once a native engine has asked for it, the doc ids in
+     * the form passed to JNI.
+     */
+    public static class CachedFilter {
+        @Getter
+        private final BitSet bitSet;
+        @Getter
+        private final int cardinality;
+        private volatile FilterIdsSelector filterIdsSelector;
+
+        CachedFilter(final BitSet bitSet) {
+            this.bitSet = bitSet;
+            this.cardinality = bitSet.cardinality();
+        }
+
+        /**
+         * @return {@link FilterIdsSelector} of the bitset, computed on first use
+         */
+        public FilterIdsSelector getFilterIdsSelector() throws IOException {
+            FilterIdsSelector selector = filterIdsSelector;
+            if (selector == null) {
+                selector = FilterIdsSelector.getFilterIdSelector(bitSet, cardinality);
+                filterIdsSelector = selector;
+            }
+            return selector;
+        }
+
+        /**
+         * The selector of a {@link FixedBitSet} shares its words, for a sparse bitset it is either the matching doc ids or
+         * a dense copy, whichever is smaller, so it never takes more than a bit per doc.
+         */
+        long estimateRamBytesUsed() {
+            final long selectorBytes = bitSet instanceof FixedBitSet ? 0 : (bitSet.length() + Byte.SIZE - 1) / Byte.SIZE;
+            return bitSet.ramBytesUsed() + selectorBytes;
+        }
+    }
+}
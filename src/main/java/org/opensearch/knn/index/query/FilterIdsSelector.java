@@ -52,6 +52,10 @@ public class FilterIdsSelector {
      * IDSelectorBatch	O(k)	O(1)          O(2k)
      * IDSelectorBitmap	O(n/8)	O(1)          O(k) n is the max value of id in the index
      *
+     * The native layer copies both types into a selector laid out like a Roaring bitmap while the ids are pinned, and
+     * searches with it after releasing them. Ids are grouped in chunks of 2^16, dense chunks are kept as bitmaps and sparse
+     * chunks as sorted arrays, so BATCH costs O(k) construction and storage with a lookup of at most O(log 4096).
+     *
      * TODO: We need to ideally decide when we can take another hit of K iterations in latency. Some facts:
      * an OpenSearch Index can have max segment size as 5GB which, which on a vector with dimension of 128 boils down to
      * 7.5M vectors.
@@ -78,6 +78,8 @@ import static org.opensearch.knn.profile.StopWatchUtils.stopStopWatchAndLog;
 @Log4j2
 public abstract class KNNWeight extends Weight {
     protected static final TopDocs EMPTY_TOPDOCS = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+    // Returned by doANNSearch, and compared by reference, when the graph of the segment is still being loaded
+    protected static final TopDocs GRAPH_NOT_LOADED_TOPDOCS = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
     private static ModelDao modelDao;
     private static ExactSearcher DEFAULT_EXACT_SEARCHER;
 
@@ -322,7 +324,7 @@ public abstract class KNNWeight extends Weight {
         stopStopWatchAndLog(log, stopWatch, "FilterBitSet creation", knnQuery.getShardId(), segmentName, knnQuery.getField());
 
         // Save its cardinality, as the cardinality calculation is expensive.
-        final int filterCardinality = filterBitSet.cardinality();
+        final int filterCardinality = getFilterCardinality(context, filterBitSet);
 
         // We don't need to go to JNI layer if no documents are found which satisfy the filters
         // We should give this condition a deeper look that where it should be placed. For now I feel this is a good
@@ -353,6 +355,18 @@ public abstract class KNNWeight extends Weight {
         final TopDocs topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
         stopStopWatchAndLog(log, annStopWatch, "ANN search", knnQuery.getShardId(), segmentName, knnQuery.getField());
 
+        // The graph is being loaded in the background, serve this segment with exact search instead of waiting for it
+        if (topDocs == GRAPH_NOT_LOADED_TOPDOCS) {
+            final BitSetIterator docs = filterWeight != null ? new BitSetIterator(filterBitSet, filterCardinality) : null;
+            final TopDocs result = doExactSearch(context, docs, filterCardinality, k);
+            return new PerLeafResult(
+                filterWeight == null ? null : filterBitSet,
+                filterCardinality,
+                result,
+                PerLeafResult.SearchMode.EXACT_SEARCH
+            );
+        }
+
         int annResultsCount = topDocs.scoreDocs.length;
         boolean annSearchBudgetExhausted = topDocs.totalHits.relation() != TotalHits.Relation.EQUAL_TO;
 
@@ -387,6 +401,50 @@ public abstract class KNNWeight extends Weight {
             return new FixedBitSet(0);
         }
 
+        if (isFilterBitSetCacheable(ctx)) {
+            return FilterBitSetCache.getInstance()
+                .getCachedFilter(ctx, filterWeight.getQuery(), () -> createFilteredDocsBitSet(ctx))
+                .getBitSet();
+        }
+        return createFilteredDocsBitSet(ctx);
+    }
+
+    /**
+     * Returns the cardinality of a bitset returned by {@link #getFilteredDocsBitSet}, reusing the cardinality of the
+     * cached filter when the bitset comes from {@link FilterBitSetCache}.
+     */
+    protected int getFilterCardinality(final LeafReaderContext ctx, final BitSet filterBitSet) {
+        final FilterBitSetCache.CachedFilter cachedFilter = getCachedFilter(ctx, filterBitSet);
+        return cachedFilter != null ? cachedFilter.getCardinality() : filterBitSet.cardinality();
+    }
+
+    /**
+     * Returns the filter ids passed to the native engine for a bitset returned by {@link #getFilteredDocsBitSet}. When the
+     * bitset comes from {@link FilterBitSetCache}, the filter ids are converted once and shared by later queries.
+     */
+    protected FilterIdsSelector getFilterIdsSelector(final LeafReaderContext ctx, final BitSet filterIdsBitSet, final int cardinality)
+        throws IOException {
+        final FilterBitSetCache.CachedFilter cachedFilter = getCachedFilter(ctx, filterIdsBitSet);
+        if (cachedFilter != null) {
+            return cachedFilter.getFilterIdsSelector();
+        }
+        return FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
+    }
+
+    private boolean isFilterBitSetCacheable(final LeafReaderContext ctx) {
+        return KNNSettings.isFilterBitSetCacheEnabled() && filterWeight.isCacheable(ctx);
+    }
+
+    private FilterBitSetCache.CachedFilter getCachedFilter(final LeafReaderContext ctx, final BitSet filterBitSet) {
+        if (filterWeight == null || filterBitSet == null || isFilterBitSetCacheable(ctx) == false) {
+            return null;
+        }
+        final FilterBitSetCache.CachedFilter cachedFilter = FilterBitSetCache.getInstance().getIfPresent(ctx, filterWeight.getQuery());
+        // The entry may have been evicted and computed again by another query since the bitset was returned
+        return cachedFilter != null && cachedFilter.getBitSet() == filterBitSet ? cachedFilter : null;
+    }
+
+    private BitSet createFilteredDocsBitSet(final LeafReaderContext ctx) throws IOException {
         final Bits liveDocs = ctx.reader().getLiveDocs();
         final int maxDoc = ctx.reader().maxDoc();
 
@@ -537,6 +595,10 @@ public abstract class KNNWeight extends Weight {
             k
         );
 
+        if (results == GRAPH_NOT_LOADED_TOPDOCS) {
+            return results;
+        }
+
         if (results.scoreDocs.length == 0) {
             log.debug("[KNN] Query yielded 0 results");
             return EMPTY_TOPDOCS;
@@ -554,7 +616,7 @@ public abstract class KNNWeight extends Weight {
      * @param spaceType Space type configured for the target field.
      * @param knnEngine Engine type configured for the target field.
      * @param vectorDataType Vector data type configured for the target field.
-     * @param quantizedVector Quantized query vector if quantization is enabled for the target field. It can be null. Quantized query vector if quantization is enabled for the target field. It can be null. Quantized query vector if quantization is enabled for the target field. It can be null. Quantized query vector if quantization is enabled for the target field. It can be null. Quantized query vector if quantization is enabled for the target field. It can be null. Quantized query vector if quantization is enabled for the target field. It can be null.
+     * @param quantizedVector Quantized query vector if quantization is enabled for the target field. It can be null.
      * @param modelId Model id. It can be null if the index for searching was not derived from a trained index.
      * @param filterIdsBitSet Bit set for filtering a valid document for collecting.
      * @param cardinality Cardinality of filtering bit set. It will be the total number of documents if no filtering presents.
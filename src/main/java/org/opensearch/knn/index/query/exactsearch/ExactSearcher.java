@@ -17,15 +17,18 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.HitQueue;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.VectorScorer;
 import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
@@ -37,12 +40,15 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesIterator;
 import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractKNNEngine;
 import static org.opensearch.knn.common.FieldInfoExtractor.getSpaceType;
@@ -65,13 +71,33 @@ import static org.opensearch.knn.common.FieldInfoExtractor.getSpaceType;
  * supports segment-level quantization when enabled, including Asymmetric Distance Computation (ADC).
  * For nested document structures, a parent {@link BitSet} is used to map child vectors back to
  * their parent documents.
+ *
+ * <p>When {@link KNNSettings#KNN_EXACT_SEARCH_CONCURRENT_ENABLED} is set, top-k searches over large
+ * segments split the doc id range into slices that are scored concurrently on the search thread pool.
  */
 @Log4j2
 @AllArgsConstructor
 public class ExactSearcher {
 
+    /**
+     * Minimum number of candidate docs per slice of a concurrent search, below which the overhead of
+     * forking outweighs the scoring work of the slice.
+     */
+    static final int MIN_DOCS_PER_SLICE = 16384;
+
+    private static ThreadPool threadPool;
+
     private final ModelDao modelDao;
 
+    /**
+     * Sets the thread pool whose search executor scores the slices of concurrent exact searches.
+     *
+     * @param threadPool node thread pool
+     */
+    public static void setThreadPool(final ThreadPool threadPool) {
+        ExactSearcher.threadPool = threadPool;
+    }
+
     /**
      * Executes an exact search on a subset of documents within a single leaf segment.
      *
@@ -102,6 +128,11 @@ public class ExactSearcher {
             return TopDocsCollector.EMPTY_TOPDOCS;
         }
 
+        final int numSlices = getNumSlices(reader, context);
+        if (numSlices > 1) {
+            return searchSlicesConcurrently(reader, fieldInfo, leafReaderContext, context, numSlices);
+        }
+
         final VectorScorer vectorScorer = createVectorScorer(reader, fieldInfo, leafReaderContext, context);
         if (vectorScorer == null) {
             log.debug("[KNN] VectorScorer creation failed for field [{}] in segment [{}]", context.getField(), reader.getSegmentName());
@@ -178,6 +209,88 @@ public class ExactSearcher {
         return collectTopK(BulkVectorScorer.forKSearch(vectorScorer, matchedDocs), context.getK());
     }
 
+    /**
+     * Returns the number of slices a top-k search of the segment is split into. Only non-nested top-k
+     * searches over all docs of the segment or over a filter {@link BitSet} are split, as slices need to
+     * iterate their own range of candidate docs, and only when every slice gets at least
+     * {@link #MIN_DOCS_PER_SLICE} candidates.
+     *
+     * @param reader  the {@link SegmentReader} for the current segment
+     * @param context the {@link ExactSearcherContext} of the search
+     * @return the number of slices, 1 if the segment is searched on the calling thread
+     */
+    int getNumSlices(final SegmentReader reader, final ExactSearcherContext context) {
+        if (threadPool == null
+            || context.getRadius() != null
+            || context.getParentsFilter() != null
+            || KNNSettings.isExactSearchConcurrentEnabled() == false) {
+            return 1;
+        }
+
+        final DocIdSetIterator matchedDocs = context.getMatchedDocsIterator();
+        final long numCandidates;
+        if (matchedDocs == null) {
+            numCandidates = reader.maxDoc();
+        } else if (matchedDocs instanceof BitSetIterator && context.getNumberOfMatchedDocs() > context.getK()) {
+            numCandidates = context.getNumberOfMatchedDocs();
+        } else {
+            return 1;
+        }
+        final int maxSlices = threadPool.info(ThreadPool.Names.SEARCH).getMax();
+        return (int) Math.max(1, Math.min(maxSlices, numCandidates / MIN_DOCS_PER_SLICE));
+    }
+
+    /**
+     * Performs a top-k search by splitting the doc id range of the segment into {@code numSlices}
+     * contiguous slices. Every slice is scored with its own {@link VectorScorer} into its own heap on the
+     * search thread pool, and the per-slice results are merged at the end. The k-th best score of any
+     * full slice heap is a lower bound for the k-th best score of the segment, so slices share the best
+     * such score as their minimum competitive score.
+     *
+     * @param reader            the {@link SegmentReader} for the current segment
+     * @param fieldInfo         the {@link FieldInfo} for the vector field
+     * @param leafReaderContext the {@link LeafReaderContext} of the segment
+     * @param context           the {@link ExactSearcherContext} of the search
+     * @param numSlices         the number of slices, greater than 1
+     * @return {@link TopDocs} containing the nearest-neighbor results sorted by descending score
+     * @throws IOException if an I/O error occurs while reading vectors or computing scores
+     */
+    private TopDocs searchSlicesConcurrently(
+        final SegmentReader reader,
+        final FieldInfo fieldInfo,
+        final LeafReaderContext leafReaderContext,
+        final ExactSearcherContext context,
+        final int numSlices
+    ) throws IOException {
+        final BitSet matchedDocs = context.getMatchedDocsIterator() != null
+            ? ((BitSetIterator) context.getMatchedDocsIterator()).getBitSet()
+            : null;
+        // Scores are never negative, so their int bits order the same way as the scores themselves
+        final AtomicInteger minCompetitiveScoreBits = new AtomicInteger(Float.floatToIntBits(0f));
+        final int maxDoc = reader.maxDoc();
+        final int sliceSize = (maxDoc + numSlices - 1) / numSlices;
+
+        final List<Callable<TopDocs>> slices = new ArrayList<>(numSlices);
+        for (int minDoc = 0; minDoc < maxDoc; minDoc += sliceSize) {
+            final int sliceMinDoc = minDoc;
+            final int sliceMaxDoc = Math.min(maxDoc, minDoc + sliceSize);
+            slices.add(() -> {
+                final VectorScorer vectorScorer = createVectorScorer(reader, fieldInfo, leafReaderContext, context);
+                if (vectorScorer == null) {
+                    return TopDocsCollector.EMPTY_TOPDOCS;
+                }
+                final DocIdSetIterator sliceDocs = matchedDocs == null
+                    ? DocIdSetIterator.range(sliceMinDoc, sliceMaxDoc)
+                    : new BitSetSliceIterator(matchedDocs, sliceMinDoc, sliceMaxDoc);
+                return collectTopK(BulkVectorScorer.forKSearch(vectorScorer, sliceDocs), context.getK(), minCompetitiveScoreBits);
+            });
+        }
+
+        final List<TopDocs> sliceTopDocs = new TaskExecutor(threadPool.executor(ThreadPool.Names.SEARCH)).invokeAll(slices);
+        final ScoreDoc[] scoreDocs = TopDocs.merge(context.getK(), sliceTopDocs.toArray(TopDocs[]::new)).scoreDocs;
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
     /**
      * Performs a radial (distance-threshold) search by converting the query radius to a minimum
      * similarity score and returning all documents that meet or exceed that threshold.
@@ -263,6 +376,35 @@ public class ExactSearcher {
         return collectTopDocs(queue);
     }
 
+    /**
+     * Collects the top {@code heapSize} docs of one slice of a concurrent search. Once the heap of the
+     * slice is full, its k-th best score is published to {@code minCompetitiveScoreBits}, and the best
+     * published score is used as the minimum competitive score of the slice.
+     */
+    private static TopDocs collectTopK(final Scorer scorer, final int heapSize, final AtomicInteger minCompetitiveScoreBits)
+        throws IOException {
+        final HitQueue queue = new HitQueue(heapSize, true);
+        ScoreDoc topDoc = queue.top();
+        DocIdSetIterator iter = scorer.iterator();
+        int collectedCount = 0;
+
+        for (int doc = iter.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iter.nextDoc()) {
+            float score = scorer.score();
+            if (score > topDoc.score) {
+                topDoc.score = score;
+                topDoc.doc = doc;
+                topDoc = queue.updateTop();
+                collectedCount++;
+                final int minScoreBits = collectedCount >= heapSize
+                    ? minCompetitiveScoreBits.accumulateAndGet(Float.floatToIntBits(topDoc.score), Math::max)
+                    : minCompetitiveScoreBits.get();
+                scorer.setMinCompetitiveScore(Float.intBitsToFloat(minScoreBits));
+            }
+        }
+
+        return collectTopDocs(queue);
+    }
+
     /**
      * Collects scored results from the {@link HitQueue} into a {@link TopDocs}, discarding
      * sentinel entries (those with negative scores that were pre-populated when the queue was
@@ -395,6 +537,48 @@ public class ExactSearcher {
         );
     }
 
+    /**
+     * Iterates the docs of a {@link BitSet} within {@code [minDoc, maxDoc)}, so that slices of a
+     * concurrent search can share the bit set of a filter.
+     */
+    static final class BitSetSliceIterator extends DocIdSetIterator {
+        private final BitSet bitSet;
+        private final int minDoc;
+        private final int maxDoc;
+        private int doc = -1;
+
+        BitSetSliceIterator(final BitSet bitSet, final int minDoc, final int maxDoc) {
+            this.bitSet = bitSet;
+            this.minDoc = minDoc;
+            this.maxDoc = maxDoc;
+        }
+
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() {
+            return doc == NO_MORE_DOCS ? NO_MORE_DOCS : advance(doc + 1);
+        }
+
+        @Override
+        public int advance(final int target) {
+            final int start = Math.max(target, minDoc);
+            if (start >= maxDoc) {
+                return doc = NO_MORE_DOCS;
+            }
+            final int next = bitSet.nextSetBit(start);
+            return doc = next >= maxDoc ? NO_MORE_DOCS : next;
+        }
+
+        @Override
+        public long cost() {
+            return maxDoc - minDoc;
+        }
+    }
+
     /**
      * Immutable context object that encapsulates all parameters required to execute an exact search.
      * Constructed via the Lombok {@code @Builder} pattern to avoid constructor parameter explosion.
@@ -7,6 +7,7 @@ package org.opensearch.knn.index.vectorvalues;
 
 import org.opensearch.knn.index.codec.nativeindex.IndexBuildSetup;
 import org.opensearch.knn.index.codec.nativeindex.QuantizationIndexUtils;
+import org.opensearch.knn.index.codec.nativeindex.QuantizedVectorBatch;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 
 import java.io.IOException;
@@ -52,4 +53,26 @@ public class QuantizedKNNBinaryVectorValues extends KNNVectorValues<byte[]> {
     public byte[] conditionalCloneVector() throws IOException {
         return getVector();
     }
+
+    /**
+     * Creates a {@link QuantizedVectorBatch} to quantize the vectors with {@link #loadBatch}.
+     *
+     * @param capacity maximum number of vectors in the batch.
+     * @return {@link QuantizedVectorBatch}
+     */
+    public QuantizedVectorBatch createQuantizedVectorBatch(final int capacity) {
+        return new QuantizedVectorBatch(indexBuildSetup.getQuantizationState(), capacity);
+    }
+
+    /**
+     * Quantizes the current vector and the ones following it into the batch, see {@link QuantizedVectorBatch#load}.
+     * Unlike {@link #getVector()}, this leaves the iterator on the doc following the last vector of the batch.
+     *
+     * @param quantizedVectorBatch batch to load the vectors into.
+     * @return number of vectors in the batch, 0 if there are no vectors left.
+     * @throws IOException If an I/O error occurs while reading the vectors.
+     */
+    public int loadBatch(final QuantizedVectorBatch quantizedVectorBatch) throws IOException {
+        return quantizedVectorBatch.load(knnFloatVectorValues);
+    }
 }
@@ -124,6 +124,16 @@ class FaissService {
      */
     public static native void writeIndex(long indexAddress, IndexOutputWithBuffer output);
 
+    /**
+     * Renumbers the vectors of an HNSW index over full precision flat storage in breadth first order of its bottom level
+     * graph, so that vectors visited together during a search are stored close to each other once the index is written.
+     * The id map is permuted along with the vectors and the graph, so search results are unchanged. Indices over any
+     * other storage, such as scalar quantized codes, are left as they are.
+     *
+     * @param indexAddress address of native memory where index is stored
+     */
+    public static native void reorderIndex(long indexAddress);
+
     /**
      * Writes a faiss index.
      *
@@ -219,6 +229,27 @@ class FaissService {
      */
     public static native long loadIndexWithStream(IndexInputWithBuffer readStream);
 
+    /**
+     * Load an index from a serialized index that already resides in memory, such as a memory mapped segment file.
+     * Flat codes and graph neighbor lists are not copied but reference the given memory, so the memory must remain
+     * valid until the index is freed.
+     *
+     * @param address address of the first byte of the serialized index
+     * @param size number of bytes of the serialized index
+     * @return pointer to location in memory the index resides in
+     */
+    public static native long loadIndexFromMemory(long address, long size);
+
+    /**
+     * Load a float HNSW index so that more vectors can be added to it, as the starting point of the index of a merged
+     * segment. The ids of the index, doc ids of its source segment, are replaced by {@code docIdMap[sourceDocId]}.
+     *
+     * @param readStream IndexInput wrapper having a Lucene's IndexInput reference.
+     * @param docIdMap   doc id in the merged segment of each doc id of the source segment
+     * @return pointer to location in memory the index resides in
+     */
+    public static native long loadIndexForMerge(IndexInputWithBuffer readStream, int[] docIdMap);
+
     /**
      * Load an index into memory via a wrapping having Lucene's IndexInput with ADC
      *
@@ -91,6 +91,28 @@ public class JNIService {
         );
     }
 
+    /**
+     * Renumbers the vectors of an HNSW index built in memory in breadth first order of its graph before it is written,
+     * so that memory optimized search touches fewer pages of the index file per query. Binary indices are left as they
+     * are.
+     *
+     * @param indexAddress address of native memory where index is stored
+     * @param knnEngine    knn engine
+     * @param parameters   parameters to build index
+     */
+    public static void reorderIndex(long indexAddress, KNNEngine knnEngine, Map<String, Object> parameters) {
+        if (KNNEngine.FAISS == knnEngine) {
+            if (IndexUtil.isBinaryIndex(knnEngine, parameters) == false) {
+                FaissService.reorderIndex(indexAddress);
+            }
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "reorderIndex not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Writes a faiss index to disk.
      *
@@ -221,6 +243,58 @@ public class JNIService {
         );
     }
 
+    /**
+     * Load an index from a serialized index that already resides in memory, such as a memory mapped segment file.
+     * Only float indices of Faiss support this, the memory must remain valid until the index is freed.
+     *
+     * @param address    Address of the first byte of the serialized index
+     * @param size       Number of bytes of the serialized index
+     * @param parameters Parameters to be used when loading index
+     * @param knnEngine  Engine to load index
+     * @return Pointer to location in memory the index resides in
+     */
+    public static long loadIndexFromMemory(long address, long size, Map<String, Object> parameters, KNNEngine knnEngine) {
+        if (isLoadFromMemorySupported(parameters, knnEngine)) {
+            return FaissService.loadIndexFromMemory(address, size);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "LoadIndexFromMemory not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Load an index of a merge source segment so that the vectors of the other source segments can be inserted into it
+     * with {@link #insertToIndex}. Only Faiss HNSW indices with flat float storage support this.
+     *
+     * @param readStream IndexInput wrapper having a Lucene's IndexInput reference.
+     * @param docIdMap   Doc id in the merged segment of each doc id of the source segment
+     * @param knnEngine  Engine to load index
+     * @return Pointer to location in memory the index resides in
+     */
+    public static long loadIndexForMerge(IndexInputWithBuffer readStream, int[] docIdMap, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.loadIndexForMerge(readStream, docIdMap);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "LoadIndexForMerge not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Determine if an index can be loaded with {@link #loadIndexFromMemory(long, long, Map, KNNEngine)}.
+     *
+     * @param parameters Parameters to be used when loading index
+     * @param knnEngine  Engine to load index
+     * @return true if the index can be loaded from memory; false otherwise
+     */
+    public static boolean isLoadFromMemorySupported(Map<String, Object> parameters, KNNEngine knnEngine) {
+        return KNNEngine.FAISS == knnEngine
+            && IndexUtil.isBinaryIndex(knnEngine, parameters) == false
+            && IndexUtil.isADCEnabled(knnEngine, parameters) == false;
+    }
+
     /**
      * Determine if index contains shared state. Currently, we cannot do this in the plugin because we do not store the
      * model definition anywhere. Only faiss supports indices that have shared state. So for all other engines it will
@@ -8,6 +8,7 @@ package org.opensearch.knn.memoryoptsearch.faiss;
 import org.apache.lucene.codecs.KnnVectorsReader;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.hnsw.HnswGraph;
+import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 
 import java.io.IOException;
 import java.util.NoSuchElementException;
@@ -25,19 +26,29 @@ import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
  * in Lucene.
  */
 public class FaissHnswGraph extends HnswGraph {
+    // Neighbor lists within this window are prefetched with a single call, same as vectors in PrefetchHelper.
+    private static final long PREFETCH_GROUP_BYTES = 128 * 1024;
+
     private final FaissHNSW faissHnsw;
     private final IndexInput indexInput;
     private final int numVectors;
+    private final boolean prefetchEnabled;
     private int[] neighborIdList;
     private int numNeighbors;
     private int nextNeighborIndex;
 
     public FaissHnswGraph(final FaissHNSW faissHNSW, final IndexInput indexInput) {
+        // The graph is created for every search, so the setting is read once per search rather than on every seek
+        this(faissHNSW, indexInput, KNNFeatureFlags.isPrefetchEnabled());
+    }
+
+    public FaissHnswGraph(final FaissHNSW faissHNSW, final IndexInput indexInput, final boolean prefetchEnabled) {
         this.faissHnsw = faissHNSW;
         // Offset readers MUST non null.
         Objects.requireNonNull(faissHNSW.getOffsetsReader());
         this.indexInput = indexInput;
         this.numVectors = Math.toIntExact(faissHNSW.getTotalNumberOfVectors());
+        this.prefetchEnabled = prefetchEnabled;
     }
 
     /**
@@ -57,6 +68,7 @@ public class FaissHnswGraph extends HnswGraph {
         final long begin = o + faissHnsw.getCumNumberNeighborPerLevel()[level];
         final long end = o + faissHnsw.getCumNumberNeighborPerLevel()[level + 1];
         loadNeighborIdList(begin, end);
+        prefetchNeighborIdLists(level);
     }
 
     private void loadNeighborIdList(final long begin, final long end) {
@@ -73,31 +85,71 @@ public class FaissHnswGraph extends HnswGraph {
             throw new RuntimeException(e);
         }
 
-        // Fill the array with neighbor ids
+        // Fill the array with neighbor ids in one bulk read, instead of one readInt call per neighbor slot
+        try {
+            indexInput.readInts(neighborIdList, 0, (int) maxLength);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        // The idea is that a vector does not always have a complete list of neighbor vectors.
+        // FAISS assigns a fixed size to the neighbor list and uses -1 to indicate missing entries.
+        // Therefore, we can safely stop once hit -1.
+        // For example, if the neighbor list size is 16 and a vector has only 8 neighbors, the list would appear as:
+        // [1, 4, 6, 8, 13, 17, 60, 88, -1, -1, ..., -1].
         int index = 0;
+        while (index < maxLength && neighborIdList[index] >= 0) {
+            ++index;
+        }
+
+        // Set variables for navigation
+        numNeighbors = index;
+        nextNeighborIndex = 0;
+    }
+
+    /**
+     * Prefetches the neighbor lists at `level` of the neighbors just loaded. Lucene's graph searcher bulk scores the unvisited
+     * neighbors right after the seek, which prefetches their vectors, and then expands the best of them. Hinting their neighbor
+     * lists here lets those reads overlap with scoring instead of faulting in one page at a time on the next seeks.
+     * Neighbors are walked in the order they are read, and consecutive neighbors whose lists fall within 128KB of each
+     * other are prefetched together.
+     *
+     * @param level The level of graph
+     */
+    private void prefetchNeighborIdLists(final int level) {
+        if (numNeighbors <= 1 || prefetchEnabled == false) {
+            return;
+        }
+
+        final int[] cumNumberNeighborPerLevel = faissHnsw.getCumNumberNeighborPerLevel();
+        final long listBytes = (long) Integer.BYTES * (cumNumberNeighborPerLevel[level + 1] - cumNumberNeighborPerLevel[level]);
         try {
-            for (long i = begin; i < end; i++) {
-                final int neighborId = indexInput.readInt();
-                // The idea is that a vector does not always have a complete list of neighbor vectors.
-                // FAISS assigns a fixed size to the neighbor list and uses -1 to indicate missing entries.
-                // Therefore, we can safely stop once hit -1.
-                // For example, if the neighbor list size is 16 and a vector has only 8 neighbors, the list would appear as:
-                // [1, 4, 6, 8, 13, 17, 60, 88, -1, -1, ..., -1].
-                if (neighborId >= 0) {
-                    neighborIdList[index++] = neighborId;
+            long groupStartOffset = neighborIdListOffset(neighborIdList[0], level);
+            long groupEndOffset = groupStartOffset + listBytes;
+            for (int i = 1; i < numNeighbors; ++i) {
+                final long offset = neighborIdListOffset(neighborIdList[i], level);
+                final long startOffset = Math.min(groupStartOffset, offset);
+                final long endOffset = Math.max(groupEndOffset, offset + listBytes);
+                if (endOffset - startOffset > PREFETCH_GROUP_BYTES) {
+                    indexInput.prefetch(groupStartOffset, groupEndOffset - groupStartOffset);
+                    groupStartOffset = offset;
+                    groupEndOffset = offset + listBytes;
                 } else {
-                    break;
+                    groupStartOffset = startOffset;
+                    groupEndOffset = endOffset;
                 }
             }
-
-            // Set variables for navigation
-            numNeighbors = index;
-            nextNeighborIndex = 0;
+            indexInput.prefetch(groupStartOffset, groupEndOffset - groupStartOffset);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private long neighborIdListOffset(final int internalVectorId, final int level) {
+        final long o = faissHnsw.getOffsetsReader().get(internalVectorId);
+        return faissHnsw.getNeighbors().getBaseOffset() + Integer.BYTES * (o + faissHnsw.getCumNumberNeighborPerLevel()[level]);
+    }
+
     @Override
     public int size() {
         return numVectors;
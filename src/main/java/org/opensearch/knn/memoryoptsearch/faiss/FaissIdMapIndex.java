@@ -11,13 +11,15 @@ import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.apache.lucene.util.LongValues;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.vectorvalues.FaissFloatVectorValues;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * A FAISS index with an ID mapping that maps the internal vector ID to a logical ID, along with the actual vector index.
@@ -28,6 +30,9 @@ import java.io.IOException;
  * However, these IDs only cover the sparse 30% of Lucene documents, so an ID mapping is needed to convert the internal physical vector ID
  * into the corresponding Lucene document ID.
  * If the mapping is an identity mapping, where each `i` is mapped to itself, we omit storing it to save memory.
+ * The mapping is monotonic unless the index was extended after it was built, like when a merge reuses the graph of one source
+ * segment and appends the vectors of the others, or its vectors were renumbered in graph order. Such a mapping is not loaded, it
+ * is read in place from the index file during search.
  */
 public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvider {
     public static final String IXMP = "IxMp";
@@ -36,7 +41,8 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
     @Getter
     private FaissIndex nestedIndex;
     private FaissHNSWProvider hnswGetter;
-    private DirectMonotonicReader idMappingReader;
+    private LongValues idMappingReader;
+    private FaissSection unorderedIdMapping;
 
     public FaissIdMapIndex(final String indexType) {
         super(indexType);
@@ -65,7 +71,8 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
             throw new IllegalStateException("Invalid nested HNSW index type, got index type=" + nestedIndex.getIndexType());
         }
 
-        final int numElements = Math.toIntExact(input.readLong());
+        final FaissSection idMapping = new FaissSection(input, Long.BYTES);
+        final int numElements = Math.toIntExact(idMapping.getSectionSize() / Long.BYTES);
 
         // This is a mapping table that maps internal vector id to Lucene document id.
         // In dense case where all documents having at least one KNN field which also has exactly one vector, we don't need this.
@@ -73,7 +80,42 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
         // Lucene document id.
         // Another case is parent-child nested case. In which, this mapping table will map internal vector id to parent document id.
         // NOTE : If the mapping is an identity function that maps `i` to `i`, then the reader will be null.
-        idMappingReader = MonotonicIntegerSequenceEncoder.encode(numElements, input);
+        input.seek(idMapping.getBaseOffset());
+        try {
+            idMappingReader = MonotonicIntegerSequenceEncoder.encode(numElements, input);
+        } catch (IllegalArgumentException e) {
+            // The mapping is out of order and cannot be encoded. Rather than copying it to the heap, it is read from the index file.
+            unorderedIdMapping = idMapping;
+            input.seek(idMapping.getBaseOffset() + idMapping.getSectionSize());
+        }
+    }
+
+    /**
+     * Returns the mapping from internal vector id to Lucene document id, or null if it is an identity mapping.
+     *
+     * @param indexInput A read stream to FAISS index file, used to read a mapping that is not monotonic.
+     * @return The id mapping.
+     * @throws IOException
+     */
+    private LongValues getIdMapping(final IndexInput indexInput) throws IOException {
+        if (unorderedIdMapping == null) {
+            return idMappingReader;
+        }
+
+        final RandomAccessInput idMapping = indexInput.randomAccessSlice(
+            unorderedIdMapping.getBaseOffset(),
+            unorderedIdMapping.getSectionSize()
+        );
+        return new LongValues() {
+            @Override
+            public long get(long internalVectorId) {
+                try {
+                    return idMapping.readLong(internalVectorId * Long.BYTES);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
     }
 
     @Override
@@ -83,7 +125,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
 
     @Override
     public FloatVectorValues getFloatValues(IndexInput indexInput) throws IOException {
-        if (idMappingReader == null) {
+        if (idMappingReader == null && unorderedIdMapping == null) {
             // Handle 'dense' case where all documents have at least one KNN field, which has exactly one vector.
             // No re-mapping is required.
             return nestedIndex.getFloatValues(indexInput);
@@ -95,7 +137,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
 
     @Override
     public ByteVectorValues getByteValues(IndexInput indexInput) throws IOException {
-        if (idMappingReader == null) {
+        if (idMappingReader == null && unorderedIdMapping == null) {
             // Handle 'dense' case where all documents have at least one KNN field, which has exactly one vector.
             // No re-mapping is required.
             return nestedIndex.getByteValues(indexInput);
@@ -115,6 +157,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
      */
     private ByteVectorValues sparseByteValues(IndexInput indexInput) throws IOException {
         final ByteVectorValues vectorValues = nestedIndex.getByteValues(indexInput);
+        final LongValues idMapping = getIdMapping(indexInput);
 
         @RequiredArgsConstructor
         class SparseByteVectorValuesImpl extends ByteVectorValues {
@@ -133,7 +176,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
             @Override
             public int ordToDoc(int internalVectorId) {
                 // Convert an internal vector id to Lucene document id.
-                return (int) idMappingReader.get(internalVectorId);
+                return (int) idMapping.get(internalVectorId);
             }
 
             @Override
@@ -143,7 +186,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
                         @Override
                         public boolean get(int internalVectorId) {
                             // Convert internal vector ordinal to Lucene document id, then check acceptDocs directly.
-                            return acceptDocs.get((int) idMappingReader.get(internalVectorId));
+                            return acceptDocs.get((int) idMapping.get(internalVectorId));
                         }
 
                         @Override
@@ -173,7 +216,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
 
     private FloatVectorValues sparseFloatValues(IndexInput indexInput) throws IOException {
         final FloatVectorValues vectorValues = nestedIndex.getFloatValues(indexInput);
-        return new FaissFloatVectorValues.SparseFloatVectorValuesImpl(vectorValues, idMappingReader);
+        return new FaissFloatVectorValues.SparseFloatVectorValuesImpl(vectorValues, getIdMapping(indexInput));
     }
 
     @Override
@@ -9,7 +9,7 @@ import org.apache.lucene.codecs.lucene95.HasIndexSlice;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.apache.lucene.util.LongValues;
 import org.opensearch.knn.memoryoptsearch.faiss.WrappedFloatVectorValues;
 
 import java.io.IOException;
@@ -73,15 +73,15 @@ public class FaissFloatVectorValues extends FloatVectorValues implements HasInde
 
     /**
      * A {@link FloatVectorValues} wrapper for sparse or nested cases that maps internal vector IDs
-     * to Lucene document IDs via a {@link DirectMonotonicReader}.
+     * to Lucene document IDs via an id mapping.
      * <p>
      * Delegates vector reads to the wrapped {@link FloatVectorValues} and translates ordinals
      * in {@link #ordToDoc(int)} and {@link #getAcceptOrds(Bits)}.
      */
     public static class SparseFloatVectorValuesImpl extends WrappedFloatVectorValues implements HasIndexSlice {
-        private final DirectMonotonicReader idMappingReader;
+        private final LongValues idMappingReader;
 
-        public SparseFloatVectorValuesImpl(final FloatVectorValues vectorValues, final DirectMonotonicReader idMappingReader) {
+        public SparseFloatVectorValuesImpl(final FloatVectorValues vectorValues, final LongValues idMappingReader) {
             super(vectorValues);
             this.idMappingReader = idMappingReader;
             if ((vectorValues instanceof HasIndexSlice) == false) {
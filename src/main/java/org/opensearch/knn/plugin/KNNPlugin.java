@@ -18,6 +18,7 @@ import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -41,6 +42,7 @@ import org.opensearch.knn.index.KNNVectorDocValueFormat;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.KNNCodecService;
 import org.opensearch.knn.index.codec.derivedsource.DerivedSourceIndexOperationListener;
+import org.opensearch.knn.index.codec.nativeindex.MemOptimizedNativeIndexBuildStrategy;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
@@ -82,6 +84,8 @@ import org.opensearch.knn.plugin.transport.RemoveModelFromCacheAction;
 import org.opensearch.knn.plugin.transport.RemoveModelFromCacheTransportAction;
 import org.opensearch.knn.plugin.transport.SearchModelAction;
 import org.opensearch.knn.plugin.transport.SearchModelTransportAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouteDecisionInfoAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouteDecisionInfoTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouterAction;
@@ -96,12 +100,14 @@ import org.opensearch.knn.plugin.transport.UpdateModelMetadataTransportAction;
 import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCache;
 import org.opensearch.knn.search.extension.MMRSearchExtBuilder;
+import org.opensearch.knn.search.extension.MMRVectorFetchExtBuilder;
 
 import org.opensearch.knn.search.processor.KNNSourceExcludesProcessor;
 import org.opensearch.knn.search.processor.mmr.MMRKnnQueryTransformer;
 import org.opensearch.knn.search.processor.mmr.MMROverSampleProcessor;
 import org.opensearch.knn.search.processor.mmr.MMRQueryTransformer;
 import org.opensearch.knn.search.processor.mmr.MMRRerankProcessor;
+import org.opensearch.knn.search.processor.mmr.MMRVectorFetchSubPhase;
 import org.opensearch.knn.training.TrainingJobClusterStateListener;
 import org.opensearch.knn.training.TrainingJobRunner;
 import org.opensearch.knn.training.VectorReader;
@@ -128,6 +134,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.deciders.ConcurrentSearchRequestDecider;
+import org.opensearch.search.fetch.FetchSubPhase;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.search.pipeline.SystemGeneratedProcessor;
@@ -149,9 +156,11 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import static java.util.Collections.singletonList;
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
 import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
 import static org.opensearch.knn.common.KNNConstants.MODEL_INDEX_NAME;
 import static org.opensearch.knn.common.KNNConstants.TRAIN_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_TRANSFER_THREAD_POOL;
 import static org.opensearch.knn.index.KNNCircuitBreaker.KNN_CIRCUIT_BREAKER_TIER;
 import static org.opensearch.knn.index.KNNSettings.KNN_DERIVED_SOURCE_ENABLED;
 
@@ -269,6 +278,8 @@ public class KNNPlugin extends Plugin
         TrainingJobClusterStateListener.initialize(threadPool, ModelDao.OpenSearchKNNModelDao.getInstance(), clusterService);
         QuantizationStateCache.setThreadPool(threadPool);
         NativeMemoryCacheManager.setThreadPool(threadPool);
+        ExactSearcher.setThreadPool(threadPool);
+        MemOptimizedNativeIndexBuildStrategy.setThreadPool(threadPool);
         KNNCircuitBreaker.getInstance().initialize(threadPool, clusterService, client);
         KNNQueryBuilder.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
         KNNWeight.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
@@ -366,7 +377,8 @@ public class KNNPlugin extends Plugin
             new ActionHandler<>(RemoveModelFromCacheAction.INSTANCE, RemoveModelFromCacheTransportAction.class),
             new ActionHandler<>(SearchModelAction.INSTANCE, SearchModelTransportAction.class),
             new ActionHandler<>(UpdateModelGraveyardAction.INSTANCE, UpdateModelGraveyardTransportAction.class),
-            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class)
+            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class),
+            new ActionHandler<>(TrainingDataSampleAction.INSTANCE, TrainingDataSampleTransportAction.class)
         );
     }
 
@@ -448,7 +460,29 @@ public class KNNPlugin extends Plugin
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-        return ImmutableList.of(new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false));
+        return ImmutableList.of(
+            new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false),
+            // Pool size and queue size can be configured with knn.graph_load.size and knn.graph_load.queue_size. A rejected load
+            // leaves its searches on exact search until a later search schedules the load again.
+            new FixedExecutorBuilder(
+                settings,
+                GRAPH_LOAD_THREAD_POOL,
+                KNNSettings.getHardwareDefaultGraphLoadThreadQty(settings),
+                1000,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            ),
+            // Runs the producers of pipelined vector streaming, sized with knn.vector_transfer.size and knn.vector_transfer.queue_size.
+            // A build whose producer is rejected streams its vectors on its own thread.
+            new FixedExecutorBuilder(
+                settings,
+                VECTOR_TRANSFER_THREAD_POOL,
+                OpenSearchExecutors.allocatedProcessors(settings),
+                OpenSearchExecutors.allocatedProcessors(settings),
+                KNN_THREAD_POOL_PREFIX,
+                false
+            )
+        );
     }
 
     @Override
@@ -509,7 +543,19 @@ public class KNNPlugin extends Plugin
 
     @Override
     public List<SearchExtSpec<?>> getSearchExts() {
-        return List.of(new SearchExtSpec<SearchExtBuilder>(MMRSearchExtBuilder.NAME, MMRSearchExtBuilder::new, MMRSearchExtBuilder::parse));
+        return List.of(
+            new SearchExtSpec<SearchExtBuilder>(MMRSearchExtBuilder.NAME, MMRSearchExtBuilder::new, MMRSearchExtBuilder::parse),
+            new SearchExtSpec<SearchExtBuilder>(
+                MMRVectorFetchExtBuilder.NAME,
+                MMRVectorFetchExtBuilder::new,
+                MMRVectorFetchExtBuilder::parse
+            )
+        );
+    }
+
+    @Override
+    public List<FetchSubPhase> getFetchSubPhases(FetchPhaseConstructionContext context) {
+        return List.of(new MMRVectorFetchSubPhase());
     }
 
     @Override
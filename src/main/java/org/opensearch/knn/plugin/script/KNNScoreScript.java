@@ -15,7 +15,6 @@ import org.opensearch.search.lookup.SearchLookup;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 /**
  * KNNScoreScript is used for adjusting the score of query results based on similarity distance methods. Scripts
@@ -25,13 +24,13 @@ import java.util.function.BiFunction;
 public abstract class KNNScoreScript<T> extends ScoreScript {
     protected final T queryValue;
     protected final String field;
-    protected final BiFunction<T, T, Float> scoringMethod;
+    protected final KNNScoringFunction<T> scoringMethod;
 
     public KNNScoreScript(
         Map<String, Object> params,
         T queryValue,
         String field,
-        BiFunction<T, T, Float> scoringMethod,
+        KNNScoringFunction<T> scoringMethod,
         SearchLookup lookup,
         LeafReaderContext leafContext,
         IndexSearcher searcher
@@ -51,7 +50,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             Map<String, Object> params,
             Long queryValue,
             String field,
-            BiFunction<Long, Long, Float> scoringMethod,
+            KNNScoringFunction<Long> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -72,7 +71,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
         }
     }
 
@@ -85,7 +84,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             Map<String, Object> params,
             BigInteger queryValue,
             String field,
-            BiFunction<BigInteger, BigInteger, Float> scoringMethod,
+            KNNScoringFunction<BigInteger> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -106,7 +105,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, new BigInteger(1, scriptDocValues.getValue().bytes));
+            return this.scoringMethod.score(this.queryValue, new BigInteger(1, scriptDocValues.getValue().bytes));
         }
     }
 
@@ -120,7 +119,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             Map<String, Object> params,
             float[] queryValue,
             String field,
-            BiFunction<float[], float[], Float> scoringMethod,
+            KNNScoringFunction<float[]> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -142,7 +141,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
         }
     }
 
@@ -156,7 +155,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             Map<String, Object> params,
             byte[] queryValue,
             String field,
-            BiFunction<byte[], byte[], Float> scoringMethod,
+            KNNScoringFunction<byte[]> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -178,7 +177,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
         }
     }
 }
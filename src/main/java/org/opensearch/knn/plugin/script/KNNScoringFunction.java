@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.script;
+
+import java.util.function.BiFunction;
+
+/**
+ * Scoring method of a {@link KNNScoringSpace}, computing the score between the query value and the value of a doc.
+ * Scripts call {@link #score(Object, Object)}, which returns a primitive float, so that scoring a doc does not box
+ * its score. It is still a {@link BiFunction} for callers that compute scores outside of the scoring loop.
+ *
+ * @param <T> type of the query value and of the doc values
+ */
+@FunctionalInterface
+public interface KNNScoringFunction<T> extends BiFunction<T, T, Float> {
+
+    /**
+     * @param queryValue query value
+     * @param docValue   value of the doc
+     * @return score of the doc
+     */
+    float score(T queryValue, T docValue);
+
+    @Override
+    default Float apply(final T queryValue, final T docValue) {
+        return score(queryValue, docValue);
+    }
+}
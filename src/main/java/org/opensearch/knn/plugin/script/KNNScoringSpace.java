@@ -23,7 +23,6 @@ import java.math.BigInteger;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.getVectorMagnitudeSquared;
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.isBinaryFieldType;
@@ -57,7 +56,7 @@ public interface KNNScoringSpace {
 
         private Object processedQuery;
         @Getter
-        private BiFunction<?, ?, Float> scoringMethod;
+        private KNNScoringFunction<?> scoringMethod;
 
         public KNNFieldSpace(final Object query, final MappedFieldType fieldType, final String spaceName) {
             this(query, fieldType, spaceName, DATA_TYPES_DEFAULT);
@@ -87,7 +86,7 @@ public interface KNNScoringSpace {
                     params,
                     (float[]) this.processedQuery,
                     field,
-                    (BiFunction<float[], float[], Float>) this.scoringMethod,
+                    (KNNScoringFunction<float[]>) this.scoringMethod,
                     lookup,
                     ctx,
                     searcher
@@ -97,7 +96,7 @@ public interface KNNScoringSpace {
                     params,
                     (byte[]) this.processedQuery,
                     field,
-                    (BiFunction<byte[], byte[], Float>) this.scoringMethod,
+                    (KNNScoringFunction<byte[]>) this.scoringMethod,
                     lookup,
                     ctx,
                     searcher
@@ -157,9 +156,9 @@ public interface KNNScoringSpace {
             );
         }
 
-        public abstract BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery);
+        public abstract KNNScoringFunction<?> getScoringMethod(final Object processedQuery);
 
-        protected BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery, Version indexCreatedVersion) {
+        protected KNNScoringFunction<?> getScoringMethod(final Object processedQuery, Version indexCreatedVersion) {
             return getScoringMethod(processedQuery);
         }
 
@@ -171,7 +170,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery) {
+        public KNNScoringFunction<?> getScoringMethod(final Object processedQuery) {
             if (processedQuery instanceof float[]) {
                 return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.l2Squared(q, v));
             } else {
@@ -186,12 +185,12 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<?, ?, Float> getScoringMethod(Object processedQuery) {
+        public KNNScoringFunction<?> getScoringMethod(Object processedQuery) {
             return getScoringMethod(processedQuery, Version.CURRENT);
         }
 
         @Override
-        protected BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery, Version indexCreatedVersion) {
+        protected KNNScoringFunction<?> getScoringMethod(final Object processedQuery, Version indexCreatedVersion) {
             if (processedQuery instanceof float[]) {
                 SpaceType.COSINESIMIL.validateVector((float[]) processedQuery);
                 float qVectorSquaredMagnitude = getVectorMagnitudeSquared((float[]) processedQuery);
@@ -224,7 +223,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery) {
+        public KNNScoringFunction<?> getScoringMethod(final Object processedQuery) {
             if (processedQuery instanceof float[]) {
                 return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.l1Norm(q, v));
             } else {
@@ -239,7 +238,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery) {
+        public KNNScoringFunction<?> getScoringMethod(final Object processedQuery) {
             if (processedQuery instanceof float[]) {
                 return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.lInfNorm(q, v));
             } else {
@@ -254,7 +253,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery) {
+        public KNNScoringFunction<?> getScoringMethod(final Object processedQuery) {
             if (processedQuery instanceof float[]) {
                 return (float[] q, float[] v) -> KNNWeight.normalizeScore(-KNNScoringUtil.innerProduct(q, v));
             } else {
@@ -271,7 +270,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<?, ?, Float> getScoringMethod(final Object processedQuery) {
+        public KNNScoringFunction<?> getScoringMethod(final Object processedQuery) {
             return (byte[] q, byte[] v) -> 1 / (1 + KNNScoringUtil.calculateHammingBit(q, v));
         }
     }
@@ -279,7 +278,7 @@ public interface KNNScoringSpace {
     class HammingBit implements KNNScoringSpace {
 
         Object processedQuery;
-        BiFunction<?, ?, Float> scoringMethod;
+        KNNScoringFunction<?> scoringMethod;
 
         /**
          * Constructor for HammingBit scoring space. HammingBit scoring space expects values to either be of type
@@ -315,7 +314,7 @@ public interface KNNScoringSpace {
                     params,
                     (Long) this.processedQuery,
                     field,
-                    (BiFunction<Long, Long, Float>) this.scoringMethod,
+                    (KNNScoringFunction<Long>) this.scoringMethod,
                     lookup,
                     ctx,
                     searcher
@@ -326,7 +325,7 @@ public interface KNNScoringSpace {
                 params,
                 (BigInteger) this.processedQuery,
                 field,
-                (BiFunction<BigInteger, BigInteger, Float>) this.scoringMethod,
+                (KNNScoringFunction<BigInteger>) this.scoringMethod,
                 lookup,
                 ctx,
                 searcher
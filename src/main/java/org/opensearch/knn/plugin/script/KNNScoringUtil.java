@@ -117,10 +117,9 @@ public class KNNScoringUtil {
      * Calculates the L2 squared distance between a float query vector and a binary document vector using ADC (Asymmetric Distance Computation).
      * This method implements a specialized version of L2 distance calculation where one vector is in binary format (compressed)
      * and the other is in float format (uncompressed).
-     *
-     * TODO: For now this will be very inefficient. We can in the future optimize through the following:
-     * Use FloatVector.SPECIES_PREFERRED for SIMD processing in chunks with reduceLanes(),
-     * Configure build.gradle with --add-modules jdk.incubator.vector --enable-preview flags into the VectorUtils class.
+     * <p>
+     * Bits are decoded a byte at a time into independent accumulators, so the loop carries no division per dimension and
+     * no dependency between consecutive dimensions.
      *
      * @param queryVector The uncompressed query vector in float format
      * @param inputVector The compressed document vector in binary format, where each bit represents a dimension
@@ -129,19 +128,29 @@ public class KNNScoringUtil {
      */
     public static float l2SquaredADC(float[] queryVector, byte[] inputVector) {
         // we cannot defer to VectorUtil as it does not support ADC.
-        // TODO: add batching logic similar to C++ to improve performance.
-        float score = 0;
-
-        for (int i = 0; i < queryVector.length; ++i) {
-            int byteIndex = i / 8;
-            int bitOffset = 7 - (i % 8);
-            int bitValue = (inputVector[byteIndex] >> bitOffset) & 1;
-
-            // Calculate squared difference
-            float diff = bitValue - queryVector[i];
-            score += diff * diff;
+        float score0 = 0, score1 = 0, score2 = 0, score3 = 0;
+        final int fullBytes = queryVector.length / Byte.SIZE;
+        for (int byteIndex = 0, i = 0; byteIndex < fullBytes; ++byteIndex, i += Byte.SIZE) {
+            final int bits = inputVector[byteIndex];
+            final float diff0 = ((bits >> 7) & 1) - queryVector[i];
+            final float diff1 = ((bits >> 6) & 1) - queryVector[i + 1];
+            final float diff2 = ((bits >> 5) & 1) - queryVector[i + 2];
+            final float diff3 = ((bits >> 4) & 1) - queryVector[i + 3];
+            final float diff4 = ((bits >> 3) & 1) - queryVector[i + 4];
+            final float diff5 = ((bits >> 2) & 1) - queryVector[i + 5];
+            final float diff6 = ((bits >> 1) & 1) - queryVector[i + 6];
+            final float diff7 = (bits & 1) - queryVector[i + 7];
+            score0 += diff0 * diff0 + diff4 * diff4;
+            score1 += diff1 * diff1 + diff5 * diff5;
+            score2 += diff2 * diff2 + diff6 * diff6;
+            score3 += diff3 * diff3 + diff7 * diff7;
+        }
+        for (int i = fullBytes * Byte.SIZE; i < queryVector.length; ++i) {
+            final int bitValue = (inputVector[fullBytes] >> (7 - (i % Byte.SIZE))) & 1;
+            final float diff = bitValue - queryVector[i];
+            score0 += diff * diff;
         }
-        return score;
+        return (score0 + score1) + (score2 + score3);
     }
 
     /**
@@ -150,11 +159,7 @@ public class KNNScoringUtil {
      * in binary format and the other remains in float format.
      *
      * The inner product is calculated by summing the products of corresponding elements, where the binary vector's
-     * elements are interpreted as 0 or 1.
-     *
-     * TODO: For now this will be very inefficient. We can in the future optimize through the following:
-     * Use FloatVector.SPECIES_PREFERRED for SIMD processing in chunks with reduceLanes(),
-     * Configure build.gradle with --add-modules jdk.incubator.vector --enable-preview flags into the VectorUtils class.
+     * elements are interpreted as 0 or 1. As for {@link #l2SquaredADC(float[], byte[])}, bits are decoded a byte at a time.
      *
      * @param queryVector The uncompressed query vector in float format
      * @param inputVector The compressed document vector in binary format, where each bit represents a dimension
@@ -162,18 +167,20 @@ public class KNNScoringUtil {
      * @throws IllegalArgumentException if queryVector length is not compatible with inputVector length (queryVector.length != inputVector.length * 8)
      */
     public static float innerProductADC(float[] queryVector, byte[] inputVector) {
-        float score = 0;
-
-        for (int i = 0; i < queryVector.length; ++i) {
-            // Extract the bit for this dimension
-            int byteIndex = i / 8;
-            int bitOffset = 7 - (i % 8);
-            int bitValue = (inputVector[byteIndex] >> bitOffset) & 1;
-
-            // Calculate product and accumulate
-            score += bitValue * queryVector[i];
+        float score0 = 0, score1 = 0, score2 = 0, score3 = 0;
+        final int fullBytes = queryVector.length / Byte.SIZE;
+        for (int byteIndex = 0, i = 0; byteIndex < fullBytes; ++byteIndex, i += Byte.SIZE) {
+            final int bits = inputVector[byteIndex];
+            score0 += ((bits >> 7) & 1) * queryVector[i] + ((bits >> 3) & 1) * queryVector[i + 4];
+            score1 += ((bits >> 6) & 1) * queryVector[i + 1] + ((bits >> 2) & 1) * queryVector[i + 5];
+            score2 += ((bits >> 5) & 1) * queryVector[i + 2] + ((bits >> 1) & 1) * queryVector[i + 6];
+            score3 += ((bits >> 4) & 1) * queryVector[i + 3] + (bits & 1) * queryVector[i + 7];
+        }
+        for (int i = fullBytes * Byte.SIZE; i < queryVector.length; ++i) {
+            final int bitValue = (inputVector[fullBytes] >> (7 - (i % Byte.SIZE))) & 1;
+            score0 += bitValue * queryVector[i];
         }
-        return score;
+        return (score0 + score1) + (score2 + score3);
     }
 
     /**
@@ -270,12 +277,9 @@ public class KNNScoringUtil {
      */
     public static float cosinesimilOptimized(float[] queryVector, float[] inputVector, float normQueryVector) {
         requireEqualDimension(queryVector, inputVector);
-        float dotProduct = 0.0f;
-        float normInputVector = 0.0f;
-        for (int i = 0; i < queryVector.length; i++) {
-            dotProduct += queryVector[i] * inputVector[i];
-            normInputVector += inputVector[i] * inputVector[i];
-        }
+        // Two vectorized passes are cheaper than a single scalar pass computing both sums
+        float dotProduct = VectorUtil.dotProduct(queryVector, inputVector);
+        float normInputVector = VectorUtil.dotProduct(inputVector, inputVector);
         float normalizedProduct = normQueryVector * normInputVector;
         if (normalizedProduct == 0) {
             logger.debug("Invalid vectors for cosine. Returning minimum score to put this result to end");
@@ -329,12 +333,20 @@ public class KNNScoringUtil {
      */
     public static float l1Norm(float[] queryVector, float[] inputVector) {
         requireEqualDimension(queryVector, inputVector);
-        float distance = 0;
-        for (int i = 0; i < inputVector.length; i++) {
-            float diff = queryVector[i] - inputVector[i];
-            distance += Math.abs(diff);
+        // Lucene's VectorUtil has no L1 kernel, so unroll with independent accumulators to break the dependency chain
+        float distance0 = 0, distance1 = 0, distance2 = 0, distance3 = 0;
+        final int unrolledBound = inputVector.length & ~3;
+        int i = 0;
+        for (; i < unrolledBound; i += 4) {
+            distance0 += Math.abs(queryVector[i] - inputVector[i]);
+            distance1 += Math.abs(queryVector[i + 1] - inputVector[i + 1]);
+            distance2 += Math.abs(queryVector[i + 2] - inputVector[i + 2]);
+            distance3 += Math.abs(queryVector[i + 3] - inputVector[i + 3]);
         }
-        return distance;
+        for (; i < inputVector.length; i++) {
+            distance0 += Math.abs(queryVector[i] - inputVector[i]);
+        }
+        return (distance0 + distance1) + (distance2 + distance3);
     }
 
     /**
@@ -347,10 +359,10 @@ public class KNNScoringUtil {
      */
     public static float l1Norm(byte[] queryVector, byte[] inputVector) {
         requireEqualDimension(queryVector, inputVector);
-        float distance = 0;
+        // Byte differences are exact in int arithmetic, which the JIT can vectorize unlike a float reduction
+        int distance = 0;
         for (int i = 0; i < inputVector.length; i++) {
-            float diff = queryVector[i] - inputVector[i];
-            distance += Math.abs(diff);
+            distance += Math.abs(queryVector[i] - inputVector[i]);
         }
         return distance;
     }
@@ -365,12 +377,20 @@ public class KNNScoringUtil {
      */
     public static float lInfNorm(float[] queryVector, float[] inputVector) {
         requireEqualDimension(queryVector, inputVector);
-        float distance = 0;
-        for (int i = 0; i < inputVector.length; i++) {
-            float diff = queryVector[i] - inputVector[i];
-            distance = Math.max(Math.abs(diff), distance);
+        // The maximum does not depend on the order of evaluation, so independent accumulators give the same result
+        float distance0 = 0, distance1 = 0, distance2 = 0, distance3 = 0;
+        final int unrolledBound = inputVector.length & ~3;
+        int i = 0;
+        for (; i < unrolledBound; i += 4) {
+            distance0 = Math.max(Math.abs(queryVector[i] - inputVector[i]), distance0);
+            distance1 = Math.max(Math.abs(queryVector[i + 1] - inputVector[i + 1]), distance1);
+            distance2 = Math.max(Math.abs(queryVector[i + 2] - inputVector[i + 2]), distance2);
+            distance3 = Math.max(Math.abs(queryVector[i + 3] - inputVector[i + 3]), distance3);
         }
-        return distance;
+        for (; i < inputVector.length; i++) {
+            distance0 = Math.max(Math.abs(queryVector[i] - inputVector[i]), distance0);
+        }
+        return Math.max(Math.max(distance0, distance1), Math.max(distance2, distance3));
     }
 
     /**
@@ -383,10 +403,9 @@ public class KNNScoringUtil {
      */
     public static float lInfNorm(byte[] queryVector, byte[] inputVector) {
         requireEqualDimension(queryVector, inputVector);
-        float distance = 0;
+        int distance = 0;
         for (int i = 0; i < inputVector.length; i++) {
-            float diff = queryVector[i] - inputVector[i];
-            distance = Math.max(Math.abs(diff), distance);
+            distance = Math.max(Math.abs(queryVector[i] - inputVector[i]), distance);
         }
         return distance;
     }
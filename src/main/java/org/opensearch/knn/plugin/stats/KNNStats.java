@@ -8,6 +8,7 @@ package org.opensearch.knn.plugin.stats;
 import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
 import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.indices.ModelCache;
@@ -83,6 +84,7 @@ public class KNNStats {
         addModelStats(builder);
         addGraphStats(builder);
         addRemoteIndexBuildStats(builder);
+        addIndexBuildSchedulerStats(builder);
         return builder.build();
     }
 
@@ -216,6 +218,13 @@ public class KNNStats {
         builder.put(StatNames.REMOTE_VECTOR_INDEX_BUILD_STATS.getName(), new KNNStat<>(false, this::createRemoteIndexStatsMap));
     }
 
+    private void addIndexBuildSchedulerStats(ImmutableMap.Builder<String, KNNStat<?>> builder) {
+        builder.put(
+            StatNames.INDEX_BUILD_SCHEDULER_STATS.getName(),
+            createNodeStat(() -> NativeIndexBuildScheduler.getInstance().getStats())
+        );
+    }
+
     private Map<String, Map<String, Object>> createRemoteIndexStatsMap() {
         Map<String, Object> clientStatsMap = new HashMap<>();
         clientStatsMap.put(
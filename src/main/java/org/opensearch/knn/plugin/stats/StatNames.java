@@ -57,6 +57,7 @@ public enum StatNames {
     CLIENT_STATS("client_stats"),
     REPOSITORY_STATS("repository_stats"),
     BUILD_STATS("build_stats"),
+    INDEX_BUILD_SCHEDULER_STATS("index_build_scheduler_stats"),
 
     // KNN Query Stats
     KNN_QUERY_REQUESTS(KNNCounter.KNN_QUERY_REQUESTS.getName()),
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Action to sample training vectors from a shard of the training index. It is named as an index read action, so that
+ * it is authorized against the training index like the search it replaces.
+ */
+public class TrainingDataSampleAction extends ActionType<TrainingDataSampleResponse> {
+
+    public static final String NAME = "indices:data/read/knn/training_data_sample";
+    public static final TrainingDataSampleAction INSTANCE = new TrainingDataSampleAction(NAME, TrainingDataSampleResponse::new);
+
+    /**
+     * Constructor.
+     *
+     * @param name name of action
+     * @param responseReader reader for the sample response
+     */
+    public TrainingDataSampleAction(String name, Writeable.Reader<TrainingDataSampleResponse> responseReader) {
+        super(name, responseReader);
+    }
+}
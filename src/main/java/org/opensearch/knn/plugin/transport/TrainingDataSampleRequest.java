@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.single.shard.SingleShardRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request for a chunk of the training vectors sampled from a shard of the training index.
+ * <p>
+ * The shard samples {@link #getSampleSize()} of its vectors with a sampler seeded by {@link #getSeed()}, and returns the
+ * sampled vectors at positions [from, from + size) of the sample. Requests for consecutive chunks of a shard share the
+ * same {@link #getSampleId()}, which routes them to the same copy of the shard, where the sample is computed once on the
+ * first chunk and kept open with its reader until the last chunk, so that the chunks are disjoint parts of one sample.
+ */
+@Getter
+public class TrainingDataSampleRequest extends SingleShardRequest<TrainingDataSampleRequest> {
+
+    private final int shardId;
+    private final String sampleId;
+    private final String fieldName;
+    private final int sampleSize;
+    private final long seed;
+    private final int from;
+    private final int size;
+
+    /**
+     * Constructor
+     *
+     * @param index name of the training index
+     * @param shardId id of the shard to sample from
+     * @param sampleId id shared by the requests for the chunks of the same sample
+     * @param fieldName name of the vector field
+     * @param sampleSize number of vectors to sample from the shard
+     * @param seed seed of the sampler
+     * @param from position in the sample of the first vector to return
+     * @param size maximum number of vectors to return
+     */
+    public TrainingDataSampleRequest(
+        String index,
+        int shardId,
+        String sampleId,
+        String fieldName,
+        int sampleSize,
+        long seed,
+        int from,
+        int size
+    ) {
+        super(index);
+        this.shardId = shardId;
+        this.sampleId = sampleId;
+        this.fieldName = fieldName;
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+        this.from = from;
+        this.size = size;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataSampleRequest(StreamInput in) throws IOException {
+        super(in);
+        this.shardId = in.readVInt();
+        this.sampleId = in.readString();
+        this.fieldName = in.readString();
+        this.sampleSize = in.readVInt();
+        this.seed = in.readLong();
+        this.from = in.readVInt();
+        this.size = in.readVInt();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+
+        if (index() == null) {
+            validationException = addValidationError("Missing training index", validationException);
+        }
+
+        if (sampleId == null || sampleId.isEmpty()) {
+            validationException = addValidationError("Missing sample id", validationException);
+        }
+
+        if (fieldName == null || fieldName.isEmpty()) {
+            validationException = addValidationError("Missing training field", validationException);
+        }
+
+        if (shardId < 0 || sampleSize < 0 || from < 0 || size <= 0) {
+            validationException = addValidationError(
+                "shardId, sampleSize and from must be >= 0 and size must be > 0",
+                validationException
+            );
+        }
+
+        return validationException;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(shardId);
+        out.writeString(sampleId);
+        out.writeString(fieldName);
+        out.writeVInt(sampleSize);
+        out.writeLong(seed);
+        out.writeVInt(from);
+        out.writeVInt(size);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * Chunk of the training vectors sampled from a shard. Vectors are packed one after another in a single primitive array,
+ * a float array for float fields and a byte array for byte and binary fields.
+ */
+@Getter
+public class TrainingDataSampleResponse extends ActionResponse {
+
+    private static final float[] EMPTY_FLOATS = new float[0];
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    /**
+     * Number of vectors sampled from the shard, across all chunks
+     */
+    private final int sampleSize;
+    /**
+     * Number of vectors in this chunk
+     */
+    private final int numVectors;
+    /**
+     * Number of floats or bytes of each vector in the packed array
+     */
+    private final int vectorLength;
+    private final float[] floatVectors;
+    private final byte[] byteVectors;
+
+    /**
+     * Constructor
+     *
+     * @param sampleSize number of vectors sampled from the shard
+     * @param numVectors number of vectors in this chunk
+     * @param vectorLength number of floats or bytes of each vector
+     * @param floatVectors packed float vectors, or null for byte and binary fields
+     * @param byteVectors packed byte vectors, or null for float fields
+     */
+    public TrainingDataSampleResponse(int sampleSize, int numVectors, int vectorLength, float[] floatVectors, byte[] byteVectors) {
+        this.sampleSize = sampleSize;
+        this.numVectors = numVectors;
+        this.vectorLength = vectorLength;
+        this.floatVectors = floatVectors == null ? EMPTY_FLOATS : floatVectors;
+        this.byteVectors = byteVectors == null ? EMPTY_BYTES : byteVectors;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataSampleResponse(StreamInput in) throws IOException {
+        super(in);
+        this.sampleSize = in.readVInt();
+        this.numVectors = in.readVInt();
+        this.vectorLength = in.readVInt();
+        this.floatVectors = in.readFloatArray();
+        this.byteVectors = in.readByteArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(sampleSize);
+        out.writeVInt(numVectors);
+        out.writeVInt(vectorLength);
+        out.writeFloatArray(floatVectors);
+        out.writeByteArray(byteVectors);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.util.Bits;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.single.shard.TransportSingleShardAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.quantization.sampler.SamplerType;
+import org.opensearch.knn.quantization.sampler.SamplingFactory;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * Transport action that samples training vectors on the node holding a shard of the training index. Vectors are read
+ * from the vector values of the shard's segments, so neither _source nor a scroll context is involved, and they are
+ * returned packed in primitive arrays.
+ * <p>
+ * The sample is computed once, on the first chunk of a sample id, and kept open with the searcher it was computed on
+ * until its last chunk is returned, or until it has not been accessed for {@link #SAMPLE_KEEP_ALIVE}. Later chunks only
+ * read the vectors of their sampled docs, and all chunks are parts of the same sample even if the shard is refreshed.
+ */
+@Log4j2
+public class TrainingDataSampleTransportAction extends TransportSingleShardAction<
+    TrainingDataSampleRequest,
+    TrainingDataSampleResponse> {
+
+    private static final String SEARCHER_SOURCE = "knn_training_data_sample";
+    static final TimeValue SAMPLE_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+    private final IndicesService indicesService;
+    private final Map<String, ShardSample> openSamples = new ConcurrentHashMap<>();
+
+    @Inject
+    public TrainingDataSampleTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        IndicesService indicesService,
+        ActionFilters actionFilters,
+        IndexNameExpressionResolver indexNameExpressionResolver
+    ) {
+        super(
+            TrainingDataSampleAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            indexNameExpressionResolver,
+            TrainingDataSampleRequest::new,
+            ThreadPool.Names.SEARCH
+        );
+        this.indicesService = indicesService;
+        threadPool.scheduleWithFixedDelay(this::closeExpiredSamples, SAMPLE_KEEP_ALIVE, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected TrainingDataSampleResponse shardOperation(TrainingDataSampleRequest request, ShardId shardId) throws IOException {
+        ShardSample shardSample = openSamples.get(request.getSampleId());
+        if (shardSample == null) {
+            if (request.getFrom() > 0) {
+                throw new IllegalStateException(
+                    String.format(Locale.ROOT, "Sample [%s] of shard %s is not open on this node", request.getSampleId(), shardId)
+                );
+            }
+            final ShardSample newShardSample = openSample(request, shardId);
+            shardSample = openSamples.putIfAbsent(request.getSampleId(), newShardSample);
+            if (shardSample == null) {
+                shardSample = newShardSample;
+            } else {
+                newShardSample.close();
+            }
+        }
+
+        boolean lastChunk = true;
+        try {
+            final TrainingDataSampleResponse response;
+            synchronized (shardSample) {
+                if (shardSample.closed) {
+                    throw new IllegalStateException(
+                        String.format(Locale.ROOT, "Sample [%s] of shard %s expired", request.getSampleId(), shardId)
+                    );
+                }
+                shardSample.lastAccessTime = threadPool.relativeTimeInMillis();
+                response = readChunk(
+                    shardSample.searcher.getIndexReader(),
+                    request.getFieldName(),
+                    shardSample.sampledDocs,
+                    request.getFrom(),
+                    request.getSize()
+                );
+            }
+            lastChunk = response.getNumVectors() == 0 || request.getFrom() + response.getNumVectors() >= response.getSampleSize();
+            return response;
+        } finally {
+            if (lastChunk) {
+                closeSample(request.getSampleId());
+            }
+        }
+    }
+
+    @Override
+    protected Writeable.Reader<TrainingDataSampleResponse> getResponseReader() {
+        return TrainingDataSampleResponse::new;
+    }
+
+    @Override
+    protected boolean resolveIndex(TrainingDataSampleRequest request) {
+        return true;
+    }
+
+    @Override
+    protected ShardsIterator shards(ClusterState state, InternalRequest request) {
+        // The sample id as custom preference routes all the chunks of a sample to the copy of the shard holding it
+        return clusterService.operationRouting()
+            .getShards(state, request.concreteIndex(), request.request().getShardId(), request.request().getSampleId());
+    }
+
+    private ShardSample openSample(final TrainingDataSampleRequest request, final ShardId shardId) {
+        final IndexShard indexShard = indicesService.indexServiceSafe(shardId.getIndex()).getShard(shardId.id());
+        final Engine.Searcher searcher = indexShard.acquireSearcher(SEARCHER_SOURCE);
+        try {
+            final int[] sampledDocs = sampleDocs(
+                searcher.getIndexReader(),
+                request.getFieldName(),
+                request.getSampleSize(),
+                request.getSeed()
+            );
+            return new ShardSample(searcher, sampledDocs, threadPool.relativeTimeInMillis());
+        } catch (IOException e) {
+            searcher.close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            searcher.close();
+            throw e;
+        }
+    }
+
+    private void closeSample(final String sampleId) {
+        final ShardSample shardSample = openSamples.remove(sampleId);
+        if (shardSample != null) {
+            shardSample.close();
+        }
+    }
+
+    private void closeExpiredSamples() {
+        final long expiredTime = threadPool.relativeTimeInMillis() - SAMPLE_KEEP_ALIVE.millis();
+        for (Map.Entry<String, ShardSample> entry : openSamples.entrySet()) {
+            if (entry.getValue().lastAccessTime < expiredTime) {
+                log.debug("Closing training data sample [{}] not accessed for {}", entry.getKey(), SAMPLE_KEEP_ALIVE);
+                closeSample(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Samples the docs holding a vector of the given field among the live docs of the reader.
+     *
+     * @param indexReader reader of the shard
+     * @param fieldName name of the vector field
+     * @param sampleSize maximum number of docs to sample
+     * @param seed seed of the sampler
+     * @return sampled doc ids, relative to the top level reader and sorted
+     * @throws IOException if the vectors cannot be read
+     */
+    static int[] sampleDocs(final IndexReader indexReader, final String fieldName, final int sampleSize, final long seed)
+        throws IOException {
+        // First pass counts the live vectors, so that positions in [0, count) can be sampled
+        int totalVectors = 0;
+        for (LeafReaderContext leafReaderContext : indexReader.leaves()) {
+            final KNNVectorValues<?> vectorValues = getVectorValues(leafReaderContext, fieldName);
+            if (vectorValues == null) {
+                continue;
+            }
+            final Bits liveDocs = leafReaderContext.reader().getLiveDocs();
+            for (int doc = vectorValues.nextDoc(); doc != NO_MORE_DOCS; doc = vectorValues.nextDoc()) {
+                if (liveDocs == null || liveDocs.get(doc)) {
+                    totalVectors++;
+                }
+            }
+        }
+
+        final int[] sampledPositions = SamplingFactory.getSampler(SamplerType.RESERVOIR).sample(totalVectors, sampleSize, new Random(seed));
+
+        // Second pass maps the sampled positions, which are sorted, to the docs holding them
+        final int[] sampledDocs = new int[sampledPositions.length];
+        int numDocs = 0;
+        int position = 0;
+        for (LeafReaderContext leafReaderContext : indexReader.leaves()) {
+            if (numDocs == sampledDocs.length) {
+                break;
+            }
+            final KNNVectorValues<?> vectorValues = getVectorValues(leafReaderContext, fieldName);
+            if (vectorValues == null) {
+                continue;
+            }
+            final Bits liveDocs = leafReaderContext.reader().getLiveDocs();
+            for (int doc = vectorValues.nextDoc(); doc != NO_MORE_DOCS && numDocs < sampledDocs.length; doc = vectorValues.nextDoc()) {
+                if (liveDocs != null && liveDocs.get(doc) == false) {
+                    continue;
+                }
+                if (position++ == sampledPositions[numDocs]) {
+                    sampledDocs[numDocs++] = leafReaderContext.docBase + doc;
+                }
+            }
+        }
+        return sampledDocs;
+    }
+
+    /**
+     * Reads the vectors of the sampled docs at positions [from, from + size) of the sample.
+     *
+     * @param indexReader reader the docs were sampled from
+     * @param fieldName name of the vector field
+     * @param sampledDocs sampled doc ids, relative to the top level reader and sorted
+     * @param from position in the sample of the first vector to return
+     * @param size maximum number of vectors to return
+     * @return vectors of the chunk, packed in doc id order
+     * @throws IOException if the vectors cannot be read
+     */
+    static TrainingDataSampleResponse readChunk(
+        final IndexReader indexReader,
+        final String fieldName,
+        final int[] sampledDocs,
+        final int from,
+        final int size
+    ) throws IOException {
+        final int chunkFrom = Math.min(from, sampledDocs.length);
+        final int chunkTo = (int) Math.min((long) chunkFrom + size, sampledDocs.length);
+        if (chunkFrom == chunkTo) {
+            return new TrainingDataSampleResponse(sampledDocs.length, 0, 0, null, null);
+        }
+
+        float[] floatVectors = null;
+        byte[] byteVectors = null;
+        int vectorLength = 0;
+        int numVectors = 0;
+        final List<LeafReaderContext> leaves = indexReader.leaves();
+        while (chunkFrom + numVectors < chunkTo) {
+            // Sampled docs are sorted, so the docs of a leaf are read in a single forward pass over its vector values
+            final LeafReaderContext leafReaderContext = leaves.get(ReaderUtil.subIndex(sampledDocs[chunkFrom + numVectors], leaves));
+            final int leafEnd = leafReaderContext.docBase + leafReaderContext.reader().maxDoc();
+            final KNNVectorValues<?> vectorValues = getVectorValues(leafReaderContext, fieldName);
+            for (; chunkFrom + numVectors < chunkTo && sampledDocs[chunkFrom + numVectors] < leafEnd; numVectors++) {
+                vectorValues.advance(sampledDocs[chunkFrom + numVectors] - leafReaderContext.docBase);
+                final Object vector = vectorValues.getVector();
+                if (vector instanceof float[] floatVector) {
+                    if (floatVectors == null) {
+                        vectorLength = floatVector.length;
+                        floatVectors = new float[(chunkTo - chunkFrom) * vectorLength];
+                    }
+                    System.arraycopy(floatVector, 0, floatVectors, numVectors * vectorLength, vectorLength);
+                } else {
+                    final byte[] byteVector = (byte[]) vector;
+                    if (byteVectors == null) {
+                        vectorLength = byteVector.length;
+                        byteVectors = new byte[(chunkTo - chunkFrom) * vectorLength];
+                    }
+                    System.arraycopy(byteVector, 0, byteVectors, numVectors * vectorLength, vectorLength);
+                }
+            }
+        }
+        return new TrainingDataSampleResponse(sampledDocs.length, numVectors, vectorLength, floatVectors, byteVectors);
+    }
+
+    private static KNNVectorValues<?> getVectorValues(final LeafReaderContext leafReaderContext, final String fieldName)
+        throws IOException {
+        final SegmentReader segmentReader = Lucene.segmentReader(leafReaderContext.reader());
+        final FieldInfo fieldInfo = segmentReader.getFieldInfos().fieldInfo(fieldName);
+        // Vectors of older segments may be stored as binary doc values instead of vector values
+        if (fieldInfo == null || (fieldInfo.hasVectorValues() == false && fieldInfo.getDocValuesType() != DocValuesType.BINARY)) {
+            return null;
+        }
+        return KNNVectorValuesFactory.getVectorValues(fieldInfo, segmentReader);
+    }
+
+    /**
+     * Sample of a shard, kept open with the searcher it was computed on until its last chunk is read.
+     */
+    private static final class ShardSample {
+        private final Engine.Searcher searcher;
+        private final int[] sampledDocs;
+        private volatile long lastAccessTime;
+        private boolean closed;
+
+        private ShardSample(final Engine.Searcher searcher, final int[] sampledDocs, final long lastAccessTime) {
+            this.searcher = searcher;
+            this.sampledDocs = sampledDocs;
+            this.lastAccessTime = lastAccessTime;
+        }
+
+        private synchronized void close() {
+            if (closed == false) {
+                closed = true;
+                searcher.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.enums;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * The RandomRotationType enum defines how vectors are randomly rotated before binary quantization when random rotation
+ * is enabled.
+ *
+ * <p>
+ * Future Developers: If you change the name of any enum constant, do not change its associated id or name.
+ * Serialization and deserialization depend on these values to maintain compatibility.
+ * </p>
+ */
+@Getter
+public enum RandomRotationType {
+    /**
+     * GAUSSIAN rotation multiplies vectors with a dense orthonormal matrix of Gaussian entries, which is stored in the
+     * quantization state.
+     */
+    GAUSSIAN(0, "gaussian"),
+
+    /**
+     * HADAMARD rotation applies seeded random sign flips followed by fast Walsh-Hadamard transforms, in O(d log d) and
+     * without any matrix in the quantization state.
+     */
+    HADAMARD(1, "hadamard");
+
+    private final int id;
+    private final String name;
+
+    RandomRotationType(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Returns the RandomRotationType associated with the given ID.
+     *
+     * @param id the ID of the rotation type.
+     * @return the corresponding RandomRotationType.
+     * @throws IllegalArgumentException if the ID does not correspond to any RandomRotationType.
+     */
+    public static RandomRotationType fromId(int id) {
+        for (RandomRotationType type : RandomRotationType.values()) {
+            if (type.getId() == id) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown RandomRotationType ID: " + id);
+    }
+
+    /**
+     * Returns the RandomRotationType associated with the given name.
+     *
+     * @param name the name of the rotation type.
+     * @return the corresponding RandomRotationType.
+     * @throws IllegalArgumentException if the name does not correspond to any RandomRotationType.
+     */
+    public static RandomRotationType fromName(String name) {
+        for (RandomRotationType type : RandomRotationType.values()) {
+            if (type.getName().equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown RandomRotationType name: \"%s\"", name));
+    }
+}
@@ -14,6 +14,7 @@ import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.knn.index.engine.faiss.QFrameBitEncoder;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.io.IOException;
@@ -33,6 +34,12 @@ public class ScalarQuantizationParams implements QuantizationParams {
     private final boolean enableRandomRotation = QFrameBitEncoder.DEFAULT_ENABLE_RANDOM_ROTATION;
     @Builder.Default
     private final boolean enableADC = QFrameBitEncoder.DEFAULT_ENABLE_ADC;
+    @Builder.Default
+    private final RandomRotationType randomRotationType = RandomRotationType.GAUSSIAN;
+
+    public ScalarQuantizationParams(ScalarQuantizationType sqType, boolean enableRandomRotation, boolean enableADC) {
+        this(sqType, enableRandomRotation, enableADC, RandomRotationType.GAUSSIAN);
+    }
 
     /**
      * Static method to generate type identifier based on ScalarQuantizationType.
@@ -67,6 +74,7 @@ public class ScalarQuantizationParams implements QuantizationParams {
         out.writeVInt(sqType.getId());
         out.writeBoolean(enableRandomRotation);
         out.writeBoolean(enableADC);
+        out.writeVInt(randomRotationType.getId());
     }
 
     /**
@@ -87,6 +95,11 @@ public class ScalarQuantizationParams implements QuantizationParams {
             this.enableRandomRotation = QFrameBitEncoder.DEFAULT_ENABLE_RANDOM_ROTATION;
             this.enableADC = QFrameBitEncoder.DEFAULT_ENABLE_ADC;
         }
+        if (Version.fromId(version).onOrAfter(Version.V_3_9_0)) {
+            this.randomRotationType = RandomRotationType.fromId(in.readVInt());
+        } else {
+            this.randomRotationType = RandomRotationType.GAUSSIAN;
+        }
     }
 
     /**
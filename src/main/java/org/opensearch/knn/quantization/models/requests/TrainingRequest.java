@@ -8,6 +8,7 @@ package org.opensearch.knn.quantization.models.requests;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.opensearch.knn.index.engine.faiss.QFrameBitEncoder;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 
 import java.io.IOException;
 
@@ -24,6 +25,7 @@ public abstract class TrainingRequest<T> {
      */
     private final int totalNumberOfVectors;
     private final boolean isEnableRandomRotation;
+    private final RandomRotationType randomRotationType;
 
     /**
      * Constructor with only totalNumberOfVectors parameter.
@@ -35,6 +37,16 @@ public abstract class TrainingRequest<T> {
         this(totalNumberOfVectors, QFrameBitEncoder.DEFAULT_ENABLE_RANDOM_ROTATION);
     }
 
+    /**
+     * Constructor with the default Gaussian random rotation.
+     *
+     * @param totalNumberOfVectors the total number of vectors in one segment
+     * @param isEnableRandomRotation whether vectors are randomly rotated before quantization
+     */
+    public TrainingRequest(int totalNumberOfVectors, boolean isEnableRandomRotation) {
+        this(totalNumberOfVectors, isEnableRandomRotation, RandomRotationType.GAUSSIAN);
+    }
+
     /**
      * Returns the vector corresponding to the specified document ID.
      *
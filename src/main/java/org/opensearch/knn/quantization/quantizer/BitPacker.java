@@ -139,4 +139,72 @@ class BitPacker {
     void quantizeAndPackBits(final float[] vector, final float[] thresholds, byte[] packedBits) {
         quantizeAndPackBits(vector, new float[][] { thresholds }, 1, packedBits);
     }
+
+    /**
+     * Quantizes the vector starting at <code>vectorOffset</code> of a block of vectors laid out one after the other, and
+     * packs the bits starting at <code>packedOffset</code> of a block of packed vectors. The bits are laid out exactly as
+     * with {@link #quantizeAndPackBits(float[], float[][], int, byte[])}.
+     *
+     * <p>
+     * Instead of setting bits one at a time in the output, the comparison results are shifted into an accumulator and
+     * every output byte is written once, a whole byte of eight comparisons at a time when the bit position is byte
+     * aligned. The comparisons do not branch on their result, and since every byte of the packed vector is overwritten,
+     * the output does not need to be cleared between vectors.
+     * </p>
+     *
+     * @param vectors            block of floating-point vectors to quantize.
+     * @param vectorOffset       offset of the first coordinate of the vector to quantize in the block.
+     * @param dimension          number of coordinates of the vector.
+     * @param thresholds         quantization thresholds, one array of <code>dimension</code> thresholds per bit.
+     * @param bitsPerCoordinate  the number of bits used per coordinate.
+     * @param packedBits         block of packed vectors to write the quantized bits to.
+     * @param packedOffset       offset of the first byte of the packed vector in the block.
+     */
+    void quantizeAndPackBits(
+        final float[] vectors,
+        final int vectorOffset,
+        final int dimension,
+        final float[][] thresholds,
+        final int bitsPerCoordinate,
+        final byte[] packedBits,
+        final int packedOffset
+    ) {
+        int byteIndex = packedOffset;
+        int accumulator = 0;
+        int numAccumulatedBits = 0;
+        for (int i = 0; i < bitsPerCoordinate; i++) {
+            final float[] bitThresholds = thresholds[i];
+            int j = 0;
+            if (numAccumulatedBits == 0) {
+                for (; j + Byte.SIZE <= dimension; j += Byte.SIZE) {
+                    packedBits[byteIndex++] = packByte(vectors, vectorOffset + j, bitThresholds, j);
+                }
+            }
+            for (; j < dimension; j++) {
+                accumulator = (accumulator << 1) | compare(vectors[vectorOffset + j], bitThresholds[j]);
+                if (++numAccumulatedBits == Byte.SIZE) {
+                    packedBits[byteIndex++] = (byte) accumulator;
+                    accumulator = 0;
+                    numAccumulatedBits = 0;
+                }
+            }
+        }
+        if (numAccumulatedBits > 0) {
+            // Remaining bits go to the most significant positions of the last byte, the rest of it is set to 0
+            packedBits[byteIndex] = (byte) (accumulator << (Byte.SIZE - numAccumulatedBits));
+        }
+    }
+
+    private byte packByte(final float[] vectors, final int vectorOffset, final float[] thresholds, final int thresholdOffset) {
+        // Fixed trip count, so the loop is unrolled into eight comparisons
+        int packedByte = 0;
+        for (int k = 0; k < Byte.SIZE; k++) {
+            packedByte = (packedByte << 1) | compare(vectors[vectorOffset + k], thresholds[thresholdOffset + k]);
+        }
+        return (byte) packedByte;
+    }
+
+    private int compare(final float value, final float threshold) {
+        return value > threshold ? 1 : 0;
+    }
 }
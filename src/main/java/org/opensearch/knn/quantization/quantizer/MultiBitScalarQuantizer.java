@@ -137,14 +137,39 @@ public class MultiBitScalarQuantizer implements Quantizer<float[], byte[]> {
         if (thresholds == null || thresholds[0].length != vector.length) {
             throw new IllegalArgumentException("Thresholds must not be null and must match the dimension of the vector.");
         }
-        float[][] rotationMatrix = multiBitState.getRotationMatrix();
-        if (rotationMatrix != null) {
-            vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-        }
+        vector = QuantizerHelper.applyRandomRotation(vector, multiBitState.getRotationMatrix(), multiBitState.getQuantizationParams());
         output.prepareQuantizedVector(vectorLength);
         BitPacker.quantizeAndPackBits(vector, thresholds, bitsPerCoordinate, output.getQuantizedVector());
     }
 
+    /**
+     * Quantizes a block of vectors using the provided quantization state, see {@link #quantize}.
+     *
+     * @param vectors       the block of vectors to quantize, laid out one after the other.
+     * @param numVectors    the number of vectors at the start of the block to quantize.
+     * @param state         the quantization state containing threshold information.
+     * @param packedVectors the block the quantized vectors are written to, one after the other.
+     */
+    @Override
+    public void quantizeBatch(final float[] vectors, final int numVectors, final QuantizationState state, final byte[] packedVectors) {
+        validateState(state);
+        MultiBitScalarQuantizationState multiBitState = (MultiBitScalarQuantizationState) state;
+        float[][] thresholds = multiBitState.getThresholds();
+        if (thresholds == null || thresholds.length < bitsPerCoordinate) {
+            throw new IllegalArgumentException("Thresholds must not be null and must have a row per bit.");
+        }
+        QuantizerHelper.quantizeBatch(
+            vectors,
+            numVectors,
+            thresholds,
+            bitsPerCoordinate,
+            multiBitState.getRotationMatrix(),
+            multiBitState.getQuantizationParams(),
+            multiBitState.getBytesPerVector(),
+            packedVectors
+        );
+    }
+
     /**
      * Calculates the thresholds for quantization based on mean and standard deviation.
      *
@@ -105,14 +105,39 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
         if (thresholds == null || thresholds.length != vectorLength) {
             throw new IllegalArgumentException("Thresholds must not be null and must match the dimension of the vector.");
         }
-        float[][] rotationMatrix = binaryState.getRotationMatrix();
-        if (rotationMatrix != null) {
-            vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-        }
+        vector = QuantizerHelper.applyRandomRotation(vector, binaryState.getRotationMatrix(), binaryState.getQuantizationParams());
         output.prepareQuantizedVector(vectorLength);
         BitPacker.quantizeAndPackBits(vector, thresholds, output.getQuantizedVector());
     }
 
+    /**
+     * Quantizes a block of vectors using the given quantization state, see {@link #quantize}.
+     *
+     * @param vectors       the block of vectors to quantize, laid out one after the other.
+     * @param numVectors    the number of vectors at the start of the block to quantize.
+     * @param state         the quantization state containing the means for each dimension.
+     * @param packedVectors the block the quantized vectors are written to, one after the other.
+     */
+    @Override
+    public void quantizeBatch(final float[] vectors, final int numVectors, final QuantizationState state, final byte[] packedVectors) {
+        validateState(state);
+        OneBitScalarQuantizationState binaryState = (OneBitScalarQuantizationState) state;
+        float[] thresholds = binaryState.getMeanThresholds();
+        if (thresholds == null) {
+            throw new IllegalArgumentException("Thresholds must not be null.");
+        }
+        QuantizerHelper.quantizeBatch(
+            vectors,
+            numVectors,
+            new float[][] { thresholds },
+            1,
+            binaryState.getRotationMatrix(),
+            binaryState.getQuantizationParams(),
+            binaryState.getBytesPerVector(),
+            packedVectors
+        );
+    }
+
     /**
      * Transform vector with ADC. ADC allows us to score full-precision query vectors against binary document vectors.
      * The transformation formula is:
@@ -127,13 +152,11 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
         validateState(state);
         OneBitScalarQuantizationState binaryState = (OneBitScalarQuantizationState) state;
 
-        float[][] rotationMatrix = binaryState.getRotationMatrix();
-
-        float[] rotatedVector = vector.clone();
-
-        if (rotationMatrix != null) {
-            rotatedVector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-        }
+        float[] rotatedVector = QuantizerHelper.applyRandomRotation(
+            vector,
+            binaryState.getRotationMatrix(),
+            binaryState.getQuantizationParams()
+        );
 
         if (shouldDoADCCorrection(spaceType)) {
             transformVectorWithADCCorrection(rotatedVector, binaryState);
@@ -42,6 +42,18 @@ public interface Quantizer<T, R> {
      */
     void quantize(T vector, QuantizationState state, QuantizationOutput<R> output);
 
+    /**
+     * Quantizes a block of vectors laid out one after the other using the specified quantization state. The state is
+     * validated once for the whole block, and the quantized vectors are written one after the other to the output, each
+     * taking {@link QuantizationState#getBytesPerVector()} bytes.
+     *
+     * @param vectors       the block of vectors to quantize. It may be larger than the vectors to quantize.
+     * @param numVectors    the number of vectors at the start of the block to quantize.
+     * @param state         the quantization state containing parameters for quantization.
+     * @param packedVectors the block the quantized vectors are written to.
+     */
+    void quantizeBatch(T vectors, int numVectors, QuantizationState state, R packedVectors);
+
     /**
      * Transforms the provided vector based on the quantization state. In one bit scalar quantizer this uses ADC.
      * Otherwise it is a noop.
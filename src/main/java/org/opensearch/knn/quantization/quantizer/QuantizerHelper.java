@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
@@ -17,6 +18,9 @@ import lombok.experimental.UtilityClass;
 import oshi.util.tuples.Pair;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
 
 /**
  * Utility class for calculating quantization state information for both
@@ -48,7 +52,7 @@ class QuantizerHelper {
         );
 
         return OneBitScalarQuantizationState.builder()
-            .quantizationParams(quantizationParams)
+            .quantizationParams(withRandomRotationType(quantizationParams, quantizerHelperResult.getRandomRotationType()))
             .meanThresholds(quantizerHelperResult.getThresholds()[0])
             .rotationMatrix(quantizerHelperResult.getRotationMatrix())
             .belowThresholdMeans(quantizerHelperResult.getBelow())
@@ -75,12 +79,106 @@ class QuantizerHelper {
         QuantizerHelperResult quantizerHelperResult = calculateQuantizationStateHelper(trainingRequest, sampledIndices, bitsPerCoordinate);
 
         return MultiBitScalarQuantizationState.builder()
-            .quantizationParams(quantizationParams)
+            .quantizationParams(withRandomRotationType(quantizationParams, quantizerHelperResult.getRandomRotationType()))
             .thresholds(quantizerHelperResult.getThresholds())
             .rotationMatrix(quantizerHelperResult.getRotationMatrix())
             .build();
     }
 
+    /**
+     * Applies the random rotation a quantization state was trained with, if any. Gaussian rotation is applied with the
+     * rotation matrix of the state, Hadamard rotation is recorded only as the rotation type of the state's parameters.
+     *
+     * @param vector             Vector to rotate. It is not modified.
+     * @param rotationMatrix     Rotation matrix of the state, null unless Gaussian rotation is enabled.
+     * @param quantizationParams Scalar quantization parameters of the state.
+     * @return The rotated copy of the vector, or the vector itself if the state has no rotation.
+     */
+    static float[] applyRandomRotation(float[] vector, float[][] rotationMatrix, ScalarQuantizationParams quantizationParams) {
+        if (rotationMatrix != null) {
+            return RandomGaussianRotation.applyRotation(vector, rotationMatrix);
+        }
+        if (quantizationParams.getRandomRotationType() == RandomRotationType.HADAMARD) {
+            return RandomHadamardRotation.applyRotation(vector);
+        }
+        return vector;
+    }
+
+    /**
+     * Quantizes a block of vectors laid out one after the other and packs them one after the other, bytesPerVector bytes
+     * each. Vectors are only copied out of the block when they have to be rotated.
+     *
+     * @param vectors            Block of vectors to quantize.
+     * @param numVectors         Number of vectors at the start of the block to quantize.
+     * @param thresholds         Quantization thresholds of the state, one array per bit.
+     * @param bitsPerCoordinate  Number of bits per coordinate.
+     * @param rotationMatrix     Rotation matrix of the state, null unless Gaussian rotation is enabled.
+     * @param quantizationParams Scalar quantization parameters of the state.
+     * @param bytesPerVector     Number of bytes of a quantized vector.
+     * @param packedVectors      Block the quantized vectors are written to.
+     */
+    static void quantizeBatch(
+        float[] vectors,
+        int numVectors,
+        float[][] thresholds,
+        int bitsPerCoordinate,
+        float[][] rotationMatrix,
+        ScalarQuantizationParams quantizationParams,
+        int bytesPerVector,
+        byte[] packedVectors
+    ) {
+        if (vectors == null || packedVectors == null) {
+            throw new IllegalArgumentException("Vectors to quantize and packed vectors must not be null.");
+        }
+        final int dimension = thresholds[0].length;
+        if ((long) numVectors * dimension > vectors.length || (long) numVectors * bytesPerVector > packedVectors.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Cannot quantize %d vectors of dimension %d from %d floats into %d bytes.",
+                    numVectors,
+                    dimension,
+                    vectors.length,
+                    packedVectors.length
+                )
+            );
+        }
+        final boolean shouldRotate = rotationMatrix != null || quantizationParams.getRandomRotationType() == RandomRotationType.HADAMARD;
+        for (int i = 0; i < numVectors; i++) {
+            float[] vector = vectors;
+            int vectorOffset = i * dimension;
+            if (shouldRotate) {
+                vector = applyRandomRotation(
+                    Arrays.copyOfRange(vectors, vectorOffset, vectorOffset + dimension),
+                    rotationMatrix,
+                    quantizationParams
+                );
+                vectorOffset = 0;
+            }
+            final int packedOffset = i * bytesPerVector;
+            BitPacker.quantizeAndPackBits(vector, vectorOffset, dimension, thresholds, bitsPerCoordinate, packedVectors, packedOffset);
+        }
+    }
+
+    /**
+     * Records the rotation type the vectors were rotated with in the parameters of the quantization state, so that the
+     * same rotation is applied to indexed and query vectors.
+     */
+    private static ScalarQuantizationParams withRandomRotationType(
+        ScalarQuantizationParams quantizationParams,
+        RandomRotationType randomRotationType
+    ) {
+        if (randomRotationType == null || randomRotationType == quantizationParams.getRandomRotationType()) {
+            return quantizationParams;
+        }
+        return ScalarQuantizationParams.builder()
+            .sqType(quantizationParams.getSqType())
+            .enableRandomRotation(true)
+            .enableADC(quantizationParams.isEnableADC())
+            .randomRotationType(randomRotationType)
+            .build();
+    }
+
     /**
      * Validates that sampled indices are not null or empty.
      *
@@ -123,6 +221,9 @@ class QuantizerHelper {
 
         float[][] rotationMatrix;
 
+        // Rotation the vectors were rotated with, null if random rotation is disabled.
+        RandomRotationType randomRotationType;
+
         // below and above thresholds means are used for transforming vector for ADC in one bit paradigm.
         float[] below;
         float[] above;
@@ -137,14 +238,22 @@ class QuantizerHelper {
         int dim = trainingRequest.getVectorAtThePosition(sampledIndices[0]).length;
 
         float[][] rotationMatrix = null;
+        RandomRotationType randomRotationType = null;
+        UnaryOperator<float[]> rotation = UnaryOperator.identity();
         if (trainingRequest.isEnableRandomRotation()) {
-            rotationMatrix = RandomGaussianRotation.generateRotationMatrix(dim);
+            randomRotationType = trainingRequest.getRandomRotationType();
+            if (randomRotationType == RandomRotationType.HADAMARD) {
+                rotation = RandomHadamardRotation::applyRotation;
+            } else {
+                rotationMatrix = RandomGaussianRotation.generateRotationMatrix(dim);
+                rotation = gaussianRotation(rotationMatrix);
+            }
         }
 
         float[][] thresholds;
 
         // note: the vectors are rotated before the mean and stddev are calculated if random rotation is enabled.
-        Pair<float[], float[]> meanStd = calculateMeanAndStdDev(trainingRequest, sampledIndices, rotationMatrix);
+        Pair<float[], float[]> meanStd = calculateMeanAndStdDev(trainingRequest, sampledIndices, rotation);
 
         thresholds = calculateThresholds(meanStd.getA(), meanStd.getB(), bitsPerCoordinate);
 
@@ -156,21 +265,41 @@ class QuantizerHelper {
                 trainingRequest,
                 thresholds[0],
                 sampledIndices,
-                rotationMatrix
+                rotation
             );
             return QuantizerHelperResult.builder()
                 .thresholds(thresholds)
                 .rotationMatrix(rotationMatrix)
+                .randomRotationType(randomRotationType)
                 .below(belowAbove.getA())
                 .above(belowAbove.getB())
                 .build();
         }
 
-        return QuantizerHelperResult.builder().thresholds(thresholds).rotationMatrix(rotationMatrix).build();
+        return QuantizerHelperResult.builder()
+            .thresholds(thresholds)
+            .rotationMatrix(rotationMatrix)
+            .randomRotationType(randomRotationType)
+            .build();
     }
 
     public static Pair<float[], float[]> calculateMeanAndStdDev(TrainingRequest<float[]> request, int[] sampledIndices) throws IOException {
-        return calculateMeanAndStdDev(request, sampledIndices, null);
+        return calculateMeanAndStdDev(request, sampledIndices, UnaryOperator.identity());
+    }
+
+    public static Pair<float[], float[]> calculateMeanAndStdDev(
+        TrainingRequest<float[]> request,
+        int[] sampledIndices,
+        float[][] rotationMatrix
+    ) throws IOException {
+        return calculateMeanAndStdDev(request, sampledIndices, gaussianRotation(rotationMatrix));
+    }
+
+    private static UnaryOperator<float[]> gaussianRotation(float[][] rotationMatrix) {
+        if (rotationMatrix == null) {
+            return UnaryOperator.identity();
+        }
+        return vector -> RandomGaussianRotation.applyRotation(vector, rotationMatrix);
     }
 
     /**
@@ -178,13 +307,14 @@ class QuantizerHelper {
      *
      * @param request         Training request.
      * @param sampledIndices  Sampled vector indices.
+     * @param rotation        Rotation applied to every vector before the statistics are computed.
      * @return Pair of (means[], stdDevs[]).
      * @throws IOException if vector access fails.
      */
-    public static Pair<float[], float[]> calculateMeanAndStdDev(
+    static Pair<float[], float[]> calculateMeanAndStdDev(
         TrainingRequest<float[]> request,
         int[] sampledIndices,
-        float[][] rotationMatrix
+        UnaryOperator<float[]> rotation
     ) throws IOException {
         float[] mean = null;
         float[] m2 = null;
@@ -198,9 +328,7 @@ class QuantizerHelper {
                 throw new IllegalArgumentException("Vector at sampled index " + docId + " is null.");
             }
 
-            if (rotationMatrix != null) {
-                vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-            }
+            vector = rotation.apply(vector);
 
             if (mean == null) {
                 mean = new float[vector.length];
@@ -233,6 +361,15 @@ class QuantizerHelper {
         float[] thresholds,
         int[] sampledIndices,
         float[][] rotationMatrix
+    ) throws IOException {
+        return calculateBelowAboveThresholdMeans(request, thresholds, sampledIndices, gaussianRotation(rotationMatrix));
+    }
+
+    private static Pair<float[], float[]> calculateBelowAboveThresholdMeans(
+        TrainingRequest<float[]> request,
+        float[] thresholds,
+        int[] sampledIndices,
+        UnaryOperator<float[]> rotation
     ) throws IOException {
         int dim = thresholds.length;
         float[] below = new float[dim], above = new float[dim];
@@ -246,9 +383,7 @@ class QuantizerHelper {
             }
 
             // we may also need to rotate the vector here.
-            if (rotationMatrix != null) {
-                vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-            }
+            vector = rotation.apply(vector);
 
             for (int d = 0; d < dim; d++) {
                 if (vector[d] <= thresholds[d]) {
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import lombok.experimental.UtilityClass;
+
+import static org.opensearch.knn.common.KNNConstants.QUANTIZATION_RANDOM_ROTATION_DEFAULT_SEED;
+
+@UtilityClass
+public class RandomHadamardRotation {
+
+    // Number of sign flip + Hadamard transform rounds. Three rounds are enough for the rotated coordinates to behave like
+    // those of a dense random rotation.
+    private static final int NUM_ROUNDS = 3;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Applies a structured random rotation to a vector. Each round flips the sign of every coordinate with probability 1/2
+     * and then applies a normalized fast Walsh-Hadamard transform. As the transform needs a power of two length, it is
+     * applied to the largest power of two block at the start of the vector and, if the dimension is not a power of two,
+     * again to the same size block at its end, so every coordinate is mixed while the dimension is kept as is.
+     *
+     * Every step is orthonormal, so the rotation preserves distances like {@link RandomGaussianRotation}, but it takes
+     * O(d log d) instead of O(d^2) per vector and nothing needs to be stored: the signs are derived from
+     * QUANTIZATION_RANDOM_ROTATION_DEFAULT_SEED, so the same rotation is applied across indexing runs and at query time.
+     *
+     * @param vector The input vector to be rotated. The input vector is not modified.
+     * @return The copy of the original vector but rotated.
+     */
+    public float[] applyRotation(final float[] vector) {
+        final int dimensions = vector.length;
+        final float[] rotatedVector = vector.clone();
+        if (dimensions < 2) {
+            return rotatedVector;
+        }
+
+        final int blockSize = Integer.highestOneBit(dimensions);
+        final float scale = (float) (1 / Math.sqrt(blockSize));
+        long seed = QUANTIZATION_RANDOM_ROTATION_DEFAULT_SEED;
+        for (int round = 0; round < NUM_ROUNDS; round++) {
+            // Flip signs with one 64 bit random word per 64 coordinates
+            for (int i = 0; i < dimensions; i += Long.SIZE) {
+                seed += GOLDEN_GAMMA;
+                final long signs = mix(seed);
+                final int end = Math.min(Long.SIZE, dimensions - i);
+                for (int j = 0; j < end; j++) {
+                    if (((signs >>> j) & 1L) != 0) {
+                        rotatedVector[i + j] = -rotatedVector[i + j];
+                    }
+                }
+            }
+
+            fastWalshHadamardTransform(rotatedVector, 0, blockSize, scale);
+            if (blockSize < dimensions) {
+                fastWalshHadamardTransform(rotatedVector, dimensions - blockSize, blockSize, scale);
+            }
+        }
+        return rotatedVector;
+    }
+
+    /**
+     * In place normalized Walsh-Hadamard transform of vector[offset, offset + length), length being a power of two.
+     */
+    private void fastWalshHadamardTransform(final float[] vector, final int offset, final int length, final float scale) {
+        final int end = offset + length;
+        for (int half = 1; half < length; half <<= 1) {
+            for (int i = offset; i < end; i += half << 1) {
+                for (int j = i; j < i + half; j++) {
+                    final float a = vector[j];
+                    final float b = vector[j + half];
+                    vector[j] = a + b;
+                    vector[j + half] = a - b;
+                }
+            }
+        }
+        for (int i = offset; i < end; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    // SplitMix64 finalizer
+    private long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -8,6 +8,7 @@ package org.opensearch.knn.quantization.sampler;
 import lombok.NoArgsConstructor;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 
@@ -47,10 +48,23 @@ final class ReservoirSampler implements Sampler {
      */
     @Override
     public int[] sample(final int totalNumberOfVectors, final int sampleSize) {
+        return sample(totalNumberOfVectors, sampleSize, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Samples indices from the range [0, totalNumberOfVectors) using the given source of randomness.
+     *
+     * @param totalNumberOfVectors the total number of vectors to sample from.
+     * @param sampleSize           the number of indices to sample.
+     * @param random               source of randomness used for sampling.
+     * @return an array of sampled indices.
+     */
+    @Override
+    public int[] sample(final int totalNumberOfVectors, final int sampleSize, final Random random) {
         if (totalNumberOfVectors <= sampleSize) {
             return IntStream.range(0, totalNumberOfVectors).toArray();
         }
-        return reservoirSampleIndices(totalNumberOfVectors, sampleSize);
+        return reservoirSampleIndices(totalNumberOfVectors, sampleSize, random);
     }
 
     /**
@@ -64,9 +78,10 @@ final class ReservoirSampler implements Sampler {
      *
      * @param numVectors the total number of vectors.
      * @param sampleSize the number of indices to sample.
+     * @param random source of randomness used for sampling.
      * @return an array of sampled indices.
      */
-    private int[] reservoirSampleIndices(final int numVectors, final int sampleSize) {
+    private int[] reservoirSampleIndices(final int numVectors, final int sampleSize, final Random random) {
         int[] indices = new int[sampleSize];
 
         // Initialize the reservoir with the first sampleSize elements
@@ -76,7 +91,7 @@ final class ReservoirSampler implements Sampler {
 
         // Replace elements with gradually decreasing probability
         for (int i = sampleSize; i < numVectors; i++) {
-            int j = ThreadLocalRandom.current().nextInt(i + 1);
+            int j = random.nextInt(i + 1);
             if (j < sampleSize) {
                 indices[j] = i;
             }
@@ -5,6 +5,8 @@
 
 package org.opensearch.knn.quantization.sampler;
 
+import java.util.Random;
+
 /**
  * The Sampler interface defines the contract for sampling strategies
  * used in various quantization processes. Implementations of this
@@ -22,4 +24,15 @@ public interface Sampler {
      * @throws IllegalArgumentException if the sample size is greater than the total number of vectors.
      */
     int[] sample(int totalNumberOfVectors, int sampleSize);
+
+    /**
+     * Samples a subset of indices from the total number of vectors, drawing from the given source of randomness. Given
+     * a seeded source, the same indices are returned for the same arguments.
+     *
+     * @param totalNumberOfVectors the total number of vectors available.
+     * @param sampleSize the number of vectors to be sampled.
+     * @param random source of randomness used for sampling.
+     * @return an array of integers representing the indices of the sampled vectors.
+     */
+    int[] sample(int totalNumberOfVectors, int sampleSize, Random random);
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.search.extension;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.knn.search.processor.mmr.MMRVectorFetchSubPhase;
+import org.opensearch.search.SearchExtBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.opensearch.knn.common.KNNConstants.MMR_VECTOR_FETCH;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_FIELD_PATH;
+
+/**
+ * Search extension added to the search request by the MMR over sample processor to ask the shards to return the vectors
+ * of the hits with {@link MMRVectorFetchSubPhase}, so that MMR rerank does not need the vectors in the _source. The
+ * vector field path can be overridden per index for searches over indices that map the vector to different fields.
+ */
+@AllArgsConstructor
+@Getter
+public class MMRVectorFetchExtBuilder extends SearchExtBuilder {
+
+    public static final String NAME = MMR_VECTOR_FETCH;
+
+    // Path to the knn_vector field whose vectors are returned with the hits
+    public static final ParseField VECTOR_FIELD_PATH_FIELD = new ParseField(VECTOR_FIELD_PATH);
+    // Vector field path per index name, used instead of the default path for the shards of those indices
+    public static final ParseField INDEX_VECTOR_FIELD_PATHS_FIELD = new ParseField("index_vector_field_paths");
+
+    private final String vectorFieldPath;
+    private final Map<String, String> indexToVectorFieldPathMap;
+
+    public MMRVectorFetchExtBuilder(String vectorFieldPath) {
+        this(vectorFieldPath, Collections.emptyMap());
+    }
+
+    public MMRVectorFetchExtBuilder(StreamInput in) throws IOException {
+        vectorFieldPath = in.readString();
+        indexToVectorFieldPathMap = in.readMap(StreamInput::readString, StreamInput::readString);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(vectorFieldPath);
+        out.writeMap(indexToVectorFieldPathMap, StreamOutput::writeString, StreamOutput::writeString);
+    }
+
+    /**
+     * @param indexName name of the index of the shard the hits are fetched from.
+     * @return path to the vector field of the index, or the default path if it is not overridden for the index.
+     */
+    public String getVectorFieldPath(String indexName) {
+        final String indexVectorFieldPath = indexToVectorFieldPathMap.get(indexName);
+        return indexVectorFieldPath == null || indexVectorFieldPath.isBlank() ? vectorFieldPath : indexVectorFieldPath;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(NAME);
+        builder.field(VECTOR_FIELD_PATH_FIELD.getPreferredName(), vectorFieldPath);
+        if (indexToVectorFieldPathMap.isEmpty() == false) {
+            builder.field(INDEX_VECTOR_FIELD_PATHS_FIELD.getPreferredName(), indexToVectorFieldPathMap);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vectorFieldPath, indexToVectorFieldPathMap);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MMRVectorFetchExtBuilder other = (MMRVectorFetchExtBuilder) obj;
+        return Objects.equals(vectorFieldPath, other.vectorFieldPath)
+            && Objects.equals(indexToVectorFieldPathMap, other.indexToVectorFieldPathMap);
+    }
+
+    public static MMRVectorFetchExtBuilder parse(XContentParser parser) throws IOException {
+        XContentParser.Token token;
+        String currentFieldName = "";
+        String vectorFieldPath = null;
+        Map<String, String> indexToVectorFieldPathMap = Collections.emptyMap();
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token.isValue() && VECTOR_FIELD_PATH_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                vectorFieldPath = parser.text();
+            } else if (token == XContentParser.Token.START_OBJECT
+                && INDEX_VECTOR_FIELD_PATHS_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    indexToVectorFieldPathMap = parser.mapStrings();
+                } else {
+                throw new ParsingException(
+                    parser.getTokenLocation(),
+                    String.format(Locale.ROOT, "[%s] search extension does not support [%s]", NAME, currentFieldName)
+                );
+            }
+        }
+        if (vectorFieldPath == null || vectorFieldPath.isEmpty()) {
+            throw new ParsingException(
+                parser.getTokenLocation(),
+                String.format(Locale.ROOT, "[%s] search extension requires [%s]", NAME, VECTOR_FIELD_PATH_FIELD.getPreferredName())
+            );
+        }
+        return new MMRVectorFetchExtBuilder(vectorFieldPath, indexToVectorFieldPathMap);
+    }
+}
@@ -6,15 +6,19 @@
 package org.opensearch.knn.search.processor.mmr;
 
 import lombok.AllArgsConstructor;
+import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.util.KNNClusterUtil;
 import org.opensearch.knn.search.extension.MMRSearchExtBuilder;
+import org.opensearch.knn.search.extension.MMRVectorFetchExtBuilder;
+import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.fetch.StoredFieldsContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
@@ -24,6 +28,7 @@ import org.opensearch.search.pipeline.SystemGeneratedProcessor;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.client.Client;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -45,6 +50,8 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
     private static final int DEFAULT_QUERY_SIZE_INDICATOR = -1;
     private static final int DEFAULT_QUERY_SIZE = 10;
     private static final int DEFAULT_OVERSAMPLE_SCALE = 3;
+    // The vector fetch search extension and fetch sub phase are only known by nodes running this version or later
+    private static final Version MMR_VECTOR_FETCH_MIN_VERSION = Version.CURRENT;
     private final String tag;
     private final boolean ignoreFailure;
     private final Client client;
@@ -104,8 +111,11 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
             validateForRemoteIndices(mmrSearchExtBuilder, remoteIndices);
 
             int candidates = computeCandidatesAndSetRequestSize(mmrRerankContext, request, mmrSearchExtBuilder);
-            // ensure we have the vector in the _source so that the MMRRerankProcessor can use it for mmr rerank
-            preserveAndEnableFullSource(request, mmrRerankContext);
+            mmrRerankContext.setVectorFetchEnabled(shouldFetchVectors(mmrRerankContext, remoteIndices));
+            if (mmrRerankContext.isVectorFetchEnabled() == false) {
+                // ensure we have the vector in the _source so that the MMRRerankProcessor can use it for mmr rerank
+                preserveAndEnableFullSource(request, mmrRerankContext);
+            }
 
             OriginalIndices localIndicesSearchRequest = new OriginalIndices(localIndices.toArray(String[]::new), request.indicesOptions());
             List<IndexMetadata> localIndexMetadataList = getLocalIndexMetadata(localIndicesSearchRequest);
@@ -244,6 +254,29 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
         return candidates;
     }
 
+    /**
+     * Vectors are read from the segments by {@link MMRVectorFetchSubPhase} instead of the _source if it is enabled and
+     * all the target indices are local. Explain info is injected into the _source, so it still needs the full _source.
+     */
+    private boolean shouldFetchVectors(MMRRerankContext mmrContext, List<String> remoteIndices) {
+        return KNNSettings.isMMRVectorFetchEnabled()
+            && remoteIndices.isEmpty()
+            && Boolean.TRUE.equals(mmrContext.getExplain()) == false
+            && KNNClusterUtil.instance().getClusterMinVersion().onOrAfter(MMR_VECTOR_FETCH_MIN_VERSION);
+    }
+
+    private void addVectorFetchExtension(SearchRequest request, MMRRerankContext mmrContext) {
+        List<SearchExtBuilder> searchExtBuilders = new ArrayList<>(request.source().ext());
+        Map<String, String> indexToVectorFieldPathMap = mmrContext.getIndexToVectorFieldPathMap();
+        searchExtBuilders.add(
+            new MMRVectorFetchExtBuilder(
+                mmrContext.getVectorFieldPath(),
+                indexToVectorFieldPathMap == null ? Collections.emptyMap() : indexToVectorFieldPathMap
+            )
+        );
+        request.source().ext(searchExtBuilders);
+    }
+
     private void preserveAndEnableFullSource(SearchRequest request, MMRRerankContext mmrContext) {
         FetchSourceContext currentSourceContext = request.source().fetchSource();
         StoredFieldsContext storedFieldsContext = request.source().storedFields();
@@ -340,7 +373,11 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
         transformer.transform(queryBuilder, new ActionListener<>() {
             @Override
             public void onResponse(Void unused) {
-                requestContext.setAttribute(MMR_RERANK_CONTEXT, mmrTransformationContext.getMmrRerankContext());
+                MMRRerankContext mmrRerankContext = mmrTransformationContext.getMmrRerankContext();
+                if (mmrRerankContext.isVectorFetchEnabled()) {
+                    addVectorFetchExtension(request, mmrRerankContext);
+                }
+                requestContext.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
                 requestListener.onResponse(request);
             }
 
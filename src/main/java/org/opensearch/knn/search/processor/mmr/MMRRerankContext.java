@@ -30,4 +30,7 @@ public class MMRRerankContext {
     private Map<String, String> indexToVectorFieldPathMap;
     // Flag to enable MMR explain info in the response
     private Boolean explain;
+    // Whether the vectors are returned by the MMRVectorFetchSubPhase instead of read from the _source. It is decided once
+    // per request so that the request either keeps the full _source or carries the vector fetch extension.
+    private boolean vectorFetchEnabled;
 }
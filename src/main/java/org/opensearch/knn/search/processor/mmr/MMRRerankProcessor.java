@@ -7,10 +7,10 @@ package org.opensearch.knn.search.processor.mmr;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.knn.index.KNNVectorSimilarityFunction;
@@ -27,17 +27,16 @@ import org.opensearch.search.profile.SearchProfileShardResults;
 import java.io.IOException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static org.opensearch.knn.common.KNNConstants.MMR_EXPLAIN;
 import static org.opensearch.knn.common.KNNConstants.MMR_RERANK_CONTEXT;
+import static org.opensearch.knn.common.KNNConstants.MMR_VECTOR;
 import static org.opensearch.knn.search.processor.mmr.MMRUtil.extractVectorFromHit;
 import static org.opensearch.knn.search.processor.mmr.MMRUtil.shouldGenerateMMRProcessor;
 
@@ -75,11 +74,12 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
         final float diversity = mmrContext.getDiversity();
         final boolean isFloatVector = VectorDataType.FLOAT.equals(mmrContext.getVectorDataType());
 
-        final List<SearchHit> candidates = new ArrayList<>(List.of(searchResponse.getHits().getHits()));
-        final Map<String, Object> docVectors = extractVectors(
+        final List<SearchHit> candidates = List.of(searchResponse.getHits().getHits());
+        final Object[] docVectors = extractVectors(
             candidates,
             mmrContext.getVectorFieldPath(),
             mmrContext.getIndexToVectorFieldPathMap(),
+            mmrContext.isVectorFetchEnabled(),
             isFloatVector
         );
 
@@ -172,15 +172,17 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
         return ctx;
     }
 
-    private Map<String, Object> extractVectors(
+    private Object[] extractVectors(
         List<SearchHit> hits,
         String defaultVectorFieldPath,
         Map<String, String> indexToVectorFieldPathMap,
+        boolean vectorFetchEnabled,
         boolean isFloatVector
     ) {
-        Map<String, Object> vectors = new ConcurrentHashMap<>();
+        final Object[] vectors = new Object[hits.size()];
 
-        for (SearchHit hit : hits) {
+        for (int i = 0; i < vectors.length; i++) {
+            final SearchHit hit = hits.get(i);
             String vectorPath = defaultVectorFieldPath;
 
             if (indexToVectorFieldPathMap != null) {
@@ -190,82 +192,126 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
                 }
             }
 
-            Object embedding = extractVectorFromHit(hit.getSourceAsMap(), vectorPath, hit.getId(), isFloatVector);
-            vectors.put(hit.getId(), embedding);
+            if (vectorFetchEnabled) {
+                // The full _source is not requested when the vectors are fetched, so it cannot be a fallback
+                vectors[i] = extractFetchedVector(hit, vectorPath, isFloatVector);
+            } else {
+                vectors[i] = extractVectorFromHit(hit.getSourceAsMap(), vectorPath, hit.getId(), isFloatVector);
+            }
         }
 
         return vectors;
     }
 
+    private Object extractFetchedVector(SearchHit hit, String vectorPath, boolean isFloatVector) {
+        final DocumentField fetchedVector = hit.field(MMR_VECTOR);
+        if (fetchedVector == null || fetchedVector.getValue() instanceof byte[] == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Failed to extract the vector from the doc [%s] for MMR rerank: no vector was fetched from the field [%s].",
+                    hit.getId(),
+                    vectorPath
+                )
+            );
+        }
+        hit.removeDocumentField(MMR_VECTOR);
+        return MMRVectorFetchSubPhase.fromBytes(fetchedVector.getValue(), isFloatVector);
+    }
+
+    /**
+     * Greedily selects the hits with the best MMR score. Candidates are addressed by their index in the candidate list,
+     * and the max similarity of every candidate to the selected hits is kept in an array that is only updated against
+     * the newly selected hit after each round, so every pair of vectors is compared at most once.
+     */
     private List<SearchHit> selectHitsWithMMR(
         List<SearchHit> candidates,
-        Map<String, Object> docVectors,
+        Object[] docVectors,
         KNNVectorSimilarityFunction similarityFunction,
         float diversity,
         int targetSize,
         boolean isFloatVector,
         Map<String, MMRExplainInfo> explainInfoMap
     ) {
-        List<SearchHit> selected = new ArrayList<>();
-        Map<String, Float> simCache = new HashMap<>();
+        final int numCandidates = candidates.size();
+        final List<SearchHit> selected = new ArrayList<>(Math.min(targetSize, numCandidates));
         final boolean collectExplain = explainInfoMap != null;
 
-        while (selected.size() < targetSize && !candidates.isEmpty()) {
+        final float[] relevance = new float[numCandidates];
+        for (int i = 0; i < numCandidates; i++) {
+            relevance[i] = (1 - diversity) * candidates.get(i).getScore();
+        }
+        final float[] maxSimToSelected = new float[numCandidates];
+        final boolean[] isSelected = new boolean[numCandidates];
 
-            Pair<SearchHit, Double> bestCandidate = null;
+        while (selected.size() < targetSize) {
+            int bestCandidate = -1;
             double bestScore = Double.NEGATIVE_INFINITY;
-            float bestMaxSimToSelected = 0.0f;
-
-            for (SearchHit candidate : candidates) {
-                String candidateId = candidate.getId();
-                float maxSimToSelected = 0.0f;
-
-                for (SearchHit sel : selected) {
-                    String selId = sel.getId();
-                    String key = cacheKey(candidateId, selId);
-                    String symKey = cacheKey(selId, candidateId);
-
-                    float sim = simCache.computeIfAbsent(key, k -> {
-                        if (isFloatVector) {
-                            return similarityFunction.compare((float[]) docVectors.get(candidateId), (float[]) docVectors.get(selId));
-                        } else {
-                            return similarityFunction.compare((byte[]) docVectors.get(candidateId), (byte[]) docVectors.get(selId));
-                        }
-                    });
-
-                    simCache.putIfAbsent(symKey, sim);
-                    maxSimToSelected = Math.max(maxSimToSelected, sim);
-                }
 
-                double score = (1 - diversity) * candidate.getScore() - diversity * maxSimToSelected;
+            for (int i = 0; i < numCandidates; i++) {
+                if (isSelected[i]) {
+                    continue;
+                }
+                double score = relevance[i] - diversity * maxSimToSelected[i];
                 if (score > bestScore) {
                     bestScore = score;
-                    bestMaxSimToSelected = maxSimToSelected;
-                    bestCandidate = Pair.of(candidate, score);
+                    bestCandidate = i;
                 }
             }
 
-            if (bestCandidate != null) {
-                SearchHit bestHit = bestCandidate.getLeft();
-
-                if (collectExplain) {
-                    MMRExplainInfo explainInfo = MMRExplainInfo.builder()
-                        .originalScore(bestHit.getScore())
-                        .maxSimilarityToSelected(bestMaxSimToSelected)
-                        .mmrScore(bestCandidate.getRight())
-                        .diversity(diversity)
-                        .build();
-                    explainInfoMap.put(bestHit.getId(), explainInfo);
-                }
+            if (bestCandidate == -1) {
+                break;
+            }
 
-                selected.add(bestHit);
-                candidates.remove(bestHit);
+            final SearchHit bestHit = candidates.get(bestCandidate);
+            if (collectExplain) {
+                MMRExplainInfo explainInfo = MMRExplainInfo.builder()
+                    .originalScore(bestHit.getScore())
+                    .maxSimilarityToSelected(maxSimToSelected[bestCandidate])
+                    .mmrScore(bestScore)
+                    .diversity(diversity)
+                    .build();
+                explainInfoMap.put(bestHit.getId(), explainInfo);
+            }
+
+            selected.add(bestHit);
+            isSelected[bestCandidate] = true;
+
+            if (selected.size() < targetSize) {
+                updateMaxSimToSelected(docVectors, bestCandidate, similarityFunction, isFloatVector, isSelected, maxSimToSelected);
             }
         }
 
         return selected;
     }
 
+    private void updateMaxSimToSelected(
+        Object[] docVectors,
+        int selectedCandidate,
+        KNNVectorSimilarityFunction similarityFunction,
+        boolean isFloatVector,
+        boolean[] isSelected,
+        float[] maxSimToSelected
+    ) {
+        if (isFloatVector) {
+            final float[] selectedVector = (float[]) docVectors[selectedCandidate];
+            for (int i = 0; i < docVectors.length; i++) {
+                if (isSelected[i] == false) {
+                    float sim = similarityFunction.compare((float[]) docVectors[i], selectedVector);
+                    maxSimToSelected[i] = Math.max(maxSimToSelected[i], sim);
+                }
+            }
+        } else {
+            final byte[] selectedVector = (byte[]) docVectors[selectedCandidate];
+            for (int i = 0; i < docVectors.length; i++) {
+                if (isSelected[i] == false) {
+                    float sim = similarityFunction.compare((byte[]) docVectors[i], selectedVector);
+                    maxSimToSelected[i] = Math.max(maxSimToSelected[i], sim);
+                }
+            }
+        }
+    }
+
     /**
      * Injects MMR explain info into each selected hit's _source as an "mmr_explain" field.
      */
@@ -307,10 +353,6 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
         }
     }
 
-    private String cacheKey(String id1, String id2) {
-        return String.join(":", id1, id2);
-    }
-
     // This processor will be executed pre the user defined search request processor if there is any. Since
     // we oversample before so it is better to execute this processor to rerank and reduce the response to the
     // original query size before executing other user defined search response processors.
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.search.processor.mmr;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.search.extension.MMRVectorFetchExtBuilder;
+import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.search.fetch.FetchContext;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.opensearch.knn.common.KNNConstants.MMR_VECTOR;
+
+/**
+ * Fetch sub phase that returns the vector of every hit as a binary document field, read from the vector values of the
+ * segment. It is only active when the search request carries a {@link MMRVectorFetchExtBuilder}, which the MMR over
+ * sample processor adds so that {@link MMRRerankProcessor} does not have to load and parse the _source of the hits.
+ * <p>
+ * The vector field is resolved per index from the extension. Float vectors are encoded as little endian floats and byte
+ * vectors as they are. Hits without a vector for the field are left as they are, and the rerank processor rejects them
+ * as it would a hit without the vector in its _source.
+ */
+public class MMRVectorFetchSubPhase implements FetchSubPhase {
+
+    @Override
+    public FetchSubPhaseProcessor getProcessor(FetchContext fetchContext) {
+        final SearchExtBuilder searchExtBuilder = fetchContext.getSearchExt(MMRVectorFetchExtBuilder.NAME);
+        if (searchExtBuilder == null) {
+            return null;
+        }
+        final String vectorFieldPath = ((MMRVectorFetchExtBuilder) searchExtBuilder).getVectorFieldPath(fetchContext.getIndexName());
+        final MappedFieldType fieldType = fetchContext.mapperService().fieldType(vectorFieldPath);
+        if (fieldType instanceof KNNVectorFieldType == false) {
+            return null;
+        }
+        return new VectorFetchProcessor(vectorFieldPath);
+    }
+
+    private static class VectorFetchProcessor implements FetchSubPhaseProcessor {
+        private final String vectorFieldPath;
+        private LeafReaderContext leafReaderContext;
+        private KNNVectorValues<?> vectorValues;
+
+        private VectorFetchProcessor(String vectorFieldPath) {
+            this.vectorFieldPath = vectorFieldPath;
+        }
+
+        @Override
+        public void setNextReader(LeafReaderContext readerContext) throws IOException {
+            this.leafReaderContext = readerContext;
+            this.vectorValues = getVectorValues();
+        }
+
+        @Override
+        public void process(HitContext hitContext) throws IOException {
+            if (vectorValues == null) {
+                return;
+            }
+            final int docId = hitContext.docId();
+            // Hits are fetched in doc id order within a segment, the iterator is only recreated if that is not the case
+            if (vectorValues.docId() > docId) {
+                vectorValues = getVectorValues();
+            }
+            if (vectorValues.advance(docId) != docId) {
+                return;
+            }
+            hitContext.hit().setDocumentField(MMR_VECTOR, new DocumentField(MMR_VECTOR, List.of(toBytes(vectorValues.getVector()))));
+        }
+
+        private KNNVectorValues<?> getVectorValues() throws IOException {
+            final FieldInfo fieldInfo = leafReaderContext.reader().getFieldInfos().fieldInfo(vectorFieldPath);
+            if (fieldInfo == null) {
+                return null;
+            }
+            return KNNVectorValuesFactory.getVectorValues(fieldInfo, Lucene.segmentReader(leafReaderContext.reader()));
+        }
+    }
+
+    /**
+     * Encodes a vector read from the vector values of a segment into the bytes returned with the hit.
+     */
+    static byte[] toBytes(Object vector) {
+        if (vector instanceof byte[]) {
+            return ((byte[]) vector).clone();
+        }
+        final float[] floatVector = (float[]) vector;
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(Float.BYTES * floatVector.length).order(ByteOrder.LITTLE_ENDIAN);
+        byteBuffer.asFloatBuffer().put(floatVector);
+        return byteBuffer.array();
+    }
+
+    /**
+     * Decodes the bytes returned with a hit by this sub phase.
+     *
+     * @param bytes encoded vector
+     * @param isFloatVector true if the field holds float vectors
+     * @return float[] or byte[] vector
+     */
+    static Object fromBytes(byte[] bytes, boolean isFloatVector) {
+        if (isFloatVector == false) {
+            return bytes;
+        }
+        final float[] floatVector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(floatVector);
+        return floatVector;
+    }
+}
@@ -60,7 +60,7 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
             trainingDataAllocation.setMemoryAddress(
                 JNICommons.storeVectorData(
                     trainingDataAllocation.getMemoryAddress(),
-                    floats.stream().map(v -> ArrayUtils.toPrimitive((Float[]) v)).toArray(float[][]::new),
+                    floats.stream().map(FloatTrainingDataConsumer::toPrimitive).toArray(float[][]::new),
                     floats.size()
                 )
             );
@@ -98,7 +98,7 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         TrainingRequest<float[]> trainingRequest = new TrainingRequest<float[]>(vectors.size()) {
             @Override
             public float[] getVectorAtThePosition(int position) {
-                return ArrayUtils.toPrimitive((Float[]) vectors.get(position));
+                return toPrimitive(vectors.get(position));
             }
 
             @Override
@@ -111,13 +111,18 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         QuantizationState quantizationState = quantizer.train(trainingRequest);
         BinaryQuantizationOutput binaryQuantizationOutput = new BinaryQuantizationOutput(quantizationConfig.getQuantizationType().getId());
         for (int i = 0; i < vectors.size(); i++) {
-            quantizer.quantize(ArrayUtils.toPrimitive((Float[]) vectors.get(i)), quantizationState, binaryQuantizationOutput);
+            quantizer.quantize(toPrimitive(vectors.get(i)), quantizationState, binaryQuantizationOutput);
             bytes.add(binaryQuantizationOutput.getQuantizedVectorCopy());
         }
 
         return bytes;
     }
 
+    // Vectors read from search hits are boxed, while vectors sampled from the shards are already primitive
+    private static float[] toPrimitive(Object vector) {
+        return vector instanceof float[] ? (float[]) vector : ArrayUtils.toPrimitive((Float[]) vector);
+    }
+
     private boolean isValidFloatsAndQuantizationConfig(List<?> floats) {
         return floats != null && floats.isEmpty() == false && quantizationConfig != null && quantizationConfig != QuantizationConfig.EMPTY;
     }
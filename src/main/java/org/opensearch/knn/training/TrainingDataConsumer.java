@@ -15,8 +15,11 @@ import lombok.Getter;
 import lombok.Setter;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleResponse;
 import org.opensearch.search.SearchHit;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +47,30 @@ public abstract class TrainingDataConsumer {
 
     public abstract void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName);
 
+    /**
+     * Adds a chunk of vectors sampled from a shard of the training index.
+     *
+     * @param response chunk of vectors, packed in a float array for float fields or a byte array otherwise
+     */
+    public void processSampledVectors(TrainingDataSampleResponse response) {
+        final int numVectors = response.getNumVectors();
+        final int vectorLength = response.getVectorLength();
+        final float[] floatVectors = response.getFloatVectors();
+        final byte[] byteVectors = response.getByteVectors();
+        final List<Object> vectors = new ArrayList<>(numVectors);
+        for (int start = 0; start < numVectors * vectorLength; start += vectorLength) {
+            if (floatVectors.length > 0) {
+                vectors.add(Arrays.copyOfRange(floatVectors, start, start + vectorLength));
+            } else {
+                vectors.add(Arrays.copyOfRange(byteVectors, start, start + vectorLength));
+            }
+        }
+
+        setTotalVectorsCountAdded(getTotalVectorsCountAdded() + numVectors);
+
+        accept(vectors);
+    }
+
     /**
      * Traverses the hit to the desired field and extracts its value.
      *
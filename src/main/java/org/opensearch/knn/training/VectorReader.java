@@ -20,10 +20,15 @@ import org.opensearch.action.search.SearchScrollRequestBuilder;
 import org.opensearch.transport.client.Client;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.ValidationException;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.knn.index.util.IndexUtil;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleRequest;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleResponse;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.sort.SortOrder;
 
@@ -67,7 +72,69 @@ public class VectorReader {
         TrainingDataConsumer vectorConsumer,
         ActionListener<SearchResponse> listener
     ) {
+        validate(clusterService, indexName, fieldName, maxVectorCount, searchSize);
 
+        // Start reading vectors from index
+        SearchScrollRequestBuilder searchScrollRequestBuilder = createSearchScrollRequestBuilder();
+
+        ActionListener<SearchResponse> vectorReaderListener = new VectorReaderListener(
+            client,
+            fieldName,
+            maxVectorCount,
+            0,
+            listener,
+            vectorConsumer,
+            searchScrollRequestBuilder
+        );
+
+        createSearchRequestBuilder(indexName, fieldName, Integer.min(maxVectorCount, searchSize)).execute(vectorReaderListener);
+    }
+
+    /**
+     * Sample vectors from a provided index/field on the nodes holding its shards and pass them to vectorConsumer. Each
+     * shard samples its share of the vectors from its vector values and returns them in chunks of packed vectors, which
+     * are passed to vectorConsumer one at a time. Shards are read one after another, and vectors a shard cannot
+     * provide are sampled from the following shards.
+     *
+     * @param clusterService cluster service to get information about the index
+     * @param indexName name of index containing vectors
+     * @param fieldName name of field containing vectors
+     * @param maxVectorCount maximum number of vectors to return
+     * @param searchSize maximum number of vectors to return in a given chunk
+     * @param vectorConsumer consumer used to do something with the collected vectors after each chunk
+     * @param listener ActionListener that should be called once all chunks have been consumed
+     */
+    public void sample(
+        ClusterService clusterService,
+        String indexName,
+        String fieldName,
+        int maxVectorCount,
+        int searchSize,
+        TrainingDataConsumer vectorConsumer,
+        ActionListener<Void> listener
+    ) {
+        IndexMetadata indexMetadata = validate(clusterService, indexName, fieldName, maxVectorCount, searchSize);
+
+        new ShardSampleListener(
+            client,
+            indexName,
+            fieldName,
+            indexMetadata.getNumberOfShards(),
+            maxVectorCount,
+            searchSize,
+            Randomness.get().nextLong(),
+            vectorConsumer,
+            listener
+        ).sampleShard(0);
+    }
+
+    private IndexMetadata validate(
+        ClusterService clusterService,
+        String indexName,
+        String fieldName,
+        int maxVectorCount,
+        int searchSize
+    ) {
         ValidationException validationException = null;
 
         // Validate arguments
@@ -97,21 +164,7 @@ public class VectorReader {
         if (validationException != null) {
             throw validationException;
         }
-
-        // Start reading vectors from index
-        SearchScrollRequestBuilder searchScrollRequestBuilder = createSearchScrollRequestBuilder();
-
-        ActionListener<SearchResponse> vectorReaderListener = new VectorReaderListener(
-            client,
-            fieldName,
-            maxVectorCount,
-            0,
-            listener,
-            vectorConsumer,
-            searchScrollRequestBuilder
-        );
-
-        createSearchRequestBuilder(indexName, fieldName, Integer.min(maxVectorCount, searchSize)).execute(vectorReaderListener);
+        return indexMetadata;
     }
 
     private SearchRequestBuilder createSearchRequestBuilder(String indexName, String fieldName, int resultSize) {
@@ -135,6 +188,109 @@ public class VectorReader {
         return searchScrollRequestBuilder;
     }
 
+    private static class ShardSampleListener implements ActionListener<TrainingDataSampleResponse> {
+
+        final Client client;
+        final String indexName;
+        final String fieldName;
+        final int numberOfShards;
+        final int maxVectorCount;
+        final int chunkSize;
+        final long seed;
+        final TrainingDataConsumer vectorConsumer;
+        final ActionListener<Void> listener;
+        int shardId;
+        String sampleId;
+        int shardSampleSize;
+        int from;
+
+        /**
+         * Constructor
+         *
+         * @param indexName name of index to sample vectors from
+         * @param fieldName name of field to sample vectors from
+         * @param numberOfShards number of shards of the index
+         * @param maxVectorCount maximum total number of vectors that should be sampled
+         * @param chunkSize maximum number of vectors returned by a single sample request
+         * @param seed seed of the samplers of the shards
+         * @param vectorConsumer Consumer used to do something with the vectors
+         * @param listener listener to be called when all shards have been sampled
+         */
+        ShardSampleListener(
+            Client client,
+            String indexName,
+            String fieldName,
+            int numberOfShards,
+            int maxVectorCount,
+            int chunkSize,
+            long seed,
+            TrainingDataConsumer vectorConsumer,
+            ActionListener<Void> listener
+        ) {
+            this.client = client;
+            this.indexName = indexName;
+            this.fieldName = fieldName;
+            this.numberOfShards = numberOfShards;
+            this.maxVectorCount = maxVectorCount;
+            this.chunkSize = chunkSize;
+            this.seed = seed;
+            this.vectorConsumer = vectorConsumer;
+            this.listener = listener;
+        }
+
+        void sampleShard(int shardId) {
+            // Split the vectors still missing evenly between the remaining shards
+            int remainingVectors = maxVectorCount - vectorConsumer.getTotalVectorsCountAdded();
+            this.shardId = shardId;
+            this.sampleId = UUIDs.randomBase64UUID();
+            this.shardSampleSize = (remainingVectors + numberOfShards - shardId - 1) / (numberOfShards - shardId);
+            this.from = 0;
+            sampleNextChunk();
+        }
+
+        private void sampleNextChunk() {
+            TrainingDataSampleRequest request = new TrainingDataSampleRequest(
+                indexName,
+                shardId,
+                sampleId,
+                fieldName,
+                shardSampleSize,
+                seed + shardId,
+                from,
+                Integer.min(chunkSize, shardSampleSize - from)
+            );
+            client.execute(TrainingDataSampleAction.INSTANCE, request, this);
+        }
+
+        @Override
+        public void onResponse(TrainingDataSampleResponse response) {
+            if (response.getNumVectors() > 0) {
+                try {
+                    vectorConsumer.processSampledVectors(response);
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                    return;
+                }
+                from += response.getNumVectors();
+            }
+
+            if (vectorConsumer.getTotalVectorsCountAdded() >= maxVectorCount) {
+                listener.onResponse(null);
+            } else if (response.getNumVectors() > 0 && from < response.getSampleSize()) {
+                sampleNextChunk();
+            } else if (shardId + 1 < numberOfShards) {
+                sampleShard(shardId + 1);
+            } else {
+                listener.onResponse(null);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
     private static class VectorReaderListener<T> implements ActionListener<SearchResponse> {
 
         final Client client;
@@ -51,6 +51,20 @@ public class KNN10010DerivedSourceStoredFieldsReaderTests extends KNNTestCase {
         assertArrayEquals(includes, KNN10010DerivedSourceStoredFieldsReader.resolveIncludes(visitor));
     }
 
+    public void testIsBinaryInjectionAllowed() {
+        // Reading the whole _source, like operations are read from Lucene for peer recovery
+        assertTrue(KNN10010DerivedSourceStoredFieldsReader.isBinaryInjectionAllowed(new FieldsVisitor(true)));
+
+        String[] none = new String[0];
+        String[] patterns = { "vec" };
+        assertFalse(KNN10010DerivedSourceStoredFieldsReader.isBinaryInjectionAllowed(new FieldsVisitor(true, patterns, none, none)));
+        assertFalse(KNN10010DerivedSourceStoredFieldsReader.isBinaryInjectionAllowed(new FieldsVisitor(true, none, patterns, none)));
+        assertFalse(KNN10010DerivedSourceStoredFieldsReader.isBinaryInjectionAllowed(new FieldsVisitor(true, none, none, patterns)));
+        assertFalse(KNN10010DerivedSourceStoredFieldsReader.isBinaryInjectionAllowed(new FieldsVisitor(true) {
+        }));
+        assertFalse(KNN10010DerivedSourceStoredFieldsReader.isBinaryInjectionAllowed(mock(StoredFieldVisitor.class)));
+    }
+
     public void testResolveIncludesAndExcludes_nonFieldsVisitor_returnsNull() {
         // A visitor that is not a FieldsVisitor carries no include/exclude context — inject everything.
         StoredFieldVisitor visitor = new StoredFieldVisitor() {
@@ -21,6 +21,7 @@ import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
@@ -32,7 +33,6 @@ import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 import org.opensearch.knn.plugin.stats.KNNGraphValue;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
-import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -44,6 +44,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.carrotsearch.randomizedtesting.RandomizedTest.$;
@@ -61,7 +62,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @RequiredArgsConstructor
-public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCase {
+public class NativeEngines990KnnVectorsWriterFlushTests extends KNNTestCase {
 
     @Mock
     private FlatVectorsWriter flatVectorsWriter;
@@ -179,7 +180,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -219,7 +224,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -268,7 +273,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(quantizationParams);
@@ -324,7 +333,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -378,7 +387,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSupplier.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -453,7 +466,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -528,7 +545,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -612,7 +633,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -699,7 +724,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(quantizationParams);
@@ -751,7 +780,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -809,7 +838,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(quantizationParams);
@@ -861,7 +894,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -883,9 +916,13 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
         DocsWithFieldSet docsWithFieldSet = new DocsWithFieldSet();
         vectors.keySet().stream().sorted().forEach(docsWithFieldSet::add);
         when(fieldVectorsWriter.getFieldInfo()).thenReturn(fieldInfo);
-        when(fieldVectorsWriter.getVectors()).thenReturn(vectors);
+        when(fieldVectorsWriter.getVectors()).thenReturn(vectorList(vectors));
         when(fieldVectorsWriter.getFlatFieldVectorsWriter()).thenReturn(flatFieldVectorsWriter);
         when(flatFieldVectorsWriter.getDocsWithFieldSet()).thenReturn(docsWithFieldSet);
         return fieldVectorsWriter;
     }
+
+    private static <T> List<T> vectorList(Map<Integer, T> vectors) {
+        return vectors.keySet().stream().sorted().map(vectors::get).collect(Collectors.toList());
+    }
 }
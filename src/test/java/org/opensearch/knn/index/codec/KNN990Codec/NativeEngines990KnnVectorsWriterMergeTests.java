@@ -24,6 +24,7 @@ import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
@@ -35,7 +36,6 @@ import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 import org.opensearch.knn.plugin.stats.KNNGraphValue;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
-import org.opensearch.test.OpenSearchTestCase;
 
 import java.lang.reflect.Field;
 import java.util.function.Supplier;
@@ -44,7 +44,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.carrotsearch.randomizedtesting.RandomizedTest.$;
 import static com.carrotsearch.randomizedtesting.RandomizedTest.$$;
@@ -61,7 +63,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @RequiredArgsConstructor
-public class NativeEngines990KnnVectorsWriterMergeTests extends OpenSearchTestCase {
+public class NativeEngines990KnnVectorsWriterMergeTests extends KNNTestCase {
 
     @Mock
     private FlatVectorsWriter flatVectorsWriter;
@@ -171,16 +173,17 @@ public class NativeEngines990KnnVectorsWriterMergeTests extends OpenSearchTestCa
             doAnswer(answer -> {
                 Thread.sleep(2); // Need this for KNNGraph value assertion, removing this will fail the assertion
                 return null;
-            }).when(nativeIndexWriter).mergeIndex(any(), anyInt());
+            }).when(nativeIndexWriter).mergeIndex(any(), anyInt(), any());
 
             // When
             objectUnderTest.mergeOneField(fieldInfo, mergeState);
+            objectUnderTest.finish();
 
             // Then
             verify(flatVectorsWriter).mergeOneField(fieldInfo, mergeState);
             assertEquals(0, knn990QuantWriterMockedConstruction.constructed().size());
             if (!mergedVectors.isEmpty()) {
-                verify(nativeIndexWriter).mergeIndex(knnVectorValuesSupplier, mergedVectors.size());
+                verify(nativeIndexWriter).mergeIndex(knnVectorValuesSupplier, mergedVectors.size(), mergeState);
                 assertTrue(KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.getValue() > 0L);
                 knnVectorValuesFactoryMockedStatic.verify(
                     () -> KNNVectorValuesFactory.getKNNVectorValuesSupplierForMerge(VectorDataType.FLOAT, fieldInfo, mergeState),
@@ -242,10 +245,11 @@ public class NativeEngines990KnnVectorsWriterMergeTests extends OpenSearchTestCa
             doAnswer(answer -> {
                 Thread.sleep(2); // Need this for KNNGraph value assertion, removing this will fail the assertion
                 return null;
-            }).when(nativeIndexWriter).mergeIndex(any(), anyInt());
+            }).when(nativeIndexWriter).mergeIndex(any(), anyInt(), any());
 
             // When
             nativeEngineWriter.mergeOneField(fieldInfo, mergeState);
+            nativeEngineWriter.finish();
 
             // Then
             verify(flatVectorsWriter).mergeOneField(fieldInfo, mergeState);
@@ -304,16 +308,17 @@ public class NativeEngines990KnnVectorsWriterMergeTests extends OpenSearchTestCa
             doAnswer(answer -> {
                 Thread.sleep(2); // Need this for KNNGraph value assertion, removing this will fail the assertion
                 return null;
-            }).when(nativeIndexWriter).mergeIndex(any(), anyInt());
+            }).when(nativeIndexWriter).mergeIndex(any(), anyInt(), any());
 
             // When
             nativeEngineWriter.mergeOneField(fieldInfo, mergeState);
+            nativeEngineWriter.finish();
 
             // Then
             verify(flatVectorsWriter).mergeOneField(fieldInfo, mergeState);
             assertEquals(0, knn990QuantWriterMockedConstruction.constructed().size());
             if (!mergedVectors.isEmpty()) {
-                verify(nativeIndexWriter).mergeIndex(knnVectorValuesSupplier, mergedVectors.size());
+                verify(nativeIndexWriter).mergeIndex(knnVectorValuesSupplier, mergedVectors.size(), mergeState);
             } else {
                 verifyNoInteractions(nativeIndexWriter);
             }
@@ -376,17 +381,18 @@ public class NativeEngines990KnnVectorsWriterMergeTests extends OpenSearchTestCa
             doAnswer(answer -> {
                 Thread.sleep(2); // Need this for KNNGraph value assertion, removing this will fail the assertion
                 return null;
-            }).when(nativeIndexWriter).mergeIndex(any(), anyInt());
+            }).when(nativeIndexWriter).mergeIndex(any(), anyInt(), any());
 
             // When
             objectUnderTest.mergeOneField(fieldInfo, mergeState);
+            objectUnderTest.finish();
 
             // Then
             verify(flatVectorsWriter).mergeOneField(fieldInfo, mergeState);
             if (!mergedVectors.isEmpty()) {
                 verify(knn990QuantWriterMockedConstruction.constructed().get(0)).writeHeader(segmentWriteState);
                 verify(knn990QuantWriterMockedConstruction.constructed().get(0)).writeState(0, quantizationState);
-                verify(nativeIndexWriter).mergeIndex(knnVectorValuesSupplier, mergedVectors.size());
+                verify(nativeIndexWriter).mergeIndex(knnVectorValuesSupplier, mergedVectors.size(), mergeState);
                 assertTrue(KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.getValue() > 0L);
                 knnVectorValuesFactoryMockedStatic.verify(
                     () -> KNNVectorValuesFactory.getKNNVectorValuesSupplierForMerge(VectorDataType.FLOAT, fieldInfo, mergeState),
@@ -414,9 +420,13 @@ public class NativeEngines990KnnVectorsWriterMergeTests extends OpenSearchTestCa
         DocsWithFieldSet docsWithFieldSet = new DocsWithFieldSet();
         vectors.keySet().stream().sorted().forEach(docsWithFieldSet::add);
         when(fieldVectorsWriter.getFieldInfo()).thenReturn(fieldInfo);
-        when(fieldVectorsWriter.getVectors()).thenReturn(vectors);
+        when(fieldVectorsWriter.getVectors()).thenReturn(vectorList(vectors));
         when(fieldVectorsWriter.getFlatFieldVectorsWriter()).thenReturn(flatFieldVectorsWriter);
         when(flatFieldVectorsWriter.getDocsWithFieldSet()).thenReturn(docsWithFieldSet);
         return fieldVectorsWriter;
     }
+
+    private static <T> List<T> vectorList(Map<Integer, T> vectors) {
+        return vectors.keySet().stream().sorted().map(vectors::get).collect(Collectors.toList());
+    }
 }
@@ -11,9 +11,16 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -129,6 +136,60 @@ public class DerivedSourceVectorTransformerTests extends OpenSearchTestCase {
         assertArrayEquals(rawSource, transformedSource);
     }
 
+    public void testInjectVectors_whenJsonSource_thenVectorsInjectedInPlace() throws Exception {
+        Map<String, PerFieldDerivedVectorTransformer> perFieldTransformers = Map.of(
+            "vec",
+            new FixedVectorsTransformer(new float[] { 1f, 2f }),
+            "obj.inner",
+            new FixedVectorsTransformer(new float[] { 3f, 4f }),
+            "nested.v",
+            new FixedVectorsTransformer(new float[] { 5f }, new float[] { 6f })
+        );
+        DerivedSourceVectorTransformer transformer = createTransformer(perFieldTransformers);
+        transformer.initialize(null, null);
+        String source = "{\"title\":\"doc\",\"vec\":1,\"obj\":{\"inner\":1,\"other\":[1,2]},"
+            + "\"nested\":[{\"v\":1,\"x\":\"a\"},{\"v\":1}],\"missing\":null}";
+
+        byte[] transformedSource = transformer.injectVectors(0, source.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(
+            "{\"title\":\"doc\",\"vec\":[1.0,2.0],\"obj\":{\"inner\":[3.0,4.0],\"other\":[1,2]},"
+                + "\"nested\":[{\"v\":[5.0],\"x\":\"a\"},{\"v\":[6.0]}],\"missing\":null}",
+            new String(transformedSource, StandardCharsets.UTF_8)
+        );
+    }
+
+    public void testInjectVectors_whenFieldExcluded_thenPlaceholderCopied() throws Exception {
+        DerivedSourceVectorTransformer transformer = createTransformer(
+            Map.of("vec", new FixedVectorsTransformer(new float[] { 1f }), "other", new FixedVectorsTransformer(new float[] { 2f }))
+        );
+        transformer.initialize(null, new String[] { "other" });
+        String source = "{\"vec\":1,\"other\":1}";
+
+        byte[] transformedSource = transformer.injectVectors(0, source.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("{\"vec\":[1.0],\"other\":1}", new String(transformedSource, StandardCharsets.UTF_8));
+    }
+
+    public void testInjectVectors_whenBinary_thenSmileSource() throws Exception {
+        DerivedSourceVectorTransformer transformer = createTransformer(
+            Map.of("vec", new FixedVectorsTransformer(new float[] { 1.5f, 2f }))
+        );
+        transformer.initialize(null, null);
+        String source = "{\"title\":\"doc\",\"vec\":1}";
+
+        byte[] transformedSource = transformer.injectVectors(0, source.getBytes(StandardCharsets.UTF_8), true);
+
+        Tuple<? extends MediaType, Map<String, Object>> sourceTuple = XContentHelper.convertToMap(
+            new BytesArray(transformedSource),
+            true,
+            MediaTypeRegistry.getDefaultMediaType()
+        );
+        assertEquals(XContentType.SMILE, sourceTuple.v1());
+        assertEquals("doc", sourceTuple.v2().get("title"));
+        assertEquals(List.of(1.5f, 2f), sourceTuple.v2().get("vec"));
+    }
+
     private void assertFieldFiltering(String[] includes, String[] excludes, String[] expectedPresent, String[] expectedAbsent) {
         DerivedSourceVectorTransformer transformer = createTransformerWithFields(ALL_FIELDS);
         transformer.initialize(includes, excludes);
@@ -194,6 +255,29 @@ public class DerivedSourceVectorTransformerTests extends OpenSearchTestCase {
         }
     }
 
+    private DerivedSourceVectorTransformer createTransformer(Map<String, PerFieldDerivedVectorTransformer> perFieldTransformers) {
+        try (
+            MockedStatic<PerFieldDerivedVectorTransformerFactory> factoryMock = Mockito.mockStatic(
+                PerFieldDerivedVectorTransformerFactory.class
+            )
+        ) {
+            List<DerivedFieldInfo> fieldInfos = new ArrayList<>();
+            for (Map.Entry<String, PerFieldDerivedVectorTransformer> entry : perFieldTransformers.entrySet()) {
+                DerivedFieldInfo derivedFieldInfo = createMockDerivedFieldInfo(entry.getKey());
+                FieldInfo fieldInfo = derivedFieldInfo.fieldInfo();
+                factoryMock.when(
+                    () -> PerFieldDerivedVectorTransformerFactory.create(
+                        Mockito.eq(fieldInfo),
+                        Mockito.anyBoolean(),
+                        Mockito.any(DerivedSourceReaders.class)
+                    )
+                ).thenReturn(entry.getValue());
+                fieldInfos.add(derivedFieldInfo);
+            }
+            return new DerivedSourceVectorTransformer(mockDerivedSourceReaders, mockSegmentReadState, fieldInfos);
+        }
+    }
+
     private DerivedFieldInfo createMockDerivedFieldInfo(String name) {
         DerivedFieldInfo mockFieldInfo = Mockito.mock(DerivedFieldInfo.class);
         Mockito.when(mockFieldInfo.name()).thenReturn(name);
@@ -214,4 +298,26 @@ public class DerivedSourceVectorTransformerTests extends OpenSearchTestCase {
             throw new RuntimeException("Failed to access perFieldDerivedVectorTransformers", e);
         }
     }
+
+    /**
+     * Returns the given vectors one after another, like the transformer of a nested field does for each nested doc.
+     */
+    private static class FixedVectorsTransformer implements PerFieldDerivedVectorTransformer {
+        private final float[][] vectors;
+        private int next;
+
+        private FixedVectorsTransformer(float[]... vectors) {
+            this.vectors = vectors;
+        }
+
+        @Override
+        public void setCurrentDoc(int offset, int docId) {
+            next = 0;
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return object == null ? null : vectors[next++];
+        }
+    }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.InfoStream;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.store.IndexOutputWithBuffer;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.index.vectorvalues.TestVectorValues;
+import org.opensearch.knn.jni.JNIService;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSWIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissHNSWCagraIndex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+
+public class IncrementalMergeNativeIndexBuildStrategyTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "test-field";
+    private static final Map<String, Object> INDEX_PARAMETERS = Map.of(INDEX_DESCRIPTION_PARAMETER, "HNSW16,Flat");
+
+    @SneakyThrows
+    public void testBuildAndWriteIndex_whenLargestSegmentReusable_thenInsertsOnlyOtherSegments() {
+        // Given, a merge of a segment with docs 0-2 and a segment with doc 3
+        final IndexInput indexInput = createIndexInput(FaissHNSWIndex.IHNF);
+        final MergeState mergeState = createMergeState(
+            new KnnVectorsReader[] { mockReader(3, indexInput), mockReader(1, mock(IndexInput.class)) },
+            new Bits[2]
+        );
+        final KNNVectorValues<float[]> knnVectorValues = createMergedVectorValues();
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.loadIndexForMerge(any(), eq(new int[] { 0, 1, 2 }), eq(KNNEngine.FAISS)))
+                .thenReturn(100L);
+
+            final OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 1))
+                .thenReturn(offHeapVectorTransfer);
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(true);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            final IndexOutputWithBuffer indexOutputWithBuffer = mock(IndexOutputWithBuffer.class);
+            final BuildIndexParams buildIndexParams = createBuildIndexParams(knnVectorValues, indexOutputWithBuffer, mergeState);
+
+            // When
+            IncrementalMergeNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then
+            mockedJNIService.verify(() -> JNIService.initIndex(anyLong(), anyInt(), any(), any()), never());
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(eq(new int[] { 3 }), eq(200L), eq(2), eq(INDEX_PARAMETERS), eq(100L), eq(KNNEngine.FAISS))
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(indexOutputWithBuffer, 100L, KNNEngine.FAISS, INDEX_PARAMETERS, false)
+            );
+            mockedJNIService.verify(() -> JNIService.free(anyLong(), any()), never());
+            verify(indexInput).close();
+            verify(offHeapVectorTransfer).close();
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWriteIndex_whenInsertFails_thenIndexFreed() {
+        final MergeState mergeState = createMergeState(
+            new KnnVectorsReader[] { mockReader(3, createIndexInput(FaissHNSWIndex.IHNF)), mockReader(1, mock(IndexInput.class)) },
+            new Bits[2]
+        );
+        final KNNVectorValues<float[]> knnVectorValues = createMergedVectorValues();
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.loadIndexForMerge(any(), any(), eq(KNNEngine.FAISS))).thenReturn(100L);
+            mockedJNIService.when(() -> JNIService.insertToIndex(any(), anyLong(), anyInt(), any(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("insert failed"));
+
+            final OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 1))
+                .thenReturn(offHeapVectorTransfer);
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(true);
+
+            final BuildIndexParams buildIndexParams = createBuildIndexParams(
+                knnVectorValues,
+                mock(IndexOutputWithBuffer.class),
+                mergeState
+            );
+
+            final RuntimeException exception = expectThrows(
+                RuntimeException.class,
+                () -> IncrementalMergeNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams)
+            );
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+            mockedJNIService.verify(() -> JNIService.writeIndex(any(), anyLong(), any(), any(), anyBoolean()), never());
+            mockedJNIService.verify(() -> JNIService.free(100L, KNNEngine.FAISS));
+        }
+    }
+
+    @SneakyThrows
+    public void testFindReusableSegment_whenLargestSegmentHasDeletions_thenNull() {
+        final MergeState mergeState = createMergeState(
+            new KnnVectorsReader[] { mockReader(3, mock(IndexInput.class)), mockReader(1, mock(IndexInput.class)) },
+            new Bits[] { new Bits.MatchNoBits(3), null }
+        );
+
+        assertNull(
+            IncrementalMergeNativeIndexBuildStrategy.findReusableSegment(
+                createBuildIndexParams(createMergedVectorValues(), mock(IndexOutputWithBuffer.class), mergeState)
+            )
+        );
+    }
+
+    @SneakyThrows
+    public void testFindReusableSegment_whenFlushOrNotHnswFlat_thenNull() {
+        assertNull(
+            IncrementalMergeNativeIndexBuildStrategy.findReusableSegment(
+                createBuildIndexParams(createMergedVectorValues(), mock(IndexOutputWithBuffer.class), null)
+            )
+        );
+
+        final MergeState mergeState = createMergeState(
+            new KnnVectorsReader[] { mockReader(3, mock(IndexInput.class)), mockReader(1, mock(IndexInput.class)) },
+            new Bits[2]
+        );
+        final BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+            .field(FIELD_NAME)
+            .knnEngine(KNNEngine.FAISS)
+            .vectorDataType(VectorDataType.FLOAT)
+            .indexParameters(Map.of(INDEX_DESCRIPTION_PARAMETER, "HNSW16,SQfp16"))
+            .totalLiveDocs(4)
+            .mergeState(mergeState)
+            .build();
+        assertNull(IncrementalMergeNativeIndexBuildStrategy.findReusableSegment(buildIndexParams));
+    }
+
+    @SneakyThrows
+    public void testFindReusableSegment_whenStoredIndexNotHnswFlat_thenNullAndInputClosed() {
+        // The mapping describes an HNSW flat index, but the graph was built remotely and stored as CAGRA converted HNSW
+        final IndexInput indexInput = createIndexInput(FaissHNSWCagraIndex.IHNC);
+        final MergeState mergeState = createMergeState(
+            new KnnVectorsReader[] { mockReader(3, indexInput), mockReader(1, mock(IndexInput.class)) },
+            new Bits[2]
+        );
+
+        assertNull(
+            IncrementalMergeNativeIndexBuildStrategy.findReusableSegment(
+                createBuildIndexParams(createMergedVectorValues(), mock(IndexOutputWithBuffer.class), mergeState)
+            )
+        );
+        verify(indexInput).close();
+    }
+
+    @SneakyThrows
+    public void testIsHnswFlatIndex() {
+        final IndexInput hnswFlatInput = createIndexInput(FaissHNSWIndex.IHNF);
+        assertTrue(IncrementalMergeNativeIndexBuildStrategy.isHnswFlatIndex(hnswFlatInput));
+        // The input is left at its start for the index to be loaded from it
+        assertEquals(0, hnswFlatInput.getFilePointer());
+
+        assertFalse(IncrementalMergeNativeIndexBuildStrategy.isHnswFlatIndex(createIndexInput(FaissHNSWIndex.IHNS)));
+        assertFalse(IncrementalMergeNativeIndexBuildStrategy.isHnswFlatIndex(createIndexInput(FaissHNSWCagraIndex.IHNC)));
+    }
+
+    /**
+     * Creates the start of a Faiss index file: the header of an id map followed by the type of its nested index.
+     */
+    @SneakyThrows
+    private static IndexInput createIndexInput(final String nestedIndexType) {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        output.writeBytes(FaissIdMapIndex.IXMP.getBytes(StandardCharsets.UTF_8), 4);
+        output.writeInt(2);
+        output.writeLong(3);
+        output.writeLong(0);
+        output.writeLong(0);
+        output.writeByte((byte) 1);
+        output.writeInt(1);
+        output.writeBytes(nestedIndexType.getBytes(StandardCharsets.UTF_8), 4);
+        return spy(new ByteBuffersIndexInput(output.toDataInput(), "test"));
+    }
+
+    private static KNNVectorValues<float[]> createMergedVectorValues() {
+        final List<float[]> vectors = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 }, new float[] { 4, 5 });
+        return KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, new TestVectorValues.PreDefinedFloatVectorValues(vectors));
+    }
+
+    private static BuildIndexParams createBuildIndexParams(
+        final KNNVectorValues<float[]> knnVectorValues,
+        final IndexOutputWithBuffer indexOutputWithBuffer,
+        final MergeState mergeState
+    ) {
+        return BuildIndexParams.builder()
+            .field(FIELD_NAME)
+            .indexOutputWithBuffer(indexOutputWithBuffer)
+            .knnEngine(KNNEngine.FAISS)
+            .vectorDataType(VectorDataType.FLOAT)
+            .indexParameters(INDEX_PARAMETERS)
+            .knnVectorValuesSupplier(() -> knnVectorValues)
+            .totalLiveDocs(4)
+            .mergeState(mergeState)
+            .build();
+    }
+
+    @SneakyThrows
+    private static AbstractNativeEnginesKnnVectorsReader mockReader(final int numVectors, final IndexInput indexInput) {
+        final AbstractNativeEnginesKnnVectorsReader reader = mock(AbstractNativeEnginesKnnVectorsReader.class);
+        final FloatVectorValues floatVectorValues = mock(FloatVectorValues.class);
+        when(floatVectorValues.size()).thenReturn(numVectors);
+        when(reader.getFloatVectorValues(FIELD_NAME)).thenReturn(floatVectorValues);
+        when(reader.openNativeIndexInput(FIELD_NAME)).thenReturn(indexInput);
+        return reader;
+    }
+
+    private static MergeState createMergeState(final KnnVectorsReader[] readers, final Bits[] liveDocs) {
+        final MergeState.DocMap[] docMaps = new MergeState.DocMap[readers.length];
+        final int[] maxDocs = new int[readers.length];
+        int docBase = 0;
+        for (int i = 0; i < readers.length; i++) {
+            final int base = docBase;
+            docMaps[i] = docID -> base + docID;
+            maxDocs[i] = i == 0 ? 3 : 1;
+            docBase += maxDocs[i];
+        }
+        final SegmentInfo segmentInfo = mock(SegmentInfo.class);
+        when(segmentInfo.maxDoc()).thenReturn(docBase);
+
+        return new MergeState(
+            docMaps,
+            segmentInfo,
+            new FieldInfos(new FieldInfo[0]),
+            null,
+            null,
+            null,
+            null,
+            new FieldInfos[readers.length],
+            liveDocs,
+            null,
+            null,
+            readers,
+            maxDocs,
+            InfoStream.NO_OUTPUT,
+            Runnable::run,
+            false,
+            null
+        );
+    }
+}
@@ -7,8 +7,13 @@ package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.SneakyThrows;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
@@ -22,18 +27,52 @@ import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
-import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_TRANSFER_THREAD_POOL;
+
+public class MemOptimizedNativeIndexBuildStrategyTests extends KNNTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(
+            getTestName(),
+            new FixedExecutorBuilder(Settings.EMPTY, VECTOR_TRANSFER_THREAD_POOL, 1, -1, KNN_THREAD_POOL_PREFIX, false)
+        );
+        MemOptimizedNativeIndexBuildStrategy.setThreadPool(threadPool);
+    }
 
-public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCase {
+    @Override
+    public void tearDown() throws Exception {
+        MemOptimizedNativeIndexBuildStrategy.setThreadPool(null);
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        super.tearDown();
+    }
 
     @SneakyThrows
     public void testBuildAndWrite() {
@@ -168,21 +207,22 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
             mockedQuantizationIntegration.when(QuantizationService::getInstance).thenReturn(quantizationService);
 
             QuantizationState quantizationState = mock(QuantizationState.class);
-            ArgumentCaptor<float[]> vectorCaptor = ArgumentCaptor.forClass(float[].class);
             // New: Create QuantizationOutput and mock the quantization process
             QuantizationOutput<byte[]> quantizationOutput = mock(QuantizationOutput.class);
-            when(quantizationOutput.getQuantizedVectorCopy()).thenReturn(new byte[] { 1, 2 });
             when(quantizationService.createQuantizationOutput(eq(quantizationState.getQuantizationParams()))).thenReturn(
                 quantizationOutput
             );
 
-            // Quantize the vector with the quantization output
-            when(quantizationService.quantize(eq(quantizationState), vectorCaptor.capture(), eq(quantizationOutput))).thenAnswer(
-                invocation -> {
-                    quantizationOutput.getQuantizedVectorCopy();
-                    return quantizationOutput.getQuantizedVectorCopy();
+            // Quantize the vectors a batch at a time, each into bytes of its first coordinate
+            doAnswer(invocation -> {
+                float[] vectors = invocation.getArgument(1);
+                int numVectors = invocation.getArgument(2);
+                byte[] packedVectors = invocation.getArgument(3);
+                for (int i = 0; i < numVectors; i++) {
+                    Arrays.fill(packedVectors, i * 8, (i + 1) * 8, (byte) vectors[i * 2]);
                 }
-            );
+                return null;
+            }).when(quantizationService).quantizeBatch(eq(quantizationState), any(float[].class), anyInt(), any(byte[].class));
             when(quantizationState.getDimensions()).thenReturn(2);
             when(quantizationState.getBytesPerVector()).thenReturn(8);
 
@@ -256,6 +296,394 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
                 // Assert that the vector is in byte[] format due to quantization
                 assertTrue(vector instanceof byte[]);
             }
+            // All three vectors are quantized in a single batch
+            verify(quantizationService, times(1)).quantizeBatch(eq(quantizationState), any(float[].class), eq(3), any(byte[].class));
+            verify(quantizationService, never()).quantize(any(), any(), any());
+            for (int i = 0; i < 3; i++) {
+                byte[] expected = new byte[8];
+                Arrays.fill(expected, (byte) (i + 1));
+                assertArrayEquals(expected, (byte[]) vectorTransferCapture.getAllValues().get(i));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelineEnabled_thenInsertFromAlternatingBuffers() {
+        // Given
+        List<float[]> vectorValues = List.of(
+            new float[] { 1, 2 },
+            new float[] { 2, 3 },
+            new float[] { 3, 4 },
+            new float[] { 4, 5 },
+            new float[] { 5, 6 }
+        );
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class, Mockito.CALLS_REAL_METHODS)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isVectorStreamingPipelineEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(5, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+
+            // Limits transfer to 2 vectors per buffer
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(firstVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(false).thenReturn(true).thenReturn(false);
+            when(firstVectorTransfer.flush(false)).thenReturn(true);
+            when(firstVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(secondVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(false).thenReturn(true);
+            when(secondVectorTransfer.getVectorAddress()).thenReturn(300L);
+
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 5))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then
+            InOrder inOrder = Mockito.inOrder(JNIService.class);
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 0, 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 2, 3 }),
+                    eq(300L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 4 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.writeIndex(
+                    eq(indexOutputWithBuffer),
+                    eq(100L),
+                    eq(KNNEngine.FAISS),
+                    eq(Map.of("index", "param")),
+                    eq(false)
+                )
+            );
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelineEnabledAndTransferRejected_thenInsertFromCallingThread() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        // Every vector_transfer thread is busy and the queue is full
+        final ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        when(rejectingExecutor.submit(any(Callable.class))).thenThrow(new OpenSearchRejectedExecutionException("rejected"));
+        final ThreadPool rejectingThreadPool = mock(ThreadPool.class);
+        when(rejectingThreadPool.executor(VECTOR_TRANSFER_THREAD_POOL)).thenReturn(rejectingExecutor);
+        MemOptimizedNativeIndexBuildStrategy.setThreadPool(rejectingThreadPool);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class, Mockito.CALLS_REAL_METHODS)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isVectorStreamingPipelineEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(3, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(firstVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(false).thenReturn(true).thenReturn(false);
+            when(firstVectorTransfer.flush(false)).thenReturn(true);
+            when(firstVectorTransfer.getVectorAddress()).thenReturn(200L);
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(2);
+
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 3))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then
+            InOrder inOrder = Mockito.inOrder(JNIService.class);
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 0, 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 2 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.writeIndex(
+                    eq(indexOutputWithBuffer),
+                    eq(100L),
+                    eq(KNNEngine.FAISS),
+                    eq(Map.of("index", "param")),
+                    eq(false)
+                )
+            );
+            verify(secondVectorTransfer, never()).transfer(any(), anyBoolean());
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenGraphReorderEnabled_thenReorderBeforeWrite() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class, Mockito.CALLS_REAL_METHODS)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isGraphReorderEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(2, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(offHeapVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(false).thenReturn(true);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 2))
+                .thenReturn(offHeapVectorTransfer);
+
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then
+            InOrder inOrder = Mockito.inOrder(JNIService.class);
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 0, 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            inOrder.verify(mockedJNIService, () -> JNIService.reorderIndex(100L, KNNEngine.FAISS, Map.of("index", "param")));
+            inOrder.verify(
+                mockedJNIService,
+                () -> JNIService.writeIndex(
+                    eq(indexOutputWithBuffer),
+                    eq(100L),
+                    eq(KNNEngine.FAISS),
+                    eq(Map.of("index", "param")),
+                    eq(false)
+                )
+            );
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelineEnabledAndInsertFails_thenThrowAndReleaseBuffers() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class, Mockito.CALLS_REAL_METHODS)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isVectorStreamingPipelineEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(3, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+            mockedJNIService.when(() -> JNIService.insertToIndex(any(), anyLong(), anyInt(), any(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("Insert failed"));
+
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(firstVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(true);
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(secondVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(true);
+
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 3))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(Mockito.mock(IndexOutputWithBuffer.class))
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            RuntimeException exception = expectThrows(
+                RuntimeException.class,
+                () -> MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams)
+            );
+
+            // Then
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+            mockedJNIService.verify(() -> JNIService.writeIndex(any(), anyLong(), any(), any(), anyBoolean()), never());
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelineEnabledAndInsertAndTransferFail_thenTransferFailureSuppressed() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+        // Makes sure the producer has failed before the insert fails
+        final CountDownLatch transferFailed = new CountDownLatch(1);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class, Mockito.CALLS_REAL_METHODS)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isVectorStreamingPipelineEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(3, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+            mockedJNIService.when(() -> JNIService.insertToIndex(any(), anyLong(), anyInt(), any(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    transferFailed.await();
+                    throw new IllegalStateException("Insert failed");
+                });
+
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(firstVectorTransfer.transfer(any(float[].class), eq(false))).thenReturn(true);
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(secondVectorTransfer.transfer(any(float[].class), eq(false))).thenAnswer(invocation -> {
+                transferFailed.countDown();
+                throw new IllegalStateException("Transfer failed");
+            });
+
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 3))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(Mockito.mock(IndexOutputWithBuffer.class))
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            RuntimeException exception = expectThrows(
+                RuntimeException.class,
+                () -> MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams)
+            );
+
+            // Then
+            assertEquals("Insert failed", exception.getCause().getMessage());
+            assertEquals(1, exception.getCause().getSuppressed().length);
+            assertEquals("Transfer failed", exception.getCause().getSuppressed()[0].getMessage());
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
         }
     }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class NativeIndexBuildSchedulerTests extends KNNTestCase {
+
+    @SneakyThrows
+    public void testRunAll_whenSchedulerDisabled_thenBuildOnCallingThread() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(1);
+        try {
+            final List<Thread> buildThreads = Collections.synchronizedList(new ArrayList<>());
+            scheduler.runAll(
+                NativeIndexBuildScheduler.BuildType.FLUSH,
+                List.of(
+                    new NativeIndexBuildScheduler.Build(10, () -> buildThreads.add(Thread.currentThread())),
+                    new NativeIndexBuildScheduler.Build(20, () -> buildThreads.add(Thread.currentThread()))
+                )
+            );
+
+            assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), buildThreads);
+            assertEquals(0L, scheduler.getStats().get(NativeIndexBuildScheduler.COMPLETED_BUILDS));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testRunAll_whenMergeBuild_thenBuildOnCallingThread() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(1);
+        try (MockedStatic<KNNSettings> knnSettingsMockedStatic = Mockito.mockStatic(KNNSettings.class)) {
+            knnSettingsMockedStatic.when(KNNSettings::isIndexBuildSchedulerEnabled).thenReturn(true);
+            final List<Thread> buildThreads = Collections.synchronizedList(new ArrayList<>());
+
+            // Merge abort checks and merge rate limiting only apply on the merge thread
+            scheduler.runAll(
+                NativeIndexBuildScheduler.BuildType.MERGE,
+                List.of(new NativeIndexBuildScheduler.Build(10, () -> buildThreads.add(Thread.currentThread())))
+            );
+            assertEquals(List.of(Thread.currentThread()), buildThreads);
+
+            scheduler.runAll(
+                NativeIndexBuildScheduler.BuildType.FLUSH,
+                List.of(new NativeIndexBuildScheduler.Build(10, () -> buildThreads.add(Thread.currentThread())))
+            );
+            assertEquals(2, buildThreads.size());
+            assertNotSame(Thread.currentThread(), buildThreads.get(1));
+            // The merge build held a build thread while it ran, so it is counted as well
+            assertBusy(() -> assertEquals(2L, scheduler.getStats().get(NativeIndexBuildScheduler.COMPLETED_BUILDS)));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testRunOnCallingThread_whenFlushQueued_thenFlushBeforeMerge() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(1);
+        try {
+            final CountDownLatch blockerStarted = new CountDownLatch(1);
+            final CountDownLatch releaseBlocker = new CountDownLatch(1);
+            final List<String> buildOrder = Collections.synchronizedList(new ArrayList<>());
+            final List<Thread> mergeBuildThreads = Collections.synchronizedList(new ArrayList<>());
+
+            // Occupy the only build thread so that the following builds queue up
+            final Thread blocker = scheduleInBackground(
+                scheduler,
+                NativeIndexBuildScheduler.BuildType.FLUSH,
+                List.of(new NativeIndexBuildScheduler.Build(1, () -> {
+                    blockerStarted.countDown();
+                    await(releaseBlocker);
+                }))
+            );
+            await(blockerStarted);
+
+            final Thread merge = new Thread(() -> {
+                try {
+                    scheduler.runOnCallingThread(
+                        NativeIndexBuildScheduler.BuildType.MERGE,
+                        List.of(new NativeIndexBuildScheduler.Build(1000, () -> {
+                            mergeBuildThreads.add(Thread.currentThread());
+                            buildOrder.add("large-merge");
+                        }), new NativeIndexBuildScheduler.Build(10, () -> {
+                            mergeBuildThreads.add(Thread.currentThread());
+                            buildOrder.add("small-merge");
+                        }))
+                    );
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            merge.start();
+            assertBusy(() -> assertEquals(1L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_MERGE_BUILDS)));
+
+            final Thread flush = scheduleInBackground(
+                scheduler,
+                NativeIndexBuildScheduler.BuildType.FLUSH,
+                List.of(new NativeIndexBuildScheduler.Build(100, () -> buildOrder.add("flush")))
+            );
+            assertBusy(() -> assertEquals(1L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_FLUSH_BUILDS)));
+
+            releaseBlocker.countDown();
+            blocker.join();
+            merge.join();
+            flush.join();
+
+            assertEquals(List.of("flush", "small-merge", "large-merge"), buildOrder);
+            assertEquals(List.of(merge, merge), mergeBuildThreads);
+            assertEquals(0L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_MERGE_BUILDS));
+            // The build thread of the last merge build only completes once it notices that the merge thread is done
+            assertBusy(() -> assertEquals(4L, scheduler.getStats().get(NativeIndexBuildScheduler.COMPLETED_BUILDS)));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testRunOnCallingThread_whenBuildFails_thenReleaseBuildThread() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(1);
+        try {
+            final IOException exception = expectThrows(
+                IOException.class,
+                () -> scheduler.runOnCallingThread(
+                    NativeIndexBuildScheduler.BuildType.MERGE,
+                    List.of(new NativeIndexBuildScheduler.Build(10, () -> {
+                        throw new IOException("Build failed");
+                    }))
+                )
+            );
+            assertEquals("Build failed", exception.getMessage());
+
+            // The build thread is free again for the next build
+            final AtomicBoolean nextBuildCompleted = new AtomicBoolean(false);
+            scheduler.schedule(
+                NativeIndexBuildScheduler.BuildType.FLUSH,
+                List.of(new NativeIndexBuildScheduler.Build(10, () -> nextBuildCompleted.set(true)))
+            );
+            assertTrue(nextBuildCompleted.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testSchedule_whenMultipleBuilds_thenRunConcurrently() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(2);
+        try {
+            // Each build waits for the other one, which only completes if both run at the same time
+            final CountDownLatch started = new CountDownLatch(2);
+            final NativeIndexBuildScheduler.Build build = new NativeIndexBuildScheduler.Build(10, () -> {
+                started.countDown();
+                await(started);
+            });
+
+            scheduler.schedule(NativeIndexBuildScheduler.BuildType.FLUSH, List.of(build, build));
+
+            assertEquals(2L, scheduler.getStats().get(NativeIndexBuildScheduler.COMPLETED_BUILDS));
+            assertEquals(0L, scheduler.getStats().get(NativeIndexBuildScheduler.ACTIVE_BUILDS));
+            assertEquals(2, scheduler.getStats().get(NativeIndexBuildScheduler.THREAD_QTY));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testSchedule_whenBuildsQueued_thenFlushesBeforeMergesAndSmallBeforeLarge() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(1);
+        try {
+            final CountDownLatch blockerStarted = new CountDownLatch(1);
+            final CountDownLatch releaseBlocker = new CountDownLatch(1);
+            final List<String> buildOrder = Collections.synchronizedList(new ArrayList<>());
+
+            // Occupy the only build thread so that the following builds queue up
+            final Thread blocker = scheduleInBackground(
+                scheduler,
+                NativeIndexBuildScheduler.BuildType.MERGE,
+                List.of(new NativeIndexBuildScheduler.Build(1, () -> {
+                    blockerStarted.countDown();
+                    await(releaseBlocker);
+                }))
+            );
+            await(blockerStarted);
+
+            final Thread merge = scheduleInBackground(
+                scheduler,
+                NativeIndexBuildScheduler.BuildType.MERGE,
+                List.of(new NativeIndexBuildScheduler.Build(100, () -> buildOrder.add("merge")))
+            );
+            assertBusy(() -> assertEquals(1L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_MERGE_BUILDS)));
+
+            final Thread flush = scheduleInBackground(
+                scheduler,
+                NativeIndexBuildScheduler.BuildType.FLUSH,
+                List.of(
+                    new NativeIndexBuildScheduler.Build(1000, () -> buildOrder.add("large-flush")),
+                    new NativeIndexBuildScheduler.Build(10, () -> buildOrder.add("small-flush"))
+                )
+            );
+            assertBusy(() -> assertEquals(2L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_FLUSH_BUILDS)));
+
+            releaseBlocker.countDown();
+            blocker.join();
+            merge.join();
+            flush.join();
+
+            assertEquals(List.of("small-flush", "large-flush", "merge"), buildOrder);
+            assertEquals(0L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_FLUSH_BUILDS));
+            assertEquals(0L, scheduler.getStats().get(NativeIndexBuildScheduler.QUEUED_MERGE_BUILDS));
+            assertEquals(4L, scheduler.getStats().get(NativeIndexBuildScheduler.COMPLETED_BUILDS));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testSchedule_whenBuildFails_thenAwaitOtherBuildsAndThrow() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(2);
+        try {
+            final AtomicBoolean otherBuildCompleted = new AtomicBoolean(false);
+            final List<NativeIndexBuildScheduler.Build> builds = List.of(new NativeIndexBuildScheduler.Build(10, () -> {
+                throw new IOException("Build failed");
+            }), new NativeIndexBuildScheduler.Build(20, () -> otherBuildCompleted.set(true)));
+
+            final IOException exception = expectThrows(
+                IOException.class,
+                () -> scheduler.schedule(NativeIndexBuildScheduler.BuildType.MERGE, builds)
+            );
+
+            assertEquals("Build failed", exception.getMessage());
+            assertTrue(otherBuildCompleted.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testSetThreadQty() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(2);
+        try {
+            scheduler.setThreadQty(4);
+            assertEquals(4, scheduler.getStats().get(NativeIndexBuildScheduler.THREAD_QTY));
+            scheduler.setThreadQty(1);
+            assertEquals(1, scheduler.getStats().get(NativeIndexBuildScheduler.THREAD_QTY));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static Thread scheduleInBackground(
+        final NativeIndexBuildScheduler scheduler,
+        final NativeIndexBuildScheduler.BuildType buildType,
+        final List<NativeIndexBuildScheduler.Build> builds
+    ) {
+        final Thread thread = new Thread(() -> {
+            try {
+                scheduler.schedule(buildType, builds);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @SneakyThrows
+    private static void await(final CountDownLatch latch) {
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+    }
+}
@@ -85,6 +85,29 @@ public class NativeIndexBuildStrategyFactoryTests extends KNNTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testGetBuildStrategy_whenIncrementalMergeEnabled_returnsIncrementalMerge() {
+        Map<String, String> attributes = new HashMap<>();
+        when(fieldInfo.attributes()).thenReturn(attributes);
+
+        try (
+            MockedStatic<FieldInfoExtractor> mockedExtractor = Mockito.mockStatic(FieldInfoExtractor.class);
+            MockedStatic<KNNCodecUtil> mockedCodecUtil = Mockito.mockStatic(KNNCodecUtil.class);
+            MockedStatic<KNNSettings> mockedSettings = Mockito.mockStatic(KNNSettings.class)
+        ) {
+            mockedExtractor.when(() -> FieldInfoExtractor.extractKNNEngine(fieldInfo)).thenReturn(KNNEngine.FAISS);
+            mockedCodecUtil.when(() -> KNNCodecUtil.initializeVectorValues(any())).thenAnswer(i -> null);
+            mockedSettings.when(KNNSettings::isKNNRemoteVectorBuildEnabled).thenReturn(false);
+            mockedSettings.when(KNNSettings::isIncrementalMergeEnabled).thenReturn(true);
+            when(knnVectorValues.bytesPerVector()).thenReturn(32);
+
+            NativeIndexBuildStrategyFactory factory = new NativeIndexBuildStrategyFactory();
+            NativeIndexBuildStrategy strategy = factory.getBuildStrategy(fieldInfo, 10, knnVectorValues);
+
+            assertSame(IncrementalMergeNativeIndexBuildStrategy.getInstance(), strategy);
+        }
+    }
+
     @SneakyThrows
     public void testGetBuildStrategy_templateField_returnsDefault() {
         Map<String, String> attributes = new HashMap<>();
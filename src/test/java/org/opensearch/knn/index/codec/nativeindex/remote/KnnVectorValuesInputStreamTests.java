@@ -8,9 +8,16 @@ package org.opensearch.knn.index.codec.nativeindex.remote;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.QuantizedVectorBatch;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.index.vectorvalues.QuantizedKNNBinaryVectorValues;
 import org.opensearch.knn.index.vectorvalues.TestVectorValues;
+import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
+import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,6 +28,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 import static org.opensearch.knn.index.vectorvalues.TestVectorValues.getRandomByteVector;
 import static org.opensearch.knn.index.vectorvalues.TestVectorValues.getRandomVector;
@@ -189,6 +198,61 @@ public class KnnVectorValuesInputStreamTests extends KNNTestCase {
         assertArrayEquals(expectedStream.readAllBytes(), testBuffer.array());
     }
 
+    /**
+     * Tests that streaming quantized vectors, which are quantized a batch at a time, yields the vectors quantized one at a
+     * time, whole and split into parts that start in the middle of a vector
+     */
+    public void testQuantizedVectorValuesInputStream() throws IOException {
+        final int NUM_DOCS = randomIntBetween(QuantizedVectorBatch.DEFAULT_BATCH_SIZE + 1, 1000);
+        final int NUM_DIMENSION = randomIntBetween(1, 100);
+        final int NUM_PARTS = randomIntBetween(1, 7);
+
+        List<float[]> vectorValues = getRandomFloatVectors(NUM_DOCS, NUM_DIMENSION);
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier = () -> KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.FLOAT,
+            new TestVectorValues.PreDefinedFloatVectorValues(vectorValues)
+        );
+        final QuantizationService quantizationService = QuantizationService.getInstance();
+        final ScalarQuantizationParams quantizationParams = new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT, false, false);
+        final QuantizationState quantizationState = quantizationService.train(quantizationParams, knnVectorValuesSupplier, NUM_DOCS);
+        final BuildIndexParams buildIndexParams = mock(BuildIndexParams.class);
+        when(buildIndexParams.getQuantizationState()).thenReturn(quantizationState);
+        final Supplier<KNNVectorValues<?>> quantizedVectorValuesSupplier = () -> new QuantizedKNNBinaryVectorValues(
+            knnVectorValuesSupplier.get(),
+            buildIndexParams
+        );
+
+        // Vectors quantized one at a time
+        final int bytesPerVector = quantizationState.getBytesPerVector();
+        final ByteBuffer expectedBuffer = ByteBuffer.allocate(bytesPerVector * NUM_DOCS);
+        for (float[] vector : vectorValues) {
+            expectedBuffer.put(
+                (byte[]) quantizationService.quantize(
+                    quantizationState,
+                    vector,
+                    quantizationService.createQuantizationOutput(quantizationParams)
+                )
+            );
+        }
+
+        VectorValuesInputStream stream = new VectorValuesInputStream(quantizedVectorValuesSupplier.get(), VectorDataType.BINARY);
+        assertArrayEquals(expectedBuffer.array(), stream.readAllBytes());
+
+        final int vectorBlobLength = bytesPerVector * NUM_DOCS;
+        final int partSize = vectorBlobLength / NUM_PARTS + 1;
+        ByteBuffer testBuffer = ByteBuffer.allocate(vectorBlobLength);
+        for (long position = 0; position < vectorBlobLength; position += partSize) {
+            VectorValuesInputStream partStream = new VectorValuesInputStream(
+                quantizedVectorValuesSupplier.get(),
+                VectorDataType.BINARY,
+                position,
+                Math.min(partSize, vectorBlobLength - position)
+            );
+            testBuffer.put(partStream.readAllBytes());
+        }
+        assertArrayEquals(expectedBuffer.array(), testBuffer.array());
+    }
+
     /**
      * Tests that invoking {@link VectorValuesInputStream#read()} N times yields the same results as {@link VectorValuesInputStream#read(byte[], 0, N)}
      */
@@ -16,6 +16,7 @@ import org.opensearch.knn.index.engine.MethodComponent;
 import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.CompressionLevel;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.HashMap;
@@ -31,6 +32,7 @@ import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
 import static org.opensearch.knn.index.engine.faiss.QFrameBitEncoder.BITCOUNT_PARAM;
 import static org.opensearch.knn.index.engine.faiss.QFrameBitEncoder.ENABLE_RANDOM_ROTATION_PARAM;
+import static org.opensearch.knn.index.engine.faiss.QFrameBitEncoder.RANDOM_ROTATION_TYPE_PARAM;
 import static org.opensearch.knn.index.engine.faiss.QFrameBitEncoder.ENABLE_ADC_PARAM;
 
 public class QFrameBitEncoderTests extends KNNTestCase {
@@ -229,6 +231,41 @@ public class QFrameBitEncoderTests extends KNNTestCase {
         assertTrue(explicitTrueConfig.getQuantizationConfig().isEnableRandomRotation());
     }
 
+    public void testRandomRotationTypeConfiguration() {
+        QFrameBitEncoder qFrameBitEncoder = new QFrameBitEncoder();
+        MethodComponent methodComponent = qFrameBitEncoder.getMethodComponent();
+        KNNMethodConfigContext knnMethodConfigContext = KNNMethodConfigContext.builder()
+            .versionCreated(Version.CURRENT)
+            .vectorDataType(VectorDataType.FLOAT)
+            .dimension(10)
+            .build();
+
+        // Test default random rotation type (should be gaussian)
+        MethodComponentContext defaultContext = new MethodComponentContext(
+            QFrameBitEncoder.NAME,
+            ImmutableMap.of(BITCOUNT_PARAM, 1, ENABLE_RANDOM_ROTATION_PARAM, true)
+        );
+        KNNLibraryIndexingContext defaultConfig = methodComponent.getKNNLibraryIndexingContext(defaultContext, knnMethodConfigContext);
+        assertEquals(RandomRotationType.GAUSSIAN, defaultConfig.getQuantizationConfig().getRandomRotationType());
+
+        // Test explicit random rotation type = hadamard
+        MethodComponentContext hadamardContext = new MethodComponentContext(
+            QFrameBitEncoder.NAME,
+            ImmutableMap.of(BITCOUNT_PARAM, 1, ENABLE_RANDOM_ROTATION_PARAM, true, RANDOM_ROTATION_TYPE_PARAM, "hadamard")
+        );
+        assertNull(methodComponent.validate(hadamardContext, knnMethodConfigContext));
+        KNNLibraryIndexingContext hadamardConfig = methodComponent.getKNNLibraryIndexingContext(hadamardContext, knnMethodConfigContext);
+        assertTrue(hadamardConfig.getQuantizationConfig().isEnableRandomRotation());
+        assertEquals(RandomRotationType.HADAMARD, hadamardConfig.getQuantizationConfig().getRandomRotationType());
+
+        // Test invalid random rotation type
+        MethodComponentContext invalidContext = new MethodComponentContext(
+            QFrameBitEncoder.NAME,
+            ImmutableMap.of(BITCOUNT_PARAM, 1, ENABLE_RANDOM_ROTATION_PARAM, true, RANDOM_ROTATION_TYPE_PARAM, "invalid")
+        );
+        assertNotNull(methodComponent.validate(invalidContext, knnMethodConfigContext));
+    }
+
     public void testInvalidRandomRotationValue() {
         QFrameBitEncoder qFrameBitEncoder = new QFrameBitEncoder();
         MethodComponent methodComponent = qFrameBitEncoder.getMethodComponent();
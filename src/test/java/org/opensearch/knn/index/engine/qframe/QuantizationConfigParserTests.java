@@ -6,6 +6,7 @@
 package org.opensearch.knn.index.engine.qframe;
 
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 public class QuantizationConfigParserTests extends KNNTestCase {
@@ -97,6 +98,15 @@ public class QuantizationConfigParserTests extends KNNTestCase {
             "type=binary,bits=2,random_rotation=false,enable_adc=false",
             QuantizationConfigParser.toCsv(QuantizationConfig.builder().quantizationType(ScalarQuantizationType.TWO_BIT).build())
         );
+
+        QuantizationConfig hadamardConfig = QuantizationConfig.builder()
+            .quantizationType(ScalarQuantizationType.ONE_BIT)
+            .enableRandomRotation(true)
+            .randomRotationType(RandomRotationType.HADAMARD)
+            .build();
+        String csv = QuantizationConfigParser.toCsv(hadamardConfig);
+        assertEquals("type=binary,bits=1,random_rotation=true,enable_adc=false,random_rotation_type=hadamard", csv);
+        assertEquals(hadamardConfig, QuantizationConfigParser.fromCsv(csv));
     }
 
     public void testFromCsv_bwc() {
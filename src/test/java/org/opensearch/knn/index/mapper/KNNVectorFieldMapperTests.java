@@ -3002,6 +3002,40 @@ public class KNNVectorFieldMapperTests extends KNNTestCase {
         assertNotNull(byteEx.getCause());
     }
 
+    public void testArrayIndexing_whenDimensionMatchesOrNot_thenParsedOrDimensionReported() throws IOException {
+        EngineFieldMapper floatMapper = createFieldMapperForBase64Test(VectorDataType.FLOAT, 3);
+        Optional<float[]> floatResult = floatMapper.getFloatsFromContext(createParseContextForJsonValue("[1.5, -2, 3]"), 3);
+        assertTrue(floatResult.isPresent());
+        assertArrayEquals(new float[] { 1.5f, -2f, 3f }, floatResult.get(), 0.0f);
+
+        IllegalArgumentException tooLong = expectThrows(
+            IllegalArgumentException.class,
+            () -> floatMapper.getFloatsFromContext(createParseContextForJsonValue("[1, 2, 3, 4, 5]"), 3)
+        );
+        assertTrue(tooLong.getMessage().contains("Expected: 3, Given: 5"));
+        IllegalArgumentException tooShort = expectThrows(
+            IllegalArgumentException.class,
+            () -> floatMapper.getFloatsFromContext(createParseContextForJsonValue("[1, 2]"), 3)
+        );
+        assertTrue(tooShort.getMessage().contains("Expected: 3, Given: 2"));
+
+        EngineFieldMapper byteMapper = createFieldMapperForBase64Test(VectorDataType.BYTE, 3);
+        Optional<byte[]> byteResult = byteMapper.getBytesFromContext(
+            createParseContextForJsonValue("[1, -128, 127]"),
+            3,
+            VectorDataType.BYTE
+        );
+        assertTrue(byteResult.isPresent());
+        assertArrayEquals(new byte[] { 1, -128, 127 }, byteResult.get());
+
+        EngineFieldMapper binaryMapper = createFieldMapperForBase64Test(VectorDataType.BINARY, 16);
+        IllegalArgumentException binaryTooLong = expectThrows(
+            IllegalArgumentException.class,
+            () -> binaryMapper.getBytesFromContext(createParseContextForJsonValue("[1, 2, 3]"), 16, VectorDataType.BINARY)
+        );
+        assertTrue(binaryTooLong.getMessage().contains("Expected: 16, Given: 24"));
+    }
+
     private EngineFieldMapper createFieldMapperForBase64Test(VectorDataType dataType, int dimension) {
         KNNMethodConfigContext knnMethodConfigContext = KNNMethodConfigContext.builder()
             .vectorDataType(dataType)
@@ -3042,9 +3076,13 @@ public class KNNVectorFieldMapperTests extends KNNTestCase {
         );
     }
 
-    @SneakyThrows
     private ParseContext createParseContextForBase64(String base64Value) {
-        XContentParser parser = createXContentParserForBase64(base64Value);
+        return createParseContextForJsonValue("\"" + base64Value + "\"");
+    }
+
+    @SneakyThrows
+    private ParseContext createParseContextForJsonValue(String jsonValue) {
+        XContentParser parser = createXContentParserForJsonValue(jsonValue);
         IndexSettings indexSettingsMock = mock(IndexSettings.class);
         when(indexSettingsMock.getSettings()).thenReturn(Settings.EMPTY);
         ParseContext.Document document = new ParseContext.Document();
@@ -3058,11 +3096,11 @@ public class KNNVectorFieldMapperTests extends KNNTestCase {
     }
 
     @SneakyThrows
-    private XContentParser createXContentParserForBase64(final String base64Value) {
+    private XContentParser createXContentParserForJsonValue(final String jsonValue) {
         XContentParser parser = XContentHelper.createParser(
             NamedXContentRegistry.EMPTY,
             LoggingDeprecationHandler.INSTANCE,
-            new BytesArray("{\"" + TEST_FIELD_NAME + "\":\"" + base64Value + "\"}"),
+            new BytesArray("{\"" + TEST_FIELD_NAME + "\":" + jsonValue + "}"),
             MediaTypeRegistry.JSON
         );
         parser.nextToken();
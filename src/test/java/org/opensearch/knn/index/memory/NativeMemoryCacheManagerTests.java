@@ -27,6 +27,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.knn.TestUtils;
 import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
@@ -35,6 +36,7 @@ import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.plugin.KNNPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -46,9 +48,13 @@ import java.util.HashSet;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
@@ -60,6 +66,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
 import static org.opensearch.knn.index.memory.NativeMemoryCacheManager.GRAPH_COUNT;
 import static org.opensearch.knn.plugin.stats.StatNames.GRAPH_MEMORY_USAGE;
 
@@ -74,12 +82,14 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
 
     protected AutoCloseable openMocks;
 
+    private Set<Setting<?>> defaultClusterSettings;
+
     @Before
     public void setUp() throws Exception {
         super.setUp();
         openMocks = MockitoAnnotations.openMocks(this);
         clusterService = mock(ClusterService.class);
-        Set<Setting<?>> defaultClusterSettings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        defaultClusterSettings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
         defaultClusterSettings.addAll(
             KNNSettings.state()
                 .getSettings()
@@ -89,7 +99,11 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         );
         KNNSettings.state().setClusterService(clusterService);
         when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(Settings.EMPTY, defaultClusterSettings));
-        threadPool = new ThreadPool(Settings.builder().put("node.name", "NativeMemoryCacheManagerTests").build());
+        Settings nodeSettings = Settings.builder().put("node.name", "NativeMemoryCacheManagerTests").build();
+        threadPool = new ThreadPool(
+            nodeSettings,
+            new FixedExecutorBuilder(nodeSettings, GRAPH_LOAD_THREAD_POOL, 2, -1, KNN_THREAD_POOL_PREFIX, false)
+        );
         NativeMemoryCacheManager.setThreadPool(threadPool);
     }
 
@@ -536,6 +550,270 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         nativeMemoryCacheManager.close();
     }
 
+    public void testGet_whenTinyLfuPolicy_thenEvictsLeastFrequentlyUsed() throws ExecutionException {
+        useTinyLfuPolicy("30kb");
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        assertEquals(NativeMemoryCacheEvictionPolicy.TINY_LFU, nativeMemoryCacheManager.getEvictionPolicy());
+        assertEquals(30, nativeMemoryCacheManager.getMaxCacheSizeInKilobytes());
+
+        int size = 10;
+        TestNativeMemoryEntryContent hotEntryContent = new TestNativeMemoryEntryContent("hot", size);
+        TestNativeMemoryEntryContent coldEntryContent = new TestNativeMemoryEntryContent("cold", size);
+        TestNativeMemoryEntryContent warmEntryContent = new TestNativeMemoryEntryContent("warm", size);
+        TestNativeMemoryEntryContent newEntryContent = new TestNativeMemoryEntryContent("new", size);
+
+        // "hot" is searched the most, "cold" and "warm" only once, with "cold" being the least recently used
+        nativeMemoryCacheManager.get(hotEntryContent, true);
+        nativeMemoryCacheManager.get(coldEntryContent, true);
+        nativeMemoryCacheManager.get(warmEntryContent, true);
+        for (int i = 0; i < 5; i++) {
+            nativeMemoryCacheManager.get(hotEntryContent, true);
+        }
+        assertEquals(3 * size, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertEquals(3, nativeMemoryCacheManager.getCacheStats().loadCount());
+
+        // Loading a new entry must evict exactly one entry, the cold one
+        nativeMemoryCacheManager.get(newEntryContent, true);
+        assertEquals(3 * size, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertEquals(4, nativeMemoryCacheManager.getCacheStats().loadCount());
+        assertTrue(nativeMemoryCacheManager.isCacheCapacityReached());
+
+        nativeMemoryCacheManager.get(hotEntryContent, true);
+        nativeMemoryCacheManager.get(warmEntryContent, true);
+        assertEquals(4, nativeMemoryCacheManager.getCacheStats().loadCount());
+
+        nativeMemoryCacheManager.get(coldEntryContent, true);
+        assertEquals(5, nativeMemoryCacheManager.getCacheStats().loadCount());
+        assertEquals(3 * size, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testGet_whenTinyLfuPolicyAndForceEvict_thenEvictsBeforeLoad() throws ExecutionException {
+        useTinyLfuPolicy("30kb", true);
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+
+        int size = 10;
+        TestNativeMemoryEntryContent hotEntryContent = new TestNativeMemoryEntryContent("hot", size);
+        TestNativeMemoryEntryContent coldEntryContent = new TestNativeMemoryEntryContent("cold", size);
+        TestNativeMemoryEntryContent warmEntryContent = new TestNativeMemoryEntryContent("warm", size);
+        AtomicLong cacheSizeDuringLoad = new AtomicLong(-1);
+        TestNativeMemoryEntryContent newEntryContent = new TestNativeMemoryEntryContent("new", size) {
+            @Override
+            public TestNativeMemoryAllocation load() throws IOException {
+                cacheSizeDuringLoad.set(nativeMemoryCacheManager.getCacheSizeInKilobytes());
+                return super.load();
+            }
+        };
+
+        nativeMemoryCacheManager.get(hotEntryContent, true);
+        nativeMemoryCacheManager.get(coldEntryContent, true);
+        nativeMemoryCacheManager.get(warmEntryContent, true);
+        nativeMemoryCacheManager.get(hotEntryContent, true);
+        nativeMemoryCacheManager.get(warmEntryContent, true);
+
+        // The cold entry is evicted before the new one is loaded, so the cache never exceeds its maximum
+        nativeMemoryCacheManager.get(newEntryContent, true);
+        assertEquals(2 * size, cacheSizeDuringLoad.get());
+        assertEquals(3 * size, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertTrue(nativeMemoryCacheManager.isCacheCapacityReached());
+        nativeMemoryCacheManager.get(hotEntryContent, true);
+        nativeMemoryCacheManager.get(warmEntryContent, true);
+        assertEquals(4, nativeMemoryCacheManager.getCacheStats().loadCount());
+
+        // An entry larger than the cache is rejected without evicting the cached entries
+        expectThrows(
+            OutOfNativeMemoryException.class,
+            () -> nativeMemoryCacheManager.get(new TestNativeMemoryEntryContent("too-large", 4 * size), true)
+        );
+        assertEquals(3 * size, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertEquals(4, nativeMemoryCacheManager.getCacheStats().loadCount());
+
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testGetIndicesCacheStats_whenTinyLfuPolicyAndInvalidated_thenStatsUpdated() throws ExecutionException {
+        useTinyLfuPolicy("1mb");
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+
+        String indexName = "test-index";
+        String testKey1 = "test-1";
+        String testKey2 = "test-2";
+        int size1 = 3;
+        int size2 = 5;
+        ExecutorService executorService = mock(ExecutorService.class);
+
+        NativeMemoryEntryContext.IndexEntryContext indexEntryContext1 = mock(NativeMemoryEntryContext.IndexEntryContext.class);
+        when(indexEntryContext1.load()).thenReturn(
+            new NativeMemoryAllocation.IndexAllocation(executorService, 0, size1, null, testKey1, indexName)
+        );
+        when(indexEntryContext1.getKey()).thenReturn(testKey1);
+        when(indexEntryContext1.calculateSizeInKB()).thenReturn(size1);
+
+        NativeMemoryEntryContext.IndexEntryContext indexEntryContext2 = mock(NativeMemoryEntryContext.IndexEntryContext.class);
+        when(indexEntryContext2.load()).thenReturn(
+            new NativeMemoryAllocation.IndexAllocation(executorService, 0, size2, null, testKey2, indexName)
+        );
+        when(indexEntryContext2.getKey()).thenReturn(testKey2);
+        when(indexEntryContext2.calculateSizeInKB()).thenReturn(size2);
+
+        nativeMemoryCacheManager.get(indexEntryContext1, true);
+        nativeMemoryCacheManager.get(indexEntryContext2, true);
+
+        assertEquals(2, nativeMemoryCacheManager.getIndexGraphCount(indexName));
+        assertEquals(size1 + size2, nativeMemoryCacheManager.getIndicesSizeInKilobytes());
+        assertEquals(size1 + size2, nativeMemoryCacheManager.getIndexSizeInKilobytes(indexName).longValue());
+
+        nativeMemoryCacheManager.invalidate(testKey2);
+
+        Map<String, Map<String, Object>> indicesStats = nativeMemoryCacheManager.getIndicesCacheStats();
+        assertEquals(1, indicesStats.get(indexName).get(GRAPH_COUNT));
+        assertEquals((long) size1, indicesStats.get(indexName).get(GRAPH_MEMORY_USAGE.getName()));
+        assertEquals(size1, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+
+        nativeMemoryCacheManager.invalidate(testKey1);
+        assertTrue(nativeMemoryCacheManager.getIndicesCacheStats().isEmpty());
+        assertEquals(0, nativeMemoryCacheManager.getIndexGraphCount(indexName));
+        assertEquals(0, nativeMemoryCacheManager.getIndicesSizeInKilobytes());
+
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testLoadAsync_whenConcurrentRequests_thenLoadedOnce() throws Exception {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        int size = 10;
+
+        TestNativeMemoryEntryContent testNativeMemoryEntryContent = new TestNativeMemoryEntryContent("test-1", size) {
+            @Override
+            public TestNativeMemoryAllocation load() throws IOException {
+                loadCount.incrementAndGet();
+                loadStarted.countDown();
+                try {
+                    releaseLoad.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return super.load();
+            }
+        };
+
+        // A miss schedules the load and returns immediately
+        assertTrue(nativeMemoryCacheManager.getIfPresentOrLoadAsync(testNativeMemoryEntryContent).isEmpty());
+        assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+        // Requests while the load is in flight share the same load
+        assertTrue(nativeMemoryCacheManager.getIfPresentOrLoadAsync(testNativeMemoryEntryContent).isEmpty());
+        CompletableFuture<NativeMemoryAllocation> future = nativeMemoryCacheManager.loadAsync(testNativeMemoryEntryContent);
+        assertSame(future, nativeMemoryCacheManager.loadAsync(testNativeMemoryEntryContent));
+
+        releaseLoad.countDown();
+        NativeMemoryAllocation nativeMemoryAllocation = future.get(10, TimeUnit.SECONDS);
+        assertEquals(size, nativeMemoryAllocation.getSizeInKB());
+        assertEquals(1, loadCount.get());
+        assertSame(nativeMemoryAllocation, nativeMemoryCacheManager.getIfPresentOrLoadAsync(testNativeMemoryEntryContent).get());
+        assertEquals(size, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testLoadAsync_whenLoadFails_thenFutureFailsAndLoadIsRetried() throws Exception {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        AtomicInteger loadCount = new AtomicInteger();
+        int size = 10;
+
+        TestNativeMemoryEntryContent testNativeMemoryEntryContent = new TestNativeMemoryEntryContent("test-1", size) {
+            @Override
+            public TestNativeMemoryAllocation load() throws IOException {
+                if (loadCount.incrementAndGet() == 1) {
+                    throw new IOException("Failed to load graph");
+                }
+                return super.load();
+            }
+        };
+
+        CompletableFuture<NativeMemoryAllocation> failedFuture = nativeMemoryCacheManager.loadAsync(testNativeMemoryEntryContent);
+        expectThrows(ExecutionException.class, () -> failedFuture.get(10, TimeUnit.SECONDS));
+        assertEquals(0, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+
+        NativeMemoryAllocation nativeMemoryAllocation = nativeMemoryCacheManager.loadAsync(testNativeMemoryEntryContent)
+            .get(10, TimeUnit.SECONDS);
+        assertEquals(size, nativeMemoryAllocation.getSizeInKB());
+        assertEquals(2, loadCount.get());
+
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testLoadAsync_whenGraphLoadQueueIsFull_thenFutureFailsAndLoadIsRetried() throws Exception {
+        Settings nodeSettings = Settings.builder().put("node.name", "NativeMemoryCacheManagerTests").build();
+        ThreadPool boundedThreadPool = new ThreadPool(
+            nodeSettings,
+            new FixedExecutorBuilder(nodeSettings, GRAPH_LOAD_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false)
+        );
+        NativeMemoryCacheManager.setThreadPool(boundedThreadPool);
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        int size = 10;
+
+        try {
+            // Occupy the only graph load thread, then fill the queue
+            TestNativeMemoryEntryContent blockingEntryContent = new TestNativeMemoryEntryContent("test-1", size) {
+                @Override
+                public TestNativeMemoryAllocation load() throws IOException {
+                    loadStarted.countDown();
+                    try {
+                        releaseLoad.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return super.load();
+                }
+            };
+            CompletableFuture<NativeMemoryAllocation> blockingFuture = nativeMemoryCacheManager.loadAsync(blockingEntryContent);
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            CompletableFuture<NativeMemoryAllocation> queuedFuture = nativeMemoryCacheManager.loadAsync(
+                new TestNativeMemoryEntryContent("test-2", size)
+            );
+
+            // The load that does not fit in the queue fails right away, the search stays on exact search
+            TestNativeMemoryEntryContent rejectedEntryContent = new TestNativeMemoryEntryContent("test-3", size);
+            assertTrue(nativeMemoryCacheManager.getIfPresentOrLoadAsync(rejectedEntryContent).isEmpty());
+            CompletableFuture<NativeMemoryAllocation> rejectedFuture = nativeMemoryCacheManager.loadAsync(rejectedEntryContent);
+            ExecutionException exception = expectThrows(ExecutionException.class, () -> rejectedFuture.get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof OpenSearchRejectedExecutionException);
+
+            releaseLoad.countDown();
+            blockingFuture.get(10, TimeUnit.SECONDS);
+            queuedFuture.get(10, TimeUnit.SECONDS);
+
+            // Once the queue drains, the next miss schedules the load again
+            NativeMemoryAllocation nativeMemoryAllocation = nativeMemoryCacheManager.loadAsync(rejectedEntryContent)
+                .get(10, TimeUnit.SECONDS);
+            assertEquals(size, nativeMemoryAllocation.getSizeInKB());
+        } finally {
+            releaseLoad.countDown();
+            nativeMemoryCacheManager.close();
+            NativeMemoryCacheManager.setThreadPool(threadPool);
+            terminate(boundedThreadPool);
+        }
+    }
+
+    private void useTinyLfuPolicy(String circuitBreakerLimit) {
+        useTinyLfuPolicy(circuitBreakerLimit, false);
+    }
+
+    private void useTinyLfuPolicy(String circuitBreakerLimit, boolean forceEvict) {
+        Settings settings = Settings.builder()
+            .put(KNNSettings.KNN_CACHE_EVICTION_POLICY, NativeMemoryCacheEvictionPolicy.TINY_LFU.getName())
+            .put(KNNSettings.KNN_MEMORY_CIRCUIT_BREAKER_CLUSTER_LIMIT, circuitBreakerLimit)
+            .put(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING.getKey(), forceEvict)
+            .build();
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, defaultClusterSettings));
+    }
+
     public void testMaintenanceScheduled() {
         NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
         Cancellable maintenanceTask = nativeMemoryCacheManager.getMaintenanceTask();
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class NativeMemoryFrequencySketchTests extends KNNTestCase {
+
+    public void testFrequency_whenIncremented_thenEstimateIncreases() {
+        NativeMemoryFrequencySketch frequencySketch = new NativeMemoryFrequencySketch(64);
+        assertEquals(0, frequencySketch.frequency("key"));
+
+        for (int i = 1; i <= 5; i++) {
+            frequencySketch.increment("key");
+            assertEquals(i, frequencySketch.frequency("key"));
+        }
+        assertEquals(0, frequencySketch.frequency("other-key"));
+    }
+
+    public void testFrequency_whenIncrementedPastMax_thenCapped() {
+        NativeMemoryFrequencySketch frequencySketch = new NativeMemoryFrequencySketch(64);
+        for (int i = 0; i < 2 * NativeMemoryFrequencySketch.MAX_FREQUENCY; i++) {
+            frequencySketch.increment("key");
+        }
+        assertEquals(NativeMemoryFrequencySketch.MAX_FREQUENCY, frequencySketch.frequency("key"));
+    }
+
+    public void testFrequency_whenSampleSizeReached_thenCountersHalved() {
+        NativeMemoryFrequencySketch frequencySketch = new NativeMemoryFrequencySketch(64);
+        for (int i = 0; i < 8; i++) {
+            frequencySketch.increment("hot-key");
+        }
+        assertEquals(8, frequencySketch.frequency("hot-key"));
+
+        // The sample size of a sketch for 64 keys is 640 recorded increments
+        for (int i = 0; i < 640; i++) {
+            frequencySketch.increment("key-" + i);
+        }
+        assertTrue(frequencySketch.frequency("hot-key") < 8);
+    }
+
+    public void testIncrement_whenConcurrent_thenNoIncrementLost() throws Exception {
+        NativeMemoryFrequencySketch frequencySketch = new NativeMemoryFrequencySketch(64);
+        int numThreads = 5;
+        int incrementsPerThread = NativeMemoryFrequencySketch.MAX_FREQUENCY / numThreads;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    frequencySketch.increment("key");
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(numThreads * incrementsPerThread, frequencySketch.frequency("key"));
+    }
+}
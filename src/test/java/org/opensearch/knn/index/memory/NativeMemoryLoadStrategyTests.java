@@ -13,11 +13,15 @@ package org.opensearch.knn.index.memory;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.TestUtils;
 import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.jni.JNICommons;
@@ -35,9 +39,13 @@ import java.util.Arrays;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 public class NativeMemoryLoadStrategyTests extends KNNTestCase {
 
@@ -139,6 +147,79 @@ public class NativeMemoryLoadStrategyTests extends KNNTestCase {
         }
     }
 
+    public void testLoad_whenFaissMmapLoadEnabled_thenLoadFromMappedFile() throws IOException {
+        // Default chunk size maps the whole file as one region
+        Path tempDirPath = createTempDir();
+        try (Directory luceneDirectory = new MMapDirectory(tempDirPath)) {
+            assertFaissMmapLoad(luceneDirectory, 1);
+        }
+    }
+
+    public void testLoad_whenFaissMmapLoadEnabledAndFileSpansChunks_thenFallbackToStream() throws IOException {
+        // A tiny chunk size splits the file into several mapped regions, which cannot be handed to Faiss
+        Path tempDirPath = createTempDir();
+        try (Directory luceneDirectory = new MMapDirectory(tempDirPath, 1024)) {
+            assertFaissMmapLoad(luceneDirectory, 0);
+        }
+    }
+
+    private void assertFaissMmapLoad(Directory luceneDirectory, int expectedLoadsFromMemory) throws IOException {
+        KNNEngine knnEngine = KNNEngine.FAISS;
+        String indexFileName = "test1" + knnEngine.getExtension();
+        int numVectors = 100;
+        int dimension = 16;
+        int[] ids = new int[numVectors];
+        float[][] vectors = new float[numVectors][dimension];
+        for (int i = 0; i < numVectors; i++) {
+            ids[i] = i;
+            Arrays.fill(vectors[i], i);
+        }
+        Map<String, Object> parameters = ImmutableMap.of(
+            KNNConstants.SPACE_TYPE,
+            SpaceType.L2.getValue(),
+            KNNConstants.INDEX_DESCRIPTION_PARAMETER,
+            "HNSW32,Flat"
+        );
+        long memoryAddress = JNICommons.storeVectorData(0, vectors, numVectors * dimension);
+        TestUtils.createIndex(ids, memoryAddress, dimension, luceneDirectory, indexFileName, parameters, knnEngine);
+
+        NativeMemoryEntryContext.IndexEntryContext indexEntryContext = new NativeMemoryEntryContext.IndexEntryContext(
+            luceneDirectory,
+            TestUtils.createFakeNativeMamoryCacheKey(indexFileName),
+            NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+            parameters,
+            "test"
+        );
+
+        try (
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = Mockito.mockStatic(KNNSettings.class, Mockito.CALLS_REAL_METHODS);
+            MockedStatic<JNIService> jniServiceMockedStatic = Mockito.mockStatic(JNIService.class, Mockito.CALLS_REAL_METHODS)
+        ) {
+            knnSettingsMockedStatic.when(KNNSettings::isFaissMmapLoadEnabled).thenReturn(true);
+
+            indexEntryContext.open();
+            NativeMemoryAllocation.IndexAllocation indexAllocation = indexEntryContext.load();
+
+            jniServiceMockedStatic.verify(
+                () -> JNIService.loadIndexFromMemory(anyLong(), anyLong(), anyMap(), eq(knnEngine)),
+                times(expectedLoadsFromMemory)
+            );
+            jniServiceMockedStatic.verify(
+                () -> JNIService.loadIndex(any(), anyMap(), eq(knnEngine)),
+                expectedLoadsFromMemory == 0 ? times(1) : never()
+            );
+
+            // Confirm that the file was loaded by querying
+            float[] query = new float[dimension];
+            Arrays.fill(query, 7);
+            KNNQueryResult[] results = JNIService.queryIndex(indexAllocation.getMemoryAddress(), query, 1, null, knnEngine, null, 0, null);
+            assertEquals(1, results.length);
+            assertEquals(7, results[0].getId());
+
+            indexAllocation.close();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public void testTrainingLoadStrategy_load() {
         // Mock the vector reader so that on read, it waits 2 seconds, transfers vectors to the consumer, and then calls
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FilterBitSetCacheTests extends KNNTestCase {
+    private static final String FIELD_NAME = "color";
+    private static final Query FILTER_QUERY = new TermQuery(new Term(FIELD_NAME, "red"));
+
+    @SneakyThrows
+    public void testGetCachedFilter_whenCalledTwice_thenLoadedOnceAndSelectorShared() {
+        final FilterBitSetCache cache = new FilterBitSetCache(1024 * 1024);
+        final AtomicInteger loads = new AtomicInteger();
+        try (Directory directory = newDirectory(); DirectoryReader reader = createReader(directory)) {
+            final LeafReaderContext context = reader.leaves().get(0);
+
+            final FilterBitSetCache.CachedFilter first = cache.getCachedFilter(context, FILTER_QUERY, () -> {
+                loads.incrementAndGet();
+                return createBitSet(context);
+            });
+            final FilterBitSetCache.CachedFilter second = cache.getCachedFilter(context, FILTER_QUERY, () -> {
+                loads.incrementAndGet();
+                return createBitSet(context);
+            });
+
+            assertEquals(1, loads.get());
+            assertSame(first, second);
+            assertSame(first, cache.getIfPresent(context, FILTER_QUERY));
+            assertEquals(2, first.getCardinality());
+            assertSame(first.getFilterIdsSelector(), second.getFilterIdsSelector());
+            assertNull(cache.getIfPresent(context, new TermQuery(new Term(FIELD_NAME, "blue"))));
+        }
+    }
+
+    @SneakyThrows
+    public void testGetCachedFilter_whenReaderClosed_thenInvalidated() {
+        final FilterBitSetCache cache = new FilterBitSetCache(1024 * 1024);
+        try (Directory directory = newDirectory()) {
+            final DirectoryReader reader = createReader(directory);
+            final LeafReaderContext context = reader.leaves().get(0);
+            cache.getCachedFilter(context, FILTER_QUERY, () -> createBitSet(context));
+            assertEquals(1, cache.size());
+
+            reader.close();
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @SneakyThrows
+    public void testGetCachedFilter_whenLargerThanLimit_thenNotRetained() {
+        final FilterBitSetCache cache = new FilterBitSetCache(1);
+        try (Directory directory = newDirectory(); DirectoryReader reader = createReader(directory)) {
+            final LeafReaderContext context = reader.leaves().get(0);
+
+            final FilterBitSetCache.CachedFilter cachedFilter = cache.getCachedFilter(context, FILTER_QUERY, () -> createBitSet(context));
+
+            assertEquals(2, cachedFilter.getCardinality());
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @SneakyThrows
+    private static DirectoryReader createReader(final Directory directory) {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (String color : new String[] { "red", "blue", "red" }) {
+                final Document document = new Document();
+                document.add(new StringField(FIELD_NAME, color, Field.Store.NO));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        return DirectoryReader.open(directory);
+    }
+
+    private static BitSet createBitSet(final LeafReaderContext context) {
+        final FixedBitSet bitSet = new FixedBitSet(context.reader().maxDoc());
+        bitSet.set(0);
+        bitSet.set(2);
+        return bitSet;
+    }
+}
@@ -9,20 +9,31 @@ import com.google.common.collect.Comparators;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.FilteredDocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.Bits;
@@ -33,6 +44,7 @@ import org.apache.lucene.util.Version;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
@@ -43,6 +55,7 @@ import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.codec.util.KNNVectorAsCollectionOfFloatsSerializer;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -67,7 +80,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -445,6 +460,59 @@ public class KNNWeightTests extends KNNWeightTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testScorer_whenGraphLoadedAsynchronously_thenPerformExactSearch() {
+        final ExactSearcher mockedExactSearcher = mock(ExactSearcher.class);
+        KNNWeight.initialize(null, mockedExactSearcher);
+        knnSettingsMockedStatic.when(KNNSettings::isGraphLoadAsyncEnabled).thenReturn(true);
+        final NativeMemoryCacheManager nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+        when(nativeMemoryCacheManager.getIfPresentOrLoadAsync(any())).thenReturn(Optional.empty());
+        try {
+            final SegmentReader reader = mockSegmentReader();
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            when(leafReaderContext.reader()).thenReturn(reader);
+
+            final KNNQuery query = KNNQuery.builder()
+                .field(FIELD_NAME)
+                .queryVector(QUERY_VECTOR)
+                .k(K)
+                .indexName(INDEX_NAME)
+                .methodParameters(HNSW_METHOD_PARAMETERS)
+                .build();
+            final KNNWeight knnWeight = new DefaultKNNWeight(query, 1.0f, null);
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(fieldInfos.fieldInfo(any())).thenReturn(fieldInfo);
+            when(fieldInfo.attributes()).thenReturn(
+                Map.of(
+                    KNN_ENGINE,
+                    KNNEngine.FAISS.getName(),
+                    PARAMETERS,
+                    String.format(Locale.ROOT, "{\"%s\":\"%s\"}", INDEX_DESCRIPTION_PARAMETER, "HNSW32")
+                )
+            );
+            when(mockedExactSearcher.searchLeaf(eq(leafReaderContext), any())).thenReturn(buildTopDocs(DOC_ID_TO_SCORES));
+
+            final KNNScorer knnScorer = (KNNScorer) knnWeight.scorer(leafReaderContext);
+            assertNotNull(knnScorer);
+            final DocIdSetIterator docIdSetIterator = knnScorer.iterator();
+            final List<Integer> actualDocIds = new ArrayList<>();
+            for (int docId = docIdSetIterator.nextDoc(); docId != NO_MORE_DOCS; docId = docIdSetIterator.nextDoc()) {
+                actualDocIds.add(docId);
+                assertEquals(DOC_ID_TO_SCORES.get(docId), knnScorer.score(), 0.00000001f);
+            }
+            assertEquals(DOC_ID_TO_SCORES.size(), actualDocIds.size());
+
+            // The graph is only scheduled for loading, the segment is served by exact search
+            verify(nativeMemoryCacheManager).getIfPresentOrLoadAsync(any());
+            verify(mockedExactSearcher).searchLeaf(eq(leafReaderContext), any());
+            jniServiceMockedStatic.verifyNoInteractions();
+        } finally {
+            knnSettingsMockedStatic.when(KNNSettings::isGraphLoadAsyncEnabled).thenReturn(false);
+        }
+    }
+
     @SneakyThrows
     public void testANNWithFilterQuery_whenDoingANN_thenSuccess() {
         validateANNWithFilterQuery_whenDoingANN_thenSuccess(false);
@@ -1893,4 +1961,60 @@ public class KNNWeightTests extends KNNWeightTestCase {
             }
         }
     }
+
+    @SneakyThrows
+    public void testGetFilteredDocsBitSet_whenFilterBitSetCacheEnabled_thenReusedUntilReaderClosed() {
+        knnSettingsMockedStatic.when(KNNSettings::isFilterBitSetCacheEnabled).thenReturn(true);
+        when(KNNSettings.state().getSettingValue(eq(KNNSettings.KNN_FILTER_BITSET_CACHE_SIZE_LIMIT))).thenReturn(
+            new ByteSizeValue(1024 * 1024)
+        );
+        FilterBitSetCache.getInstance().clear();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (String value : new String[] { "fooValue", "barValue", "fooValue" }) {
+                    final Document document = new Document();
+                    document.add(new StringField("foo", value, Store.NO));
+                    writer.addDocument(document);
+                }
+            }
+            final DirectoryReader reader = DirectoryReader.open(directory);
+            final LeafReaderContext context = reader.leaves().get(0);
+            final IndexSearcher searcher = new IndexSearcher(reader);
+            final AtomicInteger filterEvaluations = new AtomicInteger();
+            final Weight filterWeight = new FilterWeight(
+                searcher.createWeight(searcher.rewrite(FILTER_QUERY), ScoreMode.COMPLETE_NO_SCORES, 1f)
+            ) {
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext leafReaderContext) throws IOException {
+                    filterEvaluations.incrementAndGet();
+                    return super.scorerSupplier(leafReaderContext);
+                }
+            };
+            final KNNQuery query = KNNQuery.builder()
+                .field(FIELD_NAME)
+                .queryVector(QUERY_VECTOR)
+                .k(K)
+                .indexName(INDEX_NAME)
+                .filterQuery(FILTER_QUERY)
+                .methodParameters(HNSW_METHOD_PARAMETERS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .build();
+            final KNNWeight knnWeight = new DefaultKNNWeight(query, 0.0f, filterWeight);
+
+            // The filter is evaluated once, later queries get the cached bitset, cardinality and filter ids
+            final BitSet first = knnWeight.getFilteredDocsBitSet(context);
+            final BitSet second = knnWeight.getFilteredDocsBitSet(context);
+            assertEquals(1, filterEvaluations.get());
+            assertSame(first, second);
+            assertEquals(2, knnWeight.getFilterCardinality(context, second));
+            assertSame(knnWeight.getFilterIdsSelector(context, first, 2), knnWeight.getFilterIdsSelector(context, second, 2));
+
+            // Closing the reader invalidates its entries
+            reader.close();
+            assertNull(FilterBitSetCache.getInstance().getIfPresent(context, FILTER_QUERY));
+        } finally {
+            knnSettingsMockedStatic.when(KNNSettings::isFilterBitSetCacheEnabled).thenReturn(false);
+            FilterBitSetCache.getInstance().clear();
+        }
+    }
 }
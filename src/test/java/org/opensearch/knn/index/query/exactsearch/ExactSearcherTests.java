@@ -18,11 +18,14 @@ import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.KNNCodecVersion;
@@ -34,6 +37,8 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
 import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 import org.opensearch.knn.plugin.script.KNNScoringUtil;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -44,6 +49,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -790,4 +797,90 @@ public class ExactSearcherTests extends KNNTestCase {
             assertFalse("doc 1 should be filtered out", matchedDocIds.contains(1));
         }
     }
+
+    @SneakyThrows
+    public void testSearchLeaf_whenConcurrentSearchEnabled_thenSameResultsAsSingleThreaded() {
+        // Every other doc passes the filter, so both the segment and the filter have enough candidates for more than one slice
+        final int numDocs = 4 * ExactSearcher.MIN_DOCS_PER_SLICE + 7;
+        final int k = 25;
+        final List<float[]> vectors = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            vectors.add(new float[] { randomFloat(), randomFloat(), randomFloat() });
+        }
+        final float[] queryVector = new float[] { randomFloat(), randomFloat(), randomFloat() };
+        final FixedBitSet filterBitSet = new FixedBitSet(numDocs);
+        for (int i = 0; i < numDocs; i += 2) {
+            filterBitSet.set(i);
+        }
+
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (
+            MockedStatic<KNNVectorValuesFactory> vectorValuesFactoryMockedStatic = Mockito.mockStatic(KNNVectorValuesFactory.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = Mockito.mockStatic(KNNSettings.class)
+        ) {
+            ExactSearcher.setThreadPool(threadPool);
+            final ExactSearcher exactSearcher = new ExactSearcher(null);
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            final SegmentReader reader = mock(SegmentReader.class);
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(fieldInfo.getAttribute(SPACE_TYPE)).thenReturn(SpaceType.L2.getValue());
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(reader.maxDoc()).thenReturn(numDocs);
+            when(fieldInfos.fieldInfo(FIELD_NAME)).thenReturn(fieldInfo);
+            when(leafReaderContext.reader()).thenReturn(reader);
+            // Every slice reads the vectors through its own vector values
+            vectorValuesFactoryMockedStatic.when(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader))
+                .thenAnswer(invocation -> TestVectorValues.createKNNFloatVectorValues(vectors));
+
+            // Contexts are created for every search, as a search consumes the matched docs iterator of its context
+            final List<Supplier<ExactSearcher.ExactSearcherContext>> contextSuppliers = List.of(
+                () -> ExactSearcher.ExactSearcherContext.builder().field(FIELD_NAME).floatQueryVector(queryVector).k(k).build(),
+                () -> ExactSearcher.ExactSearcherContext.builder()
+                    .field(FIELD_NAME)
+                    .floatQueryVector(queryVector)
+                    .k(k)
+                    .matchedDocsIterator(new BitSetIterator(filterBitSet, filterBitSet.cardinality()))
+                    .numberOfMatchedDocs(filterBitSet.cardinality())
+                    .build()
+            );
+            for (Supplier<ExactSearcher.ExactSearcherContext> contextSupplier : contextSuppliers) {
+                knnSettingsMockedStatic.when(KNNSettings::isExactSearchConcurrentEnabled).thenReturn(false);
+                final ExactSearcher.ExactSearcherContext singleThreadedContext = contextSupplier.get();
+                assertEquals(1, exactSearcher.getNumSlices(reader, singleThreadedContext));
+                final TopDocs expected = exactSearcher.searchLeaf(leafReaderContext, singleThreadedContext);
+
+                knnSettingsMockedStatic.when(KNNSettings::isExactSearchConcurrentEnabled).thenReturn(true);
+                final ExactSearcher.ExactSearcherContext concurrentContext = contextSupplier.get();
+                assertTrue(exactSearcher.getNumSlices(reader, concurrentContext) > 1);
+                final TopDocs actual = exactSearcher.searchLeaf(leafReaderContext, concurrentContext);
+
+                assertEquals(k, actual.scoreDocs.length);
+                assertEquals(expected.totalHits, actual.totalHits);
+                for (int i = 0; i < k; i++) {
+                    assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0.0f);
+                }
+            }
+        } finally {
+            ExactSearcher.setThreadPool(null);
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    @SneakyThrows
+    public void testBitSetSliceIterator_whenIterated_thenOnlyDocsWithinSlice() {
+        final FixedBitSet bitSet = new FixedBitSet(100);
+        for (int doc : new int[] { 3, 10, 19, 20, 45, 99 }) {
+            bitSet.set(doc);
+        }
+
+        final DocIdSetIterator iterator = new ExactSearcher.BitSetSliceIterator(bitSet, 10, 45);
+        assertEquals(10, iterator.nextDoc());
+        assertEquals(20, iterator.advance(20));
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, new ExactSearcher.BitSetSliceIterator(bitSet, 46, 99).nextDoc());
+    }
 }
@@ -836,6 +836,19 @@ public class JNIServiceTests extends KNNTestCase {
         expectThrows(IllegalArgumentException.class, () -> JNIService.loadIndex(null, Collections.emptyMap(), KNNEngine.LUCENE));
     }
 
+    public void testLoadIndexFromMemory_whenNotSupported_thenThrow() {
+        expectThrows(IllegalArgumentException.class, () -> JNIService.loadIndexFromMemory(0, 0, Collections.emptyMap(), KNNEngine.NMSLIB));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> JNIService.loadIndexFromMemory(
+                0,
+                0,
+                ImmutableMap.of(KNNConstants.VECTOR_DATA_TYPE_FIELD, VectorDataType.BINARY.getValue()),
+                KNNEngine.FAISS
+            )
+        );
+    }
+
     public void testLoadIndex_nmslib_invalid_badSpaceType() {
         expectThrows(
             Exception.class,
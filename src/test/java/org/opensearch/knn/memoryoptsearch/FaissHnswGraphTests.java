@@ -9,8 +9,10 @@ import lombok.SneakyThrows;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.hnsw.HnswGraph;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSWIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
@@ -21,6 +23,10 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.memoryoptsearch.FaissHNSWTests.loadHnswBinary;
 
@@ -42,6 +48,48 @@ public class FaissHnswGraphTests extends KNNTestCase {
         assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_1_LEVEL, getNeighborIdList(graph));
     }
 
+    @SneakyThrows
+    public void testSeek_whenPrefetchEnabled_thenNeighborListsPrefetched() {
+        final IndexInput indexInput = Mockito.spy(loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"));
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"), NUM_VECTORS);
+
+        try (MockedStatic<KNNFeatureFlags> mockedFlags = Mockito.mockStatic(KNNFeatureFlags.class)) {
+            mockedFlags.when(KNNFeatureFlags::isPrefetchEnabled).thenReturn(true);
+            final FaissHnswGraph graph = new FaissHnswGraph(faissHNSW, indexInput);
+            graph.seek(0, 0);
+
+            // Neighbor list order must not be affected by prefetching
+            assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_0_LEVEL, getNeighborIdList(graph));
+
+            // The setting is read once per graph, not on every seek
+            graph.seek(0, 99);
+            mockedFlags.verify(KNNFeatureFlags::isPrefetchEnabled, times(1));
+
+            // All lists of a 100 vectors graph fall within a single group, from the smallest to the largest neighbor id
+            final long baseOffset = faissHNSW.getNeighbors().getBaseOffset();
+            final int[] cum = faissHNSW.getCumNumberNeighborPerLevel();
+            final long start = baseOffset + Integer.BYTES * (faissHNSW.getOffsetsReader().get(10) + cum[0]);
+            final long end = baseOffset + Integer.BYTES * (faissHNSW.getOffsetsReader().get(82) + cum[1]);
+            verify(indexInput).prefetch(start, end - start);
+        }
+    }
+
+    @SneakyThrows
+    public void testSeek_whenPrefetchDisabled_thenNoPrefetch() {
+        final IndexInput indexInput = Mockito.spy(loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"));
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"), NUM_VECTORS);
+
+        try (MockedStatic<KNNFeatureFlags> mockedFlags = Mockito.mockStatic(KNNFeatureFlags.class)) {
+            mockedFlags.when(KNNFeatureFlags::isPrefetchEnabled).thenReturn(false);
+            final FaissHnswGraph graph = new FaissHnswGraph(faissHNSW, indexInput);
+            graph.seek(0, 0);
+            assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_0_LEVEL, getNeighborIdList(graph));
+            verify(indexInput, never()).prefetch(anyLong(), anyLong());
+        }
+    }
+
     @SneakyThrows
     public void testNodesIterator() {
         final FaissHnswGraph graph = prepareFaissHnswGraph();
@@ -11,7 +11,7 @@ import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.apache.lucene.util.LongValues;
 import org.mockito.MockedStatic;
 import org.mockito.stubbing.Answer;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
@@ -145,6 +145,40 @@ public class FaissIdMapIndexTests extends KNNTestCase {
         assertEquals(totalNumberOfVectors, floatIdx.get());
     }
 
+    public void testLoadIncrementallyMergedCase() {
+        doTestLoadIncrementallyMergedCase(FaissIdMapIndex.IXMP);
+        doTestLoadIncrementallyMergedCase(FaissIdMapIndex.IBMP);
+    }
+
+    @SneakyThrows
+    private void doTestLoadIncrementallyMergedCase(final String indexType) {
+        final int totalNumberOfVectors = 100;
+        final int dimension = 128;
+        final boolean l2Metric = true;
+
+        // A merge reused the graph of a source segment holding docs 20..99, then appended the vectors of docs 0..19.
+        final int numAppendedVectors = 20;
+        final long[] mappingTable = new long[totalNumberOfVectors];
+        for (int i = 0; i < totalNumberOfVectors; ++i) {
+            mappingTable[i] = (i + numAppendedVectors) % totalNumberOfVectors;
+        }
+
+        // Load index
+        final FaissIdMapIndex index = triggerLoadAndGetIndex(dimension, totalNumberOfVectors, l2Metric, mappingTable, indexType);
+
+        // The mapping is not monotonic, so it is not kept on heap but read from the index file.
+        assertNull(getVectorIdToDocIdMapping(index, totalNumberOfVectors));
+
+        final IndexInput input = prepareBytes(dimension, totalNumberOfVectors, l2Metric, mappingTable, indexType);
+        final ByteVectorValues byteVectorValues = index.getByteValues(input);
+        final FloatVectorValues floatVectorValues = index.getFloatValues(input);
+        for (int i = 0; i < totalNumberOfVectors; ++i) {
+            assertEquals(mappingTable[i], byteVectorValues.ordToDoc(i));
+            assertEquals(mappingTable[i], floatVectorValues.ordToDoc(i));
+        }
+        validateHeader(indexType, index, dimension, totalNumberOfVectors);
+    }
+
     public void testParentChildNestedCase() {
         doTestParentChildNestedCase(FaissIdMapIndex.IXMP);
         doTestParentChildNestedCase(FaissIdMapIndex.IBMP);
@@ -237,7 +271,7 @@ public class FaissIdMapIndexTests extends KNNTestCase {
     private static long[] getVectorIdToDocIdMapping(final FaissIdMapIndex index, final int totalNumberOfVectors) {
         final Field field = FaissIdMapIndex.class.getDeclaredField("idMappingReader");
         field.setAccessible(true);
-        DirectMonotonicReader decoder = (DirectMonotonicReader) field.get(index);
+        LongValues decoder = (LongValues) field.get(index);
         if (decoder == null) {
             // It's an identical case
             return null;
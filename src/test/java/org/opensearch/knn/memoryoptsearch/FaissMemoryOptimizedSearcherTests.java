@@ -23,6 +23,7 @@ import org.apache.lucene.index.DocValuesSkipIndexType;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.index.SegmentInfo;
@@ -76,6 +77,7 @@ import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesIterator;
 import org.opensearch.knn.index.vectorvalues.VectorValueExtractorStrategy;
+import org.opensearch.knn.jni.JNICommons;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
@@ -100,6 +102,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toMap;
 import static org.mockito.ArgumentMatchers.any;
@@ -353,6 +356,97 @@ public class FaissMemoryOptimizedSearcherTests extends KNNTestCase {
         doTestADCWithBinaryQuantization(SpaceType.COSINESIMIL);
     }
 
+    @SneakyThrows
+    public void testSearchIncrementallyMergedIndex() {
+        final int dimension = 8;
+        final int numReusedVectors = 40;
+        final int numAppendedVectors = 10;
+        final Map<String, Object> parameters = Map.of(
+            INDEX_DESCRIPTION_PARAMETER,
+            FLOAT_HNSW_INDEX_DESCRIPTION,
+            SPACE_TYPE,
+            SpaceType.L2.getValue()
+        );
+        final float[][] reusedVectors = new float[numReusedVectors][dimension];
+        final float[][] appendedVectors = new float[numAppendedVectors][dimension];
+        for (final float[][] vectors : List.of(reusedVectors, appendedVectors)) {
+            for (final float[] vector : vectors) {
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = random().nextFloat();
+                }
+            }
+        }
+
+        try (final Directory directory = new MMapDirectory(createTempDir())) {
+            // Build the graph of the merge source segment that is reused
+            final long reusedIndexAddress = JNIService.initIndex(numReusedVectors, dimension, parameters, KNNEngine.FAISS);
+            final long reusedVectorsAddress = JNICommons.storeVectorData(0, reusedVectors, (long) numReusedVectors * dimension);
+            JNIService.insertToIndex(
+                IntStream.range(0, numReusedVectors).toArray(),
+                reusedVectorsAddress,
+                dimension,
+                parameters,
+                reusedIndexAddress,
+                KNNEngine.FAISS
+            );
+            JNICommons.freeVectorData(reusedVectorsAddress);
+            try (IndexOutput indexOutput = directory.createOutput("reused.faiss", IOContext.DEFAULT)) {
+                JNIService.writeIndex(new IndexOutputWithBuffer(indexOutput), reusedIndexAddress, KNNEngine.FAISS, parameters, false);
+            }
+
+            // Merge it with a segment whose documents come first, so the vectors appended to the reused graph map to the smallest
+            // doc ids and the id mapping of the merged graph is not monotonic
+            final int[] docIdMap = IntStream.range(0, numReusedVectors).map(docId -> docId + numAppendedVectors).toArray();
+            final long mergedIndexAddress;
+            try (IndexInput indexInput = directory.openInput("reused.faiss", IOContext.DEFAULT)) {
+                mergedIndexAddress = JNIService.loadIndexForMerge(new IndexInputWithBuffer(indexInput), docIdMap, KNNEngine.FAISS);
+            }
+            final long appendedVectorsAddress = JNICommons.storeVectorData(0, appendedVectors, (long) numAppendedVectors * dimension);
+            JNIService.insertToIndex(
+                IntStream.range(0, numAppendedVectors).toArray(),
+                appendedVectorsAddress,
+                dimension,
+                parameters,
+                mergedIndexAddress,
+                KNNEngine.FAISS
+            );
+            JNICommons.freeVectorData(appendedVectorsAddress);
+            try (IndexOutput indexOutput = directory.createOutput("merged.faiss", IOContext.DEFAULT)) {
+                JNIService.writeIndex(new IndexOutputWithBuffer(indexOutput), mergedIndexAddress, KNNEngine.FAISS, parameters, false);
+            }
+
+            // Load the merged graph the way memory optimized search does and check every vector maps to its merged doc id
+            final int totalVectors = numReusedVectors + numAppendedVectors;
+            try (IndexInput indexInput = directory.openInput("merged.faiss", IOContext.DEFAULT)) {
+                final FaissIndex faissIndex = FaissIndex.load(indexInput);
+                final FloatVectorValues vectorValues = faissIndex.getFloatValues(indexInput.clone());
+                assertEquals(totalVectors, vectorValues.size());
+                for (int ord = 0; ord < totalVectors; ord++) {
+                    final int docId = vectorValues.ordToDoc(ord);
+                    final float[] expected = docId < numAppendedVectors
+                        ? appendedVectors[docId]
+                        : reusedVectors[docId - numAppendedVectors];
+                    assertArrayEquals(expected, vectorValues.vectorValue(ord), 0.0f);
+                }
+
+                final FieldInfo fieldInfo = mock(FieldInfo.class);
+                when(fieldInfo.getAttribute(KNNConstants.SPACE_TYPE)).thenReturn(SpaceType.L2.getValue());
+                final FaissMemoryOptimizedSearcher searcher = new FaissMemoryOptimizedSearcher(
+                    indexInput,
+                    faissIndex,
+                    fieldInfo,
+                    FlatVectorsScorerProvider.getFlatVectorsScorer(fieldInfo, KNNVectorSimilarityFunction.EUCLIDEAN, SCORER)
+                );
+                for (int docId = 0; docId < totalVectors; docId++) {
+                    final float[] query = docId < numAppendedVectors ? appendedVectors[docId] : reusedVectors[docId - numAppendedVectors];
+                    final KnnCollector knnCollector = new TopKnnCollector(10, Integer.MAX_VALUE);
+                    searcher.search(query, knnCollector, AcceptDocs.fromLiveDocs(null, totalVectors));
+                    assertEquals(docId, knnCollector.topDocs().scoreDocs[0].doc);
+                }
+            }
+        }
+    }
+
     @SneakyThrows
     public void testGetByteVectorValues_returnsDifferentInstancesPerCall() {
         FieldInfo fieldInfo = mock(FieldInfo.class);
@@ -340,6 +340,57 @@ public class KNNScoringUtilTests extends KNNTestCase {
         assertEquals(10, KNNScoringUtil.calculateHammingBit(v1, v2), 0.001f);
     }
 
+    public void testADC_whenDimensionNotMultipleOfByte_thenMatchesPerBitDecoding() {
+        for (int dimension : new int[] { 1, 7, 8, 13, 64, 131 }) {
+            float[] queryVector = new float[dimension];
+            for (int i = 0; i < dimension; i++) {
+                queryVector[i] = randomFloat() * 2 - 1;
+            }
+            byte[] inputVector = randomByteArrayOfLength((dimension + 7) / 8);
+
+            float expectedL2 = 0;
+            float expectedInnerProduct = 0;
+            float innerProductMagnitude = 0;
+            for (int i = 0; i < dimension; i++) {
+                int bitValue = (inputVector[i / 8] >> (7 - (i % 8))) & 1;
+                expectedL2 += (bitValue - queryVector[i]) * (bitValue - queryVector[i]);
+                expectedInnerProduct += bitValue * queryVector[i];
+                innerProductMagnitude += Math.abs(bitValue * queryVector[i]);
+            }
+            assertEquals(expectedL2, l2SquaredADC(queryVector, inputVector), summationDelta(dimension, expectedL2));
+            assertEquals(
+                expectedInnerProduct,
+                innerProductADC(queryVector, inputVector),
+                summationDelta(dimension, innerProductMagnitude)
+            );
+        }
+    }
+
+    public void testL1NormAndLInfNorm_whenDimensionNotMultipleOfUnroll_thenMatchesScalarLoop() {
+        for (int dimension : new int[] { 1, 3, 4, 17, 128 }) {
+            float[] queryVector = new float[dimension];
+            float[] inputVector = new float[dimension];
+            byte[] queryByteVector = randomByteArrayOfLength(dimension);
+            byte[] inputByteVector = randomByteArrayOfLength(dimension);
+            float expectedL1 = 0;
+            float expectedLInf = 0;
+            float expectedByteL1 = 0;
+            float expectedByteLInf = 0;
+            for (int i = 0; i < dimension; i++) {
+                queryVector[i] = randomFloat() * 2 - 1;
+                inputVector[i] = randomFloat() * 2 - 1;
+                expectedL1 += Math.abs(queryVector[i] - inputVector[i]);
+                expectedLInf = Math.max(expectedLInf, Math.abs(queryVector[i] - inputVector[i]));
+                expectedByteL1 += Math.abs(queryByteVector[i] - inputByteVector[i]);
+                expectedByteLInf = Math.max(expectedByteLInf, Math.abs(queryByteVector[i] - inputByteVector[i]));
+            }
+            assertEquals(expectedL1, KNNScoringUtil.l1Norm(queryVector, inputVector), summationDelta(dimension, expectedL1));
+            assertEquals(expectedLInf, KNNScoringUtil.lInfNorm(queryVector, inputVector), 0.0f);
+            assertEquals(expectedByteL1, KNNScoringUtil.l1Norm(queryByteVector, inputByteVector), 0.0f);
+            assertEquals(expectedByteLInf, KNNScoringUtil.lInfNorm(queryByteVector, inputByteVector), 0.0f);
+        }
+    }
+
     public void testScoreWithADC() {
         float[] queryVector = new float[] { 1.0f, 2.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 0.0f };
         byte[] documentVector = new byte[] { 0 };
@@ -459,4 +510,13 @@ public class KNNScoringUtilTests extends KNNTestCase {
             writer.close();
         }
     }
+
+    /**
+     * Bound on the difference between two sums of the same terms added in a different order, such as an unrolled kernel
+     * and a scalar loop. It is relative to the sum of the magnitudes of the terms rather than absolute, so that it holds
+     * whatever the dimension and the scale of the vectors.
+     */
+    private static float summationDelta(int numTerms, float sumOfMagnitudes) {
+        return 2 * numTerms * Math.ulp(1.0f) * sumOfMagnitudes;
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.knn.plugin.stats;
 
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
 
 import java.util.Map;
 
@@ -69,4 +70,18 @@ public class KNNStatsTests extends KNNTestCase {
         assertEquals(2L, (long) (Long) clientStats.get(KNNRemoteIndexBuildValue.INDEX_BUILD_TERMINAL_EXCEPTION.getName()));
         assertEquals(0L, (long) (Long) clientStats.get(KNNRemoteIndexBuildValue.INDEX_BUILD_FAILURE_COUNT.getName()));
     }
+
+    @SuppressWarnings("unchecked")
+    public void testIndexBuildSchedulerStatsContainQueueDepth() {
+        KNNStats knnStats = new KNNStats();
+
+        Map<String, Object> schedulerStats = (Map<String, Object>) knnStats.getStats()
+            .get(StatNames.INDEX_BUILD_SCHEDULER_STATS.getName())
+            .getValue();
+
+        assertTrue(schedulerStats.containsKey(NativeIndexBuildScheduler.QUEUED_FLUSH_BUILDS));
+        assertTrue(schedulerStats.containsKey(NativeIndexBuildScheduler.QUEUED_MERGE_BUILDS));
+        assertTrue(schedulerStats.containsKey(NativeIndexBuildScheduler.ACTIVE_BUILDS));
+        assertTrue(schedulerStats.containsKey(NativeIndexBuildScheduler.COMPLETED_BUILDS));
+    }
 }
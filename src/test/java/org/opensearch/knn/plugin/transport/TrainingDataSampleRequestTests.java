@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+
+public class TrainingDataSampleRequestTests extends KNNTestCase {
+
+    public void testStreams() throws IOException {
+        TrainingDataSampleRequest request = new TrainingDataSampleRequest("test-index", 2, "test-sample", "test-field", 100, 42L, 10, 20);
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        request.writeTo(streamOutput);
+        TrainingDataSampleRequest request1 = new TrainingDataSampleRequest(streamOutput.bytes().streamInput());
+
+        assertEquals(request.index(), request1.index());
+        assertEquals(request.getShardId(), request1.getShardId());
+        assertEquals(request.getSampleId(), request1.getSampleId());
+        assertEquals(request.getFieldName(), request1.getFieldName());
+        assertEquals(request.getSampleSize(), request1.getSampleSize());
+        assertEquals(request.getSeed(), request1.getSeed());
+        assertEquals(request.getFrom(), request1.getFrom());
+        assertEquals(request.getSize(), request1.getSize());
+    }
+
+    public void testValidate() {
+        assertNull(new TrainingDataSampleRequest("test-index", 0, "test-sample", "test-field", 100, 42L, 0, 20).validate());
+        assertNotNull(new TrainingDataSampleRequest("test-index", 0, "", "test-field", 100, 42L, 0, 20).validate());
+        assertNotNull(new TrainingDataSampleRequest("test-index", 0, "test-sample", "", 100, 42L, 0, 20).validate());
+        assertNotNull(new TrainingDataSampleRequest("test-index", -1, "test-sample", "test-field", 100, 42L, 0, 20).validate());
+        assertNotNull(new TrainingDataSampleRequest("test-index", 0, "test-sample", "test-field", 100, 42L, 0, 0).validate());
+    }
+
+    public void testResponseStreams() throws IOException {
+        TrainingDataSampleResponse response = new TrainingDataSampleResponse(10, 2, 3, new float[] { 1, 2, 3, 4, 5, 6 }, null);
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        response.writeTo(streamOutput);
+        TrainingDataSampleResponse response1 = new TrainingDataSampleResponse(streamOutput.bytes().streamInput());
+
+        assertEquals(response.getSampleSize(), response1.getSampleSize());
+        assertEquals(response.getNumVectors(), response1.getNumVectors());
+        assertEquals(response.getVectorLength(), response1.getVectorLength());
+        assertArrayEquals(response.getFloatVectors(), response1.getFloatVectors(), 0.0f);
+        assertEquals(0, response1.getByteVectors().length);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+public class TrainingDataSampleTransportActionTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "test-field";
+
+    public void testSample_whenChunked_thenChunksCoverSampleOfLiveDocs() throws IOException {
+        try (Directory directory = newDirectory()) {
+            // Doc i holds the vector [i, i], and every tenth doc is deleted
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (int i = 0; i < 100; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    document.add(new KnnFloatVectorField(FIELD_NAME, new float[] { i, i }));
+                    writer.addDocument(document);
+                    if (i % 25 == 0) {
+                        writer.commit();
+                    }
+                }
+                for (int i = 0; i < 100; i += 10) {
+                    writer.deleteDocuments(new Term("id", Integer.toString(i)));
+                }
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                int[] sampledDocs = TrainingDataSampleTransportAction.sampleDocs(reader, FIELD_NAME, 40, 42L);
+                for (int i = 1; i < sampledDocs.length; i++) {
+                    assertTrue("Sampled docs not sorted", sampledDocs[i - 1] < sampledDocs[i]);
+                }
+
+                Set<Float> sampledValues = new HashSet<>();
+                int from = 0;
+                int sampleSize;
+                do {
+                    TrainingDataSampleResponse response = TrainingDataSampleTransportAction.readChunk(
+                        reader,
+                        FIELD_NAME,
+                        sampledDocs,
+                        from,
+                        15
+                    );
+                    sampleSize = response.getSampleSize();
+                    assertEquals(2, response.getVectorLength());
+                    assertEquals(Math.min(15, 40 - from), response.getNumVectors());
+                    for (int i = 0; i < response.getNumVectors(); i++) {
+                        float value = response.getFloatVectors()[2 * i];
+                        assertEquals(value, response.getFloatVectors()[2 * i + 1], 0.0f);
+                        assertTrue("Deleted doc sampled", value % 10 != 0);
+                        assertTrue("Vector sampled twice", sampledValues.add(value));
+                    }
+                    from += response.getNumVectors();
+                } while (from < sampleSize);
+
+                assertEquals(40, sampleSize);
+                assertEquals(40, sampledValues.size());
+            }
+        }
+    }
+
+    public void testSample_whenSampleLargerThanShard_thenAllLiveVectors() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (int i = 0; i < 5; i++) {
+                    Document document = new Document();
+                    document.add(new KnnFloatVectorField(FIELD_NAME, new float[] { i, i }));
+                    writer.addDocument(document);
+                }
+                // Docs without the field are not sampled
+                writer.addDocument(new Document());
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                int[] sampledDocs = TrainingDataSampleTransportAction.sampleDocs(reader, FIELD_NAME, 100, 42L);
+                TrainingDataSampleResponse response = TrainingDataSampleTransportAction.readChunk(reader, FIELD_NAME, sampledDocs, 0, 100);
+                assertEquals(5, response.getSampleSize());
+                assertEquals(5, response.getNumVectors());
+                assertArrayEquals(new float[] { 0, 0, 1, 1, 2, 2, 3, 3, 4, 4 }, response.getFloatVectors(), 0.0f);
+
+                int[] missingFieldDocs = TrainingDataSampleTransportAction.sampleDocs(reader, "missing-field", 100, 42L);
+                TrainingDataSampleResponse missingFieldResponse = TrainingDataSampleTransportAction.readChunk(
+                    reader,
+                    "missing-field",
+                    missingFieldDocs,
+                    0,
+                    100
+                );
+                assertEquals(0, missingFieldResponse.getSampleSize());
+                assertEquals(0, missingFieldResponse.getNumVectors());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.Arrays;
+
+public class BitPackerTests extends KNNTestCase {
+
+    public void testQuantizeAndPackBits() {
+        float[] vector = { 1.2f, 3.4f, 5.6f };
+        float[][] thresholds = { { 1.0f, 3.0f, 5.0f }, { 1.5f, 3.5f, 5.5f } };
+
+        byte[] packedBits = new byte[1];
+        BitPacker.quantizeAndPackBits(vector, thresholds, 2, packedBits);
+        assertArrayEquals(new byte[] { (byte) 0b11100100 }, packedBits);
+
+        byte[] packedBlock = { -1, -1, -1 };
+        BitPacker.quantizeAndPackBits(vector, 0, vector.length, thresholds, 2, packedBlock, 1);
+        assertArrayEquals(new byte[] { -1, (byte) 0b11100100, -1 }, packedBlock);
+    }
+
+    public void testQuantizeAndPackBits_withOffsets_matchesSingleVector() {
+        for (int dimension : new int[] { 1, 7, 8, 13, 64, 100 }) {
+            for (int bitsPerCoordinate : new int[] { 1, 2, 4 }) {
+                float[][] thresholds = new float[bitsPerCoordinate][dimension];
+                for (float[] bitThresholds : thresholds) {
+                    for (int j = 0; j < dimension; j++) {
+                        bitThresholds[j] = randomFloat() - 0.5f;
+                    }
+                }
+                int numVectors = 3;
+                float[] vectors = new float[numVectors * dimension];
+                for (int i = 0; i < vectors.length; i++) {
+                    vectors[i] = randomFloat() - 0.5f;
+                }
+                int bytesPerVector = (bitsPerCoordinate * dimension + Byte.SIZE - 1) / Byte.SIZE;
+                byte[] packedVectors = new byte[numVectors * bytesPerVector];
+                Arrays.fill(packedVectors, (byte) -1);
+
+                for (int i = 0; i < numVectors; i++) {
+                    BitPacker.quantizeAndPackBits(
+                        vectors,
+                        i * dimension,
+                        dimension,
+                        thresholds,
+                        bitsPerCoordinate,
+                        packedVectors,
+                        i * bytesPerVector
+                    );
+                }
+
+                for (int i = 0; i < numVectors; i++) {
+                    byte[] expected = new byte[bytesPerVector];
+                    BitPacker.quantizeAndPackBits(
+                        Arrays.copyOfRange(vectors, i * dimension, (i + 1) * dimension),
+                        thresholds,
+                        bitsPerCoordinate,
+                        expected
+                    );
+                    assertArrayEquals(
+                        "dimension " + dimension + ", bits " + bitsPerCoordinate,
+                        expected,
+                        Arrays.copyOfRange(packedVectors, i * bytesPerVector, (i + 1) * bytesPerVector)
+                    );
+                }
+            }
+        }
+    }
+}
@@ -86,6 +86,45 @@ public class MultiBitScalarQuantizerTests extends KNNTestCase {
         assertNotNull(output.getQuantizedVector());
     }
 
+    public void testQuantizeBatch_matchesQuantize() {
+        // Unaligned dimension, so the bits of a coordinate are split across bytes
+        int dimension = 13;
+        int numVectors = 4;
+        float[] vectors = new float[numVectors * dimension];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomFloat() * 4;
+        }
+
+        for (int bitsPerCoordinate : new int[] { 2, 4 }) {
+            float[][] thresholds = new float[bitsPerCoordinate][dimension];
+            for (int i = 0; i < bitsPerCoordinate; i++) {
+                Arrays.fill(thresholds[i], (i + 1) * 4.0f / (bitsPerCoordinate + 1));
+            }
+            MultiBitScalarQuantizer quantizer = new MultiBitScalarQuantizer(bitsPerCoordinate);
+            MultiBitScalarQuantizationState state = MultiBitScalarQuantizationState.builder()
+                .quantizationParams(
+                    ScalarQuantizationParams.builder()
+                        .sqType(bitsPerCoordinate == 2 ? ScalarQuantizationType.TWO_BIT : ScalarQuantizationType.FOUR_BIT)
+                        .build()
+                )
+                .thresholds(thresholds)
+                .build();
+            int bytesPerVector = state.getBytesPerVector();
+            byte[] packedVectors = new byte[numVectors * bytesPerVector];
+
+            quantizer.quantizeBatch(vectors, numVectors, state, packedVectors);
+
+            BinaryQuantizationOutput output = new BinaryQuantizationOutput(bitsPerCoordinate);
+            for (int i = 0; i < numVectors; i++) {
+                quantizer.quantize(Arrays.copyOfRange(vectors, i * dimension, (i + 1) * dimension), state, output);
+                assertArrayEquals(
+                    output.getQuantizedVector(),
+                    Arrays.copyOfRange(packedVectors, i * bytesPerVector, (i + 1) * bytesPerVector)
+                );
+            }
+        }
+    }
+
     public void testQuantize_withNullVector_throws() {
         MultiBitScalarQuantizer quantizer = new MultiBitScalarQuantizer(2);
         BinaryQuantizationOutput output = new BinaryQuantizationOutput(2);
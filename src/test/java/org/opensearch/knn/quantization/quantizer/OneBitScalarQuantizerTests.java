@@ -7,6 +7,7 @@ package org.opensearch.knn.quantization.quantizer;
 
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.quantization.enums.RandomRotationType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOutput;
@@ -19,6 +20,7 @@ import org.opensearch.knn.quantization.sampler.SamplerType;
 import org.opensearch.knn.quantization.sampler.SamplingFactory;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 public class OneBitScalarQuantizerTests extends KNNTestCase {
 
@@ -175,6 +177,44 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
         assertTrue(state.getRotationMatrix().length > 0);
     }
 
+    public void testTrain_withHadamardRotation() throws IOException {
+        float[][] vectors = { { 10.0f, 200.0f, 3000.0f }, { 4000.0f, 5000.0f, 6000.0f }, { 7000.0f, 8000.0f, 9000.0f } };
+
+        TrainingRequest<float[]> trainingRequest = new TrainingRequest<>(vectors.length, true, RandomRotationType.HADAMARD) {
+            @Override
+            public float[] getVectorAtThePosition(int position) {
+                return vectors[position];
+            }
+
+            @Override
+            public void resetVectorValues() {
+                // No-op
+            }
+        };
+
+        OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer();
+        OneBitScalarQuantizationState state = (OneBitScalarQuantizationState) quantizer.train(trainingRequest);
+
+        // No matrix is kept in the state, only the rotation type, which survives serialization
+        assertNull(state.getRotationMatrix());
+        assertEquals(RandomRotationType.HADAMARD, state.getQuantizationParams().getRandomRotationType());
+        OneBitScalarQuantizationState deserializedState = OneBitScalarQuantizationState.fromByteArray(state.toByteArray());
+        assertEquals(RandomRotationType.HADAMARD, deserializedState.getQuantizationParams().getRandomRotationType());
+
+        // Quantizing with the state is the same as quantizing the rotated vector without rotation
+        OneBitScalarQuantizationState unrotatedState = new OneBitScalarQuantizationState(
+            ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build(),
+            state.getMeanThresholds()
+        );
+        BinaryQuantizationOutput output = new BinaryQuantizationOutput(1);
+        BinaryQuantizationOutput expectedOutput = new BinaryQuantizationOutput(1);
+        for (float[] vector : vectors) {
+            quantizer.quantize(vector, deserializedState, output);
+            quantizer.quantize(RandomHadamardRotation.applyRotation(vector), unrotatedState, expectedOutput);
+            assertArrayEquals(expectedOutput.getQuantizedVector(), output.getQuantizedVector());
+        }
+    }
+
     public void testTrain_withoutRotationMatrix() throws IOException {
         float[][] vectors = { { 1.0f, 1.0f, 1.0f }, { 1.1f, 1.1f, 1.1f }, { 0.9f, 0.9f, 0.9f } };
 
@@ -627,4 +667,50 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
             assertTrue(output.isPrepared(vector.length));
         }
     }
+
+    public void testQuantizeBatch_matchesQuantize() {
+        OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer();
+        // Unaligned dimension, so packed vectors do not end on a byte boundary
+        int dimension = 11;
+        int numVectors = 5;
+        float[] thresholds = new float[dimension];
+        float[] vectors = new float[(numVectors + 1) * dimension];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomFloat() - 0.5f;
+        }
+
+        for (float[][] rotationMatrix : new float[][][] { null, RandomGaussianRotation.generateRotationMatrix(dimension) }) {
+            OneBitScalarQuantizationState state = OneBitScalarQuantizationState.builder()
+                .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+                .meanThresholds(thresholds)
+                .rotationMatrix(rotationMatrix)
+                .build();
+            int bytesPerVector = state.getBytesPerVector();
+            // Stale bytes are overwritten
+            byte[] packedVectors = new byte[numVectors * bytesPerVector];
+            Arrays.fill(packedVectors, (byte) -1);
+
+            quantizer.quantizeBatch(vectors, numVectors, state, packedVectors);
+
+            BinaryQuantizationOutput output = new BinaryQuantizationOutput(1);
+            for (int i = 0; i < numVectors; i++) {
+                quantizer.quantize(Arrays.copyOfRange(vectors, i * dimension, (i + 1) * dimension), state, output);
+                assertArrayEquals(
+                    output.getQuantizedVector(),
+                    Arrays.copyOfRange(packedVectors, i * bytesPerVector, (i + 1) * bytesPerVector)
+                );
+            }
+        }
+    }
+
+    public void testQuantizeBatch_withTooSmallOutput_throws() {
+        OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer();
+        OneBitScalarQuantizationState state = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+            .meanThresholds(new float[8])
+            .build();
+
+        expectThrows(IllegalArgumentException.class, () -> quantizer.quantizeBatch(new float[16], 2, state, new byte[1]));
+        expectThrows(IllegalArgumentException.class, () -> quantizer.quantizeBatch(new float[8], 2, state, new byte[2]));
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import org.opensearch.knn.KNNTestCase;
+
+public class RandomHadamardRotationTests extends KNNTestCase {
+
+    public void testApplyRotation_Orthogonality() {
+        // Power of two and non power of two dimensions
+        for (int dimensions : new int[] { 8, 10, 100 }) {
+            // Rotate the standard basis, the rotated basis vectors are the columns of the rotation
+            float[][] rotatedBasis = new float[dimensions][];
+            for (int i = 0; i < dimensions; i++) {
+                float[] basis = new float[dimensions];
+                basis[i] = 1.0f;
+                rotatedBasis[i] = RandomHadamardRotation.applyRotation(basis);
+                assertEquals(dimensions, rotatedBasis[i].length);
+            }
+
+            float delta = 0.0001f;
+            for (int i = 0; i < dimensions; i++) {
+                for (int j = i; j < dimensions; j++) {
+                    float dotProduct = 0f;
+                    for (int k = 0; k < dimensions; k++) {
+                        dotProduct += rotatedBasis[i][k] * rotatedBasis[j][k];
+                    }
+                    assertEquals("Dot product of column " + i + " and column " + j, i == j ? 1.0f : 0.0f, dotProduct, delta);
+                }
+            }
+        }
+    }
+
+    public void testApplyRotation_PreservesNormAndInput() {
+        float[] vector = { 3.0f, 4.0f, -1.5f, 0.0f, 2.25f };
+        float[] original = vector.clone();
+
+        float[] rotatedVector = RandomHadamardRotation.applyRotation(vector);
+
+        assertArrayEquals("Input vector should not be modified", original, vector, 0.0f);
+        float originalNorm = 0f;
+        float rotatedNorm = 0f;
+        for (int i = 0; i < vector.length; i++) {
+            originalNorm += vector[i] * vector[i];
+            rotatedNorm += rotatedVector[i] * rotatedVector[i];
+        }
+        assertEquals((float) Math.sqrt(originalNorm), (float) Math.sqrt(rotatedNorm), 0.0001f);
+    }
+
+    public void testApplyRotation_Deterministic() {
+        float[] vector = { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f };
+        assertArrayEquals(RandomHadamardRotation.applyRotation(vector), RandomHadamardRotation.applyRotation(vector), 0.0f);
+    }
+
+    public void testApplyRotation_SingleDimension() {
+        assertArrayEquals(new float[] { 2.5f }, RandomHadamardRotation.applyRotation(new float[] { 2.5f }), 0.0f);
+    }
+}
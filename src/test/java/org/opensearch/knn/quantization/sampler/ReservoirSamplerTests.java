@@ -8,6 +8,7 @@ package org.opensearch.knn.quantization.sampler;
 import org.opensearch.knn.KNNTestCase;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 public class ReservoirSamplerTests extends KNNTestCase {
@@ -45,6 +46,14 @@ public class ReservoirSamplerTests extends KNNTestCase {
         assertFalse("Sampled indices should be different", Arrays.equals(sampledIndices1, sampledIndices2));
     }
 
+    public void testSampleWithSeededRandom_thenDeterministic() {
+        ReservoirSampler sampler = ReservoirSampler.getInstance();
+        int[] sampledIndices1 = sampler.sample(1000, 10, new Random(42));
+        int[] sampledIndices2 = sampler.sample(1000, 10, new Random(42));
+        assertArrayEquals(sampledIndices1, sampledIndices2);
+        assertEquals(10, sampledIndices1.length);
+    }
+
     public void testEdgeCaseZeroVectors() {
         ReservoirSampler sampler = ReservoirSampler.getInstance();
         int totalNumberOfVectors = 0;
@@ -6,16 +6,20 @@
 package org.opensearch.knn.search.processor.mmr;
 
 import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
 import org.opensearch.knn.search.extension.MMRSearchExtBuilder;
+import org.opensearch.knn.search.extension.MMRVectorFetchExtBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.StoredFieldsContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.SystemGeneratedProcessor;
@@ -24,6 +28,7 @@ import org.opensearch.transport.client.Client;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -249,6 +254,109 @@ public class MMROverSampleProcessorTests extends MMRTestCase {
         assertEquals(fetchSourceContext, mmrRerankContext.getOriginalFetchSourceContext());
     }
 
+    public void testProcessRequestAsync_whenVectorFetchEnabled_thenAddVectorFetchExtensionAndKeepSource() {
+        String indexName = "test-index";
+        String vectorFieldName = "vectorField";
+        String modelId = "modelId";
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        ActionListener<SearchRequest> listener = mock(ActionListener.class);
+
+        MMRSearchExtBuilder mmrSearchExtBuilder = new MMRSearchExtBuilder.Builder().vectorFieldPath(vectorFieldName)
+            .spaceType(SpaceType.L2.getValue())
+            .build();
+        SearchRequest request = buildSearchRequest(new String[] { indexName }, mmrSearchExtBuilder);
+        FetchSourceContext fetchSourceContext = new FetchSourceContext(true, new String[] {}, new String[] { vectorFieldName });
+        request.source().fetchSource(fetchSourceContext);
+
+        mockClusterIndexMetadata(
+            Map.of(
+                indexName,
+                Map.of("properties", Map.of(vectorFieldName, Map.of(TYPE, KNNVectorFieldMapper.CONTENT_TYPE, MODEL_ID, modelId)))
+            )
+        );
+        MMRVectorFieldInfo vectorFieldInfo = new MMRVectorFieldInfo();
+        vectorFieldInfo.setVectorDataType(VectorDataType.FLOAT);
+        vectorFieldInfo.setSpaceType(SpaceType.L2);
+        mockModelMetadata(mockClient, Map.of(modelId, vectorFieldInfo));
+
+        try (MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)) {
+            knnSettingsMockedStatic.when(KNNSettings::isMMRVectorFetchEnabled).thenReturn(true);
+
+            processor.processRequestAsync(request, pipelineProcessingContext, listener);
+
+            // The dynamic setting is read once per request, so the request cannot end up with neither the _source nor the extension
+            knnSettingsMockedStatic.verify(KNNSettings::isMMRVectorFetchEnabled, times(1));
+        }
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(listener).onResponse(captor.capture());
+        SearchRequest searchRequest = captor.getValue();
+        assertEquals(30, searchRequest.source().size());
+        assertEquals("Fetch source should not be changed.", fetchSourceContext, searchRequest.source().fetchSource());
+        assertTrue(searchRequest.source().ext().contains(mmrSearchExtBuilder));
+        assertTrue(searchRequest.source().ext().contains(new MMRVectorFetchExtBuilder(vectorFieldName)));
+        MMRRerankContext mmrRerankContext = (MMRRerankContext) pipelineProcessingContext.getAttribute(MMR_RERANK_CONTEXT);
+        assertEquals(vectorFieldName, mmrRerankContext.getVectorFieldPath());
+        assertTrue(mmrRerankContext.isVectorFetchEnabled());
+        assertNull(mmrRerankContext.getOriginalFetchSourceContext());
+    }
+
+    public void testProcessRequestAsync_whenVectorFetchEnabledAndStoredFieldsDisabled_thenSourceIsNotEnabled() {
+        SearchRequest searchRequest = processRequestWithVectorFetchEnabled(
+            request -> request.source().storedFields(StoredFieldsContext.fromList(List.of(StoredFieldsContext._NONE_)))
+        );
+
+        assertFalse(searchRequest.source().storedFields().fetchFields());
+        assertNull("_source should not be enabled.", searchRequest.source().fetchSource());
+    }
+
+    public void testProcessRequestAsync_whenVectorFetchEnabledAndSourceDisabled_thenSourceIsNotEnabled() {
+        SearchRequest searchRequest = processRequestWithVectorFetchEnabled(request -> request.source().fetchSource(false));
+
+        assertFalse("_source should not be enabled.", searchRequest.source().fetchSource().fetchSource());
+    }
+
+    private SearchRequest processRequestWithVectorFetchEnabled(Consumer<SearchRequest> requestCustomizer) {
+        String indexName = "test-index";
+        String vectorFieldName = "vectorField";
+        String modelId = "modelId";
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        ActionListener<SearchRequest> listener = mock(ActionListener.class);
+
+        MMRSearchExtBuilder mmrSearchExtBuilder = new MMRSearchExtBuilder.Builder().vectorFieldPath(vectorFieldName)
+            .spaceType(SpaceType.L2.getValue())
+            .build();
+        SearchRequest request = buildSearchRequest(new String[] { indexName }, mmrSearchExtBuilder);
+        requestCustomizer.accept(request);
+
+        mockClusterIndexMetadata(
+            Map.of(
+                indexName,
+                Map.of("properties", Map.of(vectorFieldName, Map.of(TYPE, KNNVectorFieldMapper.CONTENT_TYPE, MODEL_ID, modelId)))
+            )
+        );
+        MMRVectorFieldInfo vectorFieldInfo = new MMRVectorFieldInfo();
+        vectorFieldInfo.setVectorDataType(VectorDataType.FLOAT);
+        vectorFieldInfo.setSpaceType(SpaceType.L2);
+        mockModelMetadata(mockClient, Map.of(modelId, vectorFieldInfo));
+
+        try (MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)) {
+            knnSettingsMockedStatic.when(KNNSettings::isMMRVectorFetchEnabled).thenReturn(true);
+
+            processor.processRequestAsync(request, pipelineProcessingContext, listener);
+        }
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(listener).onResponse(captor.capture());
+        SearchRequest searchRequest = captor.getValue();
+        // The rerank reads the vectors fetched by the extension, so the _source the user asked not to get is not requested
+        assertTrue(searchRequest.source().ext().contains(new MMRVectorFetchExtBuilder(vectorFieldName)));
+        MMRRerankContext mmrRerankContext = (MMRRerankContext) pipelineProcessingContext.getAttribute(MMR_RERANK_CONTEXT);
+        assertTrue(mmrRerankContext.isVectorFetchEnabled());
+        assertNull(mmrRerankContext.getOriginalFetchSourceContext());
+        return searchRequest;
+    }
+
     private Map<String, MMRQueryTransformer<? extends QueryBuilder>> getMockMMRQueryTransformers() {
         MMRQueryTransformer<KNNQueryBuilder> transformer = mock(MMRKnnQueryTransformer.class);
         // mock a no-op knn query transformer here
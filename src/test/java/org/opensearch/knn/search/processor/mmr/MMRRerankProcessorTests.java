@@ -10,6 +10,7 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -22,11 +23,15 @@ import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.knn.common.KNNConstants.MMR_EXPLAIN;
 import static org.opensearch.knn.common.KNNConstants.MMR_RERANK_CONTEXT;
+import static org.opensearch.knn.common.KNNConstants.MMR_VECTOR;
 import static org.mockito.Mockito.mock;
 
 public class MMRRerankProcessorTests extends KNNTestCase {
@@ -273,6 +278,140 @@ public class MMRRerankProcessorTests extends KNNTestCase {
         assertEquals(expectedMessage, exception.getMessage());
     }
 
+    public void testProcessResponse_whenVectorsFetched_thenRerankWithoutSource() throws IOException {
+        float[][] vectors = new float[10][];
+        for (int i = 0; i < 8; i++) {
+            vectors[i] = new float[] { 1f, 1f };
+        }
+        vectors[8] = new float[] { 1f, 2f };
+        vectors[9] = new float[] { 2f, 1f };
+
+        SearchHit[] hits = new SearchHit[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            Map<String, DocumentField> documentFields = new HashMap<>();
+            documentFields.put(MMR_VECTOR, new DocumentField(MMR_VECTOR, List.of(MMRVectorFetchSubPhase.toBytes(vectors[i]))));
+            hits[i] = new SearchHit(i, String.valueOf(i), documentFields, Map.of());
+            hits[i].score(i < 8 ? 1f : 0.8f);
+        }
+
+        MMRRerankContext mmrRerankContext = new MMRRerankContext();
+        mmrRerankContext.setDiversity(0.5f);
+        mmrRerankContext.setOriginalQuerySize(3);
+        mmrRerankContext.setSpaceType(SpaceType.L2);
+        mmrRerankContext.setVectorDataType(VectorDataType.FLOAT);
+        mmrRerankContext.setVectorFieldPath("knn_vector");
+        mmrRerankContext.setVectorFetchEnabled(true);
+        PipelineProcessingContext ctx = new PipelineProcessingContext();
+        ctx.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
+
+        SearchResponse result = processor.processResponse(searchRequest, createSearchResponse(hits), ctx);
+
+        SearchHit[] resultHits = result.getInternalResponse().hits().getHits();
+        assertEquals(3, resultHits.length);
+        assertEquals(0, resultHits[0].docId());
+        assertEquals(8, resultHits[1].docId());
+        assertEquals(9, resultHits[2].docId());
+        for (SearchHit hit : resultHits) {
+            assertNull("Should remove the fetched vector from the hit.", hit.field(MMR_VECTOR));
+            assertFalse(hit.hasSource());
+        }
+    }
+
+    public void testProcessResponse_whenVectorFetchEnabledAndVectorNotFetched_thenException() throws IOException {
+        Map<String, DocumentField> documentFields = new HashMap<>();
+        documentFields.put(MMR_VECTOR, new DocumentField(MMR_VECTOR, List.of(MMRVectorFetchSubPhase.toBytes(new float[] { 1f, 1f }))));
+        SearchHit fetchedHit = new SearchHit(0, "0", documentFields, Map.of());
+        fetchedHit.score(1f);
+        // The vector is only in the _source, which must not be used as a fallback when the vectors are fetched
+        SearchHit sourceOnlyHit = new SearchHit(1, "1", new HashMap<>(), Map.of());
+        sourceOnlyHit.sourceRef(
+            BytesReference.bytes(JsonXContent.contentBuilder().startObject().array("knn_vector", 1f, 2f).endObject())
+        );
+        sourceOnlyHit.score(0.8f);
+
+        MMRRerankContext mmrRerankContext = new MMRRerankContext();
+        mmrRerankContext.setDiversity(0.5f);
+        mmrRerankContext.setOriginalQuerySize(1);
+        mmrRerankContext.setSpaceType(SpaceType.L2);
+        mmrRerankContext.setVectorDataType(VectorDataType.FLOAT);
+        mmrRerankContext.setVectorFieldPath("knn_vector");
+        mmrRerankContext.setVectorFetchEnabled(true);
+        PipelineProcessingContext ctx = new PipelineProcessingContext();
+        ctx.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
+
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> processor.processResponse(searchRequest, createSearchResponse(new SearchHit[] { fetchedHit, sourceOnlyHit }), ctx)
+        );
+
+        assertEquals(
+            "Failed to extract the vector from the doc [1] for MMR rerank: no vector was fetched from the field [knn_vector].",
+            exception.getMessage()
+        );
+    }
+
+    public void testProcessResponse_whenManyCandidates_thenSameSelectionAsPairwiseMMR() throws IOException {
+        final int numCandidates = 60;
+        final int querySize = 12;
+        final float diversity = 0.7f;
+        final SpaceType spaceType = SpaceType.INNER_PRODUCT;
+
+        final SearchHit[] hits = new SearchHit[numCandidates];
+        final float[][] vectors = new float[numCandidates][];
+        for (int i = 0; i < numCandidates; i++) {
+            vectors[i] = new float[] { randomFloat(), randomFloat(), randomFloat(), randomFloat() };
+            XContentBuilder sourceBuilder = JsonXContent.contentBuilder().startObject().array("knn_vector", vectors[i]).endObject();
+            SearchHit hit = new SearchHit(i, String.valueOf(i), Map.of(), Map.of());
+            hit.sourceRef(BytesReference.bytes(sourceBuilder));
+            hit.score(randomFloat());
+            hits[i] = hit;
+        }
+
+        // Reference selection, comparing every remaining candidate to every selected hit in each round
+        final List<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < numCandidates; i++) {
+            remaining.add(i);
+        }
+        final List<Integer> expected = new ArrayList<>();
+        while (expected.size() < querySize) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int candidate : remaining) {
+                float maxSimToSelected = 0.0f;
+                for (int selected : expected) {
+                    maxSimToSelected = Math.max(
+                        maxSimToSelected,
+                        spaceType.getKnnVectorSimilarityFunction().compare(vectors[candidate], vectors[selected])
+                    );
+                }
+                double score = (1 - diversity) * hits[candidate].getScore() - diversity * maxSimToSelected;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = candidate;
+                }
+            }
+            expected.add(best);
+            remaining.remove(Integer.valueOf(best));
+        }
+
+        MMRRerankContext mmrRerankContext = new MMRRerankContext();
+        mmrRerankContext.setDiversity(diversity);
+        mmrRerankContext.setOriginalQuerySize(querySize);
+        mmrRerankContext.setSpaceType(spaceType);
+        mmrRerankContext.setVectorDataType(VectorDataType.FLOAT);
+        mmrRerankContext.setVectorFieldPath("knn_vector");
+        PipelineProcessingContext ctx = new PipelineProcessingContext();
+        ctx.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
+
+        SearchResponse result = processor.processResponse(searchRequest, createSearchResponse(hits), ctx);
+
+        SearchHit[] resultHits = result.getInternalResponse().hits().getHits();
+        assertEquals(querySize, resultHits.length);
+        for (int i = 0; i < querySize; i++) {
+            assertEquals((int) expected.get(i), resultHits[i].docId());
+        }
+    }
+
     private SearchResponse createSearchResponse() throws IOException {
         SearchHit[] hits = new SearchHit[10];
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.search.processor.mmr;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.Directory;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.search.extension.MMRVectorFetchExtBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.fetch.FetchContext;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+import org.opensearch.search.lookup.SourceLookup;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.MMR_VECTOR;
+
+public class MMRVectorFetchSubPhaseTests extends KNNTestCase {
+    private static final String FIELD_NAME = "vector";
+
+    public void testToBytes_whenDecoded_thenSameVector() {
+        float[] floatVector = new float[] { 1.5f, -2.25f, 0f, Float.MAX_VALUE };
+        assertArrayEquals(floatVector, (float[]) MMRVectorFetchSubPhase.fromBytes(MMRVectorFetchSubPhase.toBytes(floatVector), true), 0f);
+
+        byte[] byteVector = new byte[] { 1, -2, 127 };
+        assertArrayEquals(byteVector, (byte[]) MMRVectorFetchSubPhase.fromBytes(MMRVectorFetchSubPhase.toBytes(byteVector), false));
+    }
+
+    public void testGetProcessor_whenNoExtension_thenNull() {
+        FetchContext fetchContext = mock(FetchContext.class);
+        assertNull(new MMRVectorFetchSubPhase().getProcessor(fetchContext));
+    }
+
+    public void testGetProcessor_whenNotKnnVectorField_thenNull() {
+        FetchContext fetchContext = mockFetchContext();
+        when(fetchContext.mapperService().fieldType(FIELD_NAME)).thenReturn(null);
+        assertNull(new MMRVectorFetchSubPhase().getProcessor(fetchContext));
+    }
+
+    public void testGetProcessor_whenIndexOverridesVectorFieldPath_thenUseIndexPath() {
+        String indexVectorFieldName = "index_vector";
+        FetchContext fetchContext = mock(FetchContext.class);
+        MapperService mapperService = mock(MapperService.class);
+        when(fetchContext.getSearchExt(MMRVectorFetchExtBuilder.NAME)).thenReturn(
+            new MMRVectorFetchExtBuilder(FIELD_NAME, Map.of("index-b", indexVectorFieldName))
+        );
+        when(fetchContext.mapperService()).thenReturn(mapperService);
+        when(mapperService.fieldType(indexVectorFieldName)).thenReturn(mock(KNNVectorFieldType.class));
+
+        when(fetchContext.getIndexName()).thenReturn("index-b");
+        assertNotNull(new MMRVectorFetchSubPhase().getProcessor(fetchContext));
+
+        when(fetchContext.getIndexName()).thenReturn("index-a");
+        assertNull(new MMRVectorFetchSubPhase().getProcessor(fetchContext));
+    }
+
+    @SneakyThrows
+    public void testProcess_whenDocHasVector_thenVectorSetOnHit() {
+        float[][] vectors = new float[][] { { 1f, 2f }, null, { 3f, 4f } };
+        FieldType vectorFieldType = new FieldType(KnnFloatVectorField.createFieldType(2, VectorSimilarityFunction.EUCLIDEAN));
+        vectorFieldType.putAttribute(KNNConstants.VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue());
+        vectorFieldType.freeze();
+
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (float[] vector : vectors) {
+                    Document document = new Document();
+                    if (vector != null) {
+                        document.add(new KnnFloatVectorField(FIELD_NAME, vector, vectorFieldType));
+                    }
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                FetchContext fetchContext = mockFetchContext();
+                when(fetchContext.mapperService().fieldType(FIELD_NAME)).thenReturn(mock(KNNVectorFieldType.class));
+                FetchSubPhaseProcessor processor = new MMRVectorFetchSubPhase().getProcessor(fetchContext);
+                assertNotNull(processor);
+
+                LeafReaderContext leafReaderContext = reader.leaves().get(0);
+                processor.setNextReader(leafReaderContext);
+                for (int docId = 0; docId < vectors.length; docId++) {
+                    SearchHit hit = new SearchHit(docId, String.valueOf(docId), new HashMap<>(), new HashMap<>());
+                    processor.process(new FetchSubPhase.HitContext(hit, leafReaderContext, docId, new SourceLookup()));
+
+                    if (vectors[docId] == null) {
+                        assertNull(hit.field(MMR_VECTOR));
+                    } else {
+                        byte[] bytes = hit.field(MMR_VECTOR).getValue();
+                        assertArrayEquals(vectors[docId], (float[]) MMRVectorFetchSubPhase.fromBytes(bytes, true), 0f);
+                    }
+                }
+            }
+        }
+    }
+
+    private FetchContext mockFetchContext() {
+        FetchContext fetchContext = mock(FetchContext.class);
+        MapperService mapperService = mock(MapperService.class);
+        when(fetchContext.getSearchExt(MMRVectorFetchExtBuilder.NAME)).thenReturn(new MMRVectorFetchExtBuilder(FIELD_NAME));
+        when(fetchContext.mapperService()).thenReturn(mapperService);
+        return fetchContext;
+    }
+}
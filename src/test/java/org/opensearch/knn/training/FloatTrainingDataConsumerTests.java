@@ -15,6 +15,8 @@ import org.mockito.ArgumentCaptor;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.jni.JNICommons;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleResponse;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.ArrayList;
@@ -92,4 +94,28 @@ public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
         assertNotEquals(0, trainingDataAllocation.getMemoryAddress());
     }
+
+    public void testProcessSampledVectors() {
+        int dimension = 4;
+        NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation = mock(NativeMemoryAllocation.TrainingDataAllocation.class);
+        when(trainingDataAllocation.getMemoryAddress()).thenReturn(0L);
+        when(trainingDataAllocation.getQuantizationConfig()).thenReturn(QuantizationConfig.EMPTY);
+
+        ArgumentCaptor<Long> valueCapture = ArgumentCaptor.forClass(Long.class);
+
+        FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation);
+
+        float[] packedVectors = new float[3 * dimension];
+        for (int i = 0; i < packedVectors.length; i++) {
+            packedVectors[i] = i;
+        }
+
+        // Transfer the packed vectors of a shard sample chunk
+        floatTrainingDataConsumer.processSampledVectors(new TrainingDataSampleResponse(10, 3, dimension, packedVectors, null));
+
+        verify(trainingDataAllocation).setMemoryAddress(valueCapture.capture());
+        assertNotEquals(0L, (long) valueCapture.getValue());
+        assertEquals(3, floatTrainingDataConsumer.getTotalVectorsCountAdded());
+        JNICommons.freeVectorData(valueCapture.getValue());
+    }
 }